@@ -0,0 +1,104 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// Picks the Argon2 cost for this machine at startup. Calibration only ever
+// raises the cost above the configured floor: from there it doubles memory
+// (up to the configured ceiling) while a hash stays within the latency
+// target, then adds as many iterations as still fit. Memory comes first
+// because it is what makes guessing expensive on GPUs; iterations only buy
+// time. A machine too slow for the floor keeps the floor and says so.
+//
+// Parallelism is taken as configured. Bouncy Castle computes the lanes one
+// after another on the calling thread, so more lanes change the hash but do
+// not make it faster here.
+@Component
+public class Argon2Calibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(Argon2Calibrator.class);
+
+    // Timed hashes per candidate, after one warm-up; the median is used
+    private static final int SAMPLES = 3;
+
+    private final boolean enabled;
+    private final long targetNanos;
+    private final int memoryKib;
+    private final int iterations;
+    private final int minMemoryKib;
+    private final int minIterations;
+    private final int maxIterations;
+    private final int parallelism;
+
+    public Argon2Calibrator(@Value("${app.hashing.argon2.calibrate:true}") boolean enabled,
+            @Value("${app.hashing.argon2.target-ms:250}") long targetMillis,
+            @Value("${app.hashing.argon2.memory-kib:65536}") int memoryKib,
+            @Value("${app.hashing.argon2.iterations:3}") int iterations,
+            @Value("${app.hashing.argon2.min-memory-kib:65536}") int minMemoryKib,
+            @Value("${app.hashing.argon2.min-iterations:3}") int minIterations,
+            @Value("${app.hashing.argon2.max-iterations:10}") int maxIterations,
+            @Value("${app.hashing.argon2.parallelism:1}") int parallelism) {
+        this.enabled = enabled;
+        this.targetNanos = targetMillis * 1_000_000;
+        this.memoryKib = Math.max(memoryKib, minMemoryKib);
+        this.iterations = iterations;
+        this.minMemoryKib = minMemoryKib;
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+        this.parallelism = parallelism;
+    }
+
+    public Argon2Cost calibrate() {
+        if (!enabled) {
+            return new Argon2Cost(memoryKib, iterations, parallelism);
+        }
+
+        // Start from the floor and double memory while a hash still fits
+        int memory = minMemoryKib;
+        long nanos = measureNanos(new Argon2Cost(memory, minIterations, parallelism));
+        if (nanos > targetNanos) {
+            logger.error("Argon2 floor of {} KiB and {} iterations takes {} ms, above the {} ms target; "
+                    + "keeping the floor, so logins will be slower than intended on this machine",
+                    memory, minIterations, nanos / 1_000_000, targetNanos / 1_000_000);
+            return new Argon2Cost(memory, minIterations, parallelism);
+        }
+        while (memory < memoryKib) {
+            int larger = (int) Math.min(memoryKib, 2L * memory);
+            long largerNanos = measureNanos(new Argon2Cost(larger, minIterations, parallelism));
+            if (largerNanos > targetNanos) {
+                break;
+            }
+            memory = larger;
+            nanos = largerNanos;
+        }
+
+        // Each pass over the memory costs about the same, so spend the rest of
+        // the budget on passes
+        long nanosPerIteration = Math.max(1, nanos / minIterations);
+        int fitting = (int) Math.min(maxIterations, targetNanos / nanosPerIteration);
+        Argon2Cost cost = new Argon2Cost(memory, Math.max(minIterations, fitting), parallelism);
+        logger.info("Argon2 calibrated to {} KiB, {} iterations, parallelism {} (about {} ms per hash, target {} ms)",
+                cost.memoryKib(), cost.iterations(), cost.parallelism(),
+                nanosPerIteration * cost.iterations() / 1_000_000, targetNanos / 1_000_000);
+        return cost;
+    }
+
+    long measureNanos(Argon2Cost cost) {
+        Argon2PasswordEncoder encoder = new Argon2PasswordEncoder(16, 32, cost.parallelism(), cost.memoryKib(),
+                cost.iterations());
+        encoder.encode("calibration");
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            encoder.encode("calibration");
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,5 @@
+package com.dbexp.db_experiment.config;
+
+// Argon2 cost parameters; memory is in KiB, as Argon2 counts it
+public record Argon2Cost(int memoryKib, int iterations, int parallelism) {
+}
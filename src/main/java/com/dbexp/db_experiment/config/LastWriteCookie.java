@@ -0,0 +1,113 @@
+package com.dbexp.db_experiment.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseCookie;
+
+// The time of a client's last committed write, as timestamp.HMAC in a cookie
+// that lives for the sticky window. Read-your-writes routing needs no session,
+// so the session-free public reads honour it as well. The signature stops a
+// client from pinning itself to the primary with a far-future timestamp.
+final class LastWriteCookie {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastWriteCookie.class);
+
+    static final String NAME = "last-write";
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final SecretKeySpec key;
+    private final long windowMillis;
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    LastWriteCookie(String key, long windowMillis) {
+        this.key = new SecretKeySpec(keyBytes(key), MAC_ALGORITHM);
+        this.windowMillis = windowMillis;
+    }
+
+    ResponseCookie issue(long writtenAt) {
+        String timestamp = Long.toString(writtenAt);
+        return ResponseCookie.from(NAME, timestamp + "." + encoder.encodeToString(mac(timestamp)))
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path("/api")
+                .maxAge(Duration.ofMillis(windowMillis).plusSeconds(1))
+                .build();
+    }
+
+    // True while the request carries a valid cookie younger than the window
+    boolean isRecent(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName())) {
+                long writtenAt = verify(cookie.getValue());
+                return writtenAt <= now && now - writtenAt < windowMillis;
+            }
+        }
+        return false;
+    }
+
+    // The signed timestamp, or Long.MAX_VALUE when the value is malformed or forged
+    private long verify(String value) {
+        int dot = value == null ? -1 : value.indexOf('.');
+        if (dot < 0) {
+            return Long.MAX_VALUE;
+        }
+        String timestamp = value.substring(0, dot);
+        try {
+            byte[] signature = decoder.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, mac(timestamp))) {
+                return Long.MAX_VALUE;
+            }
+            return Long.parseLong(timestamp);
+        } catch (IllegalArgumentException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private byte[] mac(String timestamp) {
+        try {
+            // Mac instances are not thread-safe; a fresh one is cheap next to a query
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(timestamp.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private static byte[] keyBytes(String key) {
+        if (key == null || key.isBlank()) {
+            logger.warn("app.datasource.replica.sticky-cookie-key is not set; using a random key, so "
+                    + "read-your-writes routing is lost on restart and between instances");
+            byte[] bytes = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(bytes);
+            return bytes;
+        }
+        byte[] bytes = Base64.getDecoder().decode(key.trim());
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException(
+                    "app.datasource.replica.sticky-cookie-key must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,57 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    // Start on the primary until the first check has succeeded
+    private volatile boolean replicaUsable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            List<Long> lag = replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+                    (rs, rowNum) -> {
+                        long seconds = rs.getLong("Seconds_Behind_Source");
+                        // NULL means the replication threads are stopped
+                        return rs.wasNull() ? null : seconds;
+                    });
+            // No replication status (e.g. a standalone stand-in) counts as zero lag
+            usable = lag.isEmpty() || (lag.get(0) != null && lag.get(0) <= maxLagSeconds);
+            if (!usable && replicaUsable) {
+                logger.warn("Replica lag {}s exceeds {}s, routing reads to primary", lag.get(0), maxLagSeconds);
+            }
+        } catch (RuntimeException e) {
+            usable = false;
+            if (replicaUsable) {
+                logger.warn("Replica status check failed, routing reads to primary: {}", e.getMessage());
+            }
+        }
+        if (usable && !replicaUsable) {
+            logger.info("Replica within lag threshold, routing read-only transactions to replica");
+        }
+        replicaUsable = usable;
+    }
+}
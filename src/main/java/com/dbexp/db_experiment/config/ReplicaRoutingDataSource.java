@@ -0,0 +1,102 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final Object WRITE_MARKER = new Object();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final LastWriteCookie lastWriteCookie;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+            ReplicaLagMonitor lagMonitor, LastWriteCookie lastWriteCookie) {
+        this.lagMonitor = lagMonitor;
+        this.lastWriteCookie = lastWriteCookie;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Anything outside a read-only transaction may write
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+
+        // Fall back to the primary while the replica is lagging or unreachable
+        if (!lagMonitor.isReplicaUsable()) {
+            return PRIMARY;
+        }
+
+        // Read-your-writes: keep a client on the primary shortly after it wrote
+        if (wroteRecently()) {
+            return PRIMARY;
+        }
+
+        return REPLICA;
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        HttpServletResponse response = currentAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getResponse()
+                : null;
+        if (response == null) {
+            return;
+        }
+
+        // Register once per transaction; set the cookie only if it commits
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Services commit before the controller writes the body, so
+                // the headers are still open
+                if (!response.isCommitted()) {
+                    response.addHeader(HttpHeaders.SET_COOKIE,
+                            lastWriteCookie.issue(System.currentTimeMillis()).toString());
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    // Reads the cookie, never the session, so public reads stay session-free
+    private boolean wroteRecently() {
+        if (currentAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return lastWriteCookie.isRecent(request, System.currentTimeMillis());
+        }
+        return false;
+    }
+
+    private static RequestAttributes currentAttributes() {
+        return RequestContextHolder.getRequestAttributes();
+    }
+}
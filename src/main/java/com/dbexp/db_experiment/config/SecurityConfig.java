@@ -4,37 +4,102 @@ import java.util.Arrays;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        // Configure Argon2 with specified parameters:
-        // saltLength=16, hashLength=32, parallelism=1, memory=65536, iterations=3
-        return new Argon2PasswordEncoder(16, 32, 1, 65536, 3);
+    public Argon2Cost argon2Cost(Argon2Calibrator argon2Calibrator) {
+        return argon2Calibrator.calibrate();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor, Argon2Cost argon2Cost) {
+        // saltLength=16, hashLength=32; memory, iterations and parallelism as
+        // calibrated. upgradeEncoding() reports hashes with less memory or
+        // fewer iterations, which login then rehashes
+        return passwordHashingExecutor.metered(new Argon2PasswordEncoder(16, 32, argon2Cost.parallelism(),
+                argon2Cost.memoryKib(), argon2Cost.iterations()));
+    }
+
+    // Anonymous reads. GET /api/auth/me and the home feed read the session and
+    // stay on the full chain
+    static final String[] PUBLIC_READS = {
+            "/api/posts", "/api/posts/**",
+            "/api/comments", "/api/comments/**",
+            "/api/communities", "/api/communities/**",
+            "/api/users", "/api/users/**",
+            "/api/feed/all",
+            "/api/search"
+    };
+
+    // Public GETs never create, read or register a session: no session
+    // management or concurrency filters, no session-backed security context,
+    // request cache or logout handling. Read-your-writes routing comes from the
+    // signed last-write cookie (ReplicaRoutingDataSource), not the session.
+    // Only CORS, headers and the permit remain
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(publicReads())
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.disable())
+                // Kept for the length of the request only, never in the session
+                .securityContext(context -> context
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache(cache -> cache.disable())
+                .logout(logout -> logout.disable())
+                .servletApi(servletApi -> servletApi.disable())
+                .anonymous(anonymous -> anonymous.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
     }
 
+    // Everything else: auth endpoints, writes and session-aware reads
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, StripedSessionRegistry sessionRegistry)
+            throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
+                // Logins claim their session in the registry (AuthServiceImpl);
+                // the concurrency filter turns away sessions a later login expired
                 .sessionManagement(session -> session
                         .sessionFixation().newSession()
                         .maximumSessions(1)
-                        .maxSessionsPreventsLogin(false))
+                        .maxSessionsPreventsLogin(false)
+                        .sessionRegistry(sessionRegistry)
+                        .expiredSessionStrategy(event -> {
+                            event.getResponse().setStatus(HttpStatus.UNAUTHORIZED.value());
+                            event.getResponse().setContentType(MediaType.TEXT_PLAIN_VALUE);
+                            event.getResponse().getWriter().write("Session ended by a newer login");
+                        }))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/login").permitAll()
+                        .requestMatchers("/api/auth/remember-me").permitAll()
                         .requestMatchers("/api/auth/logout").permitAll()
                         .requestMatchers("/api/auth/me").permitAll()
                         .requestMatchers("/api/users/create").permitAll()
@@ -42,6 +107,15 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private static RequestMatcher publicReads() {
+        PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+        RequestMatcher[] matchers = new RequestMatcher[PUBLIC_READS.length];
+        for (int i = 0; i < PUBLIC_READS.length; i++) {
+            matchers[i] = paths.matcher(HttpMethod.GET, PUBLIC_READS[i]);
+        }
+        return new OrRequestMatcher(matchers);
+    }
+
     // Vue Development Server Port CORS
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
@@ -1,11 +1,17 @@
 package com.dbexp.db_experiment.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -23,44 +29,107 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.dto.auth.RememberMeLogin;
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
+import com.dbexp.db_experiment.exception.TooManyRequestsException;
 import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.LoginThrottle;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 
 @Tag(name = "Authentication", description = "Operations related to user authentication")
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    static final String REMEMBER_ME_COOKIE = "remember-me";
+
     private final AuthService authService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginThrottle loginThrottle;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, PasswordHashingExecutor passwordHashingExecutor,
+            LoginThrottle loginThrottle) {
         this.authService = authService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.loginThrottle = loginThrottle;
     }
 
     @Operation(summary = "User login", description = "Authenticates a user and returns login response")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful login", content = @Content(schema = @Schema(implementation = LoginResponse.class))),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = LoginResponse.class)))
+            @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too many attempts for this username or client; retry after the Retry-After header", content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent password checks; retry after the Retry-After header")
     })
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody @Schema(description = "Login credentials") LoginRequest request,
-            HttpSession session) {
+    public CompletableFuture<ResponseEntity<?>> login(
+            @Valid @RequestBody @Schema(description = "Login credentials") LoginRequest request,
+            HttpSession session, HttpServletRequest httpRequest) {
+        // Throttled attempts never reach the user lookup or the hashing queue.
+        // The remote address is the proxy's unless forwarded headers are enabled
         try {
-            LoginResponse response = authService.login(request, session);
-            return ResponseEntity.ok(response);
+            loginThrottle.check(request.username(), httpRequest.getRemoteAddr());
+        } catch (TooManyRequestsException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new LoginResponse(null, null, null, e.getMessage())));
+        }
+        return passwordHashingExecutor.<ResponseEntity<?>>submit(() -> {
+            try {
+                LoginResponse response = authService.login(request, session);
+                if (Boolean.TRUE.equals(request.rememberMe())) {
+                    RememberMeToken token = authService.issueRememberMeToken(response.userId());
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, rememberMeCookie(token).toString())
+                            .body(response);
+                }
+                return ResponseEntity.ok(response);
+            } catch (BadCredentialsException e) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new LoginResponse(null, null, null, e.getMessage()));
+            }
+        }).exceptionally(HashingResponses::serviceUnavailable);
+    }
+
+    @Operation(summary = "Resume a session", description = "Logs in with the remember-me cookie instead of the password. The token is single-use: the response replaces the cookie")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful login", content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Missing, invalid or expired token; the cookie is cleared", content = @Content(schema = @Schema(implementation = LoginResponse.class)))
+    })
+    @PostMapping("/remember-me")
+    public ResponseEntity<LoginResponse> loginWithRememberMe(
+            @CookieValue(name = REMEMBER_ME_COOKIE, required = false) String token, HttpSession session) {
+        // No password is checked here, so this stays on the request thread
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new LoginResponse(null, null, null, "No remember-me token"));
+        }
+        try {
+            RememberMeLogin login = authService.loginWithRememberMe(token, session);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.SET_COOKIE, rememberMeCookie(login.token()).toString())
+                    .body(login.response());
         } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.SET_COOKIE, clearedRememberMeCookie().toString())
                     .body(new LoginResponse(null, null, null, e.getMessage()));
         }
     }
 
-    @Operation(summary = "User logout", description = "Invalidates the user's session")
+    @Operation(summary = "User logout", description = "Invalidates the user's session and its remember-me token")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Logout successful", content = @Content(schema = @Schema(implementation = LogoutResponse.class)))
     })
     @PostMapping("/logout")
-    public ResponseEntity<LogoutResponse> logout(HttpSession session) {
+    public ResponseEntity<LogoutResponse> logout(HttpSession session,
+            @CookieValue(name = REMEMBER_ME_COOKIE, required = false) String token) {
+        if (token != null) {
+            authService.revokeRememberMeToken(token);
+        }
         LogoutResponse response = authService.logout(session);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, clearedRememberMeCookie().toString())
+                .body(response);
     }
 
     @Operation(summary = "Get current user", description = "Retrieves the currently authenticated user's details")
@@ -72,4 +141,25 @@ public class AuthController {
         CurrentUserResponse response = authService.getCurrentUser(session);
         return ResponseEntity.ok(response);
     }
+
+    // Only sent to the auth endpoints and never readable from scripts
+    private static ResponseCookie rememberMeCookie(RememberMeToken token) {
+        return ResponseCookie.from(REMEMBER_ME_COOKIE, token.value())
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path("/api/auth")
+                .maxAge(token.validity())
+                .build();
+    }
+
+    private static ResponseCookie clearedRememberMeCookie() {
+        return ResponseCookie.from(REMEMBER_ME_COOKIE, "")
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Lax")
+                .path("/api/auth")
+                .maxAge(0)
+                .build();
+    }
 }
\ No newline at end of file
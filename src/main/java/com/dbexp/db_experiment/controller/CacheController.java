@@ -0,0 +1,56 @@
+package com.dbexp.db_experiment.controller;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.cache.CacheStatsResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.EntityCaches;
+
+@RestController
+@RequestMapping("/api/caches")
+@Tag(name = "Caches", description = "Statistics of the in-process entity caches")
+public class CacheController {
+
+    private final EntityCaches entityCaches;
+    private final AuthService authService;
+
+    public CacheController(EntityCaches entityCaches, AuthService authService) {
+        this.entityCaches = entityCaches;
+        this.authService = authService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get cache statistics", description = "Returns size, hit, miss, eviction and invalidation counts of the community, user and post caches")
+    @ApiResponse(responseCode = "200", description = "Statistics returned", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CacheStatsResponse.class))))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getStats(@Parameter(description = "HTTP session for authentication") HttpSession session) {
+        try {
+            // Operational detail, not for anonymous callers
+            if (!authService.getCurrentUser(session).authenticated()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+            List<CacheStatsResponse> response = entityCaches.stats();
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching cache statistics");
+        }
+    }
+}
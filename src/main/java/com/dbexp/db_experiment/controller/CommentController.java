@@ -13,18 +13,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsRequest;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsResponse;
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
 import com.dbexp.db_experiment.dto.comment.CreateCommentRequest;
 import com.dbexp.db_experiment.dto.comment.CreateCommentResponse;
 import com.dbexp.db_experiment.dto.comment.DeleteCommentResponse;
@@ -32,6 +40,7 @@ import com.dbexp.db_experiment.dto.comment.EditCommentRequest;
 import com.dbexp.db_experiment.dto.comment.EditCommentResponse;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdRequest;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdResponse;
+import com.dbexp.db_experiment.dto.comment.GetCommentTreeResponse;
 import com.dbexp.db_experiment.exception.ForbiddenException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
@@ -43,9 +52,29 @@ import com.dbexp.db_experiment.service.CommentService;
 public class CommentController {
 
     private final CommentService commentService;
+    private final JsonStreamWriter jsonStreamWriter;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, JsonStreamWriter jsonStreamWriter) {
         this.commentService = commentService;
+        this.jsonStreamWriter = jsonStreamWriter;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get comments by IDs", description = "Resolves up to 200 comment IDs with one query. Duplicate IDs are collapsed; results keep request order with null in place of missing comments, which are also listed in notFound")
+    @ApiResponse(responseCode = "200", description = "Lookup completed", content = @Content(schema = @Schema(implementation = MultiGetResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Missing, null or too many IDs provided")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getCommentsByIds(
+            @Parameter(description = "Comma-separated comment IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        try {
+            MultiGetResponse<GetCommentByIdResponse> response = commentService.getByIds(ids);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching comments");
+        }
     }
 
     @GetMapping("/{commentId}")
@@ -104,6 +133,31 @@ public class CommentController {
         }
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create comments in bulk", description = "Creates many comments and replies in one transaction using JDBC batch inserts and returns the new IDs in request order")
+    @ApiResponse(responseCode = "201", description = "Comments created successfully", content = @Content(schema = @Schema(implementation = BatchCreateCommentsResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request data provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Post or parent comment not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> createComments(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "Batch comment creation request payload") @Valid @RequestBody BatchCreateCommentsRequest request) {
+        try {
+            BatchCreateCommentsResponse response = commentService.createBatch(session, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while creating the comments");
+        }
+    }
+
     @PutMapping("/{commentId}")
     @Operation(summary = "Edit comment", description = "Updates the content of an existing comment")
     @ApiResponse(responseCode = "200", description = "Comment updated successfully", content = @Content(schema = @Schema(implementation = EditCommentResponse.class)))
@@ -167,15 +221,15 @@ public class CommentController {
         }
     }
     @GetMapping("/post/{postId}")
-    @Operation(summary = "Get comments by post ID", description = "Retrieves all comments for a post")
-    @ApiResponse(responseCode = "200", description = "Comments found", content = @Content(schema = @Schema(implementation = GetCommentByIdResponse.class)))
+    @Operation(summary = "Get comments by post ID", description = "Retrieves previews of all comments for a post, with content cut to a 200-character excerpt; fetch a comment by ID for its full body. Add stream=true or Accept: application/x-ndjson to stream rows instead of buffering the list")
+    @ApiResponse(responseCode = "200", description = "Comments found", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CommentPreviewResponse.class))))
     @ApiResponse(responseCode = "400", description = "Invalid post ID provided")
     @ApiResponse(responseCode = "404", description = "Post not found")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     public ResponseEntity<?> getCommentsByPostId(
             @Parameter(description = "ID of the post", example = "1") @PathVariable Long postId) {
         try {
-            List<GetCommentByIdResponse> responses = commentService.getCommentsByPostId(postId);
+            List<CommentPreviewResponse> responses = commentService.getCommentsByPostId(postId);
             return ResponseEntity.ok(responses);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -186,4 +240,63 @@ public class CommentController {
                     .body("An error occurred while fetching comments for the post");
         }
     }
+
+    // Streamed variants of the list above, for ?stream=true and Accept: application/x-ndjson
+    @GetMapping(value = "/post/{postId}", params = "stream=true")
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamCommentsByPostId(@PathVariable Long postId,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        return jsonStreamWriter.<CommentPreviewResponse>response(accept,
+                sink -> commentService.streamCommentsByPostId(postId, sink));
+    }
+
+    @GetMapping(value = "/post/{postId}", produces = JsonStreamWriter.NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamCommentsByPostIdAsNdjson(@PathVariable Long postId) {
+        return jsonStreamWriter.<CommentPreviewResponse>response(JsonStreamWriter.NDJSON_VALUE,
+                sink -> commentService.streamCommentsByPostId(postId, sink));
+    }
+
+    @GetMapping("/post/{postId}/tree")
+    @Operation(summary = "Get comment tree by post ID", description = "Retrieves all comments for a post as nested reply trees with depth and child counts; replies below a fixed depth are left out and their parent is marked continueThread")
+    @ApiResponse(responseCode = "200", description = "Comment tree built", content = @Content(schema = @Schema(implementation = GetCommentTreeResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid post ID provided")
+    @ApiResponse(responseCode = "404", description = "Post not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getCommentTreeByPostId(
+            @Parameter(description = "ID of the post", example = "1") @PathVariable Long postId) {
+        try {
+            GetCommentTreeResponse response = commentService.getCommentTreeByPostId(postId);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching the comment tree for the post");
+        }
+    }
+
+    @GetMapping("/post/{postId}/tree/{commentId}")
+    @Operation(summary = "Get comment thread", description = "Retrieves the replies under one comment as a nested tree, continuing a thread the post tree marked continueThread")
+    @ApiResponse(responseCode = "200", description = "Comment thread built", content = @Content(schema = @Schema(implementation = GetCommentTreeResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid post or comment ID provided")
+    @ApiResponse(responseCode = "404", description = "Post or comment not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getCommentThread(
+            @Parameter(description = "ID of the post", example = "1") @PathVariable Long postId,
+            @Parameter(description = "ID of the comment the thread starts at", example = "1") @PathVariable Long commentId) {
+        try {
+            GetCommentTreeResponse response = commentService.getCommentThread(postId, commentId);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching the comment thread");
+        }
+    }
 }
\ No newline at end of file
@@ -8,13 +8,17 @@ import jakarta.validation.Valid;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,15 +29,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionRequest;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionResponse;
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
 import com.dbexp.db_experiment.dto.community.CreateCommunityRequest;
 import com.dbexp.db_experiment.dto.community.CreateCommunityResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameResponse;
-import com.dbexp.db_experiment.dto.post.GetPostByIdResponse;
+import com.dbexp.db_experiment.dto.community.SubscriptionResponse;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdRequest;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdResponse;
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
 import com.dbexp.db_experiment.exception.ConflictException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
@@ -47,10 +56,50 @@ public class CommunityController {
 
     private final CommunityService communityService;
     private final PostService postService;
+    private final JsonStreamWriter jsonStreamWriter;
 
-    public CommunityController(CommunityService communityService, PostService postService) {
+    public CommunityController(CommunityService communityService, PostService postService,
+            JsonStreamWriter jsonStreamWriter) {
         this.communityService = communityService;
         this.postService = postService;
+        this.jsonStreamWriter = jsonStreamWriter;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get communities by IDs", description = "Resolves up to 200 community IDs with one query. Duplicate IDs are collapsed; results keep request order with null in place of missing communities, which are also listed in notFound")
+    @ApiResponse(responseCode = "200", description = "Lookup completed", content = @Content(schema = @Schema(implementation = MultiGetResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Missing, null or too many IDs provided")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getCommunitiesByIds(
+            @Parameter(description = "Comma-separated community IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        try {
+            MultiGetResponse<GetCommunityByIdResponse> response = communityService.getCommunitiesByIds(ids);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching communities");
+        }
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete community names", description = "Returns communities whose name starts with the prefix (case-insensitive), most subscribed first. Served from memory")
+    @ApiResponse(responseCode = "200", description = "Suggestions returned", content = @Content(array = @ArraySchema(schema = @Schema(implementation = CommunitySuggestionResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Missing prefix")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> autocomplete(
+            @Parameter(description = "Start of the community name", example = "as") @RequestParam(required = false) String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-10)", example = "10") @RequestParam(required = false) Integer limit) {
+        try {
+            List<CommunitySuggestionResponse> response = communityService.autocomplete(prefix, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while completing community names");
+        }
     }
 
     @GetMapping("/{communityId}")
@@ -153,8 +202,56 @@ public class CommunityController {
         }
     }
 
+    @PutMapping("/{communityId}/subscription")
+    @Operation(summary = "Subscribe to community", description = "Adds the community to the current user's home feed; subscribing again has no effect")
+    @ApiResponse(responseCode = "200", description = "Subscribed", content = @Content(schema = @Schema(implementation = SubscriptionResponse.class)))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Community not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> subscribe(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the community to subscribe to", example = "1") @PathVariable Long communityId) {
+        try {
+            SubscriptionResponse response = communityService.subscribe(session, communityId);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while subscribing to the community");
+        }
+    }
+
+    @DeleteMapping("/{communityId}/subscription")
+    @Operation(summary = "Unsubscribe from community", description = "Removes the community from the current user's home feed")
+    @ApiResponse(responseCode = "200", description = "Unsubscribed", content = @Content(schema = @Schema(implementation = SubscriptionResponse.class)))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Community not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> unsubscribe(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the community to unsubscribe from", example = "1") @PathVariable Long communityId) {
+        try {
+            SubscriptionResponse response = communityService.unsubscribe(session, communityId);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while unsubscribing from the community");
+        }
+    }
+
     @GetMapping("/latest")
-    @Operation(summary = "Get latest communities", description = "Retrieves the latest 20 communities")
+    @Operation(summary = "Get latest communities", description = "Retrieves the latest 20 communities. Add stream=true or Accept: application/x-ndjson to stream them as they are read")
     @ApiResponse(responseCode = "200", description = "Communities found", content = @Content(array = @ArraySchema(schema = @Schema(implementation = GetCommunityByIdResponse.class))))
     @ApiResponse(responseCode = "500", description = "Internal server error")
     public ResponseEntity<?> getLatestCommunities() {
@@ -167,17 +264,36 @@ public class CommunityController {
         }
     }
 
+    // Streamed variants of the list above, for ?stream=true and Accept: application/x-ndjson
+    @GetMapping(value = "/latest", params = "stream=true")
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamLatestCommunities(
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        return jsonStreamWriter.<GetCommunityByIdResponse>response(accept,
+                communityService::streamLatestCommunities);
+    }
+
+    @GetMapping(value = "/latest", produces = JsonStreamWriter.NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamLatestCommunitiesAsNdjson() {
+        return jsonStreamWriter.<GetCommunityByIdResponse>response(JsonStreamWriter.NDJSON_VALUE,
+                communityService::streamLatestCommunities);
+    }
+
     @GetMapping("/{communityId}/posts")
-    @Operation(summary = "Get posts by community ID", description = "Retrieves all posts in a community")
-    @ApiResponse(responseCode = "200", description = "Posts found", content = @Content(array = @ArraySchema(schema = @Schema(implementation = GetPostByIdResponse.class))))
+    @Operation(summary = "Get posts by community ID", description = "Retrieves a page of post previews in a community, newest first, with content cut to a 200-character excerpt; fetch a post by ID for its full body. Pass the returned nextCursor to fetch the following page. Add stream=true or Accept: application/x-ndjson to stream every post as an array instead")
+    @ApiResponse(responseCode = "200", description = "Posts found", content = @Content(schema = @Schema(implementation = GetPostsByCommunityIdResponse.class)))
     @ApiResponse(responseCode = "400", description = "Invalid community ID provided")
     @ApiResponse(responseCode = "404", description = "Community not found")
     @ApiResponse(responseCode = "500", description = "Internal server error")
     public ResponseEntity<?> getPostsByCommunityId(
-            @Parameter(description = "ID of the community", example = "1") @PathVariable Long communityId) {
+            @Parameter(description = "ID of the community", example = "1") @PathVariable Long communityId,
+            @Parameter(description = "Continuation token returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 20, max 100)", example = "20") @RequestParam(required = false) Integer limit) {
         try {
-            List<GetPostByIdResponse> responses = postService.getPostsByCommunityId(communityId);
-            return ResponseEntity.ok(responses);
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(communityId, cursor, limit));
+            return ResponseEntity.ok(response);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (IllegalArgumentException e) {
@@ -187,4 +303,20 @@ public class CommunityController {
                     .body("An error occurred while fetching posts for the community");
         }
     }
+
+    // Streamed variants of the list above, for ?stream=true and Accept: application/x-ndjson
+    @GetMapping(value = "/{communityId}/posts", params = "stream=true")
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamPostsByCommunityId(@PathVariable Long communityId,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        return jsonStreamWriter.<PostPreviewResponse>response(accept,
+                sink -> postService.streamPostsByCommunityId(communityId, sink));
+    }
+
+    @GetMapping(value = "/{communityId}/posts", produces = JsonStreamWriter.NDJSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<StreamingResponseBody> streamPostsByCommunityIdAsNdjson(@PathVariable Long communityId) {
+        return jsonStreamWriter.<PostPreviewResponse>response(JsonStreamWriter.NDJSON_VALUE,
+                sink -> postService.streamPostsByCommunityId(communityId, sink));
+    }
 }
\ No newline at end of file
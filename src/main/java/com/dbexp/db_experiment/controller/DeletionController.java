@@ -0,0 +1,59 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.service.DeletionService;
+
+@RestController
+@RequestMapping("/api/deletions")
+@Tag(name = "Deletions", description = "Progress of background account and post deletions")
+public class DeletionController {
+
+    private final DeletionService deletionService;
+
+    public DeletionController(DeletionService deletionService) {
+        this.deletionService = deletionService;
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get deletion job status", description = "Returns the phase, status, attempts, error code and number of rows removed so far for a deletion the current user asked for")
+    @ApiResponse(responseCode = "200", description = "Deletion job found", content = @Content(schema = @Schema(implementation = DeletionJobResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid job ID provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Deletion job not found or asked for by another user")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getJob(
+            @Parameter(description = "ID returned as deletionJobId by the delete endpoint", example = "1") @PathVariable Long jobId,
+            @Parameter(description = "HTTP session for authentication") HttpSession session) {
+        try {
+            DeletionJobResponse response = deletionService.getJob(session, jobId);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching the deletion job");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.feed.FeedResponse;
+import com.dbexp.db_experiment.dto.feed.HomeFeedResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.service.FeedService;
+
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Feeds", description = "Ranked post feeds served from memory")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    public FeedController(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    @GetMapping("/feed")
+    @Operation(summary = "Get home feed", description = "Returns the newest posts across the communities the current user subscribes to, paged with an opaque cursor")
+    @ApiResponse(responseCode = "200", description = "Feed page returned", content = @Content(schema = @Schema(implementation = HomeFeedResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or limit provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getHomeFeed(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "Cursor from the previous page's nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of items to return (max 100)", example = "20") @RequestParam(required = false) Integer limit) {
+        try {
+            HomeFeedResponse response = feedService.getHomeFeed(session, cursor, limit);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching the feed");
+        }
+    }
+
+    @GetMapping("/feed/all")
+    @Operation(summary = "Get front page feed", description = "Returns a page of the global feed ranked by hot, top-day, top-week or new")
+    @ApiResponse(responseCode = "200", description = "Feed page returned", content = @Content(schema = @Schema(implementation = FeedResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid sort, offset or limit provided")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getFrontPage(
+            @Parameter(description = "Ranking: hot, top-day, top-week or new", example = "hot") @RequestParam(required = false) String sort,
+            @Parameter(description = "Number of items to skip", example = "0") @RequestParam(required = false) Integer offset,
+            @Parameter(description = "Maximum number of items to return (max 100)", example = "20") @RequestParam(required = false) Integer limit) {
+        return getFeed(null, sort, offset, limit);
+    }
+
+    @GetMapping("/communities/{communityId}/feed")
+    @Operation(summary = "Get community feed", description = "Returns a page of a community's feed ranked by hot, top-day, top-week or new")
+    @ApiResponse(responseCode = "200", description = "Feed page returned", content = @Content(schema = @Schema(implementation = FeedResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid community ID, sort, offset or limit provided")
+    @ApiResponse(responseCode = "404", description = "Community not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getCommunityFeed(
+            @Parameter(description = "ID of the community", example = "1") @PathVariable Long communityId,
+            @Parameter(description = "Ranking: hot, top-day, top-week or new", example = "hot") @RequestParam(required = false) String sort,
+            @Parameter(description = "Number of items to skip", example = "0") @RequestParam(required = false) Integer offset,
+            @Parameter(description = "Maximum number of items to return (max 100)", example = "20") @RequestParam(required = false) Integer limit) {
+        return getFeed(communityId, sort, offset, limit);
+    }
+
+    private ResponseEntity<?> getFeed(Long communityId, String sort, Integer offset, Integer limit) {
+        try {
+            FeedResponse response = feedService.getFeed(communityId, sort, offset, limit);
+            return ResponseEntity.ok(response);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching the feed");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.hashing.HashingStatsResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+
+@RestController
+@RequestMapping("/api/hashing")
+@Tag(name = "Password Hashing", description = "Load of the password hashing executor")
+public class HashingController {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final AuthService authService;
+
+    public HashingController(PasswordHashingExecutor passwordHashingExecutor, AuthService authService) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.authService = authService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get password hashing statistics", description = "Returns pool size, active and queued tasks, completed and rejected counts, and average and maximum hash time")
+    @ApiResponse(responseCode = "200", description = "Statistics returned", content = @Content(schema = @Schema(implementation = HashingStatsResponse.class)))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getStats(@Parameter(description = "HTTP session for authentication") HttpSession session) {
+        try {
+            // Operational detail, not for anonymous callers
+            if (!authService.getCurrentUser(session).authenticated()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("User not authenticated");
+            }
+            HashingStatsResponse response = passwordHashingExecutor.stats();
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching hashing statistics");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.dbexp.db_experiment.controller;
+
+import java.util.concurrent.CompletionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.dbexp.db_experiment.exception.ServiceUnavailableException;
+
+// Shared by the endpoints that run on PasswordHashingExecutor
+final class HashingResponses {
+
+    private HashingResponses() {
+    }
+
+    // A task the executor refused becomes 503 with Retry-After; anything else
+    // is rethrown for the usual error handling
+    static ResponseEntity<?> serviceUnavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
+        }
+        throw error instanceof CompletionException completion ? completion : new CompletionException(cause);
+    }
+}
@@ -0,0 +1,80 @@
+package com.dbexp.db_experiment.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Writes list responses element by element with Jackson's streaming generator
+// straight to the servlet output stream, so heap use does not grow with the
+// result size. Opted into with ?stream=true (JSON array) or
+// Accept: application/x-ndjson (one JSON object per line); controllers map
+// those to handlers of their own that return the body built here.
+//
+// The body is a StreamingResponseBody, so the handler returns before any row
+// is read and Spring MVC owns the response from then on. A failure while
+// streaming goes to its async error handling: an error status if nothing was
+// sent yet, otherwise an aborted response rather than a second one.
+@Component
+public class JsonStreamWriter {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter elementWriter;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // Let the servlet buffer decide when to flush instead of flushing per element
+        this.elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> response(String accept, Consumer<Consumer<T>> producer) {
+        boolean ndjson = isNdjson(accept);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(out -> write(out, ndjson, producer));
+    }
+
+    private <T> void write(OutputStream out, boolean ndjson, Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // Leave closing and flushing of the servlet stream to the container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            producer.accept(element -> writeElement(generator, element, ndjson));
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void writeElement(JsonGenerator generator, Object element, boolean ndjson) {
+        try {
+            elementWriter.writeValue(generator, element);
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isNdjson(String accept) {
+        return accept != null && accept.contains(NDJSON_VALUE);
+    }
+}
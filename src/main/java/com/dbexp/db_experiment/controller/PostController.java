@@ -1,6 +1,7 @@
 package com.dbexp.db_experiment.controller;
 
 import java.net.URI;
+import java.util.List;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -24,6 +26,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsRequest;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsResponse;
 import com.dbexp.db_experiment.dto.post.CreatePostRequest;
 import com.dbexp.db_experiment.dto.post.CreatePostResponse;
 import com.dbexp.db_experiment.dto.post.DeletePostResponse;
@@ -47,6 +52,24 @@ public class PostController {
         this.postService = postService;
     }
 
+    @GetMapping
+    @Operation(summary = "Get posts by IDs", description = "Resolves up to 200 post IDs with one query. Duplicate IDs are collapsed; results keep request order with null in place of missing posts, which are also listed in notFound")
+    @ApiResponse(responseCode = "200", description = "Lookup completed", content = @Content(schema = @Schema(implementation = MultiGetResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Missing, null or too many IDs provided")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getPostsByIds(
+            @Parameter(description = "Comma-separated post IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        try {
+            MultiGetResponse<GetPostByIdResponse> response = postService.getPostsByIds(ids);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching posts");
+        }
+    }
+
     @GetMapping("/{postId}")
     @Operation(summary = "Get post by ID", description = "Retrieves post information by its unique identifier")
     @ApiResponse(responseCode = "200", description = "Post found", content = @Content(schema = @Schema(implementation = GetPostByIdResponse.class)))
@@ -96,6 +119,31 @@ public class PostController {
         }
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create posts in bulk", description = "Creates many posts in one transaction using JDBC batch inserts and returns the new IDs in request order")
+    @ApiResponse(responseCode = "201", description = "Posts created successfully", content = @Content(schema = @Schema(implementation = BatchCreatePostsResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request data provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Community not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> createPosts(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "Batch post creation request payload") @Valid @RequestBody BatchCreatePostsRequest request) {
+        try {
+            BatchCreatePostsResponse response = postService.createPosts(session, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while creating the posts");
+        }
+    }
+
     @PutMapping("/{postId}")
     @Operation(summary = "Edit post", description = "Updates the content of an existing post")
     @ApiResponse(responseCode = "200", description = "Post updated successfully", content = @Content(schema = @Schema(implementation = EditPostResponse.class)))
@@ -0,0 +1,51 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.search.SearchResponse;
+import com.dbexp.db_experiment.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search", description = "Full-text search over posts and comments")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search posts or comments", description = "Ranks matches with BM25 over post titles and content or comment content; optionally limited to one community")
+    @ApiResponse(responseCode = "200", description = "Search completed", content = @Content(schema = @Schema(implementation = SearchResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Missing query or invalid type, community, offset or limit")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> search(
+            @Parameter(description = "Search terms", example = "database indexing") @RequestParam(required = false) String q,
+            @Parameter(description = "What to search: posts or comments", example = "posts") @RequestParam(required = false) String type,
+            @Parameter(description = "Only return matches from this community", example = "1") @RequestParam(required = false) Long communityId,
+            @Parameter(description = "Number of hits to skip (max 1000)", example = "0") @RequestParam(required = false) Integer offset,
+            @Parameter(description = "Maximum number of hits to return (max 100)", example = "20") @RequestParam(required = false) Integer limit) {
+        try {
+            SearchResponse response = searchService.search(q, type, communityId, offset, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while searching");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.dbexp.db_experiment.controller;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
@@ -14,16 +16,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
 import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
 import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
@@ -38,10 +44,12 @@ import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameResponse;
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
 import com.dbexp.db_experiment.exception.ConflictException;
 import com.dbexp.db_experiment.exception.ForbiddenException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
 
 @RestController
@@ -50,9 +58,29 @@ import com.dbexp.db_experiment.service.UserService;
 public class UserController {
 
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, PasswordHashingExecutor passwordHashingExecutor) {
         this.userService = userService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get users by IDs", description = "Resolves up to 200 user IDs with one query. Duplicate IDs are collapsed; results keep request order with null in place of missing users, which are also listed in notFound")
+    @ApiResponse(responseCode = "200", description = "Lookup completed", content = @Content(schema = @Schema(implementation = MultiGetResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Missing, null or too many IDs provided")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> getUsersByIds(
+            @Parameter(description = "Comma-separated user IDs", example = "1,2,3") @RequestParam List<Long> ids) {
+        try {
+            MultiGetResponse<GetUserByIdResponse> response = userService.getUsersByIds(ids);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while fetching users");
+        }
     }
 
     @GetMapping("/{userId}")
@@ -97,32 +125,54 @@ public class UserController {
         }
     }
 
-    @PostMapping
-    @Operation(summary = "Create a new user", description = "Creates a new user account with the provided details")
-    @ApiResponse(responseCode = "201", description = "User created successfully", content = @Content(schema = @Schema(implementation = CreateUserResponse.class)))
-    @ApiResponse(responseCode = "400", description = "Invalid request data provided")
-    @ApiResponse(responseCode = "409", description = "Username or email already exists")
+    @GetMapping("/search")
+    @Operation(summary = "Search users by username", description = "Typo-tolerant username search: returns users within a small edit distance of the query (none for 1-2 characters, 1 up to 5, otherwise 2), closest first. Served from an in-memory trigram index")
+    @ApiResponse(responseCode = "200", description = "Matches returned", content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserSuggestionResponse.class))))
+    @ApiResponse(responseCode = "400", description = "Missing query")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    public ResponseEntity<?> createUser(
-            @Parameter(description = "User creation request payload") @Valid @RequestBody CreateUserRequest request) {
+    public ResponseEntity<?> searchUsers(
+            @Parameter(description = "Approximate username", example = "alcie") @RequestParam(required = false) String q,
+            @Parameter(description = "Maximum number of matches (1-50)", example = "10") @RequestParam(required = false) Integer limit) {
         try {
-            CreateUserResponse response = userService.createUser(request);
-            URI location = ServletUriComponentsBuilder
-                    .fromCurrentRequest()
-                    .path("/{id}")
-                    .buildAndExpand(response.getUserId())
-                    .toUri();
-            return ResponseEntity.created(location).body(response);
-        } catch (ConflictException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            List<UserSuggestionResponse> response = userService.searchUsers(q, limit);
+            return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
-                    .body("An error occurred while creating the user");
+                    .body("An error occurred while searching users");
         }
     }
 
+    @PostMapping
+    @Operation(summary = "Create a new user", description = "Creates a new user account with the provided details")
+    @ApiResponse(responseCode = "201", description = "User created successfully", content = @Content(schema = @Schema(implementation = CreateUserResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid request data provided")
+    @ApiResponse(responseCode = "409", description = "Username or email already exists")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent password hashes; retry after the Retry-After header")
+    public CompletableFuture<ResponseEntity<?>> createUser(
+            @Parameter(description = "User creation request payload") @Valid @RequestBody CreateUserRequest request) {
+        // Resolved here: the current request is only bound to this thread
+        UriComponentsBuilder locationBuilder = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}");
+        return passwordHashingExecutor.<ResponseEntity<?>>submit(() -> {
+            try {
+                CreateUserResponse response = userService.createUser(request);
+                URI location = locationBuilder
+                        .buildAndExpand(response.getUserId())
+                        .toUri();
+                return ResponseEntity.created(location).body(response);
+            } catch (ConflictException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body("An error occurred while creating the user");
+            }
+        }).exceptionally(HashingResponses::serviceUnavailable);
+    }
+
     @PutMapping("/{userId}/username")
     @Operation(summary = "Change username", description = "Updates the username for a specific user")
     @ApiResponse(responseCode = "200", description = "Username updated successfully", content = @Content(schema = @Schema(implementation = ChangeUsernameResponse.class)))
@@ -163,25 +213,28 @@ public class UserController {
     @ApiResponse(responseCode = "403", description = "Cannot modify other user's account")
     @ApiResponse(responseCode = "404", description = "User not found")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    public ResponseEntity<?> changePassword(
+    @ApiResponse(responseCode = "503", description = "Too many concurrent password checks; retry after the Retry-After header")
+    public CompletableFuture<ResponseEntity<?>> changePassword(
             @Parameter(description = "HTTP session for authentication") HttpSession session,
             @Parameter(description = "ID of the user whose password to change", example = "1") @PathVariable Long userId,
             @Parameter(description = "New password request payload") @Valid @RequestBody ChangePasswordRequest request) {
-        try {
-            ChangePasswordResponse response = userService.changePassword(session, userId, request);
-            return ResponseEntity.ok(response);
-        } catch (UnauthorizedException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
-        } catch (ForbiddenException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (ResourceNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while changing password");
-        }
+        return passwordHashingExecutor.<ResponseEntity<?>>submit(() -> {
+            try {
+                ChangePasswordResponse response = userService.changePassword(session, userId, request);
+                return ResponseEntity.ok(response);
+            } catch (UnauthorizedException e) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+            } catch (ForbiddenException e) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+            } catch (ResourceNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body("An error occurred while changing password");
+            }
+        }).exceptionally(HashingResponses::serviceUnavailable);
     }
 
     @PutMapping("/{userId}/email")
@@ -193,27 +246,30 @@ public class UserController {
     @ApiResponse(responseCode = "404", description = "User not found")
     @ApiResponse(responseCode = "409", description = "Email already exists")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    public ResponseEntity<?> changeEmail(
+    @ApiResponse(responseCode = "503", description = "Too many concurrent password checks; retry after the Retry-After header")
+    public CompletableFuture<ResponseEntity<?>> changeEmail(
             @Parameter(description = "HTTP session for authentication") HttpSession session,
             @Parameter(description = "ID of the user whose email to change", example = "1") @PathVariable Long userId,
             @Parameter(description = "New email request payload") @Valid @RequestBody ChangeEmailRequest request) {
-        try {
-            ChangeEmailResponse response = userService.changeEmail(session, userId, request);
-            return ResponseEntity.ok(response);
-        } catch (UnauthorizedException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
-        } catch (ForbiddenException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (ResourceNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (ConflictException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while changing email");
-        }
+        return passwordHashingExecutor.<ResponseEntity<?>>submit(() -> {
+            try {
+                ChangeEmailResponse response = userService.changeEmail(session, userId, request);
+                return ResponseEntity.ok(response);
+            } catch (UnauthorizedException e) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+            } catch (ForbiddenException e) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+            } catch (ResourceNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+            } catch (ConflictException e) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body("An error occurred while changing email");
+            }
+        }).exceptionally(HashingResponses::serviceUnavailable);
     }
 
     @DeleteMapping("/{userId}")
@@ -222,24 +278,27 @@ public class UserController {
     @ApiResponse(responseCode = "400", description = "Invalid request data provided")
     @ApiResponse(responseCode = "404", description = "User not found")
     @ApiResponse(responseCode = "500", description = "Internal server error")
-    public ResponseEntity<?> deleteAccount(
+    @ApiResponse(responseCode = "503", description = "Too many concurrent password checks; retry after the Retry-After header")
+    public CompletableFuture<ResponseEntity<?>> deleteAccount(
             @Parameter(description = "HTTP session for authentication") HttpSession session,
             @Parameter(description = "ID of the user to delete", example = "1") @PathVariable Long userId,
             @Parameter(description = "Account deletion confirmation payload") @Valid @RequestBody DeleteAccountRequest request) {
-        try {
-            DeleteAccountResponse response = userService.deleteAccount(session, userId, request);
-            return ResponseEntity.ok(response);
-        } catch (UnauthorizedException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
-        } catch (ForbiddenException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (ResourceNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body("An error occurred while deleting the account");
-        }
+        return passwordHashingExecutor.<ResponseEntity<?>>submit(() -> {
+            try {
+                DeleteAccountResponse response = userService.deleteAccount(session, userId, request);
+                return ResponseEntity.ok(response);
+            } catch (UnauthorizedException e) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+            } catch (ForbiddenException e) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+            } catch (ResourceNotFoundException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(e.getMessage());
+            } catch (Exception e) {
+                return ResponseEntity.internalServerError()
+                        .body("An error occurred while deleting the account");
+            }
+        }).exceptionally(HashingResponses::serviceUnavailable);
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.dbexp.db_experiment.controller;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.validation.Valid;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.dbexp.db_experiment.dto.vote.VoteRequest;
+import com.dbexp.db_experiment.dto.vote.VoteResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.service.VoteService;
+
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Voting", description = "Endpoints for voting on posts and comments")
+public class VoteController {
+
+    private final VoteService voteService;
+
+    public VoteController(VoteService voteService) {
+        this.voteService = voteService;
+    }
+
+    @PutMapping("/posts/{postId}/vote")
+    @Operation(summary = "Vote on a post", description = "Casts an upvote (1) or downvote (-1). Sending your current vote again removes it")
+    @ApiResponse(responseCode = "200", description = "Vote recorded", content = @Content(schema = @Schema(implementation = VoteResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid vote value provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Post not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> votePost(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the post to vote on", example = "1") @PathVariable Long postId,
+            @Parameter(description = "Vote request payload") @Valid @RequestBody VoteRequest request) {
+        try {
+            VoteResponse response = voteService.votePost(session, postId, request);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while voting on the post");
+        }
+    }
+
+    @DeleteMapping("/posts/{postId}/vote")
+    @Operation(summary = "Remove post vote", description = "Removes the current user's vote on a post, if any")
+    @ApiResponse(responseCode = "200", description = "Vote removed", content = @Content(schema = @Schema(implementation = VoteResponse.class)))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Post not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> clearPostVote(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the post", example = "1") @PathVariable Long postId) {
+        try {
+            VoteResponse response = voteService.clearPostVote(session, postId);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while removing the post vote");
+        }
+    }
+
+    @PutMapping("/comments/{commentId}/vote")
+    @Operation(summary = "Vote on a comment", description = "Casts an upvote (1) or downvote (-1). Sending your current vote again removes it")
+    @ApiResponse(responseCode = "200", description = "Vote recorded", content = @Content(schema = @Schema(implementation = VoteResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Invalid vote value provided")
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Comment not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> voteComment(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the comment to vote on", example = "1") @PathVariable Long commentId,
+            @Parameter(description = "Vote request payload") @Valid @RequestBody VoteRequest request) {
+        try {
+            VoteResponse response = voteService.voteComment(session, commentId, request);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while voting on the comment");
+        }
+    }
+
+    @DeleteMapping("/comments/{commentId}/vote")
+    @Operation(summary = "Remove comment vote", description = "Removes the current user's vote on a comment, if any")
+    @ApiResponse(responseCode = "200", description = "Vote removed", content = @Content(schema = @Schema(implementation = VoteResponse.class)))
+    @ApiResponse(responseCode = "401", description = "User not authenticated")
+    @ApiResponse(responseCode = "404", description = "Comment not found")
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+    public ResponseEntity<?> clearCommentVote(
+            @Parameter(description = "HTTP session for authentication") HttpSession session,
+            @Parameter(description = "ID of the comment", example = "1") @PathVariable Long commentId) {
+        try {
+            VoteResponse response = voteService.clearCommentVote(session, commentId);
+            return ResponseEntity.ok(response);
+        } catch (UnauthorizedException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                    .body("An error occurred while removing the comment vote");
+        }
+    }
+}
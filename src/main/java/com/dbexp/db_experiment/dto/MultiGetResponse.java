@@ -0,0 +1,37 @@
+package com.dbexp.db_experiment.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class MultiGetResponse<T> {
+
+    @Schema(description = "Resolved items in request order, duplicates removed; null where the id was not found")
+    private List<T> results;
+
+    @Schema(description = "Requested ids that did not match any row", example = "[42]")
+    private List<Long> notFound;
+
+    // Constructors
+    public MultiGetResponse(List<T> results, List<Long> notFound) {
+        this.results = results;
+        this.notFound = notFound;
+    }
+
+    // Getters and Setters
+    public List<T> getResults() {
+        return results;
+    }
+
+    public void setResults(List<T> results) {
+        this.results = results;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<Long> notFound) {
+        this.notFound = notFound;
+    }
+}
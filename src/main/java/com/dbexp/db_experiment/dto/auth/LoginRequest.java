@@ -7,5 +7,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 public record LoginRequest(
         @NotBlank(message = "Username is required") @Schema(description = "Username of the user to login", example = "alice") String username,
 
-        @NotBlank(message = "Password is required") @Schema(description = "Password of the user to login", example = "password123") String password) {
-}
\ No newline at end of file
+        @NotBlank(message = "Password is required") @Schema(description = "Password of the user to login", example = "password123") String password,
+
+        @Schema(description = "Also set a remember-me cookie that can resume the session without the password", example = "false") Boolean rememberMe) {
+
+    public LoginRequest(String username, String password) {
+        this(username, password, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.dbexp.db_experiment.dto.auth;
+
+public record RememberMeLogin(
+        LoginResponse response,
+        RememberMeToken token) {
+}
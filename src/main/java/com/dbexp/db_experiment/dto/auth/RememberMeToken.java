@@ -0,0 +1,9 @@
+package com.dbexp.db_experiment.dto.auth;
+
+import java.time.Duration;
+
+// A freshly issued remember-me token; value is only ever sent in the cookie
+public record RememberMeToken(
+        String value,
+        Duration validity) {
+}
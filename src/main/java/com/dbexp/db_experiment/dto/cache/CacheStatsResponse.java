@@ -0,0 +1,12 @@
+package com.dbexp.db_experiment.dto.cache;
+
+public record CacheStatsResponse(
+        String name,
+        int entries,
+        long weightBytes,
+        long maxWeightBytes,
+        long hits,
+        long misses,
+        long evictions,
+        long invalidations) {
+}
@@ -0,0 +1,28 @@
+package com.dbexp.db_experiment.dto.comment;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class BatchCreateCommentsRequest {
+
+    @NotEmpty(message = "At least one comment is required")
+    @Size(max = 5000, message = "A batch may contain at most 5000 comments")
+    private List<@Valid CreateCommentRequest> comments;
+
+    // Constructors
+    public BatchCreateCommentsRequest(List<CreateCommentRequest> comments) {
+        this.comments = comments;
+    }
+
+    // Getters and Setters
+    public List<CreateCommentRequest> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CreateCommentRequest> comments) {
+        this.comments = comments;
+    }
+}
@@ -0,0 +1,43 @@
+package com.dbexp.db_experiment.dto.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BatchCreateCommentsResponse {
+
+    private int created;
+    private List<Long> commentIds;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public BatchCreateCommentsResponse(int created, List<Long> commentIds, LocalDateTime createdAt) {
+        this.created = created;
+        this.commentIds = commentIds;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<Long> getCommentIds() {
+        return commentIds;
+    }
+
+    public void setCommentIds(List<Long> commentIds) {
+        this.commentIds = commentIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,93 @@
+package com.dbexp.db_experiment.dto.comment;
+
+import java.time.LocalDateTime;
+
+public class CommentPreviewResponse {
+
+    private Long commentId;
+    private Long userId;
+    private Long postId;
+    private Long parentCommentId;
+    private String excerpt;
+    private boolean truncated;
+    private LocalDateTime createdAt;
+    private boolean deleted;
+
+    // Constructors
+    public CommentPreviewResponse(Long commentId, Long userId, Long postId, Long parentCommentId, String excerpt,
+            boolean truncated, LocalDateTime createdAt, boolean deleted) {
+        this.commentId = commentId;
+        this.userId = userId;
+        this.postId = postId;
+        this.parentCommentId = parentCommentId;
+        this.excerpt = excerpt;
+        this.truncated = truncated;
+        this.createdAt = createdAt;
+        this.deleted = deleted;
+    }
+
+    // Getters and Setters
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+
+    public void setParentCommentId(Long parentCommentId) {
+        this.parentCommentId = parentCommentId;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,113 @@
+package com.dbexp.db_experiment.dto.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CommentTreeNode {
+
+    private Long commentId;
+    private String content;
+    private Long userId;
+    private Long parentCommentId;
+    private LocalDateTime createdAt;
+    private int depth;
+    private int childCount;
+    private List<CommentTreeNode> replies;
+    private boolean deleted;
+    private boolean continueThread;
+
+    // Constructors
+    public CommentTreeNode(Long commentId, String content, Long userId, Long parentCommentId,
+            LocalDateTime createdAt, int depth, int childCount, List<CommentTreeNode> replies, boolean deleted) {
+        this.commentId = commentId;
+        this.content = content;
+        this.userId = userId;
+        this.parentCommentId = parentCommentId;
+        this.createdAt = createdAt;
+        this.depth = depth;
+        this.childCount = childCount;
+        this.replies = replies;
+        this.deleted = deleted;
+    }
+
+    // Getters and Setters
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getParentCommentId() {
+        return parentCommentId;
+    }
+
+    public void setParentCommentId(Long parentCommentId) {
+        this.parentCommentId = parentCommentId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public int getChildCount() {
+        return childCount;
+    }
+
+    public void setChildCount(int childCount) {
+        this.childCount = childCount;
+    }
+
+    public List<CommentTreeNode> getReplies() {
+        return replies;
+    }
+
+    public void setReplies(List<CommentTreeNode> replies) {
+        this.replies = replies;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public boolean isContinueThread() {
+        return continueThread;
+    }
+
+    public void setContinueThread(boolean continueThread) {
+        this.continueThread = continueThread;
+    }
+}
@@ -9,17 +9,21 @@ public class GetCommentByIdResponse {
     private Long userId;
     private Long postId;
     private Long parentCommentId;
+    private long score;
     private LocalDateTime createdAt;
+    private boolean deleted;
 
     // Constructors
     public GetCommentByIdResponse(Long commentId, String content, Long userId, Long postId, Long parentCommentId,
-            LocalDateTime createdAt) {
+            long score, LocalDateTime createdAt, boolean deleted) {
         this.commentId = commentId;
         this.content = content;
         this.userId = userId;
         this.postId = postId;
         this.parentCommentId = parentCommentId;
+        this.score = score;
         this.createdAt = createdAt;
+        this.deleted = deleted;
     }
 
     // Getters and Setters
@@ -63,6 +67,14 @@ public class GetCommentByIdResponse {
         this.parentCommentId = parentCommentId;
     }
 
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -70,4 +82,12 @@ public class GetCommentByIdResponse {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
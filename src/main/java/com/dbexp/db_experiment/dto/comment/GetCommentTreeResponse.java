@@ -0,0 +1,42 @@
+package com.dbexp.db_experiment.dto.comment;
+
+import java.util.List;
+
+public class GetCommentTreeResponse {
+
+    private Long postId;
+    private int totalComments;
+    private List<CommentTreeNode> comments;
+
+    // Constructors
+    public GetCommentTreeResponse(Long postId, int totalComments, List<CommentTreeNode> comments) {
+        this.postId = postId;
+        this.totalComments = totalComments;
+        this.comments = comments;
+    }
+
+    // Getters and Setters
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public int getTotalComments() {
+        return totalComments;
+    }
+
+    public void setTotalComments(int totalComments) {
+        this.totalComments = totalComments;
+    }
+
+    public List<CommentTreeNode> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentTreeNode> comments) {
+        this.comments = comments;
+    }
+}
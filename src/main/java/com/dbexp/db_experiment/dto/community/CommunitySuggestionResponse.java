@@ -0,0 +1,40 @@
+package com.dbexp.db_experiment.dto.community;
+
+public class CommunitySuggestionResponse {
+
+    private Long communityId;
+    private String name;
+    private long subscriberCount;
+
+    // Constructors
+    public CommunitySuggestionResponse(Long communityId, String name, long subscriberCount) {
+        this.communityId = communityId;
+        this.name = name;
+        this.subscriberCount = subscriberCount;
+    }
+
+    // Getters and Setters
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getSubscriberCount() {
+        return subscriberCount;
+    }
+
+    public void setSubscriberCount(long subscriberCount) {
+        this.subscriberCount = subscriberCount;
+    }
+}
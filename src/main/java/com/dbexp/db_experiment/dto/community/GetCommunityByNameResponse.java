@@ -7,13 +7,17 @@ public class GetCommunityByNameResponse {
     private String name;
     private String description;
     private LocalDateTime creationTime;
+    private long postCount;
+    private LocalDateTime lastActivityAt;
 
     public GetCommunityByNameResponse(Long communityId, String name, String description,
-            LocalDateTime creationTime) {
+            LocalDateTime creationTime, long postCount, LocalDateTime lastActivityAt) {
         this.communityId = communityId;
         this.name = name;
         this.description = description;
         this.creationTime = creationTime;
+        this.postCount = postCount;
+        this.lastActivityAt = lastActivityAt;
     }
 
     public Long getCommunityId() {
@@ -47,4 +51,20 @@ public class GetCommunityByNameResponse {
     public void setCreationTime(LocalDateTime creationTime) {
         this.creationTime = creationTime;
     }
-}
\ No newline at end of file
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public void setPostCount(long postCount) {
+        this.postCount = postCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.dbexp.db_experiment.dto.community;
+
+public class SubscriptionResponse {
+
+    private Long communityId;
+    private boolean subscribed;
+
+    // Constructors
+    public SubscriptionResponse(Long communityId, boolean subscribed) {
+        this.communityId = communityId;
+        this.subscribed = subscribed;
+    }
+
+    // Getters and Setters
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    public void setSubscribed(boolean subscribed) {
+        this.subscribed = subscribed;
+    }
+}
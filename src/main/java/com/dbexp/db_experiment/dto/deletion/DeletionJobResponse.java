@@ -0,0 +1,124 @@
+package com.dbexp.db_experiment.dto.deletion;
+
+import java.time.LocalDateTime;
+
+public class DeletionJobResponse {
+
+    private Long jobId;
+    private String targetType;
+    private Long targetId;
+    private String status;
+    private String phase;
+    private long rowsDeleted;
+    private int attempts;
+    private String errorCode;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    // Constructors
+    public DeletionJobResponse(Long jobId, String targetType, Long targetId, String status, String phase,
+            long rowsDeleted, int attempts, String errorCode, LocalDateTime createdAt, LocalDateTime updatedAt,
+            LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.status = status;
+        this.phase = phase;
+        this.rowsDeleted = rowsDeleted;
+        this.attempts = attempts;
+        this.errorCode = errorCode;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTargetType() {
+        return targetType;
+    }
+
+    public void setTargetType(String targetType) {
+        this.targetType = targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public long getRowsDeleted() {
+        return rowsDeleted;
+    }
+
+    public void setRowsDeleted(long rowsDeleted) {
+        this.rowsDeleted = rowsDeleted;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,103 @@
+package com.dbexp.db_experiment.dto.feed;
+
+import java.time.LocalDateTime;
+
+public class FeedItemResponse {
+
+    private Long postId;
+    private Long userId;
+    private Long communityId;
+    private String postTitle;
+    private String excerpt;
+    private boolean truncated;
+    private long score;
+    private long commentCount;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public FeedItemResponse(Long postId, Long userId, Long communityId, String postTitle, String excerpt,
+            boolean truncated, long score, long commentCount, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.userId = userId;
+        this.communityId = communityId;
+        this.postTitle = postTitle;
+        this.excerpt = excerpt;
+        this.truncated = truncated;
+        this.score = score;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getPostTitle() {
+        return postTitle;
+    }
+
+    public void setPostTitle(String postTitle) {
+        this.postTitle = postTitle;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.dbexp.db_experiment.dto.feed;
+
+import java.util.List;
+
+public class FeedResponse {
+
+    private String sort;
+    private Long communityId;
+    private List<FeedItemResponse> items;
+    private Integer nextOffset;
+    private boolean hasMore;
+
+    // Constructors
+    public FeedResponse(String sort, Long communityId, List<FeedItemResponse> items, Integer nextOffset,
+            boolean hasMore) {
+        this.sort = sort;
+        this.communityId = communityId;
+        this.items = items;
+        this.nextOffset = nextOffset;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public List<FeedItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<FeedItemResponse> items) {
+        this.items = items;
+    }
+
+    public Integer getNextOffset() {
+        return nextOffset;
+    }
+
+    public void setNextOffset(Integer nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbexp.db_experiment.dto.feed;
+
+import java.util.List;
+
+public class HomeFeedResponse {
+
+    private List<FeedItemResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public HomeFeedResponse(List<FeedItemResponse> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<FeedItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<FeedItemResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
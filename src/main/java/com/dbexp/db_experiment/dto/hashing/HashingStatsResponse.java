@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.dto.hashing;
+
+public record HashingStatsResponse(
+        int threads,
+        int active,
+        int queued,
+        int queueCapacity,
+        long completed,
+        long rejected,
+        long hashes,
+        double averageHashMillis,
+        double maxHashMillis) {
+}
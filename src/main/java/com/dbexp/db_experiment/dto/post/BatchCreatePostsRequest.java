@@ -0,0 +1,28 @@
+package com.dbexp.db_experiment.dto.post;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class BatchCreatePostsRequest {
+
+    @NotEmpty(message = "At least one post is required")
+    @Size(max = 5000, message = "A batch may contain at most 5000 posts")
+    private List<@Valid CreatePostRequest> posts;
+
+    // Constructors
+    public BatchCreatePostsRequest(List<CreatePostRequest> posts) {
+        this.posts = posts;
+    }
+
+    // Getters and Setters
+    public List<CreatePostRequest> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<CreatePostRequest> posts) {
+        this.posts = posts;
+    }
+}
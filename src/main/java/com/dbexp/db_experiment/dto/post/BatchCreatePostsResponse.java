@@ -0,0 +1,43 @@
+package com.dbexp.db_experiment.dto.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BatchCreatePostsResponse {
+
+    private int created;
+    private List<Long> postIds;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public BatchCreatePostsResponse(int created, List<Long> postIds, LocalDateTime createdAt) {
+        this.created = created;
+        this.postIds = postIds;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<Long> getPostIds() {
+        return postIds;
+    }
+
+    public void setPostIds(List<Long> postIds) {
+        this.postIds = postIds;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -7,12 +7,14 @@ public class DeletePostResponse {
     private Long postId;
     private LocalDateTime deletedAt;
     private String message;
+    private Long deletionJobId;
 
     // Constructors
-    public DeletePostResponse(Long postId, LocalDateTime deletedAt, String message) {
+    public DeletePostResponse(Long postId, LocalDateTime deletedAt, String message, Long deletionJobId) {
         this.postId = postId;
         this.deletedAt = deletedAt;
         this.message = message;
+        this.deletionJobId = deletionJobId;
     }
 
     // Getters and Setters
@@ -39,4 +41,12 @@ public class DeletePostResponse {
     public void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+
+    public Long getDeletionJobId() {
+        return deletionJobId;
+    }
+
+    public void setDeletionJobId(Long deletionJobId) {
+        this.deletionJobId = deletionJobId;
+    }
+}
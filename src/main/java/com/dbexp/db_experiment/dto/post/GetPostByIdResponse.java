@@ -9,17 +9,23 @@ public class GetPostByIdResponse {
     private Long communityId;
     private String postTitle;
     private String postContent;
+    private long score;
+    private long commentCount;
     private LocalDateTime createdAt;
+    private LocalDateTime lastActivityAt;
 
     // Constructors
     public GetPostByIdResponse(Long postId, Long userId, Long communityId, String postTitle, String postContent,
-            LocalDateTime createdAt) {
+            long score, long commentCount, LocalDateTime createdAt, LocalDateTime lastActivityAt) {
         this.postId = postId;
         this.userId = userId;
         this.communityId = communityId;
         this.postTitle = postTitle;
         this.postContent = postContent;
+        this.score = score;
+        this.commentCount = commentCount;
         this.createdAt = createdAt;
+        this.lastActivityAt = lastActivityAt;
     }
 
     // Getters and Setters
@@ -63,6 +69,22 @@ public class GetPostByIdResponse {
         this.postContent = postContent;
     }
 
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -70,4 +92,12 @@ public class GetPostByIdResponse {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
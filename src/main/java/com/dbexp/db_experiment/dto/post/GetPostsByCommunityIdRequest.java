@@ -0,0 +1,40 @@
+package com.dbexp.db_experiment.dto.post;
+
+public class GetPostsByCommunityIdRequest {
+
+    private Long communityId;
+    private String cursor;
+    private Integer limit;
+
+    // Constructors
+    public GetPostsByCommunityIdRequest(Long communityId, String cursor, Integer limit) {
+        this.communityId = communityId;
+        this.cursor = cursor;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dbexp.db_experiment.dto.post;
+
+import java.util.List;
+
+public class GetPostsByCommunityIdResponse {
+
+    private List<PostPreviewResponse> posts;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public GetPostsByCommunityIdResponse(List<PostPreviewResponse> posts, String nextCursor, boolean hasMore) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public List<PostPreviewResponse> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<PostPreviewResponse> posts) {
+        this.posts = posts;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
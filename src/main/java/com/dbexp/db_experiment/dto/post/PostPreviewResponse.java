@@ -0,0 +1,103 @@
+package com.dbexp.db_experiment.dto.post;
+
+import java.time.LocalDateTime;
+
+public class PostPreviewResponse {
+
+    private Long postId;
+    private Long userId;
+    private Long communityId;
+    private String postTitle;
+    private String excerpt;
+    private boolean truncated;
+    private LocalDateTime createdAt;
+    private long commentCount;
+    private LocalDateTime lastActivityAt;
+
+    // Constructors
+    public PostPreviewResponse(Long postId, Long userId, Long communityId, String postTitle, String excerpt,
+            boolean truncated, LocalDateTime createdAt, long commentCount, LocalDateTime lastActivityAt) {
+        this.postId = postId;
+        this.userId = userId;
+        this.communityId = communityId;
+        this.postTitle = postTitle;
+        this.excerpt = excerpt;
+        this.truncated = truncated;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    // Getters and Setters
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getPostTitle() {
+        return postTitle;
+    }
+
+    public void setPostTitle(String postTitle) {
+        this.postTitle = postTitle;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
@@ -0,0 +1,103 @@
+package com.dbexp.db_experiment.dto.search;
+
+import java.time.LocalDateTime;
+
+public class SearchHitResponse {
+
+    private String type;
+    private Long id;
+    private Long postId;
+    private Long communityId;
+    private String title;
+    private String excerpt;
+    private boolean truncated;
+    private double relevance;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public SearchHitResponse(String type, Long id, Long postId, Long communityId, String title, String excerpt,
+            boolean truncated, double relevance, LocalDateTime createdAt) {
+        this.type = type;
+        this.id = id;
+        this.postId = postId;
+        this.communityId = communityId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.truncated = truncated;
+        this.relevance = relevance;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getCommunityId() {
+        return communityId;
+    }
+
+    public void setCommunityId(Long communityId) {
+        this.communityId = communityId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public double getRelevance() {
+        return relevance;
+    }
+
+    public void setRelevance(double relevance) {
+        this.relevance = relevance;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
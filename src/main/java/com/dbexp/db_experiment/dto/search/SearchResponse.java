@@ -0,0 +1,73 @@
+package com.dbexp.db_experiment.dto.search;
+
+import java.util.List;
+
+public class SearchResponse {
+
+    private String query;
+    private String type;
+    private List<SearchHitResponse> items;
+    private int totalHits;
+    private Integer nextOffset;
+    private boolean hasMore;
+
+    // Constructors
+    public SearchResponse(String query, String type, List<SearchHitResponse> items, int totalHits, Integer nextOffset,
+            boolean hasMore) {
+        this.query = query;
+        this.type = type;
+        this.items = items;
+        this.totalHits = totalHits;
+        this.nextOffset = nextOffset;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public List<SearchHitResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SearchHitResponse> items) {
+        this.items = items;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(int totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public Integer getNextOffset() {
+        return nextOffset;
+    }
+
+    public void setNextOffset(Integer nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -15,11 +15,15 @@ public class DeleteAccountResponse {
     @Schema(description = "Success message", example = "Account deleted successfully")
     private String message;
 
+    @Schema(description = "Background job removing the account's content; poll /api/deletions/{jobId}", example = "42")
+    private Long deletionJobId;
+
     // Constructors
-    public DeleteAccountResponse(Long userId, LocalDateTime deletedAt, String message) {
+    public DeleteAccountResponse(Long userId, LocalDateTime deletedAt, String message, Long deletionJobId) {
         this.userId = userId;
         this.deletedAt = deletedAt;
         this.message = message;
+        this.deletionJobId = deletionJobId;
     }
 
     // Getters and Setters
@@ -46,4 +50,12 @@ public class DeleteAccountResponse {
     public void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+
+    public Long getDeletionJobId() {
+        return deletionJobId;
+    }
+
+    public void setDeletionJobId(Long deletionJobId) {
+        this.deletionJobId = deletionJobId;
+    }
+}
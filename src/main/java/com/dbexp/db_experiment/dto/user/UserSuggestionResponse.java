@@ -0,0 +1,40 @@
+package com.dbexp.db_experiment.dto.user;
+
+public class UserSuggestionResponse {
+
+    private Long userId;
+    private String username;
+    private int distance;
+
+    // Constructors
+    public UserSuggestionResponse(Long userId, String username, int distance) {
+        this.userId = userId;
+        this.username = username;
+        this.distance = distance;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public void setDistance(int distance) {
+        this.distance = distance;
+    }
+}
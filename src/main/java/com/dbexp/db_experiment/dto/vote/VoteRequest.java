@@ -0,0 +1,29 @@
+package com.dbexp.db_experiment.dto.vote;
+
+import jakarta.validation.constraints.NotNull;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class VoteRequest {
+
+    @Schema(description = "1 for an upvote, -1 for a downvote. Repeating your current vote removes it", example = "1")
+    @NotNull(message = "Vote value is required")
+    private Integer value;
+
+    // Constructors
+    public VoteRequest() {
+    }
+
+    public VoteRequest(Integer value) {
+        this.value = value;
+    }
+
+    // Getters and Setters
+    public Integer getValue() {
+        return value;
+    }
+
+    public void setValue(Integer value) {
+        this.value = value;
+    }
+}
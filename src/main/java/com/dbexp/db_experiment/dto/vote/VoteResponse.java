@@ -0,0 +1,47 @@
+package com.dbexp.db_experiment.dto.vote;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class VoteResponse {
+
+    @Schema(description = "ID of the post or comment that was voted on", example = "1")
+    private Long targetId;
+
+    @Schema(description = "The caller's vote after this request: 1, -1, or 0 for none", example = "1")
+    private int userVote;
+
+    @Schema(description = "Score including votes not yet flushed to the database", example = "42")
+    private long score;
+
+    // Constructors
+    public VoteResponse(Long targetId, int userVote, long score) {
+        this.targetId = targetId;
+        this.userVote = userVote;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public int getUserVote() {
+        return userVote;
+    }
+
+    public void setUserVote(int userVote) {
+        this.userVote = userVote;
+    }
+
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+}
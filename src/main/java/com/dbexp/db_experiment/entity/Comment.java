@@ -25,9 +25,16 @@ public class Comment {
     @Column("parent_comment_id")
     private Long parentCommentId;
 
+    @Column("score")
+    private long score;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
+    // Set when the comment is tombstoned; content is cleared but replies keep their parent
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructors
     public Comment(Long userId, Long postId, String commentContent) {
         this.userId = userId;
@@ -76,6 +83,14 @@ public class Comment {
         this.parentCommentId = parentCommentId;
     }
 
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -83,4 +98,12 @@ public class Comment {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -22,6 +22,13 @@ public class Community {
     @Column("created_at")
     private LocalDateTime createdAt;
 
+    // Denormalized COUNT(Post), maintained by the activity counter flusher
+    @Column("post_count")
+    private long postCount;
+
+    @Column("last_activity_at")
+    private LocalDateTime lastActivityAt;
+
     // Constructors
     public Community(String name, String description) {
         this.name = name;
@@ -60,4 +67,20 @@ public class Community {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public void setPostCount(long postCount) {
+        this.postCount = postCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
@@ -25,9 +25,23 @@ public class Post {
     @Column("post_content")
     private String postContent;
 
+    @Column("score")
+    private long score;
+
+    // Denormalized COUNT(ForumComment), maintained by the activity counter flusher
+    @Column("comment_count")
+    private long commentCount;
+
     @Column("created_at")
     private LocalDateTime createdAt;
 
+    @Column("last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    // Set while the post waits for the cascade deletion worker
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructors
     public Post(Long userId, Long communityId, String postTitle, String postContent) {
         this.userId = userId;
@@ -77,6 +91,22 @@ public class Post {
         this.postContent = postContent;
     }
 
+    public long getScore() {
+        return score;
+    }
+
+    public void setScore(long score) {
+        this.score = score;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -84,4 +114,20 @@ public class Post {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -25,6 +25,10 @@ public class User {
     @Column("created_at")
     private LocalDateTime createdAt;
 
+    // Set while the account waits for the cascade deletion worker
+    @Column("deleted_at")
+    private LocalDateTime deletedAt;
+
     // Constructors
     public User(String username, String passwordHash, String email) {
         this.username = username;
@@ -72,4 +76,12 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
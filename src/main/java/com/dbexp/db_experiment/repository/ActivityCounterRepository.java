@@ -0,0 +1,150 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// Denormalized activity columns: Post.comment_count / last_activity_at and
+// Community.post_count / last_activity_at. Deltas arrive from the write-behind
+// buffer; the reconciliation job compares them with the base tables one id
+// range at a time and rewrites only rows that drifted.
+@Repository
+public class ActivityCounterRepository {
+
+    public enum Scope {
+        // Comments per post, counted from ForumComment through idx_comment_post_id
+        POST("Post", "post_id", "comment_count",
+                "SELECT p.post_id AS id, p.comment_count AS stored_count, p.last_activity_at AS stored_activity, "
+                        + "COALESCE(x.actual_count, 0) AS actual_count, "
+                        + "GREATEST(p.created_at, COALESCE(x.newest, p.created_at)) AS actual_activity "
+                        + "FROM Post p LEFT JOIN ("
+                        + "SELECT post_id, COUNT(*) AS actual_count, MAX(created_at) AS newest FROM ForumComment "
+                        + "WHERE post_id BETWEEN ? AND ? AND deleted_at IS NULL GROUP BY post_id) x ON x.post_id = p.post_id "
+                        + "WHERE p.post_id BETWEEN ? AND ?"),
+        // Posts per community through idx_post_community_created; activity includes comments
+        COMMUNITY("Community", "community_id", "post_count",
+                "SELECT c.community_id AS id, c.post_count AS stored_count, c.last_activity_at AS stored_activity, "
+                        + "COALESCE(x.actual_count, 0) AS actual_count, "
+                        + "GREATEST(c.created_at, COALESCE(x.newest, c.created_at)) AS actual_activity "
+                        + "FROM Community c LEFT JOIN ("
+                        + "SELECT community_id, COUNT(*) AS actual_count, "
+                        + "MAX(COALESCE(last_activity_at, created_at)) AS newest FROM Post "
+                        + "WHERE community_id BETWEEN ? AND ? AND deleted_at IS NULL GROUP BY community_id) x "
+                        + "ON x.community_id = c.community_id "
+                        + "WHERE c.community_id BETWEEN ? AND ?");
+
+        private final String table;
+        private final String idColumn;
+        private final String countColumn;
+        private final String reconcileQuery;
+
+        Scope(String table, String idColumn, String countColumn, String reconcileQuery) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.countColumn = countColumn;
+            this.reconcileQuery = reconcileQuery;
+        }
+    }
+
+    // Stored counter values next to the values recomputed from the base table
+    public record CounterRow(long id, long storedCount, LocalDateTime storedActivity, long actualCount,
+            LocalDateTime actualActivity) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ActivityCounterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Applies accumulated count deltas as one JDBC batch, all or nothing so a
+    // failed flush can be retried without double counting
+    @Transactional
+    public void addCounts(Scope scope, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[] { delta, id }));
+        jdbcTemplate.batchUpdate("UPDATE " + scope.table + " SET " + scope.countColumn + " = GREATEST("
+                + scope.countColumn + " + ?, 0) WHERE " + scope.idColumn + " = ?", args);
+    }
+
+    // Moves last_activity_at forward only; a post's activity also bumps its community
+    @Transactional
+    public void touch(Scope scope, Map<Long, LocalDateTime> activity) {
+        if (activity.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(activity.size());
+        if (scope == Scope.POST) {
+            activity.forEach((id, at) -> args.add(new Object[] { Timestamp.valueOf(at), Timestamp.valueOf(at), id }));
+            jdbcTemplate.batchUpdate("UPDATE Post p JOIN Community c ON c.community_id = p.community_id "
+                    + "SET p.last_activity_at = GREATEST(COALESCE(p.last_activity_at, p.created_at), ?), "
+                    + "c.last_activity_at = GREATEST(COALESCE(c.last_activity_at, c.created_at), ?) "
+                    + "WHERE p.post_id = ?", args);
+        } else {
+            activity.forEach((id, at) -> args.add(new Object[] { Timestamp.valueOf(at), id }));
+            jdbcTemplate.batchUpdate("UPDATE Community SET last_activity_at = "
+                    + "GREATEST(COALESCE(last_activity_at, created_at), ?) WHERE community_id = ?", args);
+        }
+    }
+
+    public long[] findIdRange(Scope scope) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(" + scope.idColumn + "), 0), COALESCE(MAX(" + scope.idColumn + "), -1) FROM "
+                        + scope.table,
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+    }
+
+    // Plain consistent read: no row or gap locks are taken on either table
+    public List<CounterRow> findCounters(Scope scope, long fromId, long toId) {
+        return jdbcTemplate.query(scope.reconcileQuery, (rs, rowNum) -> new CounterRow(
+                rs.getLong("id"),
+                rs.getLong("stored_count"),
+                toLocalDateTime(rs.getTimestamp("stored_activity")),
+                rs.getLong("actual_count"),
+                toLocalDateTime(rs.getTimestamp("actual_activity"))),
+                fromId, toId, fromId, toId);
+    }
+
+    // Single-row primary key updates guarded by the values that were read, so a
+    // flush that lands in between wins and the row is revisited next run
+    public int repair(Scope scope, List<CounterRow> rows, Map<Long, Long> targetCounts) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (CounterRow row : rows) {
+            args.add(new Object[] {
+                    targetCounts.get(row.id()),
+                    toTimestamp(row.actualActivity()),
+                    row.id(),
+                    row.storedCount(),
+                    toTimestamp(row.storedActivity()) });
+        }
+        int[] updated = jdbcTemplate.batchUpdate("UPDATE " + scope.table + " SET " + scope.countColumn
+                + " = ?, last_activity_at = ? WHERE " + scope.idColumn + " = ? AND " + scope.countColumn
+                + " = ? AND last_activity_at <=> ?", args);
+        int repaired = 0;
+        for (int count : updated) {
+            // The driver may report SUCCESS_NO_INFO (-2) for rewritten batches
+            repaired += count == 0 ? 0 : 1;
+        }
+        return repaired;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
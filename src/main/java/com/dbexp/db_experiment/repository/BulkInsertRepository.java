@@ -0,0 +1,130 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+
+// JDBC batch inserts for bulk imports. With rewriteBatchedStatements=true on the
+// connection URL, Connector/J sends each chunk as one multi-row INSERT.
+// Generated keys come back in row order.
+@Repository
+public class BulkInsertRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_POST_SQL = "INSERT INTO Post "
+            + "(user_id, community_id, post_title, post_content, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMMENT_SQL = "INSERT INTO ForumComment "
+            + "(user_id, post_id, parent_comment_id, comment_content, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public BulkInsertRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    public List<Long> insertPosts(List<Post> posts) {
+        List<Long> ids = new ArrayList<>(posts.size());
+        for (int from = 0; from < posts.size(); from += CHUNK_SIZE) {
+            List<Post> chunk = posts.subList(from, Math.min(from + CHUNK_SIZE, posts.size()));
+            ids.addAll(insertChunk(INSERT_POST_SQL, chunk.size(), (ps, i) -> {
+                Post post = chunk.get(i);
+                ps.setLong(1, post.getUserId());
+                ps.setLong(2, post.getCommunityId());
+                ps.setString(3, post.getPostTitle());
+                ps.setString(4, post.getPostContent());
+                ps.setTimestamp(5, Timestamp.valueOf(post.getCreatedAt()));
+            }));
+        }
+        return ids;
+    }
+
+    public List<Long> insertComments(List<Comment> comments) {
+        List<Long> ids = new ArrayList<>(comments.size());
+        for (int from = 0; from < comments.size(); from += CHUNK_SIZE) {
+            List<Comment> chunk = comments.subList(from, Math.min(from + CHUNK_SIZE, comments.size()));
+            ids.addAll(insertChunk(INSERT_COMMENT_SQL, chunk.size(), (ps, i) -> {
+                Comment comment = chunk.get(i);
+                ps.setLong(1, comment.getUserId());
+                ps.setLong(2, comment.getPostId());
+                if (comment.getParentCommentId() == null) {
+                    ps.setNull(3, Types.INTEGER);
+                } else {
+                    ps.setLong(3, comment.getParentCommentId());
+                }
+                ps.setString(4, comment.getCommentContent());
+                ps.setTimestamp(5, Timestamp.valueOf(comment.getCreatedAt()));
+            }));
+        }
+        return ids;
+    }
+
+    // Maps each live (not tombstoned) comment id to the post it belongs to
+    public Map<Long, Long> findPostIdsByCommentIds(Collection<Long> commentIds) {
+        Map<Long, Long> postIds = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return postIds;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT comment_id, post_id FROM ForumComment WHERE comment_id IN (:commentIds) "
+                        + "AND deleted_at IS NULL",
+                new MapSqlParameterSource("commentIds", commentIds),
+                rs -> {
+                    postIds.put(rs.getLong("comment_id"), rs.getLong("post_id"));
+                });
+        return postIds;
+    }
+
+    private List<Long> insertChunk(String sql, int size, RowBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        binder.bind(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(size);
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != size) {
+            throw new IllegalStateException("Batch insert returned " + ids.size() + " keys for " + size + " rows");
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
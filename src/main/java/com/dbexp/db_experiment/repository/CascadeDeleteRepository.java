@@ -0,0 +1,176 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+
+// Bounded deletes for the cascade deletion worker and the comment tombstone
+// purge. Every method touches at most `limit` rows in its own short
+// transaction, so removing a large account or thread never holds more than
+// one chunk of row locks at a time and never leans on ON DELETE CASCADE for
+// anything bigger than a reply subtree.
+@Repository
+public class CascadeDeleteRepository {
+
+    public record PostRef(long postId, long communityId) {
+    }
+
+    public record CommentRef(long commentId, long postId, boolean tombstone) {
+    }
+
+    public record VoteRef(long targetId, int value) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public CascadeDeleteRepository(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // Hides the next chunk of an account's visible posts
+    @Transactional
+    public List<PostRef> hidePostsByUser(long userId, int limit) {
+        List<PostRef> posts = jdbcTemplate.query(
+                "SELECT post_id, community_id FROM Post WHERE user_id = ? AND deleted_at IS NULL "
+                        + "ORDER BY post_id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new PostRef(rs.getLong("post_id"), rs.getLong("community_id")), userId, limit);
+        if (!posts.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "UPDATE Post SET deleted_at = CURRENT_TIMESTAMP WHERE post_id IN (:postIds)",
+                    new MapSqlParameterSource("postIds", posts.stream().map(PostRef::postId).toList()));
+        }
+        return posts;
+    }
+
+    public Optional<Long> findFirstPostIdByUser(long userId) {
+        return jdbcTemplate.queryForList("SELECT post_id FROM Post WHERE user_id = ? ORDER BY post_id LIMIT 1",
+                Long.class, userId).stream().findFirst();
+    }
+
+    public int deletePostVotes(long postId, int limit) {
+        return jdbcTemplate.update("DELETE FROM PostVote WHERE post_id = ? LIMIT ?", postId, limit);
+    }
+
+    public int deleteCommentVotesByPost(long postId, int limit) {
+        return jdbcTemplate.update("DELETE FROM CommentVote WHERE comment_id IN ("
+                + "SELECT comment_id FROM ForumComment WHERE post_id = ?) LIMIT ?", postId, limit);
+    }
+
+    // Newest first: replies always have larger ids than their parents, so a
+    // chunk never cascades into comments outside it
+    @Transactional
+    public List<Long> deleteCommentsByPost(long postId, int limit) {
+        List<Long> commentIds = jdbcTemplate.queryForList(
+                "SELECT comment_id FROM ForumComment WHERE post_id = ? ORDER BY comment_id DESC LIMIT ? FOR UPDATE",
+                Long.class, postId, limit);
+        deleteComments(commentIds);
+        return commentIds;
+    }
+
+    public int deletePost(long postId) {
+        return jdbcTemplate.update("DELETE FROM Post WHERE post_id = ?", postId);
+    }
+
+    public int deleteCommentVotesByAuthor(long userId, int limit) {
+        return jdbcTemplate.update("DELETE FROM CommentVote WHERE comment_id IN ("
+                + "SELECT comment_id FROM ForumComment WHERE user_id = ?) LIMIT ?", userId, limit);
+    }
+
+    // An account's comments under other people's posts. Leaves are deleted;
+    // comments with replies become anonymous tombstones (user_id cleared), so
+    // other people's replies keep their thread and the purge job removes the
+    // tombstones once they are leaves. Either way the row leaves this query.
+    @Transactional
+    public List<CommentRef> deleteCommentsByUser(long userId, int limit) {
+        List<Long> withReplies = new ArrayList<>();
+        List<Long> leaves = new ArrayList<>();
+        List<CommentRef> comments = jdbcTemplate.query(
+                "SELECT c.comment_id, c.post_id, c.deleted_at IS NOT NULL AS tombstone, EXISTS ("
+                        + "SELECT 1 FROM ForumComment r WHERE r.parent_comment_id = c.comment_id) AS has_replies "
+                        + "FROM ForumComment c WHERE c.user_id = ? ORDER BY c.comment_id DESC LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> {
+                    long commentId = rs.getLong("comment_id");
+                    (rs.getBoolean("has_replies") ? withReplies : leaves).add(commentId);
+                    return new CommentRef(commentId, rs.getLong("post_id"), rs.getBoolean("tombstone"));
+                },
+                userId, limit);
+        if (!withReplies.isEmpty()) {
+            namedParameterJdbcTemplate.update("UPDATE ForumComment SET comment_content = '', user_id = NULL, "
+                    + "deleted_at = COALESCE(deleted_at, CURRENT_TIMESTAMP) WHERE comment_id IN (:commentIds)",
+                    new MapSqlParameterSource("commentIds", withReplies));
+        }
+        deleteComments(leaves);
+        return comments;
+    }
+
+    // Returns the removed votes so the caller can take them back out of the scores
+    @Transactional
+    public List<VoteRef> deleteVotesByUser(Target target, long userId, int limit) {
+        List<VoteRef> votes = jdbcTemplate.query(
+                "SELECT " + target.idColumn() + " AS target_id, vote_value FROM " + target.voteTable()
+                        + " WHERE user_id = ? LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new VoteRef(rs.getLong("target_id"), rs.getInt("vote_value")), userId, limit);
+        if (!votes.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "DELETE FROM " + target.voteTable() + " WHERE user_id = :userId AND " + target.idColumn()
+                            + " IN (:targetIds)",
+                    new MapSqlParameterSource("userId", userId)
+                            .addValue("targetIds", votes.stream().map(VoteRef::targetId).toList()));
+        }
+        return votes;
+    }
+
+    // Returns the communities the account was subscribed to
+    @Transactional
+    public List<Long> deleteSubscriptionsByUser(long userId, int limit) {
+        List<Long> communityIds = jdbcTemplate.queryForList(
+                "SELECT community_id FROM Subscription WHERE user_id = ? LIMIT ? FOR UPDATE", Long.class, userId,
+                limit);
+        if (!communityIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(
+                    "DELETE FROM Subscription WHERE user_id = :userId AND community_id IN (:communityIds)",
+                    new MapSqlParameterSource("userId", userId).addValue("communityIds", communityIds));
+        }
+        return communityIds;
+    }
+
+    public int deleteModeratorRolesByUser(long userId, int limit) {
+        return jdbcTemplate.update("DELETE FROM CommunityModerator WHERE user_id = ? LIMIT ?", userId, limit);
+    }
+
+    public int deleteUser(long userId) {
+        return jdbcTemplate.update("DELETE FROM ForumUser WHERE user_id = ?", userId);
+    }
+
+    // Tombstones older than the cutoff that no reply points at any more. Replies
+    // to tombstones are refused, so a purged row cannot take a new reply with it.
+    @Transactional
+    public int purgeCommentTombstones(LocalDateTime cutoff, int limit) {
+        List<Long> commentIds = jdbcTemplate.queryForList(
+                "SELECT c.comment_id FROM ForumComment c WHERE c.deleted_at < ? AND NOT EXISTS ("
+                        + "SELECT 1 FROM ForumComment r WHERE r.parent_comment_id = c.comment_id) "
+                        + "ORDER BY c.deleted_at LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+        deleteComments(commentIds);
+        return commentIds.size();
+    }
+
+    private void deleteComments(List<Long> commentIds) {
+        if (!commentIds.isEmpty()) {
+            namedParameterJdbcTemplate.update("DELETE FROM ForumComment WHERE comment_id IN (:commentIds)",
+                    new MapSqlParameterSource("commentIds", commentIds));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
+
+// Maps rows selected with CommentRepository.PREVIEW_COLUMNS
+public class CommentPreviewRowMapper implements RowMapper<CommentPreviewResponse> {
+
+    @Override
+    public CommentPreviewResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        long parentCommentId = rs.getLong("parent_comment_id");
+        Long parent = rs.wasNull() ? null : parentCommentId;
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        // Tombstones keep their place in the thread but not their author or text
+        boolean deleted = rs.getBoolean("deleted");
+        return new CommentPreviewResponse(
+                rs.getLong("comment_id"),
+                deleted ? null : rs.getLong("user_id"),
+                rs.getLong("post_id"),
+                parent,
+                deleted ? null : rs.getString("excerpt"),
+                !deleted && rs.getBoolean("truncated"),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                deleted);
+    }
+}
@@ -1,5 +1,6 @@
 package com.dbexp.db_experiment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,16 +8,38 @@ import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
 import com.dbexp.db_experiment.entity.Comment;
 
 public interface CommentRepository extends CrudRepository<Comment, Long> {
 
-    @Query("SELECT * FROM ForumComment WHERE comment_id = :id")
-    Optional<Comment> findById(long id);
+    // List screens only need a snippet; truncate on the server so the TEXT body never leaves MySQL
+    String PREVIEW_COLUMNS = "comment_id, user_id, post_id, parent_comment_id, created_at, "
+            + "LEFT(comment_content, 200) AS excerpt, CHAR_LENGTH(comment_content) > 200 AS truncated, "
+            + "deleted_at IS NOT NULL AS deleted";
+
+    // Comments under a post marked deleted_at are hidden along with it until the
+    // cascade deletion worker removes them. Takes Long so it replaces
+    // CrudRepository.findById instead of overloading it.
+    @Query("SELECT c.* FROM ForumComment c JOIN Post p ON p.post_id = c.post_id "
+            + "WHERE c.comment_id = :id AND p.deleted_at IS NULL")
+    Optional<Comment> findById(Long id);
+
+    @Query("SELECT c.* FROM ForumComment c JOIN Post p ON p.post_id = c.post_id "
+            + "WHERE c.comment_id IN (:commentIds) AND p.deleted_at IS NULL")
+    List<Comment> findAllLiveById(Collection<Long> commentIds);
 
     @Query("SELECT * FROM ForumComment WHERE post_id = :postId")
     List<Comment> findByPostId(Long postId);
 
+    @Query(value = "SELECT " + PREVIEW_COLUMNS + " FROM ForumComment WHERE post_id = :postId ORDER BY comment_id",
+            rowMapperClass = CommentPreviewRowMapper.class)
+    List<CommentPreviewResponse> findPreviewsByPostId(Long postId);
+
+    // Ordered by id so the whole thread comes back in one pass over idx_comment_post_id
+    @Query("SELECT * FROM ForumComment WHERE post_id = :postId ORDER BY comment_id")
+    List<Comment> findThreadByPostId(Long postId);
+
     @Query("SELECT * FROM ForumComment WHERE user_id = :userId")
     List<Comment> findByUserId(Long userId);
 
@@ -30,7 +53,9 @@ public interface CommentRepository extends CrudRepository<Comment, Long> {
     @Query("UPDATE ForumComment SET comment_content = :commentContent WHERE comment_id = :commentId")
     int updateComment(Long commentId, String commentContent);
 
+    // Single-row tombstone: replies keep their parent, nothing cascades
     @Modifying
-    @Query("DELETE FROM ForumComment WHERE comment_id = :commentId")
-    int deleteByCommentId(Long commentId);
+    @Query("UPDATE ForumComment SET comment_content = '', deleted_at = CURRENT_TIMESTAMP "
+            + "WHERE comment_id = :commentId AND deleted_at IS NULL")
+    int tombstone(Long commentId);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.dbexp.db_experiment.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,9 @@ public interface CommunityRepository extends CrudRepository<Community, Long> {
     @Query("SELECT * FROM Community WHERE community_name = :name")
     Optional<Community> findByName(String name);
 
+    @Query("SELECT community_id FROM Community WHERE community_id IN (:communityIds)")
+    List<Long> findExistingIds(Collection<Long> communityIds);
+
     @Modifying
     @Query("UPDATE Community SET community_description = :newDescription WHERE community_id = :communityId")
     int updateDescription(Long communityId, String newDescription);
@@ -0,0 +1,147 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+
+// Durable state of the cascade deletion pipeline. A job row is written in the
+// same transaction that marks its target deleted, and the worker advances its
+// phase after every chunk so a restart picks up where it stopped.
+@Repository
+public class DeletionJobRepository {
+
+    public enum Phase {
+        // Marks every post of a deleted account hidden before anything is removed
+        HIDE_POSTS,
+        // Removes a deleted account's posts one at a time, each through the post cascade
+        POSTS,
+        // Votes cast on the target (post jobs) or by the target (account jobs)
+        VOTES,
+        // Comments under the target (post jobs) or written by the target (account jobs)
+        COMMENTS,
+        // Subscriptions and moderator roles
+        MEMBERSHIPS,
+        // The target row itself
+        ROOT
+    }
+
+    public enum TargetType {
+        USER(Phase.HIDE_POSTS, Phase.POSTS, Phase.COMMENTS, Phase.VOTES, Phase.MEMBERSHIPS, Phase.ROOT),
+        POST(Phase.VOTES, Phase.COMMENTS, Phase.ROOT);
+
+        private final List<Phase> phases;
+
+        TargetType(Phase... phases) {
+            this.phases = List.of(phases);
+        }
+
+        public List<Phase> phases() {
+            return phases;
+        }
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    // What a client sees of a failed step; the exception itself only goes to the log
+    public enum ErrorCode {
+        LOCK_TIMEOUT, DATABASE_UNAVAILABLE, INTERNAL_ERROR
+    }
+
+    private static final String SELECT_COLUMNS = "SELECT job_id, target_type, target_id, status, phase, "
+            + "rows_deleted, attempts, error_code, created_at, updated_at, finished_at FROM DeletionJob ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeletionJobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long create(TargetType targetType, long targetId, long requestedBy) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO DeletionJob (target_type, target_id, requested_by, status, phase) "
+                            + "VALUES (?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, targetType.name());
+            ps.setLong(2, targetId);
+            ps.setLong(3, requestedBy);
+            ps.setString(4, Status.PENDING.name());
+            ps.setString(5, targetType.phases().get(0).name());
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    // Empty for jobs another account asked for, so ids cannot be probed
+    public Optional<DeletionJobResponse> findByIdAndRequester(long jobId, long requestedBy) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE job_id = ? AND requested_by = ?", this::mapJob, jobId,
+                requestedBy).stream().findFirst();
+    }
+
+    // Oldest job still to do whose retry delay has passed; RUNNING ones were
+    // interrupted by a shutdown
+    public Optional<DeletionJobResponse> findNextUnfinished(LocalDateTime now) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE status IN (?, ?) "
+                + "AND (next_attempt_at IS NULL OR next_attempt_at <= ?) ORDER BY job_id LIMIT 1", this::mapJob,
+                Status.PENDING.name(), Status.RUNNING.name(), Timestamp.valueOf(now)).stream().findFirst();
+    }
+
+    public void progress(long jobId, Phase phase, long rowsDeleted) {
+        jdbcTemplate.update("UPDATE DeletionJob SET status = ?, phase = ?, rows_deleted = rows_deleted + ?, "
+                + "updated_at = CURRENT_TIMESTAMP WHERE job_id = ?", Status.RUNNING.name(), phase.name(),
+                rowsDeleted, jobId);
+    }
+
+    public void finish(long jobId) {
+        jdbcTemplate.update("UPDATE DeletionJob SET status = ?, updated_at = CURRENT_TIMESTAMP, "
+                + "finished_at = CURRENT_TIMESTAMP WHERE job_id = ?", Status.DONE.name(), jobId);
+    }
+
+    // Puts a job whose step failed back in the queue; it resumes from its
+    // recorded phase once nextAttemptAt has passed
+    public void retry(long jobId, ErrorCode error, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update("UPDATE DeletionJob SET status = ?, attempts = attempts + 1, next_attempt_at = ?, "
+                + "error_code = ?, updated_at = CURRENT_TIMESTAMP WHERE job_id = ?", Status.PENDING.name(),
+                Timestamp.valueOf(nextAttemptAt), error.name(), jobId);
+    }
+
+    public void fail(long jobId, ErrorCode error) {
+        jdbcTemplate.update("UPDATE DeletionJob SET status = ?, attempts = attempts + 1, next_attempt_at = NULL, "
+                + "error_code = ?, updated_at = CURRENT_TIMESTAMP WHERE job_id = ?", Status.FAILED.name(),
+                error.name(), jobId);
+    }
+
+    private DeletionJobResponse mapJob(ResultSet rs, int rowNum) throws SQLException {
+        return new DeletionJobResponse(
+                rs.getLong("job_id"),
+                rs.getString("target_type"),
+                rs.getLong("target_id"),
+                rs.getString("status"),
+                rs.getString("phase"),
+                rs.getLong("rows_deleted"),
+                rs.getInt("attempts"),
+                rs.getString("error_code"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                toLocalDateTime(rs.getTimestamp("finished_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,97 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dbexp.db_experiment.dto.feed.FeedItemResponse;
+
+// Loads the candidate set used to rebuild the in-memory ranking feeds: every post
+// newer than the cutoff plus the newest N posts of each community. The window
+// function only touches (community_id, created_at, post_id), so it can be served
+// from idx_post_community_created before joining back for the wide columns.
+@Repository
+public class FeedQueryRepository {
+
+    // Streams candidates row by row instead of buffering the whole result
+    private static final int STREAM_ROWS = Integer.MIN_VALUE;
+
+    private static final String CANDIDATES_SQL = "SELECT p.post_id, p.user_id, p.community_id, p.post_title, "
+            + "LEFT(p.post_content, 200) AS excerpt, CHAR_LENGTH(p.post_content) > 200 AS truncated, "
+            + "p.score, p.created_at, "
+            + "(SELECT COUNT(*) FROM ForumComment c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL) "
+            + "AS comment_count "
+            + "FROM (SELECT post_id, created_at, ROW_NUMBER() OVER ("
+            + "PARTITION BY community_id ORDER BY created_at DESC, post_id DESC) AS rn "
+            + "FROM Post WHERE deleted_at IS NULL) ranked "
+            + "JOIN Post p ON p.post_id = ranked.post_id "
+            + "WHERE ranked.rn <= ? OR ranked.created_at >= ?";
+
+    // Newest posts across a user's subscriptions. The lateral subquery reads at
+    // most `limit` index entries per community, so the cost is bounded by
+    // subscriptions x page size rather than by community sizes.
+    private static final String SUBSCRIBED_PAGE_SQL = "SELECT p.post_id, p.user_id, p.community_id, p.post_title, "
+            + "LEFT(p.post_content, 200) AS excerpt, CHAR_LENGTH(p.post_content) > 200 AS truncated, "
+            + "p.score, p.created_at, "
+            + "(SELECT COUNT(*) FROM ForumComment c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL) "
+            + "AS comment_count "
+            + "FROM (SELECT l.post_id, l.created_at FROM Subscription s "
+            + "CROSS JOIN LATERAL (SELECT post_id, created_at FROM Post WHERE community_id = s.community_id "
+            + "AND deleted_at IS NULL %s ORDER BY created_at DESC, post_id DESC LIMIT ?) l "
+            + "WHERE s.user_id = ? ORDER BY l.created_at DESC, l.post_id DESC LIMIT ?) page "
+            + "JOIN Post p ON p.post_id = page.post_id "
+            + "ORDER BY p.created_at DESC, p.post_id DESC";
+
+    private static final String KEYSET_CONDITION = "AND (created_at < ? OR (created_at = ? AND post_id < ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeedQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void streamCandidates(int newestPerCommunity, LocalDateTime since, Consumer<FeedItemResponse> action) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CANDIDATES_SQL, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_ROWS);
+            ps.setInt(1, newestPerCommunity);
+            ps.setTimestamp(2, Timestamp.valueOf(since));
+            return ps;
+        }, rs -> {
+            action.accept(mapItem(rs));
+        });
+    }
+
+    // Keyset page strictly after (createdAt, postId); pass nulls for the first page
+    public List<FeedItemResponse> findSubscribedPage(Long userId, LocalDateTime createdAt, Long postId, int limit) {
+        if (createdAt == null) {
+            return jdbcTemplate.query(SUBSCRIBED_PAGE_SQL.formatted(""), (rs, rowNum) -> mapItem(rs),
+                    limit, userId, limit);
+        }
+        Timestamp after = Timestamp.valueOf(createdAt);
+        return jdbcTemplate.query(SUBSCRIBED_PAGE_SQL.formatted(KEYSET_CONDITION), (rs, rowNum) -> mapItem(rs),
+                after, after, postId, limit, userId, limit);
+    }
+
+    private static FeedItemResponse mapItem(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new FeedItemResponse(
+                rs.getLong("post_id"),
+                rs.getLong("user_id"),
+                rs.getLong("community_id"),
+                rs.getString("post_title"),
+                rs.getString("excerpt"),
+                rs.getBoolean("truncated"),
+                rs.getLong("score"),
+                rs.getLong("comment_count"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// One UserSession row per logged-in user, shared by every instance. A login
+// overwrites the row; the other instances find their session no longer owns
+// it at their next recheck. Every statement is a primary-key lookup.
+@Repository
+@ConditionalOnProperty(prefix = "app.sessions", name = "store", havingValue = "jdbc")
+public class JdbcSessionOwnerStore implements SessionOwnerStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcSessionOwnerStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void claim(long userId, String sessionId) {
+        if (update(userId, sessionId) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO UserSession (user_id, session_id) VALUES (?, ?)", userId, sessionId);
+        } catch (DuplicateKeyException e) {
+            // A login on another instance inserted first; the later claim wins
+            update(userId, sessionId);
+        }
+    }
+
+    @Override
+    public boolean owns(long userId, String sessionId) {
+        List<String> owner = jdbcTemplate.queryForList("SELECT session_id FROM UserSession WHERE user_id = ?",
+                String.class, userId);
+        return !owner.isEmpty() && owner.get(0).equals(sessionId);
+    }
+
+    @Override
+    public void release(long userId, String sessionId) {
+        jdbcTemplate.update("DELETE FROM UserSession WHERE user_id = ? AND session_id = ?", userId, sessionId);
+    }
+
+    @Override
+    public boolean shared() {
+        return true;
+    }
+
+    private int update(long userId, String sessionId) {
+        return jdbcTemplate.update("UPDATE UserSession SET session_id = ?, updated_at = CURRENT_TIMESTAMP "
+                + "WHERE user_id = ?", sessionId, userId);
+    }
+}
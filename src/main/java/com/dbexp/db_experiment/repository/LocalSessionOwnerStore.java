@@ -0,0 +1,29 @@
+package com.dbexp.db_experiment.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// A single instance: its session registry sees every login, so there is
+// nothing to record elsewhere or recheck
+@Component
+@ConditionalOnProperty(prefix = "app.sessions", name = "store", havingValue = "local", matchIfMissing = true)
+public class LocalSessionOwnerStore implements SessionOwnerStore {
+
+    @Override
+    public void claim(long userId, String sessionId) {
+    }
+
+    @Override
+    public boolean owns(long userId, String sessionId) {
+        return true;
+    }
+
+    @Override
+    public void release(long userId, String sessionId) {
+    }
+
+    @Override
+    public boolean shared() {
+        return false;
+    }
+}
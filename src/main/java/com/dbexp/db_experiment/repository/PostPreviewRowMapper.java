@@ -0,0 +1,29 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
+
+// Maps rows selected with PostRepository.PREVIEW_COLUMNS
+public class PostPreviewRowMapper implements RowMapper<PostPreviewResponse> {
+
+    @Override
+    public PostPreviewResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp lastActivityAt = rs.getTimestamp("last_activity_at");
+        return new PostPreviewResponse(
+                rs.getLong("post_id"),
+                rs.getLong("user_id"),
+                rs.getLong("community_id"),
+                rs.getString("post_title"),
+                rs.getString("excerpt"),
+                rs.getBoolean("truncated"),
+                createdAt == null ? null : createdAt.toLocalDateTime(),
+                rs.getLong("comment_count"),
+                lastActivityAt == null ? null : lastActivityAt.toLocalDateTime());
+    }
+}
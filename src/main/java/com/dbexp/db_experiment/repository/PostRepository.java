@@ -1,5 +1,7 @@
 package com.dbexp.db_experiment.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,24 +9,50 @@ import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
 import com.dbexp.db_experiment.entity.Post;
 
 public interface PostRepository extends CrudRepository<Post, Long> {
 
-    @Query("SELECT * FROM Post WHERE post_id = :id")
-    Optional<Post> findById(long id);
+    // List screens only need a snippet; truncate on the server so the TEXT body never leaves MySQL
+    // comment_count and last_activity_at are the stored counters; the service adds unflushed deltas
+    String PREVIEW_COLUMNS = "post_id, user_id, community_id, post_title, created_at, "
+            + "LEFT(post_content, 200) AS excerpt, CHAR_LENGTH(post_content) > 200 AS truncated, "
+            + "comment_count, COALESCE(last_activity_at, created_at) AS last_activity_at";
 
-    @Query("SELECT * FROM Post WHERE user_id = :userId")
+    // Posts marked deleted_at wait for the cascade deletion worker and are hidden from every read.
+    // Takes Long so it replaces CrudRepository.findById instead of overloading it.
+    @Query("SELECT * FROM Post WHERE post_id = :id AND deleted_at IS NULL")
+    Optional<Post> findById(Long id);
+
+    @Query("SELECT * FROM Post WHERE post_id IN (:postIds) AND deleted_at IS NULL")
+    List<Post> findAllLiveById(Collection<Long> postIds);
+
+    @Query("SELECT * FROM Post WHERE user_id = :userId AND deleted_at IS NULL")
     List<Post> findByUserId(Long userId);
 
-    @Query("SELECT * FROM Post WHERE community_id = :communityId")
+    @Query("SELECT * FROM Post WHERE community_id = :communityId AND deleted_at IS NULL")
     List<Post> findByCommunityId(Long communityId);
 
+    // Keyset pagination served by idx_post_community_created (community_id, created_at, post_id)
+    @Query(value = "SELECT " + PREVIEW_COLUMNS + " FROM Post WHERE community_id = :communityId "
+            + "AND deleted_at IS NULL ORDER BY created_at DESC, post_id DESC LIMIT :limit", rowMapperClass = PostPreviewRowMapper.class)
+    List<PostPreviewResponse> findFirstPageByCommunityId(Long communityId, int limit);
+
+    @Query(value = "SELECT " + PREVIEW_COLUMNS + " FROM Post WHERE community_id = :communityId "
+            + "AND deleted_at IS NULL AND (created_at < :createdAt OR (created_at = :createdAt AND post_id < :postId)) "
+            + "ORDER BY created_at DESC, post_id DESC LIMIT :limit", rowMapperClass = PostPreviewRowMapper.class)
+    List<PostPreviewResponse> findPageByCommunityIdAfter(Long communityId, LocalDateTime createdAt, Long postId,
+            int limit);
+
+    @Query("SELECT post_id FROM Post WHERE post_id IN (:postIds) AND deleted_at IS NULL")
+    List<Long> findExistingIds(Collection<Long> postIds);
+
     @Modifying
     @Query("UPDATE Post SET post_title = :postTitle, post_content = :postContent WHERE post_id = :postId")
     int updatePost(Long postId, String postTitle, String postContent);
 
     @Modifying
-    @Query("DELETE FROM Post WHERE post_id = :postId")
-    int deleteByPostId(Long postId);
+    @Query("UPDATE Post SET deleted_at = CURRENT_TIMESTAMP WHERE post_id = :postId AND deleted_at IS NULL")
+    int markDeleted(Long postId);
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Persistent login tokens. Every statement goes through the selector primary
+// key, except revoking a user's tokens and the expiry purge, which have their
+// own indexes.
+@Repository
+public class RememberMeTokenRepository {
+
+    public record StoredToken(long userId, byte[] validatorHash, LocalDateTime expiresAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RememberMeTokenRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(String selector, byte[] validatorHash, long userId, LocalDateTime expiresAt) {
+        jdbcTemplate.update("INSERT INTO RememberMeToken (selector, validator_hash, user_id, expires_at) "
+                + "VALUES (?, ?, ?, ?)", selector, validatorHash, userId, Timestamp.valueOf(expiresAt));
+    }
+
+    public Optional<StoredToken> findBySelector(String selector) {
+        return jdbcTemplate.query("SELECT user_id, validator_hash, expires_at FROM RememberMeToken "
+                + "WHERE selector = ?", (rs, rowNum) -> new StoredToken(
+                        rs.getLong("user_id"),
+                        rs.getBytes("validator_hash"),
+                        rs.getTimestamp("expires_at").toLocalDateTime()),
+                selector).stream().findFirst();
+    }
+
+    // Replaces the validator only if it is still the one that was presented,
+    // so of two requests racing with the same token only one gets a new one
+    public int rotate(String selector, byte[] oldValidatorHash, byte[] newValidatorHash, LocalDateTime expiresAt) {
+        return jdbcTemplate.update("UPDATE RememberMeToken SET validator_hash = ?, expires_at = ? "
+                + "WHERE selector = ? AND validator_hash = ?", newValidatorHash, Timestamp.valueOf(expiresAt),
+                selector, oldValidatorHash);
+    }
+
+    public int deleteBySelector(String selector) {
+        return jdbcTemplate.update("DELETE FROM RememberMeToken WHERE selector = ?", selector);
+    }
+
+    public int deleteByUserId(long userId) {
+        return jdbcTemplate.update("DELETE FROM RememberMeToken WHERE user_id = ?", userId);
+    }
+
+    public int deleteExpired(LocalDateTime now, int limit) {
+        return jdbcTemplate.update("DELETE FROM RememberMeToken WHERE expires_at < ? LIMIT ?",
+                Timestamp.valueOf(now), limit);
+    }
+}
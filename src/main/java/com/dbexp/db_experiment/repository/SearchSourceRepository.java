@@ -0,0 +1,57 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+
+// Full scans that feed the search index rebuild. Rows are streamed one at a time
+// (fetch size Integer.MIN_VALUE) so the text is never all on the heap.
+@Repository
+public class SearchSourceRepository {
+
+    private static final int STREAM_ROWS = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchSourceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void streamPosts(Consumer<Post> action) {
+        stream("SELECT post_id, user_id, community_id, post_title, post_content FROM Post "
+                + "WHERE deleted_at IS NULL", rs -> {
+            Post post = new Post(rs.getLong("user_id"), rs.getLong("community_id"), rs.getString("post_title"),
+                    rs.getString("post_content"));
+            post.setPostId(rs.getLong("post_id"));
+            action.accept(post);
+        });
+    }
+
+    // Passes each comment with the community of its post
+    public void streamComments(BiConsumer<Comment, Long> action) {
+        stream("SELECT c.comment_id, c.user_id, c.post_id, c.comment_content, p.community_id "
+                + "FROM ForumComment c JOIN Post p ON p.post_id = c.post_id "
+                + "WHERE p.deleted_at IS NULL AND c.deleted_at IS NULL", rs -> {
+                    Comment comment = new Comment(rs.getLong("user_id"), rs.getLong("post_id"),
+                            rs.getString("comment_content"));
+                    comment.setCommentId(rs.getLong("comment_id"));
+                    action.accept(comment, rs.getLong("community_id"));
+                });
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_ROWS);
+            return ps;
+        }, handler);
+    }
+}
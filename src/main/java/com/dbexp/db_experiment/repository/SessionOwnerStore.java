@@ -0,0 +1,18 @@
+package com.dbexp.db_experiment.repository;
+
+// Where the one session each user may hold is recorded, beyond the registry
+// of the instance that created it
+public interface SessionOwnerStore {
+
+    // Records sessionId as the user's session, replacing any other
+    void claim(long userId, String sessionId);
+
+    boolean owns(long userId, String sessionId);
+
+    // Forgets sessionId if it is still the user's session
+    void release(long userId, String sessionId);
+
+    // Whether other instances write to the store too, so sessions have to be
+    // rechecked against it
+    boolean shared();
+}
@@ -0,0 +1,101 @@
+package com.dbexp.db_experiment.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
+import com.dbexp.db_experiment.entity.Community;
+
+// Forward-only streamed reads for list endpoints; rows are handed to the consumer
+// one at a time so nothing is materialized. A fetch size of Integer.MIN_VALUE
+// makes MySQL Connector/J read the result row by row off the wire, on this
+// statement only, without switching the whole datasource to server-side
+// prepared statements. The connection runs nothing else until the result is
+// drained, so consumers must not query the database.
+@Repository
+public class StreamingQueryRepository {
+
+    private static final int STREAM_ROWS = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StreamingQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Streams nothing once the post is marked deleted; the status line has
+    // already gone out, so there is no 404 to send
+    public void streamCommentsByPostId(Long postId, Consumer<CommentPreviewResponse> action) {
+        CommentPreviewRowMapper mapper = new CommentPreviewRowMapper();
+        stream("SELECT " + CommentRepository.PREVIEW_COLUMNS + " FROM ForumComment WHERE post_id = ? "
+                + "AND EXISTS (SELECT 1 FROM Post p WHERE p.post_id = ForumComment.post_id AND p.deleted_at IS NULL) "
+                + "ORDER BY comment_id", postId,
+                rs -> action.accept(mapper.mapRow(rs, 0)));
+    }
+
+    public void streamPostsByCommunityId(Long communityId, Consumer<PostPreviewResponse> action) {
+        PostPreviewRowMapper mapper = new PostPreviewRowMapper();
+        stream("SELECT " + PostRepository.PREVIEW_COLUMNS + " FROM Post WHERE community_id = ? "
+                + "AND deleted_at IS NULL ORDER BY created_at DESC, post_id DESC", communityId,
+                rs -> action.accept(mapper.mapRow(rs, 0)));
+    }
+
+    public void streamLatestCommunities(Consumer<Community> action) {
+        stream("SELECT * FROM Community ORDER BY created_at DESC LIMIT 20", null,
+                rs -> action.accept(mapCommunity(rs)));
+    }
+
+    // Every community with its subscriber count, for the name autocomplete index
+    public void streamCommunityPopularity(Consumer<CommunitySuggestionResponse> action) {
+        stream("SELECT c.community_id, c.community_name, COUNT(s.user_id) AS subscriber_count "
+                + "FROM Community c LEFT JOIN Subscription s ON s.community_id = c.community_id "
+                + "GROUP BY c.community_id, c.community_name", null,
+                rs -> action.accept(new CommunitySuggestionResponse(
+                        rs.getLong("community_id"),
+                        rs.getString("community_name"),
+                        rs.getLong("subscriber_count"))));
+    }
+
+    // (user_id, username) for every account, for the fuzzy username index
+    public void streamUsernames(BiConsumer<Long, String> action) {
+        stream("SELECT user_id, username FROM ForumUser WHERE deleted_at IS NULL", null,
+                rs -> action.accept(rs.getLong("user_id"), rs.getString("username")));
+    }
+
+    private void stream(String sql, Long id, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_ROWS);
+            if (id != null) {
+                ps.setLong(1, id);
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static Community mapCommunity(ResultSet rs) throws SQLException {
+        Community community = new Community(
+                rs.getString("community_name"),
+                rs.getString("community_description"));
+        community.setCommunityId(rs.getLong("community_id"));
+        community.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        community.setPostCount(rs.getLong("post_count"));
+        community.setLastActivityAt(toLocalDateTime(rs.getTimestamp("last_activity_at")));
+        return community;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
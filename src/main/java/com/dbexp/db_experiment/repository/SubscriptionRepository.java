@@ -0,0 +1,34 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Subscription has a composite key and no entity; plain JDBC keeps it simple
+@Repository
+public class SubscriptionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SubscriptionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Served from the (user_id, community_id) primary key without touching rows
+    public List<Long> findCommunityIdsByUserId(Long userId) {
+        return jdbcTemplate.queryForList("SELECT community_id FROM Subscription WHERE user_id = ?", Long.class,
+                userId);
+    }
+
+    // Returns 0 when the subscription already existed
+    public int subscribe(Long userId, Long communityId) {
+        return jdbcTemplate.update("INSERT IGNORE INTO Subscription (user_id, community_id) VALUES (?, ?)",
+                userId, communityId);
+    }
+
+    public int unsubscribe(Long userId, Long communityId) {
+        return jdbcTemplate.update("DELETE FROM Subscription WHERE user_id = ? AND community_id = ?",
+                userId, communityId);
+    }
+}
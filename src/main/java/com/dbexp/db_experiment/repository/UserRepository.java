@@ -1,5 +1,7 @@
 package com.dbexp.db_experiment.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jdbc.repository.query.Modifying;
@@ -8,15 +10,22 @@ import org.springframework.data.repository.CrudRepository;
 
 import com.dbexp.db_experiment.entity.User;
 
+// Accounts marked deleted_at are invisible to lookups but keep their username
+// and email reserved until the cascade deletion worker removes the row.
 public interface UserRepository extends CrudRepository<User, Long> {
 
-    @Query("SELECT * FROM ForumUser WHERE user_id = :id")
-    Optional<User> findById(long id);
+    // Deleted accounts are hidden from every lookup. Takes Long so it replaces
+    // CrudRepository.findById instead of overloading it.
+    @Query("SELECT * FROM ForumUser WHERE user_id = :id AND deleted_at IS NULL")
+    Optional<User> findById(Long id);
 
-    @Query("SELECT * FROM ForumUser WHERE username = :username")
+    @Query("SELECT * FROM ForumUser WHERE user_id IN (:userIds) AND deleted_at IS NULL")
+    List<User> findAllLiveById(Collection<Long> userIds);
+
+    @Query("SELECT * FROM ForumUser WHERE username = :username AND deleted_at IS NULL")
     Optional<User> findByUsername(String username);
 
-    @Query("SELECT * FROM ForumUser WHERE email = :email")
+    @Query("SELECT * FROM ForumUser WHERE email = :email AND deleted_at IS NULL")
     Optional<User> findByEmail(String email);
 
     @Query("SELECT COUNT(*) > 0 FROM ForumUser WHERE username = :username")
@@ -33,11 +42,17 @@ public interface UserRepository extends CrudRepository<User, Long> {
     @Query("UPDATE ForumUser SET password_hash = :newPasswordHash WHERE user_id = :userId")
     int updatePassword(Long userId, String newPasswordHash);
 
+    // Only replaces the hash that was verified, so a password change that
+    // committed meanwhile is never overwritten
+    @Modifying
+    @Query("UPDATE ForumUser SET password_hash = :newPasswordHash WHERE user_id = :userId AND password_hash = :oldPasswordHash")
+    int replacePasswordHash(Long userId, String oldPasswordHash, String newPasswordHash);
+
     @Modifying
     @Query("UPDATE ForumUser SET email = :newEmail WHERE user_id = :userId")
     int updateEmail(Long userId, String newEmail);
 
     @Modifying
-    @Query("DELETE FROM ForumUser WHERE user_id = :userId")
-    int deleteByUserId(Long userId);
+    @Query("UPDATE ForumUser SET deleted_at = CURRENT_TIMESTAMP WHERE user_id = :userId AND deleted_at IS NULL")
+    int markDeleted(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// PostVote and CommentVote share a shape (user_id, <target>_id, vote_value), so
+// both are served here with the table and key column picked by Target.
+@Repository
+public class VoteRepository {
+
+    public enum Target {
+        POST("PostVote", "Post", "post_id"),
+        COMMENT("CommentVote", "ForumComment", "comment_id");
+
+        private final String voteTable;
+        private final String scoreTable;
+        private final String idColumn;
+
+        Target(String voteTable, String scoreTable, String idColumn) {
+            this.voteTable = voteTable;
+            this.scoreTable = scoreTable;
+            this.idColumn = idColumn;
+        }
+
+        String voteTable() {
+            return voteTable;
+        }
+
+        String idColumn() {
+            return idColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VoteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Locks the (user, target) row, or the gap where it would go, until commit
+    public int findVoteForUpdate(Target target, Long userId, Long targetId) {
+        List<Integer> values = jdbcTemplate.queryForList(
+                "SELECT vote_value FROM " + target.voteTable + " WHERE user_id = ? AND " + target.idColumn
+                        + " = ? FOR UPDATE",
+                Integer.class, userId, targetId);
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+
+    public void upsertVote(Target target, Long userId, Long targetId, int value) {
+        jdbcTemplate.update(
+                "INSERT INTO " + target.voteTable + " (user_id, " + target.idColumn + ", vote_value) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE vote_value = VALUES(vote_value)",
+                userId, targetId, value);
+    }
+
+    public void deleteVote(Target target, Long userId, Long targetId) {
+        jdbcTemplate.update(
+                "DELETE FROM " + target.voteTable + " WHERE user_id = ? AND " + target.idColumn + " = ?",
+                userId, targetId);
+    }
+
+    // Applies accumulated score deltas as one JDBC batch, all or nothing so a
+    // failed flush can be retried without double counting
+    @Transactional
+    public void addScores(Target target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[] { delta, id }));
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + target.scoreTable + " SET score = score + ? WHERE " + target.idColumn + " = ?", args);
+    }
+}
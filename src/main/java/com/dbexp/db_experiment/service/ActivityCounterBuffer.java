@@ -0,0 +1,115 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.repository.ActivityCounterRepository;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+
+// Write-behind for Post.comment_count, Community.post_count and both
+// last_activity_at columns, so a busy community row is not locked by every
+// new post or comment. Same shape as VoteScoreBuffer: deltas after commit,
+// batched flush, and pending values added on read.
+@Component
+public class ActivityCounterBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityCounterBuffer.class);
+
+    private final ActivityCounterRepository activityCounterRepository;
+    private final EntityCaches entityCaches;
+    private final DeltaCounter commentCounts = new DeltaCounter();
+    private final DeltaCounter postCounts = new DeltaCounter();
+    private final ConcurrentHashMap<Long, LocalDateTime> postActivity = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LocalDateTime> communityActivity = new ConcurrentHashMap<>();
+
+    public ActivityCounterBuffer(ActivityCounterRepository activityCounterRepository, EntityCaches entityCaches) {
+        this.activityCounterRepository = activityCounterRepository;
+        this.entityCaches = entityCaches;
+    }
+
+    // activityAt is null for removals, which never move last activity back
+    public void record(Scope scope, Long id, long delta, LocalDateTime activityAt) {
+        counter(scope).add(id, delta);
+        if (activityAt != null) {
+            activity(scope).merge(id, activityAt, ActivityCounterBuffer::latest);
+        }
+    }
+
+    // Delta not yet written to the count column; add to the stored count for a live value
+    public long pending(Scope scope, Long id) {
+        return counter(scope).pending(id);
+    }
+
+    public LocalDateTime lastActivity(Scope scope, Long id, LocalDateTime stored) {
+        return latest(stored, activity(scope).get(id));
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:1000}")
+    public void flush() {
+        flush(Scope.POST);
+        flush(Scope.COMMUNITY);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Scope scope) {
+        DeltaCounter counter = counter(scope);
+        Map<Long, Long> deltas = counter.drain();
+        try {
+            activityCounterRepository.addCounts(scope, deltas);
+            entityCaches.counted(scope).invalidateAll(deltas.keySet());
+        } catch (RuntimeException e) {
+            // Keep the deltas for the next attempt rather than losing them
+            counter.restore(deltas);
+            logger.warn("Failed to flush {} {} count deltas, will retry: {}", deltas.size(), scope, e.getMessage());
+        }
+
+        Map<Long, LocalDateTime> activity = drain(activity(scope));
+        try {
+            activityCounterRepository.touch(scope, activity);
+            entityCaches.counted(scope).invalidateAll(activity.keySet());
+        } catch (RuntimeException e) {
+            activity.forEach((id, at) -> activity(scope).merge(id, at, ActivityCounterBuffer::latest));
+            logger.warn("Failed to flush {} {} activity times, will retry: {}", activity.size(), scope,
+                    e.getMessage());
+        }
+    }
+
+    // Removes each entry only if it was not moved forward while draining
+    private static Map<Long, LocalDateTime> drain(ConcurrentHashMap<Long, LocalDateTime> pending) {
+        Map<Long, LocalDateTime> drained = new HashMap<>();
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return drained;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private DeltaCounter counter(Scope scope) {
+        return scope == Scope.POST ? commentCounts : postCounts;
+    }
+
+    private ConcurrentHashMap<Long, LocalDateTime> activity(Scope scope) {
+        return scope == Scope.POST ? postActivity : communityActivity;
+    }
+}
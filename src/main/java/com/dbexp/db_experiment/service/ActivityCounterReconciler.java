@@ -0,0 +1,120 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.repository.ActivityCounterRepository;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.CounterRow;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+
+// Repairs drift in the denormalized activity counters (cascaded deletes, a
+// lost flush, rows written by bulk loads). The id space is cut into fixed
+// ranges that are checked in parallel; each range is one non-locking read and
+// a batch of guarded single-row updates, so no table lock is ever taken.
+// Posts go first because community activity is derived from post activity.
+@Component
+public class ActivityCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityCounterReconciler.class);
+
+    private final ActivityCounterRepository activityCounterRepository;
+    private final ActivityCounterBuffer activityCounterBuffer;
+    private final EntityCaches entityCaches;
+    private final int chunkSize;
+    private final ExecutorService executor;
+
+    public ActivityCounterReconciler(ActivityCounterRepository activityCounterRepository,
+            ActivityCounterBuffer activityCounterBuffer, EntityCaches entityCaches,
+            @Value("${app.counters.reconcile-chunk-size:5000}") int chunkSize,
+            @Value("${app.counters.reconcile-threads:4}") int threads) {
+        this.activityCounterRepository = activityCounterRepository;
+        this.activityCounterBuffer = activityCounterBuffer;
+        this.entityCaches = entityCaches;
+        this.chunkSize = chunkSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "counter-reconcile-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.counters.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.counters.reconcile-initial-delay-ms:60000}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        try {
+            // Fewer pending deltas means fewer rows whose target has to be adjusted
+            activityCounterBuffer.flush();
+            int posts = reconcile(Scope.POST);
+            int communities = reconcile(Scope.COMMUNITY);
+            logger.info("Reconciled activity counters: repaired {} posts and {} communities in {} ms", posts,
+                    communities, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Activity counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    int reconcile(Scope scope) {
+        long[] range = activityCounterRepository.findIdRange(scope);
+        List<Future<Integer>> chunks = new ArrayList<>();
+        for (long from = range[0]; from <= range[1]; from += chunkSize) {
+            long to = Math.min(range[1], from + chunkSize - 1);
+            long chunkFrom = from;
+            chunks.add(executor.submit(() -> reconcileChunk(scope, chunkFrom, to)));
+        }
+
+        int repaired = 0;
+        for (Future<Integer> chunk : chunks) {
+            try {
+                repaired += chunk.get();
+            } catch (ExecutionException e) {
+                // One bad range should not stop the others; it is retried next run
+                logger.warn("Could not reconcile a {} range: {}", scope, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunks.forEach(pending -> pending.cancel(true));
+                break;
+            }
+        }
+        return repaired;
+    }
+
+    private int reconcileChunk(Scope scope, long fromId, long toId) {
+        List<CounterRow> drifted = new ArrayList<>();
+        Map<Long, Long> targetCounts = new HashMap<>();
+        for (CounterRow row : activityCounterRepository.findCounters(scope, fromId, toId)) {
+            // Deltas still in the buffer will be added on the next flush, so the
+            // stored value must stay that far behind the real count
+            long target = row.actualCount() - activityCounterBuffer.pending(scope, row.id());
+            if (target != row.storedCount() || !Objects.equals(row.actualActivity(), row.storedActivity())) {
+                drifted.add(row);
+                targetCounts.put(row.id(), Math.max(0, target));
+            }
+        }
+        int repaired = activityCounterRepository.repair(scope, drifted, targetCounts);
+        entityCaches.counted(scope).invalidateAll(targetCounts.keySet());
+        return repaired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -6,6 +6,8 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.dto.auth.RememberMeLogin;
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
 
 public interface AuthService {
     LoginResponse login(LoginRequest request, HttpSession session);
@@ -13,4 +15,10 @@ public interface AuthService {
     LogoutResponse logout(HttpSession session);
 
     CurrentUserResponse getCurrentUser(HttpSession session);
+
+    RememberMeToken issueRememberMeToken(Long userId);
+
+    RememberMeLogin loginWithRememberMe(String token, HttpSession session);
+
+    void revokeRememberMeToken(String token);
 }
\ No newline at end of file
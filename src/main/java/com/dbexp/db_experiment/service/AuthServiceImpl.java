@@ -1,9 +1,12 @@
 package com.dbexp.db_experiment.service;
 
+import java.io.Serializable;
 import java.util.Optional;
 
 import jakarta.servlet.http.HttpSession;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,20 +15,39 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.dto.auth.RememberMeLogin;
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
 import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.repository.UserRepository;
 
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     private static final String USER_ID_SESSION_KEY = "userId";
+    private static final String PRINCIPAL_SESSION_KEY = "principal";
+
+    // What getCurrentUser returns, valid while version matches PrincipalVersions
+    record SessionPrincipal(Long userId, String username, String email, long version) implements Serializable {
+    }
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final PrincipalVersions principalVersions;
+    private final EntityCaches entityCaches;
+    private final RememberMeTokens rememberMeTokens;
+    private final StripedSessionRegistry sessionRegistry;
+
+    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            PrincipalVersions principalVersions, EntityCaches entityCaches, RememberMeTokens rememberMeTokens,
+            StripedSessionRegistry sessionRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalVersions = principalVersions;
+        this.entityCaches = entityCaches;
+        this.rememberMeTokens = rememberMeTokens;
+        this.sessionRegistry = sessionRegistry;
     }
 
     @Override
@@ -41,18 +63,37 @@ public class AuthServiceImpl implements AuthService {
         if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
             throw new BadCredentialsException("Invalid username or password");
         }
+        rehashIfOutdated(user, request.password());
 
-        session.setAttribute(USER_ID_SESSION_KEY, user.getUserId());
+        return startSession(user, session);
+    }
 
-        return new LoginResponse(
-                user.getUserId(),
-                user.getUsername(),
-                user.getEmail(),
-                "Login successful");
+    @Override
+    public RememberMeToken issueRememberMeToken(Long userId) {
+        return rememberMeTokens.issue(userId);
+    }
+
+    // One primary-key lookup and an HMAC instead of the Argon2 check
+    @Override
+    public RememberMeLogin loginWithRememberMe(String token, HttpSession session) {
+        RememberMeTokens.Rotation rotation = rememberMeTokens.rotate(token)
+                .orElseThrow(() -> new BadCredentialsException("Invalid or expired remember-me token"));
+
+        Long userId = rotation.userId();
+        User user = entityCaches.users().get(userId, () -> userRepository.findById(userId))
+                .orElseThrow(() -> new BadCredentialsException("Invalid or expired remember-me token"));
+
+        return new RememberMeLogin(startSession(user, session), rotation.token());
+    }
+
+    @Override
+    public void revokeRememberMeToken(String token) {
+        rememberMeTokens.revoke(token);
     }
 
     @Override
     public LogoutResponse logout(HttpSession session) {
+        sessionRegistry.removeSessionInformation(session.getId());
         session.invalidate();
         return new LogoutResponse("Logout successful");
     }
@@ -65,13 +106,24 @@ public class AuthServiceImpl implements AuthService {
             return CurrentUserResponse.notAuthenticated();
         }
 
+        // Read the stamp before the row, so a change committed in between
+        // leaves the new snapshot already outdated rather than wrongly current
+        long version = principalVersions.current(userId);
+        if (session.getAttribute(PRINCIPAL_SESSION_KEY) instanceof SessionPrincipal principal
+                && principal.userId().equals(userId) && principal.version() == version) {
+            return new CurrentUserResponse(true, principal.userId(), principal.username(), principal.email());
+        }
+
         Optional<User> userOptional = userRepository.findById(userId);
 
         if (userOptional.isEmpty()) {
+            session.removeAttribute(PRINCIPAL_SESSION_KEY);
             return CurrentUserResponse.notAuthenticated();
         }
 
         User user = userOptional.get();
+        session.setAttribute(PRINCIPAL_SESSION_KEY,
+                new SessionPrincipal(user.getUserId(), user.getUsername(), user.getEmail(), version));
 
         return new CurrentUserResponse(
                 true,
@@ -79,4 +131,36 @@ public class AuthServiceImpl implements AuthService {
                 user.getUsername(),
                 user.getEmail());
     }
-}
\ No newline at end of file
+
+    // One session per user: logging in here ends the user's other sessions
+    private LoginResponse startSession(User user, HttpSession session) {
+        sessionRegistry.claim(session.getId(), user.getUserId());
+        long version = principalVersions.current(user.getUserId());
+        session.setAttribute(USER_ID_SESSION_KEY, user.getUserId());
+        session.setAttribute(PRINCIPAL_SESSION_KEY,
+                new SessionPrincipal(user.getUserId(), user.getUsername(), user.getEmail(), version));
+
+        return new LoginResponse(
+                user.getUserId(),
+                user.getUsername(),
+                user.getEmail(),
+                "Login successful");
+    }
+
+    // The plain password is only at hand here, so hashes made with a cheaper
+    // Argon2 cost than the calibrated one are replaced on a successful login
+    private void rehashIfOutdated(User user, String password) {
+        try {
+            if (!passwordEncoder.upgradeEncoding(user.getPasswordHash())) {
+                return;
+            }
+            String newPasswordHash = passwordEncoder.encode(password);
+            if (userRepository.replacePasswordHash(user.getUserId(), user.getPasswordHash(), newPasswordHash) > 0) {
+                entityCaches.users().invalidate(user.getUserId());
+            }
+        } catch (RuntimeException e) {
+            // The login itself has succeeded; the next one tries again
+            logger.warn("Could not rehash password of user {}: {}", user.getUserId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.CommentRef;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.PostRef;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.VoteRef;
+import com.dbexp.db_experiment.repository.DeletionJobRepository;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.ErrorCode;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.Phase;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.TargetType;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+
+// Drains DeletionJob rows on one background thread. Each job walks its target
+// type's phases, removing at most chunk-size rows per step and sleeping
+// between steps so foreground traffic keeps the connection pool and row
+// locks. The in-memory views (feed, search, counters, autocomplete) are told
+// about every chunk as it goes. A failed step puts the job back with an
+// exponential delay and it resumes from its recorded phase; after max-attempts
+// failures it is left FAILED. Only one worker runs per database: jobs are
+// picked by a plain read, not claimed.
+@Component
+public class CascadeDeletionWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CascadeDeletionWorker.class);
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final FeedService feedService;
+    private final SearchService searchService;
+    private final VoteScoreBuffer voteScoreBuffer;
+    private final ActivityCounterBuffer activityCounterBuffer;
+    private final CommunityNameIndex communityNameIndex;
+    private final EntityCaches entityCaches;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final Object signal = new Object();
+    private boolean wakeRequested;
+    private volatile boolean running = true;
+    private Thread thread;
+
+    public CascadeDeletionWorker(DeletionJobRepository deletionJobRepository,
+            CascadeDeleteRepository cascadeDeleteRepository, FeedService feedService, SearchService searchService,
+            VoteScoreBuffer voteScoreBuffer, ActivityCounterBuffer activityCounterBuffer,
+            CommunityNameIndex communityNameIndex, EntityCaches entityCaches,
+            @Value("${app.deletion.chunk-size:500}") int chunkSize,
+            @Value("${app.deletion.chunk-pause-ms:50}") long chunkPauseMs,
+            @Value("${app.deletion.poll-interval-ms:30000}") long pollIntervalMs,
+            @Value("${app.deletion.max-attempts:5}") int maxAttempts,
+            @Value("${app.deletion.retry-backoff-ms:30000}") long retryBackoffMs) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.cascadeDeleteRepository = cascadeDeleteRepository;
+        this.feedService = feedService;
+        this.searchService = searchService;
+        this.voteScoreBuffer = voteScoreBuffer;
+        this.activityCounterBuffer = activityCounterBuffer;
+        this.communityNameIndex = communityNameIndex;
+        this.entityCaches = entityCaches;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    // Resumes jobs left over from the previous run, then waits for new ones
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "cascade-delete");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Called after a job row commits so it does not wait for the next poll
+    public void wake() {
+        synchronized (signal) {
+            wakeRequested = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                processPending();
+            } catch (RuntimeException e) {
+                logger.warn("Cascade deletion pass failed: {}", e.getMessage());
+            }
+            synchronized (signal) {
+                try {
+                    if (!wakeRequested && running) {
+                        signal.wait(pollIntervalMs);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                wakeRequested = false;
+            }
+        }
+    }
+
+    // Runs unfinished jobs oldest first until none are due; returns how many completed
+    public int processPending() {
+        int completed = 0;
+        Optional<DeletionJobResponse> next;
+        while (running && (next = deletionJobRepository.findNextUnfinished(LocalDateTime.now())).isPresent()) {
+            if (process(next.get())) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    private boolean process(DeletionJobResponse job) {
+        long jobId = job.getJobId();
+        TargetType type = TargetType.valueOf(job.getTargetType());
+        List<Phase> phases = type.phases();
+        try {
+            for (int i = phases.indexOf(Phase.valueOf(job.getPhase())); i < phases.size(); i++) {
+                runPhase(jobId, type, job.getTargetId(), phases.get(i));
+                if (!running) {
+                    // Left RUNNING; the next start resumes from the recorded phase
+                    return false;
+                }
+            }
+            deletionJobRepository.finish(jobId);
+            logger.info("Deleted {} {} (job {})", type, job.getTargetId(), jobId);
+            return true;
+        } catch (RuntimeException e) {
+            if (!running) {
+                // Interrupted by shutdown mid-statement; not a real failure
+                return false;
+            }
+            int attempt = job.getAttempts() + 1;
+            if (attempt >= maxAttempts) {
+                logger.error("Deletion job {} failed on attempt {}; giving up", jobId, attempt, e);
+                deletionJobRepository.fail(jobId, errorCode(e));
+            } else {
+                long delayMs = retryBackoffMs << Math.min(attempt - 1, 16);
+                logger.warn("Deletion job {} failed on attempt {}; retrying in {} ms", jobId, attempt, delayMs, e);
+                deletionJobRepository.retry(jobId, errorCode(e), LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+            }
+            return false;
+        }
+    }
+
+    private static ErrorCode errorCode(RuntimeException e) {
+        if (e instanceof PessimisticLockingFailureException || e instanceof QueryTimeoutException) {
+            return ErrorCode.LOCK_TIMEOUT;
+        }
+        if (e instanceof DataAccessResourceFailureException) {
+            return ErrorCode.DATABASE_UNAVAILABLE;
+        }
+        return ErrorCode.INTERNAL_ERROR;
+    }
+
+    private void runPhase(long jobId, TargetType type, long targetId, Phase phase) {
+        // Record the phase before the first chunk so a resumed job never skips one
+        deletionJobRepository.progress(jobId, phase, 0);
+        while (running) {
+            int removed = chunk(type, targetId, phase);
+            if (removed == 0) {
+                return;
+            }
+            deletionJobRepository.progress(jobId, phase, removed);
+            pause();
+        }
+    }
+
+    private int chunk(TargetType type, long targetId, Phase phase) {
+        boolean post = type == TargetType.POST;
+        return switch (phase) {
+            case HIDE_POSTS -> hidePosts(targetId);
+            case POSTS -> cascadeDeleteRepository.findFirstPostIdByUser(targetId).map(this::postChunk).orElse(0);
+            case VOTES -> post ? postVotes(targetId) : votesCastBy(targetId);
+            case COMMENTS -> post ? postComments(targetId) : commentsWrittenBy(targetId);
+            case MEMBERSHIPS -> memberships(targetId);
+            case ROOT -> post ? cascadeDeleteRepository.deletePost(targetId)
+                    : cascadeDeleteRepository.deleteUser(targetId);
+        };
+    }
+
+    private int hidePosts(long userId) {
+        List<PostRef> posts = cascadeDeleteRepository.hidePostsByUser(userId, chunkSize);
+        for (PostRef post : posts) {
+            feedService.onPostDeleted(post.postId());
+            searchService.removePost(post.postId());
+            activityCounterBuffer.record(Scope.COMMUNITY, post.communityId(), -1, null);
+        }
+        entityCaches.posts().invalidateAll(posts.stream().map(PostRef::postId).toList());
+        return posts.size();
+    }
+
+    // One step of the oldest remaining post of an account
+    private int postChunk(long postId) {
+        int removed = postVotes(postId);
+        if (removed == 0) {
+            removed = postComments(postId);
+        }
+        if (removed == 0) {
+            removed = cascadeDeleteRepository.deletePost(postId);
+        }
+        return removed;
+    }
+
+    private int postVotes(long postId) {
+        int removed = cascadeDeleteRepository.deletePostVotes(postId, chunkSize);
+        return removed > 0 ? removed : cascadeDeleteRepository.deleteCommentVotesByPost(postId, chunkSize);
+    }
+
+    // The post is already hidden, so its counters no longer matter
+    private int postComments(long postId) {
+        List<Long> commentIds = cascadeDeleteRepository.deleteCommentsByPost(postId, chunkSize);
+        commentIds.forEach(searchService::removeComment);
+        return commentIds.size();
+    }
+
+    private int commentsWrittenBy(long userId) {
+        int removed = cascadeDeleteRepository.deleteCommentVotesByAuthor(userId, chunkSize);
+        if (removed > 0) {
+            return removed;
+        }
+        List<CommentRef> comments = cascadeDeleteRepository.deleteCommentsByUser(userId, chunkSize);
+        for (CommentRef comment : comments) {
+            searchService.removeComment(comment.commentId());
+            if (comment.tombstone()) {
+                // Already taken out of the counts when it was tombstoned
+                continue;
+            }
+            // Deleted or newly tombstoned; replies by others stay in place
+            feedService.onCommentCountChanged(comment.postId(), -1);
+            activityCounterBuffer.record(Scope.POST, comment.postId(), -1, null);
+        }
+        return comments.size();
+    }
+
+    private int votesCastBy(long userId) {
+        for (Target target : Target.values()) {
+            List<VoteRef> votes = cascadeDeleteRepository.deleteVotesByUser(target, userId, chunkSize);
+            for (VoteRef vote : votes) {
+                voteScoreBuffer.record(target, vote.targetId(), -vote.value());
+                if (target == Target.POST) {
+                    feedService.onPostScoreChanged(vote.targetId(), -vote.value());
+                }
+            }
+            if (!votes.isEmpty()) {
+                return votes.size();
+            }
+        }
+        return 0;
+    }
+
+    private int memberships(long userId) {
+        List<Long> communityIds = cascadeDeleteRepository.deleteSubscriptionsByUser(userId, chunkSize);
+        if (communityIds.isEmpty()) {
+            return cascadeDeleteRepository.deleteModeratorRolesByUser(userId, chunkSize);
+        }
+        communityIds.forEach(communityId -> communityNameIndex.adjustPopularity(communityId, -1));
+        return communityIds.size();
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        wake();
+        Thread worker;
+        synchronized (this) {
+            worker = thread;
+        }
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+}
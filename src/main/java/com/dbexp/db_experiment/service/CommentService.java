@@ -1,8 +1,14 @@
 package com.dbexp.db_experiment.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
 import jakarta.servlet.http.HttpSession;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsRequest;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsResponse;
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
 import com.dbexp.db_experiment.dto.comment.CreateCommentRequest;
 import com.dbexp.db_experiment.dto.comment.CreateCommentResponse;
 import com.dbexp.db_experiment.dto.comment.DeleteCommentResponse;
@@ -10,15 +16,26 @@ import com.dbexp.db_experiment.dto.comment.EditCommentRequest;
 import com.dbexp.db_experiment.dto.comment.EditCommentResponse;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdRequest;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdResponse;
+import com.dbexp.db_experiment.dto.comment.GetCommentTreeResponse;
 
 public interface CommentService {
     CreateCommentResponse createUnderPost(HttpSession session, CreateCommentRequest request);
 
     CreateCommentResponse createUnderComment(HttpSession session, CreateCommentRequest request);
 
+    BatchCreateCommentsResponse createBatch(HttpSession session, BatchCreateCommentsRequest request);
+
     GetCommentByIdResponse getById(GetCommentByIdRequest request);
+
+    MultiGetResponse<GetCommentByIdResponse> getByIds(List<Long> commentIds);
     
-    List<GetCommentByIdResponse> getCommentsByPostId(Long postId);
+    List<CommentPreviewResponse> getCommentsByPostId(Long postId);
+
+    GetCommentTreeResponse getCommentTreeByPostId(Long postId);
+
+    GetCommentTreeResponse getCommentThread(Long postId, Long commentId);
+
+    void streamCommentsByPostId(Long postId, Consumer<CommentPreviewResponse> sink);
 
     EditCommentResponse edit(HttpSession session, Long commentId, EditCommentRequest request);
 
@@ -2,14 +2,25 @@ package com.dbexp.db_experiment.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsRequest;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsResponse;
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
+import com.dbexp.db_experiment.dto.comment.CommentTreeNode;
 import com.dbexp.db_experiment.dto.comment.CreateCommentRequest;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdResponse;
 import com.dbexp.db_experiment.dto.comment.CreateCommentResponse;
@@ -17,29 +28,56 @@ import com.dbexp.db_experiment.dto.comment.DeleteCommentResponse;
 import com.dbexp.db_experiment.dto.comment.EditCommentRequest;
 import com.dbexp.db_experiment.dto.comment.EditCommentResponse;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdRequest;
+import com.dbexp.db_experiment.dto.comment.GetCommentTreeResponse;
 import com.dbexp.db_experiment.dto.comment.GetCommentByIdResponse;
 import com.dbexp.db_experiment.entity.Comment;
 import com.dbexp.db_experiment.entity.Post;
 import com.dbexp.db_experiment.exception.ForbiddenException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.repository.BulkInsertRepository;
 import com.dbexp.db_experiment.repository.CommentRepository;
 import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
 
 @Service
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_BATCH_SIZE = 5000;
+
     private final CommentRepository commentRepository;
 
     private final PostRepository postRepository;
 
     private final AuthService authService;
 
+    private final StreamingQueryRepository streamingQueryRepository;
+
+    private final BulkInsertRepository bulkInsertRepository;
+
+    private final VoteScoreBuffer voteScoreBuffer;
+
+    private final FeedService feedService;
+
+    private final SearchService searchService;
+
+    private final ActivityCounterBuffer activityCounterBuffer;
+
     public CommentServiceImpl(CommentRepository commentRepository, PostRepository postRepository,
-            AuthService authService) {
+            AuthService authService, StreamingQueryRepository streamingQueryRepository,
+            BulkInsertRepository bulkInsertRepository, VoteScoreBuffer voteScoreBuffer, FeedService feedService,
+            SearchService searchService, ActivityCounterBuffer activityCounterBuffer) {
         this.authService = authService;
         this.commentRepository = commentRepository;
         this.postRepository = postRepository;
+        this.streamingQueryRepository = streamingQueryRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.voteScoreBuffer = voteScoreBuffer;
+        this.feedService = feedService;
+        this.searchService = searchService;
+        this.activityCounterBuffer = activityCounterBuffer;
     }
 
     @Override
@@ -75,6 +113,10 @@ public class CommentServiceImpl implements CommentService {
 
         // Save comment to database
         Comment savedComment = commentRepository.save(comment);
+        feedService.onCommentCountChanged(savedComment.getPostId(), 1);
+        AfterCommit.run(() -> activityCounterBuffer.record(Scope.POST, savedComment.getPostId(), 1,
+                savedComment.getCreatedAt()));
+        searchService.indexComment(savedComment);
 
         // Return response DTO
         return new CreateCommentResponse(
@@ -106,8 +148,10 @@ public class CommentServiceImpl implements CommentService {
             throw new IllegalArgumentException("Parent comment ID is required for replies");
         }
 
-        // Validate parent comment exists
+        // Validate parent comment exists; tombstones and comments under a
+        // deleted post take no new replies
         Comment parentComment = commentRepository.findById(request.getParentCommentId())
+                .filter(parent -> parent.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Parent comment not found"));
 
         // Validate parent comment belongs to the same post
@@ -125,6 +169,10 @@ public class CommentServiceImpl implements CommentService {
 
         // Save comment to database
         Comment savedComment = commentRepository.save(comment);
+        feedService.onCommentCountChanged(savedComment.getPostId(), 1);
+        AfterCommit.run(() -> activityCounterBuffer.record(Scope.POST, savedComment.getPostId(), 1,
+                savedComment.getCreatedAt()));
+        searchService.indexComment(savedComment);
 
         // Return response DTO
         return new CreateCommentResponse(
@@ -137,6 +185,91 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional
+    public BatchCreateCommentsResponse createBatch(HttpSession session, BatchCreateCommentsRequest request) {
+        // Validate session and get current user
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        Long userId = currentUser.userId();
+
+        // Validate input parameters
+        List<CreateCommentRequest> items = request.getComments();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one comment is required");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " comments");
+        }
+        Set<Long> postIds = new LinkedHashSet<>();
+        Set<Long> parentCommentIds = new LinkedHashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateCommentRequest item = items.get(i);
+            if (item == null || item.getPostId() == null) {
+                throw new IllegalArgumentException("Post ID is required (item " + i + ")");
+            }
+            if (item.getContent() == null || item.getContent().trim().isEmpty()) {
+                throw new IllegalArgumentException("Comment content is required (item " + i + ")");
+            }
+            postIds.add(item.getPostId());
+            if (item.getParentCommentId() != null) {
+                parentCommentIds.add(item.getParentCommentId());
+            }
+        }
+
+        // Validate referenced posts and parent comments with one query each
+        Set<Long> existingPostIds = new HashSet<>(postRepository.findExistingIds(postIds));
+        for (Long postId : postIds) {
+            if (!existingPostIds.contains(postId)) {
+                throw new ResourceNotFoundException("Post not found: " + postId);
+            }
+        }
+        Map<Long, Long> parentPostIds = bulkInsertRepository.findPostIdsByCommentIds(parentCommentIds);
+        for (CreateCommentRequest item : items) {
+            Long parentCommentId = item.getParentCommentId();
+            if (parentCommentId == null) {
+                continue;
+            }
+            Long parentPostId = parentPostIds.get(parentCommentId);
+            if (parentPostId == null) {
+                throw new ResourceNotFoundException("Parent comment not found: " + parentCommentId);
+            }
+            if (!parentPostId.equals(item.getPostId())) {
+                throw new IllegalArgumentException(
+                        "Parent comment " + parentCommentId + " does not belong to post " + item.getPostId());
+            }
+        }
+
+        // Build entities sharing one creation timestamp
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Comment> comments = new ArrayList<>(items.size());
+        for (CreateCommentRequest item : items) {
+            Comment comment = new Comment(userId, item.getPostId(), item.getContent());
+            comment.setParentCommentId(item.getParentCommentId());
+            comment.setCreatedAt(createdAt);
+            comments.add(comment);
+        }
+
+        // Insert with JDBC batches; ids come back in request order
+        List<Long> commentIds = bulkInsertRepository.insertComments(comments);
+        Map<Long, Integer> addedPerPost = new HashMap<>();
+        for (int i = 0; i < comments.size(); i++) {
+            Comment comment = comments.get(i);
+            comment.setCommentId(commentIds.get(i));
+            searchService.indexComment(comment);
+            addedPerPost.merge(comment.getPostId(), 1, Integer::sum);
+        }
+        addedPerPost.forEach(feedService::onCommentCountChanged);
+        AfterCommit.run(() -> addedPerPost.forEach(
+                (postId, added) -> activityCounterBuffer.record(Scope.POST, postId, added, createdAt)));
+
+        // Return response DTO
+        return new BatchCreateCommentsResponse(commentIds.size(), commentIds, createdAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public GetCommentByIdResponse getById(GetCommentByIdRequest request) {
         // Validate input parameters
         if (request.getCommentId() == null) {
@@ -149,36 +282,81 @@ public class CommentServiceImpl implements CommentService {
                         () -> new ResourceNotFoundException("Comment not found"));
 
         // Return response DTO
-        return new GetCommentByIdResponse(
-                comment.getCommentId(),
-                comment.getCommentContent(),
-                comment.getUserId(),
-                comment.getPostId(),
-                comment.getParentCommentId(),
-                comment.getCreatedAt());
+        return toResponse(comment);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<GetCommentByIdResponse> getByIds(List<Long> commentIds) {
+        // Validate and de-duplicate ids, keeping request order
+        List<Long> ids = MultiGet.distinctIds(commentIds);
+
+        // Resolve every id with a single IN (...) query
+        return MultiGet.inRequestOrder(ids, commentRepository.findAllLiveById(ids), Comment::getCommentId,
+                this::toResponse);
     }
     
     @Override
-    public List<GetCommentByIdResponse> getCommentsByPostId(Long postId) {
+    @Transactional(readOnly = true)
+    public List<CommentPreviewResponse> getCommentsByPostId(Long postId) {
         if (postId == null) {
             throw new IllegalArgumentException("Post ID is required");
         }
-        
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        List<GetCommentByIdResponse> responses = new ArrayList<>();
-        
-        for (Comment comment : comments) {
-            responses.add(new GetCommentByIdResponse(
-                comment.getCommentId(),
-                comment.getCommentContent(),
-                comment.getUserId(),
-                comment.getPostId(),
-                comment.getParentCommentId(),
-                comment.getCreatedAt()
-            ));
+
+        requireLivePost(postId);
+
+        // Previews carry an excerpt only; full bodies are fetched through getById
+        return commentRepository.findPreviewsByPostId(postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GetCommentTreeResponse getCommentTreeByPostId(Long postId) {
+        if (postId == null) {
+            throw new IllegalArgumentException("Post ID is required");
         }
-        
-        return responses;
+
+        requireLivePost(postId);
+
+        // Fetch the whole thread in one query and link it in memory
+        List<Comment> comments = commentRepository.findThreadByPostId(postId);
+
+        return new GetCommentTreeResponse(
+                postId,
+                comments.size(),
+                CommentTreeBuilder.build(comments));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GetCommentTreeResponse getCommentThread(Long postId, Long commentId) {
+        if (postId == null) {
+            throw new IllegalArgumentException("Post ID is required");
+        }
+        if (commentId == null) {
+            throw new IllegalArgumentException("Comment ID is required");
+        }
+
+        requireLivePost(postId);
+
+        // Continues a thread the tree cut off at MAX_DEPTH, rooted at the marked comment
+        List<Comment> comments = commentRepository.findThreadByPostId(postId);
+        List<CommentTreeNode> thread = CommentTreeBuilder.build(comments, commentId);
+        if (thread.isEmpty()) {
+            throw new ResourceNotFoundException("Comment not found");
+        }
+
+        return new GetCommentTreeResponse(postId, comments.size(), thread);
+    }
+
+    @Override
+    public void streamCommentsByPostId(Long postId, Consumer<CommentPreviewResponse> sink) {
+        if (postId == null) {
+            throw new IllegalArgumentException("Post ID is required");
+        }
+
+        // Hand each row to the sink as it arrives from the cursor instead of collecting a list
+        streamingQueryRepository.streamCommentsByPostId(postId, sink);
     }
 
     @Override
@@ -201,6 +379,7 @@ public class CommentServiceImpl implements CommentService {
 
         // Validate comment exists
         Comment comment = commentRepository.findById(commentId)
+                .filter(existing -> existing.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
 
         // Ensure user can only edit their own comments
@@ -222,6 +401,8 @@ public class CommentServiceImpl implements CommentService {
         if (rowsUpdated == 0) {
             throw new IllegalStateException("Failed to update comment");
         }
+        comment.setCommentContent(request.getContent());
+        searchService.indexComment(comment);
 
         // Return response DTO
         return new EditCommentResponse(
@@ -246,8 +427,9 @@ public class CommentServiceImpl implements CommentService {
             throw new IllegalArgumentException("Comment ID is required");
         }
 
-        // Validate comment exists
+        // Validate comment exists and is not already a tombstone
         Comment comment = commentRepository.findById(commentId)
+                .filter(existing -> existing.getDeletedAt() == null)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
 
         // Ensure user can only delete their own comments
@@ -260,12 +442,15 @@ public class CommentServiceImpl implements CommentService {
             throw new ForbiddenException("User can only delete their own comments");
         }
 
-        // Delete comment using raw SQL query
-        int rowsDeleted = commentRepository.deleteByCommentId(commentId);
+        // Tombstone the comment; replies stay attached and the purge job removes it once it is a leaf
+        int rowsDeleted = commentRepository.tombstone(commentId);
 
         if (rowsDeleted == 0) {
             throw new IllegalStateException("Failed to delete comment");
         }
+        feedService.onCommentCountChanged(comment.getPostId(), -1);
+        AfterCommit.run(() -> activityCounterBuffer.record(Scope.POST, comment.getPostId(), -1, null));
+        searchService.removeComment(commentId);
 
         // Return response DTO
         return new DeleteCommentResponse(
@@ -273,4 +458,30 @@ public class CommentServiceImpl implements CommentService {
                 LocalDateTime.now(),
                 "Comment deleted successfully");
     }
-}
\ No newline at end of file
+
+    // A post marked deleted hides its comments as well
+    private void requireLivePost(Long postId) {
+        if (postRepository.findExistingIds(List.of(postId)).isEmpty()) {
+            throw new ResourceNotFoundException("Post not found");
+        }
+    }
+
+    // Tombstones keep their id, parent and timestamp but hide the author and text
+    private GetCommentByIdResponse toResponse(Comment comment) {
+        boolean deleted = comment.getDeletedAt() != null;
+        return new GetCommentByIdResponse(
+                comment.getCommentId(),
+                deleted ? null : comment.getCommentContent(),
+                deleted ? null : comment.getUserId(),
+                comment.getPostId(),
+                comment.getParentCommentId(),
+                currentScore(comment),
+                comment.getCreatedAt(),
+                deleted);
+    }
+
+    // Stored score plus votes still waiting in the write-behind buffer
+    private long currentScore(Comment comment) {
+        return comment.getScore() + voteScoreBuffer.pending(Target.COMMENT, comment.getCommentId());
+    }
+}
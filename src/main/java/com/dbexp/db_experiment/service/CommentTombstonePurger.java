@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository;
+
+// Physically removes comment tombstones once nothing hangs off them. Runs
+// off-peak in small batches with a pause in between; removing a leaf can turn
+// its tombstoned parent into a leaf, which a later batch of the same run
+// picks up, so whole dead branches disappear bottom-up.
+@Component
+public class CommentTombstonePurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentTombstonePurger.class);
+
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final long retentionMinutes;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxBatches;
+
+    public CommentTombstonePurger(CascadeDeleteRepository cascadeDeleteRepository,
+            @Value("${app.comments.purge-retention-minutes:60}") long retentionMinutes,
+            @Value("${app.comments.purge-batch-size:500}") int batchSize,
+            @Value("${app.comments.purge-batch-pause-ms:100}") long batchPauseMs,
+            @Value("${app.comments.purge-max-batches:1000}") int maxBatches) {
+        this.cascadeDeleteRepository = cascadeDeleteRepository;
+        this.retentionMinutes = retentionMinutes;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${app.comments.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        long started = System.nanoTime();
+        try {
+            int purged = purge(LocalDateTime.now().minusMinutes(retentionMinutes));
+            logger.info("Purged {} comment tombstones in {} ms", purged, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Comment tombstone purge failed: {}", e.getMessage());
+        }
+    }
+
+    // Returns how many tombstones were removed; stops early at the batch cap
+    public int purge(LocalDateTime cutoff) {
+        int purged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int removed = cascadeDeleteRepository.purgeCommentTombstones(cutoff, batchSize);
+            if (removed == 0) {
+                break;
+            }
+            purged += removed;
+            if (!pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        if (batchPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.dbexp.db_experiment.dto.comment.CommentTreeNode;
+import com.dbexp.db_experiment.entity.Comment;
+
+// Links a post's flat comment rows into reply trees in O(n), using int/long
+// arrays and an open-addressing id index instead of boxed maps
+public final class CommentTreeBuilder {
+
+    // Replies below this depth are cut off and the node is marked continueThread;
+    // each level is two JSON nesting levels, so this stays far under Jackson's limit
+    public static final int MAX_DEPTH = 32;
+
+    private CommentTreeBuilder() {
+    }
+
+    public static List<CommentTreeNode> build(List<Comment> comments) {
+        return build(comments, null);
+    }
+
+    // The sub-thread under rootCommentId with depths counted from it, or an empty
+    // list when the id is not among the rows; null builds every root thread
+    public static List<CommentTreeNode> build(List<Comment> comments, Long rootCommentId) {
+        int n = comments.size();
+        if (n == 0) {
+            return List.of();
+        }
+
+        // Index comment ids to row positions
+        LongIntIndex index = new LongIntIndex(n);
+        for (int i = 0; i < n; i++) {
+            index.put(comments.get(i).getCommentId(), i);
+        }
+
+        // Resolve parent positions and count children; unknown parents become roots
+        int[] parent = new int[n];
+        int[] childCount = new int[n];
+        int rootCount = 0;
+        for (int i = 0; i < n; i++) {
+            Long parentId = comments.get(i).getParentCommentId();
+            int p = parentId == null ? -1 : index.get(parentId);
+            parent[i] = p;
+            if (p < 0) {
+                rootCount++;
+            } else {
+                childCount[p]++;
+            }
+        }
+
+        // Allocate every node with exactly sized reply lists, then attach in row order
+        CommentTreeNode[] nodes = new CommentTreeNode[n];
+        for (int i = 0; i < n; i++) {
+            Comment comment = comments.get(i);
+            List<CommentTreeNode> replies = childCount[i] == 0 ? List.of() : new ArrayList<>(childCount[i]);
+            // Tombstones come from the same rows, so rendering them costs no extra lookup
+            boolean deleted = comment.getDeletedAt() != null;
+            nodes[i] = new CommentTreeNode(
+                    comment.getCommentId(),
+                    deleted ? null : comment.getCommentContent(),
+                    deleted ? null : comment.getUserId(),
+                    comment.getParentCommentId(),
+                    comment.getCreatedAt(),
+                    0,
+                    childCount[i],
+                    replies,
+                    deleted);
+        }
+
+        List<CommentTreeNode> roots = new ArrayList<>(rootCount);
+        for (int i = 0; i < n; i++) {
+            if (parent[i] < 0) {
+                roots.add(nodes[i]);
+            } else {
+                nodes[parent[i]].getReplies().add(nodes[i]);
+            }
+        }
+        if (rootCommentId != null) {
+            int root = index.get(rootCommentId);
+            if (root < 0) {
+                return List.of();
+            }
+            roots = List.of(nodes[root]);
+        }
+
+        // Assign depths breadth-first without recursion so deep threads cannot overflow the stack
+        CommentTreeNode[] queue = new CommentTreeNode[n];
+        int head = 0;
+        int tail = 0;
+        for (CommentTreeNode root : roots) {
+            queue[tail++] = root;
+        }
+        while (head < tail) {
+            CommentTreeNode node = queue[head++];
+            if (node.getDepth() == MAX_DEPTH && !node.getReplies().isEmpty()) {
+                // The client fetches the rest through the thread endpoint for this comment
+                node.setReplies(List.of());
+                node.setContinueThread(true);
+                continue;
+            }
+            for (CommentTreeNode reply : node.getReplies()) {
+                reply.setDepth(node.getDepth() + 1);
+                queue[tail++] = reply;
+            }
+        }
+
+        return roots;
+    }
+
+    // Minimal long -> int open-addressing hash index with linear probing
+    static final class LongIntIndex {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final long[] keys;
+        private final int[] values;
+        private final int mask;
+
+        LongIntIndex(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        void put(long key, int value) {
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        int get(long key) {
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
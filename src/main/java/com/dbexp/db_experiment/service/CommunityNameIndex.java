@@ -0,0 +1,172 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+
+// Completion trie over lower-cased community names. Every node caches the
+// most popular names below it, so a lookup is one walk down the prefix and a
+// copy of that node's list. Writers serialize on the trie and publish new
+// arrays; readers never lock.
+@Component
+public class CommunityNameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommunityNameIndex.class);
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private record Suggestion(long communityId, String name, long popularity) {
+    }
+
+    // Most subscribers first, then alphabetical
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::popularity)
+            .reversed()
+            .thenComparing(Suggestion::name, String.CASE_INSENSITIVE_ORDER);
+
+    private static final Suggestion[] NONE = new Suggestion[0];
+
+    // Sorted labels with the matching children, published together so a
+    // reader never pairs one array with the other's older version
+    private record Edges(char[] labels, Node[] children) {
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final Edges NO_EDGES = new Edges(new char[0], new Node[0]);
+
+    private static final class Node {
+        // Replaced as a whole on insert; read once per step of a walk
+        volatile Edges edges = NO_EDGES;
+        volatile Suggestion terminal;
+        volatile Suggestion[] top = NONE;
+
+        Node child(char label) {
+            return edges.child(label);
+        }
+    }
+
+    private final StreamingQueryRepository streamingQueryRepository;
+    private final ConcurrentHashMap<Long, Suggestion> byId = new ConcurrentHashMap<>();
+    private volatile Node root = new Node();
+
+    public CommunityNameIndex(StreamingQueryRepository streamingQueryRepository) {
+        this.streamingQueryRepository = streamingQueryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        try {
+            synchronized (this) {
+                root = new Node();
+                byId.clear();
+                streamingQueryRepository.streamCommunityPopularity(community -> put(new Suggestion(
+                        community.getCommunityId(), community.getName(), community.getSubscriberCount())));
+            }
+            logger.info("Indexed {} community names in {} ms", byId.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Could not build community name index: {}", e.getMessage());
+        }
+    }
+
+    public List<CommunitySuggestionResponse> complete(String prefix, int limit) {
+        Node node = root;
+        String key = prefix.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        Suggestion[] top = node.top;
+        List<CommunitySuggestionResponse> suggestions = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            suggestions.add(new CommunitySuggestionResponse(top[i].communityId(), top[i].name(),
+                    top[i].popularity()));
+        }
+        return suggestions;
+    }
+
+    public synchronized void add(Long communityId, String name) {
+        put(new Suggestion(communityId, name, 0));
+    }
+
+    public synchronized void adjustPopularity(Long communityId, long delta) {
+        Suggestion current = byId.get(communityId);
+        if (current != null && delta != 0) {
+            put(new Suggestion(communityId, current.name(), Math.max(0, current.popularity() + delta)));
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    // Caller holds the trie monitor
+    private void put(Suggestion suggestion) {
+        byId.put(suggestion.communityId(), suggestion);
+        String key = suggestion.name().toLowerCase(Locale.ROOT);
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            Node next = node.child(key.charAt(i));
+            if (next == null) {
+                next = insertChild(node, key.charAt(i));
+            }
+            node = next;
+            path[i + 1] = node;
+        }
+        node.terminal = suggestion;
+
+        // Re-derive cached lists bottom-up; a node's best names are its own
+        // terminal plus the best of each child
+        for (int depth = key.length(); depth >= 0; depth--) {
+            Node current = path[depth];
+            List<Suggestion> candidates = new ArrayList<>();
+            if (current.terminal != null) {
+                candidates.add(current.terminal);
+            }
+            for (Node child : current.edges.children()) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(RANKING);
+            current.top = candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size()))
+                    .toArray(Suggestion[]::new);
+        }
+    }
+
+    private static Node insertChild(Node parent, char label) {
+        char[] labels = parent.edges.labels();
+        Node[] children = parent.edges.children();
+        int insertAt = -Arrays.binarySearch(labels, label) - 1;
+
+        char[] newLabels = new char[labels.length + 1];
+        Node[] newChildren = new Node[children.length + 1];
+        System.arraycopy(labels, 0, newLabels, 0, insertAt);
+        System.arraycopy(children, 0, newChildren, 0, insertAt);
+        newLabels[insertAt] = label;
+        Node child = new Node();
+        newChildren[insertAt] = child;
+        System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+        System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+
+        parent.edges = new Edges(newLabels, newChildren);
+        return child;
+    }
+}
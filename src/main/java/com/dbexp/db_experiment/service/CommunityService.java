@@ -1,20 +1,27 @@
 package com.dbexp.db_experiment.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
 import jakarta.servlet.http.HttpSession;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionRequest;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionResponse;
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
 import com.dbexp.db_experiment.dto.community.CreateCommunityRequest;
 import com.dbexp.db_experiment.dto.community.CreateCommunityResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameResponse;
+import com.dbexp.db_experiment.dto.community.SubscriptionResponse;
 
 public interface CommunityService {
     GetCommunityByIdResponse getCommunityById(GetCommunityByIdRequest request);
 
+    MultiGetResponse<GetCommunityByIdResponse> getCommunitiesByIds(List<Long> communityIds);
+
     GetCommunityByNameResponse getCommunityByName(GetCommunityByNameRequest request);
 
     CreateCommunityResponse createCommunity(HttpSession session, CreateCommunityRequest request);
@@ -23,4 +30,12 @@ public interface CommunityService {
             ChangeDescriptionRequest request);
             
     List<GetCommunityByIdResponse> getLatestCommunities();
+
+    void streamLatestCommunities(Consumer<GetCommunityByIdResponse> sink);
+
+    SubscriptionResponse subscribe(HttpSession session, Long communityId);
+
+    SubscriptionResponse unsubscribe(HttpSession session, Long communityId);
+
+    List<CommunitySuggestionResponse> autocomplete(String prefix, Integer limit);
 }
\ No newline at end of file
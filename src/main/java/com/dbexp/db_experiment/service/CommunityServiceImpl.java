@@ -3,26 +3,33 @@ package com.dbexp.db_experiment.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionRequest;
 import com.dbexp.db_experiment.dto.community.ChangeDescriptionResponse;
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
 import com.dbexp.db_experiment.dto.community.CreateCommunityRequest;
 import com.dbexp.db_experiment.dto.community.CreateCommunityResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByIdResponse;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameRequest;
 import com.dbexp.db_experiment.dto.community.GetCommunityByNameResponse;
+import com.dbexp.db_experiment.dto.community.SubscriptionResponse;
 import com.dbexp.db_experiment.entity.Community;
 import com.dbexp.db_experiment.exception.ConflictException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
 import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.repository.SubscriptionRepository;
 
 @Service
 public class CommunityServiceImpl implements CommunityService {
@@ -31,25 +38,63 @@ public class CommunityServiceImpl implements CommunityService {
 
     private final AuthService authService;
 
-    public CommunityServiceImpl(CommunityRepository communityRepository, AuthService authService) {
+    private final StreamingQueryRepository streamingQueryRepository;
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    private final CommunityNameIndex communityNameIndex;
+
+    private final ActivityCounterBuffer activityCounterBuffer;
+
+    private final EntityCaches entityCaches;
+
+    public CommunityServiceImpl(CommunityRepository communityRepository, AuthService authService,
+            StreamingQueryRepository streamingQueryRepository, SubscriptionRepository subscriptionRepository,
+            CommunityNameIndex communityNameIndex, ActivityCounterBuffer activityCounterBuffer,
+            EntityCaches entityCaches) {
         this.communityRepository = communityRepository;
         this.authService = authService;
+        this.streamingQueryRepository = streamingQueryRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.communityNameIndex = communityNameIndex;
+        this.activityCounterBuffer = activityCounterBuffer;
+        this.entityCaches = entityCaches;
     }
 
+    // No read-only transaction, so cache misses are loaded from the primary
     @Override
     public GetCommunityByIdResponse getCommunityById(GetCommunityByIdRequest request) {
         if (request.getCommunityId() == null) {
             throw new IllegalArgumentException("Community ID is required");
         }
 
-        Community community = communityRepository.findById(request.getCommunityId())
+        Long communityId = request.getCommunityId();
+        Community community = entityCaches.communities()
+                .get(communityId, () -> communityRepository.findById(communityId))
                 .orElseThrow(() -> new ResourceNotFoundException("Community not found"));
 
         return new GetCommunityByIdResponse(
                 community.getCommunityId(),
                 community.getName(),
                 community.getDescription(),
-                community.getCreatedAt());
+                community.getCreatedAt(),
+                currentPostCount(community),
+                lastActivity(community));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<GetCommunityByIdResponse> getCommunitiesByIds(List<Long> communityIds) {
+        List<Long> ids = MultiGet.distinctIds(communityIds);
+
+        return MultiGet.inRequestOrder(ids, communityRepository.findAllById(ids), Community::getCommunityId,
+                community -> new GetCommunityByIdResponse(
+                        community.getCommunityId(),
+                        community.getName(),
+                        community.getDescription(),
+                        community.getCreatedAt(),
+                        currentPostCount(community),
+                        lastActivity(community)));
     }
 
     @Override
@@ -58,14 +103,18 @@ public class CommunityServiceImpl implements CommunityService {
             throw new IllegalArgumentException("Community name is required");
         }
 
-        Community community = communityRepository.findByName(request.getName())
+        String name = request.getName();
+        Community community = entityCaches.communities()
+                .getByNaturalKey(name, () -> communityRepository.findByName(name))
                 .orElseThrow(() -> new ResourceNotFoundException("Community not found"));
 
         return new GetCommunityByNameResponse(
                 community.getCommunityId(),
                 community.getName(),
                 community.getDescription(),
-                community.getCreatedAt());
+                community.getCreatedAt(),
+                currentPostCount(community),
+                lastActivity(community));
     }
 
     @Override
@@ -93,6 +142,7 @@ public class CommunityServiceImpl implements CommunityService {
         community.setCreatedAt(LocalDateTime.now());
 
         Community savedCommunity = communityRepository.save(community);
+        AfterCommit.run(() -> communityNameIndex.add(savedCommunity.getCommunityId(), savedCommunity.getName()));
 
         return new CreateCommunityResponse(
                 savedCommunity.getCommunityId(),
@@ -124,6 +174,7 @@ public class CommunityServiceImpl implements CommunityService {
         if (rowsUpdated == 0) {
             throw new IllegalArgumentException("Failed to update description");
         }
+        AfterCommit.run(() -> entityCaches.communities().invalidate(communityId));
 
         return new ChangeDescriptionResponse(
                 communityId,
@@ -141,10 +192,88 @@ public class CommunityServiceImpl implements CommunityService {
                 community.getCommunityId(),
                 community.getName(),
                 community.getDescription(),
-                community.getCreatedAt()
+                community.getCreatedAt(),
+                currentPostCount(community),
+                lastActivity(community)
             ));
         }
         
         return responses;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void streamLatestCommunities(Consumer<GetCommunityByIdResponse> sink) {
+        streamingQueryRepository.streamLatestCommunities(community -> sink.accept(new GetCommunityByIdResponse(
+                community.getCommunityId(),
+                community.getName(),
+                community.getDescription(),
+                community.getCreatedAt(),
+                currentPostCount(community),
+                lastActivity(community))));
+    }
+
+    @Override
+    @Transactional
+    public SubscriptionResponse subscribe(HttpSession session, Long communityId) {
+        Long userId = requireUserId(session);
+        if (communityId == null) {
+            throw new IllegalArgumentException("Community ID is required");
+        }
+        if (!communityRepository.existsById(communityId)) {
+            throw new ResourceNotFoundException("Community not found");
+        }
+
+        // Idempotent: subscribing twice leaves one row
+        if (subscriptionRepository.subscribe(userId, communityId) > 0) {
+            AfterCommit.run(() -> communityNameIndex.adjustPopularity(communityId, 1));
+        }
+        return new SubscriptionResponse(communityId, true);
+    }
+
+    @Override
+    @Transactional
+    public SubscriptionResponse unsubscribe(HttpSession session, Long communityId) {
+        Long userId = requireUserId(session);
+        if (communityId == null) {
+            throw new IllegalArgumentException("Community ID is required");
+        }
+
+        if (subscriptionRepository.unsubscribe(userId, communityId) > 0) {
+            AfterCommit.run(() -> communityNameIndex.adjustPopularity(communityId, -1));
+        } else if (!communityRepository.existsById(communityId)) {
+            throw new ResourceNotFoundException("Community not found");
+        }
+        return new SubscriptionResponse(communityId, false);
+    }
+
+    @Override
+    public List<CommunitySuggestionResponse> autocomplete(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix is required");
+        }
+        int size = limit == null ? CommunityNameIndex.MAX_SUGGESTIONS
+                : Math.max(1, Math.min(limit, CommunityNameIndex.MAX_SUGGESTIONS));
+        return communityNameIndex.complete(prefix.trim(), size);
+    }
+
+    // Stored count plus posts still waiting in the write-behind buffer
+    private long currentPostCount(Community community) {
+        return Math.max(0,
+                community.getPostCount() + activityCounterBuffer.pending(Scope.COMMUNITY, community.getCommunityId()));
+    }
+
+    // A community with no recorded activity was last active when it was created
+    private LocalDateTime lastActivity(Community community) {
+        LocalDateTime stored = community.getLastActivityAt() != null ? community.getLastActivityAt()
+                : community.getCreatedAt();
+        return activityCounterBuffer.lastActivity(Scope.COMMUNITY, community.getCommunityId(), stored);
+    }
+
+    private Long requireUserId(HttpSession session) {
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        return currentUser.userId();
+    }
+}
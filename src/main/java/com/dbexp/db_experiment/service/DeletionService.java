@@ -0,0 +1,13 @@
+package com.dbexp.db_experiment.service;
+
+import jakarta.servlet.http.HttpSession;
+
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+
+public interface DeletionService {
+    long scheduleAccountDeletion(Long userId);
+
+    long schedulePostDeletion(Long postId, Long requestedBy);
+
+    DeletionJobResponse getJob(HttpSession session, Long jobId);
+}
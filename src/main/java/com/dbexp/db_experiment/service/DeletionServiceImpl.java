@@ -0,0 +1,63 @@
+package com.dbexp.db_experiment.service;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Service;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.DeletionJobRepository;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.TargetType;
+
+@Service
+public class DeletionServiceImpl implements DeletionService {
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final CascadeDeletionWorker cascadeDeletionWorker;
+    private final AuthService authService;
+
+    public DeletionServiceImpl(DeletionJobRepository deletionJobRepository,
+            CascadeDeletionWorker cascadeDeletionWorker, AuthService authService) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.cascadeDeletionWorker = cascadeDeletionWorker;
+        this.authService = authService;
+    }
+
+    // Joins the caller's transaction, so the job exists exactly when the soft delete does
+    @Override
+    public long scheduleAccountDeletion(Long userId) {
+        return schedule(TargetType.USER, userId, userId);
+    }
+
+    @Override
+    public long schedulePostDeletion(Long postId, Long requestedBy) {
+        return schedule(TargetType.POST, postId, requestedBy);
+    }
+
+    // Only the account that asked for the deletion sees the job; an account
+    // deletion ends its own sessions, so those jobs are followed in the logs
+    @Override
+    public DeletionJobResponse getJob(HttpSession session, Long jobId) {
+        // Validate session and get current user
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+
+        // Validate input parameters
+        if (jobId == null) {
+            throw new IllegalArgumentException("Job ID is required");
+        }
+
+        return deletionJobRepository.findByIdAndRequester(jobId, currentUser.userId())
+                .orElseThrow(() -> new ResourceNotFoundException("Deletion job not found"));
+    }
+
+    private long schedule(TargetType targetType, Long targetId, Long requestedBy) {
+        long jobId = deletionJobRepository.create(targetType, targetId, requestedBy);
+        AfterCommit.run(cascadeDeletionWorker::wake);
+        return jobId;
+    }
+}
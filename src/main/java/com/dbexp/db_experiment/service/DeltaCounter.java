@@ -0,0 +1,63 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-id running deltas. Writers only touch a LongAdder (striped cells, no locks);
+// drain() hands the accumulated deltas to the flusher and resets them.
+public class DeltaCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        LongAdder adder = deltas.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+        // drain() may have retired this adder concurrently; move whatever it
+        // did not collect into the live one. sumThenReset() takes each cell
+        // with getAndSet, so every unit is picked up exactly once.
+        while (deltas.get(id) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned == 0) {
+                return;
+            }
+            adder = deltas.computeIfAbsent(id, key -> new LongAdder());
+            adder.add(orphaned);
+        }
+    }
+
+    public long pending(Long id) {
+        LongAdder adder = deltas.get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                // Idle since the last flush: retire the entry, then collect
+                // anything that raced in before the removal
+                deltas.remove(entry.getKey(), adder);
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                drained.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    public void restore(Map<Long, Long> undelivered) {
+        undelivered.forEach(this::add);
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+}
@@ -0,0 +1,200 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import com.dbexp.db_experiment.dto.cache.CacheStatsResponse;
+
+// Least-recently-used entities by id, with an optional second index by a
+// natural key (community name, username). Bounded by estimated bytes rather
+// than entries, so a few long posts cannot push out hundreds of small rows.
+// Ids are spread over segments, each an LRU with its share of the budget
+// behind its own lock, so lookups of different rows rarely contend.
+//
+// Loads run outside the locks. An invalidation stamps its id from a clock
+// shared by the segments, and a load that started before the stamp drops its
+// result instead of caching a row the invalidating write may already have
+// replaced. Loads of other ids are unaffected. Each segment remembers a
+// bounded number of stamps; when it forgets them it raises a floor instead,
+// and loads that started below the floor are dropped as well.
+public class EntityCache<V> {
+
+    // Invalidation stamps a segment keeps before falling back to its floor
+    private static final int MAX_STAMPS = 1024;
+
+    private record Entry<V>(V value, String naturalKey, long weight) {
+    }
+
+    private static final class Segment<V> {
+        final LinkedHashMap<Long, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        final Map<Long, Long> invalidatedAt = new HashMap<>();
+        long floor;
+        long weight;
+    }
+
+    private final String name;
+    private final long maxWeight;
+    private final long segmentWeight;
+    private final Function<V, Long> idOf;
+    private final Function<V, String> naturalKeyOf;
+    private final ToLongFunction<V> weigher;
+
+    private final int segmentShift;
+    private final Segment<V>[] segments;
+    private final Map<String, Long> idsByNaturalKey = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    // naturalKeyOf may be null when the entity is only looked up by id; each
+    // of the segments (rounded up to a power of two) gets an equal share of
+    // maxWeight
+    @SuppressWarnings("unchecked")
+    public EntityCache(String name, long maxWeight, int segments, Function<V, Long> idOf,
+            Function<V, String> naturalKeyOf, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.idOf = idOf;
+        this.naturalKeyOf = naturalKeyOf;
+        this.weigher = weigher;
+        int segmentCount = segments <= 1 ? 1 : Integer.highestOneBit(segments - 1) << 1;
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segmentWeight = maxWeight / segmentCount;
+        this.segments = (Segment<V>[]) new Segment<?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    public Optional<V> get(Long id, Supplier<Optional<V>> loader) {
+        Segment<V> segment = segmentFor(id);
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(id);
+            if (entry != null) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+        }
+        misses.increment();
+        return load(loader, clock.get());
+    }
+
+    public Optional<V> getByNaturalKey(String naturalKey, Supplier<Optional<V>> loader) {
+        Long id = idsByNaturalKey.get(naturalKey);
+        if (id != null) {
+            Segment<V> segment = segmentFor(id);
+            synchronized (segment) {
+                Entry<V> entry = segment.entries.get(id);
+                if (entry != null && naturalKey.equals(entry.naturalKey())) {
+                    hits.increment();
+                    return Optional.of(entry.value());
+                }
+            }
+        }
+        misses.increment();
+        return load(loader, clock.get());
+    }
+
+    // Call once the write has committed; together with the stamp check no
+    // reader can see the old row afterwards
+    public void invalidate(Long id) {
+        invalidations.increment();
+        stamp(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        invalidations.add(ids.size());
+        ids.forEach(this::stamp);
+    }
+
+    public CacheStatsResponse stats() {
+        int entries = 0;
+        long weight = 0;
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                entries += segment.entries.size();
+                weight += segment.weight;
+            }
+        }
+        return new CacheStatsResponse(name, entries, weight, maxWeight, hits.sum(), misses.sum(),
+                evictions.sum(), invalidations.sum());
+    }
+
+    private Segment<V> segmentFor(Long id) {
+        return segmentShift == 64 ? segments[0] : segments[(int) ((id * 0x9E3779B97F4A7C15L) >>> segmentShift)];
+    }
+
+    private void stamp(Long id) {
+        Segment<V> segment = segmentFor(id);
+        synchronized (segment) {
+            if (segment.invalidatedAt.size() >= MAX_STAMPS) {
+                segment.floor = clock.get();
+                segment.invalidatedAt.clear();
+            }
+            segment.invalidatedAt.put(id, clock.incrementAndGet());
+            remove(segment, id);
+        }
+    }
+
+    private Optional<V> load(Supplier<Optional<V>> loader, long loadStamp) {
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> put(value, loadStamp));
+        return loaded;
+    }
+
+    private void put(V value, long loadStamp) {
+        long entryWeight = weigher.applyAsLong(value);
+        if (entryWeight > segmentWeight) {
+            return;
+        }
+        Long id = idOf.apply(value);
+        String naturalKey = naturalKeyOf == null ? null : naturalKeyOf.apply(value);
+        Segment<V> segment = segmentFor(id);
+        synchronized (segment) {
+            Long invalidated = segment.invalidatedAt.get(id);
+            if (loadStamp < segment.floor || (invalidated != null && loadStamp < invalidated)) {
+                return;
+            }
+            remove(segment, id);
+            segment.entries.put(id, new Entry<>(value, naturalKey, entryWeight));
+            if (naturalKey != null) {
+                idsByNaturalKey.put(naturalKey, id);
+            }
+            segment.weight += entryWeight;
+
+            Iterator<Map.Entry<Long, Entry<V>>> eldest = segment.entries.entrySet().iterator();
+            while (segment.weight > segmentWeight && eldest.hasNext()) {
+                Map.Entry<Long, Entry<V>> evicted = eldest.next();
+                eldest.remove();
+                forget(segment, evicted.getKey(), evicted.getValue());
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(Segment<V> segment, Long id) {
+        Entry<V> entry = segment.entries.remove(id);
+        if (entry != null) {
+            forget(segment, id, entry);
+        }
+    }
+
+    private void forget(Segment<V> segment, Long id, Entry<V> entry) {
+        segment.weight -= entry.weight();
+        if (entry.naturalKey() != null) {
+            idsByNaturalKey.remove(entry.naturalKey(), id);
+        }
+    }
+}
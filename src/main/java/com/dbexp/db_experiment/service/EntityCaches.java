@@ -0,0 +1,72 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.dto.cache.CacheStatsResponse;
+import com.dbexp.db_experiment.entity.Community;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.entity.User;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+
+// Read-through caches for single-entity lookups. The write paths that change a
+// row (service edits and deletes, counter and score flushes, reconciliation,
+// background deletion) invalidate it after commit; nothing expires on a timer.
+// Lookups that fill a cache run outside read-only transactions: a lagging
+// replica could otherwise hand back the row an invalidation just removed.
+@Component
+public class EntityCaches {
+
+    // Object headers, boxed ids and timestamps of one cached row
+    private static final long ENTRY_OVERHEAD = 160;
+
+    // Lock segments per cache; each gets an equal share of the byte budget
+    private static final int SEGMENTS = 16;
+
+    private final EntityCache<Community> communities;
+    private final EntityCache<User> users;
+    private final EntityCache<Post> posts;
+
+    public EntityCaches(@Value("${app.cache.communities.max-bytes:4194304}") long communityBytes,
+            @Value("${app.cache.users.max-bytes:4194304}") long userBytes,
+            @Value("${app.cache.posts.max-bytes:16777216}") long postBytes) {
+        this.communities = new EntityCache<>("communities", communityBytes, SEGMENTS,
+                Community::getCommunityId, Community::getName, community -> weigh(community.getName(), community.getDescription()));
+        this.users = new EntityCache<>("users", userBytes, SEGMENTS, User::getUserId, User::getUsername,
+                user -> weigh(user.getUsername(), user.getEmail(), user.getPasswordHash()));
+        this.posts = new EntityCache<>("posts", postBytes, SEGMENTS, Post::getPostId, null,
+                post -> weigh(post.getPostTitle(), post.getPostContent()));
+    }
+
+    public EntityCache<Community> communities() {
+        return communities;
+    }
+
+    public EntityCache<User> users() {
+        return users;
+    }
+
+    public EntityCache<Post> posts() {
+        return posts;
+    }
+
+    // The cache holding the rows whose counters a scope maintains
+    public EntityCache<?> counted(Scope scope) {
+        return scope == Scope.POST ? posts : communities;
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return List.of(communities.stats(), users.stats(), posts.stats());
+    }
+
+    // Two bytes per char is the worst case for a Java string
+    private static long weigh(String... fields) {
+        long weight = ENTRY_OVERHEAD;
+        for (String field : fields) {
+            weight += field == null ? 0 : 2L * field.length();
+        }
+        return weight;
+    }
+}
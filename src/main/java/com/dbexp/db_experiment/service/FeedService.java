@@ -0,0 +1,23 @@
+package com.dbexp.db_experiment.service;
+
+import jakarta.servlet.http.HttpSession;
+
+import com.dbexp.db_experiment.dto.feed.FeedResponse;
+import com.dbexp.db_experiment.dto.feed.HomeFeedResponse;
+import com.dbexp.db_experiment.entity.Post;
+
+public interface FeedService {
+    FeedResponse getFeed(Long communityId, String sort, Integer offset, Integer limit);
+
+    HomeFeedResponse getHomeFeed(HttpSession session, String cursor, Integer limit);
+
+    void onPostCreated(Post post);
+
+    void onPostEdited(Long postId, String postTitle, String postContent);
+
+    void onPostDeleted(Long postId);
+
+    void onCommentCountChanged(Long postId, int delta);
+
+    void onPostScoreChanged(Long postId, long delta);
+}
@@ -0,0 +1,432 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.dto.feed.FeedItemResponse;
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.feed.FeedResponse;
+import com.dbexp.db_experiment.dto.feed.HomeFeedResponse;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.FeedQueryRepository;
+import com.dbexp.db_experiment.repository.SubscriptionRepository;
+import com.dbexp.db_experiment.service.TopK.Entry;
+
+// Hot/top/new feeds kept as bounded in-memory rankings, one per (community, sort)
+// plus a global one per sort. Writes re-rank a single post after commit; reads
+// never touch MySQL unless the requested feed is empty.
+@Service
+public class FeedServiceImpl implements FeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedServiceImpl.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXCERPT_LENGTH = 200;
+
+    // Reference point for the hot rank; only differences between posts matter
+    private static final long HOT_EPOCH_SECONDS = 1_700_000_000L;
+    // A post needs 10x the votes to outrank one posted this many seconds later
+    private static final double HOT_DECAY_SECONDS = 45_000d;
+
+    // communityId == null is the global front page
+    private record FeedKey(Long communityId, FeedSort sort) {
+    }
+
+    private final FeedQueryRepository feedQueryRepository;
+    private final CommunityRepository communityRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final AuthService authService;
+    private final int capacity;
+    // Decides ranking time and window cutoffs; replaced in tests
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, PostStats> posts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<FeedKey, TopK> feeds = new ConcurrentHashMap<>();
+    // Until a rebuild succeeds the per-community feeds are incomplete
+    private volatile boolean rebuilt;
+
+    @Autowired
+    public FeedServiceImpl(FeedQueryRepository feedQueryRepository, CommunityRepository communityRepository,
+            SubscriptionRepository subscriptionRepository, AuthService authService,
+            @Value("${app.feed.capacity:500}") int capacity) {
+        this(feedQueryRepository, communityRepository, subscriptionRepository, authService, capacity,
+                Clock.systemDefaultZone());
+    }
+
+    public FeedServiceImpl(FeedQueryRepository feedQueryRepository, CommunityRepository communityRepository,
+            SubscriptionRepository subscriptionRepository, AuthService authService, int capacity, Clock clock) {
+        this.feedQueryRepository = feedQueryRepository;
+        this.communityRepository = communityRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.authService = authService;
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime since = LocalDateTime.now(clock).minus(FeedSort.TOP_WEEK.window());
+        rebuilt = false;
+        posts.clear();
+        feeds.clear();
+        try {
+            feedQueryRepository.streamCandidates(capacity, since, item -> {
+                PostStats stats = new PostStats(item);
+                posts.put(stats.postId, stats);
+                synchronized (stats) {
+                    reindex(stats, LocalDateTime.now(clock));
+                }
+            });
+            rebuilt = true;
+            logger.info("Rebuilt ranking feeds from {} posts in {} ms", posts.size(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Feeds fill up again from live writes; a restart restores full history
+            logger.warn("Could not rebuild ranking feeds: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public FeedResponse getFeed(Long communityId, String sort, Integer offset, Integer limit) {
+        if (communityId != null && communityId <= 0) {
+            throw new IllegalArgumentException("Community ID must be positive");
+        }
+        FeedSort feedSort = FeedSort.fromParam(sort);
+        int start = offset == null ? 0 : offset;
+        if (start < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        int size = resolveLimit(limit);
+
+        TopK feed = feeds.get(new FeedKey(communityId, feedSort));
+        if (feed == null || feed.size() == 0) {
+            // Only an empty feed pays for the existence check
+            if (communityId != null && !communityRepository.existsById(communityId)) {
+                throw new ResourceNotFoundException("Community not found");
+            }
+            return new FeedResponse(feedSort.param(), communityId, List.of(), null, false);
+        }
+
+        List<Long> ids = feed.page(start, size);
+        boolean hasMore = ids.size() > size;
+        List<FeedItemResponse> items = new ArrayList<>(Math.min(ids.size(), size));
+        for (Long postId : ids.subList(0, Math.min(ids.size(), size))) {
+            PostStats stats = posts.get(postId);
+            if (stats != null) {
+                items.add(stats.toResponse());
+            }
+        }
+        Integer nextOffset = hasMore ? start + size : null;
+        return new FeedResponse(feedSort.param(), communityId, items, nextOffset, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HomeFeedResponse getHomeFeed(HttpSession session, String cursor, Integer limit) {
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+        int size = resolveLimit(limit);
+
+        List<Long> communityIds = subscriptionRepository.findCommunityIdsByUserId(currentUser.userId());
+        if (communityIds.isEmpty()) {
+            return new HomeFeedResponse(List.of(), null, false);
+        }
+
+        // Fetch one extra item to detect whether another page exists
+        List<FeedItemResponse> items = rebuilt ? mergeNewest(communityIds, after, size + 1) : null;
+        if (items == null) {
+            items = feedQueryRepository.findSubscribedPage(currentUser.userId(),
+                    after != null ? after.createdAt() : null, after != null ? after.postId() : null, size + 1);
+        }
+
+        boolean hasMore = items.size() > size;
+        List<FeedItemResponse> page = hasMore ? items.subList(0, size) : items;
+        String nextCursor = null;
+        if (hasMore) {
+            FeedItemResponse last = page.get(page.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getPostId()).encode();
+        }
+        return new HomeFeedResponse(page, nextCursor, hasMore);
+    }
+
+    private static final class MergeSource {
+        final Iterator<Entry> entries;
+        final boolean truncated;
+        Entry head;
+
+        MergeSource(Iterator<Entry> entries, boolean truncated, Entry head) {
+            this.entries = entries;
+            this.truncated = truncated;
+            this.head = head;
+        }
+    }
+
+    // k-way merge of the per-community "new" rankings: O(k log k) to seed the
+    // heap and O(log k) per item taken. Returns null when a community's ranking
+    // runs out before the page is full while older posts may exist in MySQL.
+    private List<FeedItemResponse> mergeNewest(List<Long> communityIds, PostCursor after, int count) {
+        Entry position = after == null ? null
+                : new Entry(after.createdAt().toEpochSecond(ZoneOffset.UTC), after.postId());
+        PriorityQueue<MergeSource> heap = new PriorityQueue<>(communityIds.size(),
+                (a, b) -> TopK.ORDER.compare(a.head, b.head));
+        for (Long communityId : communityIds) {
+            TopK feed = feeds.get(new FeedKey(communityId, FeedSort.NEW));
+            if (feed == null) {
+                continue;
+            }
+            Iterator<Entry> entries = feed.after(position);
+            if (entries.hasNext()) {
+                heap.add(new MergeSource(entries, feed.isTruncated(), entries.next()));
+            } else if (feed.isTruncated()) {
+                return null;
+            }
+        }
+
+        List<FeedItemResponse> items = new ArrayList<>(count);
+        while (items.size() < count && !heap.isEmpty()) {
+            MergeSource source = heap.poll();
+            PostStats stats = posts.get(source.head.postId());
+            if (stats != null && !stats.deleted) {
+                items.add(stats.toResponse());
+            }
+            if (source.entries.hasNext()) {
+                source.head = source.entries.next();
+                heap.add(source);
+            } else if (source.truncated && items.size() < count) {
+                return null;
+            }
+        }
+        return items;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    @Override
+    public void onPostCreated(Post post) {
+        FeedItemResponse item = new FeedItemResponse(post.getPostId(), post.getUserId(), post.getCommunityId(),
+                post.getPostTitle(), excerpt(post.getPostContent()), isTruncated(post.getPostContent()),
+                post.getScore(), 0, post.getCreatedAt());
+        AfterCommit.run(() -> {
+            PostStats stats = new PostStats(item);
+            posts.put(stats.postId, stats);
+            synchronized (stats) {
+                reindex(stats, LocalDateTime.now(clock));
+            }
+        });
+    }
+
+    @Override
+    public void onPostEdited(Long postId, String postTitle, String postContent) {
+        AfterCommit.run(() -> update(postId, stats -> {
+            stats.postTitle = postTitle;
+            stats.excerpt = excerpt(postContent);
+            stats.truncated = isTruncated(postContent);
+            return false;
+        }));
+    }
+
+    @Override
+    public void onPostDeleted(Long postId) {
+        AfterCommit.run(() -> {
+            PostStats stats = posts.remove(postId);
+            if (stats == null) {
+                return;
+            }
+            synchronized (stats) {
+                stats.deleted = true;
+                for (FeedSort sort : FeedSort.values()) {
+                    remove(new FeedKey(stats.communityId, sort), postId);
+                    remove(new FeedKey(null, sort), postId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onCommentCountChanged(Long postId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> update(postId, stats -> {
+            stats.commentCount = Math.max(0, stats.commentCount + delta);
+            return true;
+        }));
+    }
+
+    @Override
+    public void onPostScoreChanged(Long postId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> update(postId, stats -> {
+            stats.score += delta;
+            return true;
+        }));
+    }
+
+    // Drops posts that aged out of the top-day/top-week windows and forgets
+    // posts no feed can show any more. Hot rank is time-monotone (newer posts
+    // gain a fixed boost), so existing hot entries never need re-scoring.
+    @Scheduled(fixedDelayString = "${app.feed.age-tick-ms:60000}")
+    public void ageTick() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        feeds.forEach((key, feed) -> {
+            if (key.sort().window() == null) {
+                return;
+            }
+            LocalDateTime cutoff = now.minus(key.sort().window());
+            feed.removeIf(postId -> {
+                PostStats stats = posts.get(postId);
+                return stats == null || stats.createdAt.isBefore(cutoff);
+            });
+        });
+        posts.values().removeIf(stats -> !isReferenced(stats));
+    }
+
+    private boolean isReferenced(PostStats stats) {
+        for (FeedSort sort : FeedSort.values()) {
+            if (contains(new FeedKey(stats.communityId, sort), stats.postId)
+                    || contains(new FeedKey(null, sort), stats.postId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface StatsUpdate {
+        // Returns whether the change affects ranking
+        boolean apply(PostStats stats);
+    }
+
+    private void update(Long postId, StatsUpdate change) {
+        PostStats stats = posts.get(postId);
+        if (stats == null) {
+            // Not tracked: too old and too low-ranked for any feed
+            return;
+        }
+        synchronized (stats) {
+            // A delete may have won the race after the lookup
+            if (!stats.deleted && change.apply(stats)) {
+                reindex(stats, LocalDateTime.now(clock));
+            }
+        }
+    }
+
+    // Caller holds the stats monitor so concurrent updates to one post apply in order
+    private void reindex(PostStats stats, LocalDateTime now) {
+        for (FeedSort sort : FeedSort.values()) {
+            boolean eligible = sort.window() == null || !stats.createdAt.isBefore(now.minus(sort.window()));
+            double rank = rank(sort, stats);
+            for (Long scope : new Long[] { stats.communityId, null }) {
+                FeedKey key = new FeedKey(scope, sort);
+                if (eligible) {
+                    feeds.computeIfAbsent(key, k -> new TopK(capacity)).offer(stats.postId, rank);
+                } else {
+                    remove(key, stats.postId);
+                }
+            }
+        }
+    }
+
+    private void remove(FeedKey key, long postId) {
+        TopK feed = feeds.get(key);
+        if (feed != null) {
+            feed.remove(postId);
+        }
+    }
+
+    private boolean contains(FeedKey key, long postId) {
+        TopK feed = feeds.get(key);
+        return feed != null && feed.contains(postId);
+    }
+
+    static double rank(FeedSort sort, PostStats stats) {
+        return switch (sort) {
+            case HOT -> hotRank(stats.score + stats.commentCount, stats.createdAt);
+            case TOP_DAY, TOP_WEEK -> stats.score;
+            case NEW -> stats.createdAt.toEpochSecond(ZoneOffset.UTC);
+        };
+    }
+
+    // log10 of the engagement plus a linear age term, as in Reddit's hot sort
+    static double hotRank(long engagement, LocalDateTime createdAt) {
+        double order = Math.log10(Math.max(Math.abs(engagement), 1));
+        long seconds = createdAt.toEpochSecond(ZoneOffset.UTC) - HOT_EPOCH_SECONDS;
+        return Long.signum(engagement) * order + seconds / HOT_DECAY_SECONDS;
+    }
+
+    private static String excerpt(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > EXCERPT_LENGTH ? content.substring(0, EXCERPT_LENGTH) : content;
+    }
+
+    private static boolean isTruncated(String content) {
+        return content != null && content.length() > EXCERPT_LENGTH;
+    }
+
+    // Mutable snapshot of the columns the feeds rank and render; guarded by its own monitor
+    static final class PostStats {
+        final long postId;
+        final Long userId;
+        final Long communityId;
+        final LocalDateTime createdAt;
+        String postTitle;
+        String excerpt;
+        boolean truncated;
+        long score;
+        long commentCount;
+        boolean deleted;
+
+        PostStats(FeedItemResponse item) {
+            this.postId = item.getPostId();
+            this.userId = item.getUserId();
+            this.communityId = item.getCommunityId();
+            this.createdAt = item.getCreatedAt();
+            this.postTitle = item.getPostTitle();
+            this.excerpt = item.getExcerpt();
+            this.truncated = item.isTruncated();
+            this.score = item.getScore();
+            this.commentCount = item.getCommentCount();
+        }
+
+        synchronized FeedItemResponse toResponse() {
+            return new FeedItemResponse(postId, userId, communityId, postTitle, excerpt, truncated, score,
+                    commentCount, createdAt);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.Duration;
+
+public enum FeedSort {
+    HOT("hot", null),
+    TOP_DAY("top-day", Duration.ofDays(1)),
+    TOP_WEEK("top-week", Duration.ofDays(7)),
+    NEW("new", null);
+
+    private final String param;
+    private final Duration window;
+
+    FeedSort(String param, Duration window) {
+        this.param = param;
+        this.window = window;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    // Age limit for posts in this feed, or null when the feed is unbounded in time
+    public Duration window() {
+        return window;
+    }
+
+    public static FeedSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return HOT;
+        }
+        for (FeedSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unknown sort: " + value + " (expected hot, top-day, top-week or new)");
+    }
+}
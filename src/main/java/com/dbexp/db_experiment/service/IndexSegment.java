@@ -0,0 +1,37 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.BitSet;
+import java.util.Iterator;
+
+// One generation of an InvertedIndex. Ordinals are dense per segment and follow
+// insertion order; each term's postings are sorted by ordinal. Everything but
+// the deletion bits is immutable once the segment is sealed.
+interface IndexSegment {
+
+    interface PostingVisitor {
+        void visit(int ord, int termFrequency);
+    }
+
+    int docCount();
+
+    long docId(int ord);
+
+    int docLength(int ord);
+
+    long communityId(int ord);
+
+    int docFreq(String term);
+
+    void visitPostings(String term, PostingVisitor visitor);
+
+    // Terms in ascending order, for merging
+    Iterator<String> terms();
+
+    boolean isLive(int ord);
+
+    void delete(int ord);
+
+    int deletedCount();
+
+    BitSet deletedSnapshot();
+}
@@ -0,0 +1,564 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Segmented inverted index with BM25 ranking. New documents go to an in-memory
+// segment; flush() seals it into a memory-mapped file and maybeMerge() folds
+// small or delete-heavy segments together. Updates are delete + re-add.
+// Searches share a read lock; writers and segment swaps take the write lock,
+// while the slow parts of flush and merge (file I/O) run outside it.
+public final class InvertedIndex {
+
+    public record Hit(long docId, long communityId, double score) {
+    }
+
+    public record Page(List<Hit> hits, int totalHits) {
+    }
+
+    private record Location(IndexSegment segment, int ord) {
+    }
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MERGE_FACTOR = 4;
+    private static final double MAX_DELETED_RATIO = 0.3;
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score)
+            .thenComparingLong(Hit::docId);
+
+    private final String name;
+    private final Path directory;
+    private final int maxSegments;
+    private final AtomicLong segmentCounter = new AtomicLong();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Serializes flush, merge and rebuild with each other
+    private final Object maintenance = new Object();
+
+    // Guarded by lock
+    private final Map<Long, Location> locations = new HashMap<>();
+    private List<IndexSegment> sealed = List.of();
+    private MemoryIndexSegment memory = new MemoryIndexSegment();
+    private long liveDocs;
+    private long liveLength;
+    private Set<Long> touchedDuringRebuild;
+
+    public InvertedIndex(String name, Path directory, int maxSegments) {
+        this.name = name;
+        this.directory = directory;
+        this.maxSegments = maxSegments;
+    }
+
+    public void add(long docId, long communityId, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(docId);
+            }
+            addLocked(docId, communityId, tokens);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(docId);
+            }
+            removeLocked(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(long docId, long communityId, List<String> tokens) {
+        removeLocked(docId);
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        int ord = memory.add(docId, communityId, termFrequencies, tokens.size());
+        locations.put(docId, new Location(memory, ord));
+        liveDocs++;
+        liveLength += tokens.size();
+    }
+
+    private void removeLocked(long docId) {
+        Location location = locations.remove(docId);
+        if (location != null) {
+            location.segment().delete(location.ord());
+            liveDocs--;
+            liveLength -= location.segment().docLength(location.ord());
+        }
+    }
+
+    // -1 when the document is not indexed
+    public long communityOf(long docId) {
+        lock.readLock().lock();
+        try {
+            Location location = locations.get(docId);
+            return location == null ? -1 : location.segment().communityId(location.ord());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int liveDocCount() {
+        lock.readLock().lock();
+        try {
+            return (int) liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return sealed.size() + (memory.docCount() > 0 ? 1 : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page search(List<String> terms, Long communityId, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0 || terms.isEmpty()) {
+                return new Page(List.of(), 0);
+            }
+            List<IndexSegment> segments = new ArrayList<>(sealed);
+            segments.add(memory);
+            long docCount = 0;
+            for (IndexSegment segment : segments) {
+                docCount += segment.docCount();
+            }
+            double averageLength = Math.max(1.0, (double) liveLength / liveDocs);
+
+            Map<Long, double[]> scores = new HashMap<>();
+            Map<Long, Long> communities = new HashMap<>();
+            for (String term : new LinkedHashSet<>(terms)) {
+                int docFreq = 0;
+                for (IndexSegment segment : segments) {
+                    docFreq += segment.docFreq(term);
+                }
+                if (docFreq == 0) {
+                    continue;
+                }
+                // Deleted documents still count towards N and df until merged away
+                double idf = Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+                for (IndexSegment segment : segments) {
+                    segment.visitPostings(term, (ord, frequency) -> {
+                        if (!segment.isLive(ord)) {
+                            return;
+                        }
+                        long docCommunity = segment.communityId(ord);
+                        if (communityId != null && docCommunity != communityId) {
+                            return;
+                        }
+                        double norm = K1 * (1 - B + B * segment.docLength(ord) / averageLength);
+                        long docId = segment.docId(ord);
+                        scores.computeIfAbsent(docId, id -> new double[1])[0] += idf * frequency * (K1 + 1)
+                                / (frequency + norm);
+                        communities.putIfAbsent(docId, docCommunity);
+                    });
+                }
+            }
+
+            // Min-heap of the best offset + limit hits
+            int wanted = offset + limit;
+            PriorityQueue<Hit> best = new PriorityQueue<>(Math.max(1, Math.min(wanted, scores.size())), RANKING);
+            scores.forEach((docId, score) -> {
+                Hit hit = new Hit(docId, communities.get(docId), score[0]);
+                if (best.size() < wanted) {
+                    best.add(hit);
+                } else if (RANKING.compare(hit, best.peek()) > 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            });
+            List<Hit> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING.reversed());
+            List<Hit> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+            return new Page(List.copyOf(page), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Drops all content and segment files; live add/remove calls made before
+    // endRebuild() win over addFromRebuild() for the same document
+    public void beginRebuild() {
+        synchronized (maintenance) {
+            List<IndexSegment> dropped;
+            lock.writeLock().lock();
+            try {
+                dropped = sealed;
+                sealed = List.of();
+                memory = new MemoryIndexSegment();
+                locations.clear();
+                liveDocs = 0;
+                liveLength = 0;
+                touchedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            deleteFiles(dropped);
+            deleteStaleFiles();
+        }
+    }
+
+    public void addFromRebuild(long docId, long communityId, List<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            if (touchedDuringRebuild == null || !touchedDuringRebuild.contains(docId)) {
+                addLocked(docId, communityId, tokens);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void flushIfLarger(int docThreshold) {
+        lock.readLock().lock();
+        try {
+            if (memory.docCount() < docThreshold) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        flush();
+    }
+
+    // Seals the in-memory segment and replaces it with a mapped file. The sealed
+    // segment stays searchable while it is being written.
+    public void flush() {
+        synchronized (maintenance) {
+            MemoryIndexSegment frozen;
+            lock.writeLock().lock();
+            try {
+                if (memory.docCount() == 0) {
+                    return;
+                }
+                frozen = memory;
+                memory = new MemoryIndexSegment();
+                sealed = append(sealed, frozen);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Path path = nextPath();
+            MappedIndexSegment mapped;
+            try {
+                writeSegment(path, frozen);
+                mapped = MappedIndexSegment.open(path);
+            } catch (IOException e) {
+                // The frozen segment keeps serving searches from the heap
+                deleteQuietly(path);
+                throw new UncheckedIOException("Failed to flush " + name + " index segment", e);
+            }
+
+            lock.writeLock().lock();
+            try {
+                // Ordinals are preserved, so only the segment reference changes
+                for (int ord = 0; ord < frozen.docCount(); ord++) {
+                    if (!frozen.isLive(ord)) {
+                        mapped.delete(ord);
+                        continue;
+                    }
+                    locations.put(frozen.docId(ord), new Location(mapped, ord));
+                }
+                sealed = replace(sealed, List.of(frozen), mapped);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void writeSegment(Path path, MemoryIndexSegment segment) throws IOException {
+        int count = segment.docCount();
+        long[] ids = new long[count];
+        int[] lengths = new int[count];
+        long[] communityIds = new long[count];
+        for (int ord = 0; ord < count; ord++) {
+            ids[ord] = segment.docId(ord);
+            lengths[ord] = segment.docLength(ord);
+            communityIds[ord] = segment.communityId(ord);
+        }
+        try (MappedIndexSegment.Writer writer = new MappedIndexSegment.Writer(path)) {
+            writer.writeDocs(ids, lengths, communityIds, count);
+            Iterator<String> terms = segment.terms();
+            IOException[] failure = new IOException[1];
+            while (terms.hasNext()) {
+                String term = terms.next();
+                writer.startTerm(term);
+                segment.visitPostings(term, (ord, frequency) -> {
+                    try {
+                        writer.addPosting(ord, frequency);
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) {
+                    throw failure[0];
+                }
+                writer.finishTerm();
+            }
+        }
+    }
+
+    // Merges the smallest segments once there are more than maxSegments, or
+    // rewrites a segment whose deleted share has grown past the threshold
+    public void maybeMerge() {
+        synchronized (maintenance) {
+            List<MappedIndexSegment> sources = new ArrayList<>();
+            List<BitSet> deletedSnapshots = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                List<MappedIndexSegment> mapped = new ArrayList<>();
+                for (IndexSegment segment : sealed) {
+                    if (segment instanceof MappedIndexSegment m) {
+                        mapped.add(m);
+                    }
+                }
+                mapped.sort(Comparator.comparingLong(MappedIndexSegment::sizeInBytes));
+                if (mapped.size() > maxSegments) {
+                    long bytes = 0;
+                    for (MappedIndexSegment segment : mapped) {
+                        if (sources.size() == MERGE_FACTOR || bytes + segment.sizeInBytes() > MAX_SEGMENT_BYTES) {
+                            break;
+                        }
+                        sources.add(segment);
+                        bytes += segment.sizeInBytes();
+                    }
+                    if (sources.size() < 2) {
+                        sources.clear();
+                    }
+                }
+                if (sources.isEmpty()) {
+                    for (MappedIndexSegment segment : mapped) {
+                        if (segment.deletedCount() > segment.docCount() * MAX_DELETED_RATIO) {
+                            sources.add(segment);
+                            break;
+                        }
+                    }
+                }
+                for (MappedIndexSegment source : sources) {
+                    deletedSnapshots.add(source.deletedSnapshot());
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (sources.isEmpty()) {
+                return;
+            }
+            merge(sources, deletedSnapshots);
+        }
+    }
+
+    private void merge(List<MappedIndexSegment> sources, List<BitSet> deletedSnapshots) {
+        // Old ordinal -> merged ordinal per source, -1 for documents dropped
+        List<int[]> ordMaps = new ArrayList<>();
+        int mergedCount = 0;
+        for (int s = 0; s < sources.size(); s++) {
+            MappedIndexSegment source = sources.get(s);
+            int[] ordMap = new int[source.docCount()];
+            for (int ord = 0; ord < ordMap.length; ord++) {
+                ordMap[ord] = deletedSnapshots.get(s).get(ord) ? -1 : mergedCount++;
+            }
+            ordMaps.add(ordMap);
+        }
+
+        Path path = nextPath();
+        MappedIndexSegment merged;
+        try {
+            long[] ids = new long[mergedCount];
+            int[] lengths = new int[mergedCount];
+            long[] communityIds = new long[mergedCount];
+            for (int s = 0; s < sources.size(); s++) {
+                MappedIndexSegment source = sources.get(s);
+                int[] ordMap = ordMaps.get(s);
+                for (int ord = 0; ord < ordMap.length; ord++) {
+                    if (ordMap[ord] >= 0) {
+                        ids[ordMap[ord]] = source.docId(ord);
+                        lengths[ordMap[ord]] = source.docLength(ord);
+                        communityIds[ordMap[ord]] = source.communityId(ord);
+                    }
+                }
+            }
+            try (MappedIndexSegment.Writer writer = new MappedIndexSegment.Writer(path)) {
+                writer.writeDocs(ids, lengths, communityIds, mergedCount);
+                writeMergedPostings(writer, sources, ordMaps);
+            }
+            merged = MappedIndexSegment.open(path);
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new UncheckedIOException("Failed to merge " + name + " index segments", e);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int s = 0; s < sources.size(); s++) {
+                MappedIndexSegment source = sources.get(s);
+                int[] ordMap = ordMaps.get(s);
+                for (int ord = 0; ord < ordMap.length; ord++) {
+                    int mergedOrd = ordMap[ord];
+                    if (mergedOrd < 0) {
+                        continue;
+                    }
+                    // Deleted or re-added while the merge was writing
+                    if (!source.isLive(ord)) {
+                        merged.delete(mergedOrd);
+                        continue;
+                    }
+                    locations.put(source.docId(ord), new Location(merged, mergedOrd));
+                }
+            }
+            sealed = replace(sealed, sources, merged);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        deleteFiles(sources);
+    }
+
+    private static void writeMergedPostings(MappedIndexSegment.Writer writer, List<MappedIndexSegment> sources,
+            List<int[]> ordMaps) throws IOException {
+        // k-way merge of the sorted term dictionaries
+        PriorityQueue<Map.Entry<String, Integer>> heads = new PriorityQueue<>(Map.Entry.comparingByKey());
+        List<Iterator<String>> iterators = new ArrayList<>();
+        for (int s = 0; s < sources.size(); s++) {
+            Iterator<String> terms = sources.get(s).terms();
+            iterators.add(terms);
+            if (terms.hasNext()) {
+                heads.add(Map.entry(terms.next(), s));
+            }
+        }
+        while (!heads.isEmpty()) {
+            String term = heads.peek().getKey();
+            List<Integer> sourcesWithTerm = new ArrayList<>();
+            while (!heads.isEmpty() && heads.peek().getKey().equals(term)) {
+                int s = heads.poll().getValue();
+                sourcesWithTerm.add(s);
+                if (iterators.get(s).hasNext()) {
+                    heads.add(Map.entry(iterators.get(s).next(), s));
+                }
+            }
+            // Sources are concatenated in order, so postings stay sorted by merged ordinal
+            sourcesWithTerm.sort(null);
+            List<int[]> postings = new ArrayList<>();
+            for (int s : sourcesWithTerm) {
+                int[] ordMap = ordMaps.get(s);
+                sources.get(s).visitPostings(term, (ord, frequency) -> {
+                    if (ordMap[ord] >= 0) {
+                        postings.add(new int[] { ordMap[ord], frequency });
+                    }
+                });
+            }
+            if (postings.isEmpty()) {
+                continue;
+            }
+            writer.startTerm(term);
+            for (int[] posting : postings) {
+                writer.addPosting(posting[0], posting[1]);
+            }
+            writer.finishTerm();
+        }
+    }
+
+    public void close() {
+        synchronized (maintenance) {
+            List<IndexSegment> dropped;
+            lock.writeLock().lock();
+            try {
+                dropped = sealed;
+                sealed = List.of();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            deleteFiles(dropped);
+        }
+    }
+
+    private Path nextPath() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create index directory " + directory, e);
+        }
+        return directory.resolve(name + "-" + System.nanoTime() + "-" + segmentCounter.incrementAndGet() + ".seg");
+    }
+
+    // Segment files are rebuilt from MySQL on startup, so leftovers are garbage
+    private void deleteStaleFiles() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, name + "-*.seg")) {
+            for (Path path : stale) {
+                deleteQuietly(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list index directory " + directory, e);
+        }
+    }
+
+    private static void deleteFiles(List<? extends IndexSegment> segments) {
+        for (IndexSegment segment : segments) {
+            if (segment instanceof MappedIndexSegment mapped) {
+                // Unlinking is safe on open mappings; the pages go away with the buffer
+                deleteQuietly(mapped.path());
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Removed again by the next rebuild
+        }
+    }
+
+    private static List<IndexSegment> append(List<IndexSegment> segments, IndexSegment segment) {
+        List<IndexSegment> copy = new ArrayList<>(segments);
+        copy.add(segment);
+        return List.copyOf(copy);
+    }
+
+    private static List<IndexSegment> replace(List<IndexSegment> segments, List<? extends IndexSegment> removed,
+            IndexSegment replacement) {
+        List<IndexSegment> copy = new ArrayList<>(segments);
+        copy.removeAll(removed);
+        copy.add(replacement);
+        return List.copyOf(copy);
+    }
+}
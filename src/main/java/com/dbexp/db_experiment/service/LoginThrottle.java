@@ -0,0 +1,54 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.exception.TooManyRequestsException;
+
+// Rate limit for login attempts, checked before the user is looked up or a
+// password hashed. The client address bucket stops one source from spraying
+// many accounts; the username bucket stops many sources from guessing one
+// account. Usernames are lower-cased because lookups ignore case.
+@Component
+public class LoginThrottle {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private final TokenBucketTable addresses;
+    private final TokenBucketTable usernames;
+
+    public LoginThrottle(@Value("${app.login-throttle.address.capacity:30}") int addressCapacity,
+            @Value("${app.login-throttle.address.refill-per-minute:30}") double addressRefillPerMinute,
+            @Value("${app.login-throttle.username.capacity:10}") int usernameCapacity,
+            @Value("${app.login-throttle.username.refill-per-minute:5}") double usernameRefillPerMinute,
+            @Value("${app.login-throttle.stripes:64}") int stripes) {
+        this.addresses = new TokenBucketTable(addressCapacity, addressRefillPerMinute / 60, stripes, 256,
+                TICK_MILLIS, LoginThrottle::monotonicMillis);
+        this.usernames = new TokenBucketTable(usernameCapacity, usernameRefillPerMinute / 60, stripes, 256,
+                TICK_MILLIS, LoginThrottle::monotonicMillis);
+    }
+
+    public void check(String username, String clientAddress) {
+        long waitMillis = addresses.tryAcquire(clientAddress);
+        if (waitMillis == 0 && username != null) {
+            waitMillis = usernames.tryAcquire(username.toLowerCase(Locale.ROOT));
+        }
+        if (waitMillis > 0) {
+            throw new TooManyRequestsException("Too many login attempts, please try again later",
+                    (waitMillis + 999) / 1000);
+        }
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void expire() {
+        addresses.expire();
+        usernames.expire();
+    }
+
+    private static long monotonicMillis() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
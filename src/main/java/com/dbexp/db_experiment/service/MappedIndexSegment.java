@@ -0,0 +1,258 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+
+// Sealed segment stored in a memory-mapped file. Doc columns and postings stay
+// off-heap; only the term dictionary and the deletion bits live on the heap.
+//
+// Layout (big-endian):
+//   header      int magic, int version, int docCount
+//   doc columns long[docCount] ids, int[docCount] lengths, long[docCount] communityIds
+//   postings    per term: docFreq x (varint ordDelta, varint tf)
+//   dictionary  per term: int utf8Length, bytes, int docFreq, int postingsOffset
+//   footer      int termCount, int dictionaryOffset, int magic
+final class MappedIndexSegment implements IndexSegment {
+
+    private static final int MAGIC = 0x44425853;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int FOOTER_BYTES = 12;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final String[] terms;
+    private final int[] docFreqs;
+    private final int[] postingOffsets;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    private MappedIndexSegment(Path path, MappedByteBuffer buffer, int docCount, String[] terms, int[] docFreqs,
+            int[] postingOffsets) {
+        this.path = path;
+        this.buffer = buffer;
+        this.docCount = docCount;
+        this.terms = terms;
+        this.docFreqs = docFreqs;
+        this.postingOffsets = postingOffsets;
+    }
+
+    static MappedIndexSegment open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Segment too large: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int footer = buffer.capacity() - FOOTER_BYTES;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(footer + 8) != MAGIC) {
+            throw new IOException("Not a segment file: " + path);
+        }
+        int docCount = buffer.getInt(8);
+        int termCount = buffer.getInt(footer);
+        int position = buffer.getInt(footer + 4);
+
+        String[] terms = new String[termCount];
+        int[] docFreqs = new int[termCount];
+        int[] postingOffsets = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            int length = buffer.getInt(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + 4, bytes);
+            position += 4 + length;
+            terms[i] = new String(bytes, StandardCharsets.UTF_8);
+            docFreqs[i] = buffer.getInt(position);
+            postingOffsets[i] = buffer.getInt(position + 4);
+            position += 8;
+        }
+        return new MappedIndexSegment(path, buffer, docCount, terms, docFreqs, postingOffsets);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sizeInBytes() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public long docId(int ord) {
+        return buffer.getLong(HEADER_BYTES + ord * 8);
+    }
+
+    @Override
+    public int docLength(int ord) {
+        return buffer.getInt(HEADER_BYTES + docCount * 8 + ord * 4);
+    }
+
+    @Override
+    public long communityId(int ord) {
+        return buffer.getLong(HEADER_BYTES + docCount * 12 + ord * 8);
+    }
+
+    @Override
+    public int docFreq(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? 0 : docFreqs[index];
+    }
+
+    @Override
+    public void visitPostings(String term, PostingVisitor visitor) {
+        int index = Arrays.binarySearch(terms, term);
+        if (index < 0) {
+            return;
+        }
+        // Absolute reads only, so concurrent searches can share the buffer
+        int position = postingOffsets[index];
+        int ord = 0;
+        for (int i = 0; i < docFreqs[index]; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            int frequency = 0;
+            shift = 0;
+            do {
+                b = buffer.get(position++);
+                frequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            ord += delta;
+            visitor.visit(ord, frequency);
+        }
+    }
+
+    @Override
+    public Iterator<String> terms() {
+        return Arrays.asList(terms).iterator();
+    }
+
+    @Override
+    public boolean isLive(int ord) {
+        return !deleted.get(ord);
+    }
+
+    @Override
+    public void delete(int ord) {
+        if (!deleted.get(ord)) {
+            deleted.set(ord);
+            deletedCount++;
+        }
+    }
+
+    @Override
+    public int deletedCount() {
+        return deletedCount;
+    }
+
+    @Override
+    public BitSet deletedSnapshot() {
+        return (BitSet) deleted.clone();
+    }
+
+    // Streams a segment to disk. Call writeDocs once, then add terms in
+    // ascending order with postings in ascending ordinal order.
+    static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final List<byte[]> dictionaryTerms = new ArrayList<>();
+        private final List<int[]> dictionaryEntries = new ArrayList<>();
+        private int position;
+        private int termDocFreq;
+        private int termOffset;
+        private int lastOrd;
+
+        Writer(Path path) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), 64 * 1024));
+        }
+
+        void writeDocs(long[] ids, int[] lengths, long[] communityIds, int count) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(ids[i]);
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeInt(lengths[i]);
+            }
+            for (int i = 0; i < count; i++) {
+                out.writeLong(communityIds[i]);
+            }
+            position = HEADER_BYTES + count * 20;
+        }
+
+        void startTerm(String term) {
+            dictionaryTerms.add(term.getBytes(StandardCharsets.UTF_8));
+            termDocFreq = 0;
+            termOffset = position;
+            lastOrd = 0;
+        }
+
+        void addPosting(int ord, int frequency) throws IOException {
+            writeVarInt(ord - lastOrd);
+            writeVarInt(frequency);
+            lastOrd = ord;
+            termDocFreq++;
+        }
+
+        void finishTerm() {
+            dictionaryEntries.add(new int[] { termDocFreq, termOffset });
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+                position++;
+            }
+            out.writeByte(value);
+            position++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                int dictionaryOffset = position;
+                for (int i = 0; i < dictionaryTerms.size(); i++) {
+                    byte[] term = dictionaryTerms.get(i);
+                    out.writeInt(term.length);
+                    out.write(term);
+                    out.writeInt(dictionaryEntries.get(i)[0]);
+                    out.writeInt(dictionaryEntries.get(i)[1]);
+                }
+                out.writeInt(dictionaryTerms.size());
+                out.writeInt(dictionaryOffset);
+                out.writeInt(MAGIC);
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
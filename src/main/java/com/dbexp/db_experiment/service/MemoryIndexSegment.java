@@ -0,0 +1,115 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// Write buffer of an InvertedIndex: postings grow as (ord, tf) pairs in plain
+// int arrays until the segment is sealed and written out as a mapped segment.
+final class MemoryIndexSegment implements IndexSegment {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private long[] docIds = new long[64];
+    private int[] lengths = new int[64];
+    private long[] communityIds = new long[64];
+    private int docCount;
+    private final Map<String, int[]> postings = new HashMap<>();
+    // Number of ints in use per postings array, two per posting
+    private final Map<String, Integer> postingSizes = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    int add(long docId, long communityId, Map<String, Integer> termFrequencies, int length) {
+        if (docCount == docIds.length) {
+            int capacity = docCount * 2;
+            docIds = Arrays.copyOf(docIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            communityIds = Arrays.copyOf(communityIds, capacity);
+        }
+        int ord = docCount++;
+        docIds[ord] = docId;
+        lengths[ord] = length;
+        communityIds[ord] = communityId;
+
+        termFrequencies.forEach((term, frequency) -> {
+            int[] list = postings.getOrDefault(term, NO_POSTINGS);
+            int size = postingSizes.getOrDefault(term, 0);
+            if (size + 2 > list.length) {
+                list = Arrays.copyOf(list, Math.max(4, list.length * 2));
+                postings.put(term, list);
+            }
+            list[size] = ord;
+            list[size + 1] = frequency;
+            postingSizes.put(term, size + 2);
+        });
+        return ord;
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public long docId(int ord) {
+        return docIds[ord];
+    }
+
+    @Override
+    public int docLength(int ord) {
+        return lengths[ord];
+    }
+
+    @Override
+    public long communityId(int ord) {
+        return communityIds[ord];
+    }
+
+    @Override
+    public int docFreq(String term) {
+        return postingSizes.getOrDefault(term, 0) / 2;
+    }
+
+    @Override
+    public void visitPostings(String term, PostingVisitor visitor) {
+        int[] list = postings.get(term);
+        if (list == null) {
+            return;
+        }
+        int size = postingSizes.get(term);
+        for (int i = 0; i < size; i += 2) {
+            visitor.visit(list[i], list[i + 1]);
+        }
+    }
+
+    @Override
+    public Iterator<String> terms() {
+        return postings.keySet().stream().sorted().iterator();
+    }
+
+    @Override
+    public boolean isLive(int ord) {
+        return !deleted.get(ord);
+    }
+
+    @Override
+    public void delete(int ord) {
+        if (!deleted.get(ord)) {
+            deleted.set(ord);
+            deletedCount++;
+        }
+    }
+
+    @Override
+    public int deletedCount() {
+        return deletedCount;
+    }
+
+    @Override
+    public BitSet deletedSnapshot() {
+        return (BitSet) deleted.clone();
+    }
+}
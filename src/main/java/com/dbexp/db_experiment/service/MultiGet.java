@@ -0,0 +1,59 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+
+// Shared plumbing for the ?ids= endpoints: one IN (...) lookup, answered in request order
+final class MultiGet {
+
+    static final int MAX_IDS = 200;
+
+    private MultiGet() {
+    }
+
+    static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("Ids must not be null");
+            }
+            distinct.add(id);
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids are allowed per request");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    static <E, R> MultiGetResponse<R> inRequestOrder(List<Long> ids, Iterable<E> rows,
+            Function<E, Long> idOf, Function<E, R> mapper) {
+        Map<Long, E> byId = new HashMap<>(ids.size() * 2);
+        for (E row : rows) {
+            byId.put(idOf.apply(row), row);
+        }
+
+        List<R> results = new ArrayList<>(ids.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            E row = byId.get(id);
+            if (row == null) {
+                notFound.add(id);
+                results.add(null);
+            } else {
+                results.add(mapper.apply(row));
+            }
+        }
+        return new MultiGetResponse<>(results, notFound);
+    }
+}
@@ -0,0 +1,136 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.dbexp.db_experiment.config.Argon2Cost;
+import com.dbexp.db_experiment.dto.hashing.HashingStatsResponse;
+import com.dbexp.db_experiment.exception.ServiceUnavailableException;
+
+// Runs the requests that hash passwords (login, sign-up, password, email and
+// account changes). Every Argon2 call holds a core and its calibrated memory
+// cost in heap, so the pool is capped by both the core count and a memory
+// budget, and the queue in front of it is short: once full, callers are turned away
+// immediately instead of waiting behind work their clients may abandon.
+// Whole requests run here, lookups included, so the servlet thread is
+// released as soon as the task is queued.
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong rejected = new AtomicLong();
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashingExecutor(Argon2Cost argon2Cost,
+            @Value("${app.hashing.memory-budget-mb:256}") int memoryBudgetMb,
+            @Value("${app.hashing.queue-capacity:32}") int queueCapacity) {
+        int byMemory = (int) ((long) memoryBudgetMb * 1024 / argon2Cost.memoryKib());
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), byMemory));
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // The task sees the caller's request attributes, so session-based read
+    // routing keeps working; the request stays open until the future completes
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return task.get();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new ServiceUnavailableException(
+                    "Too many password requests, please retry shortly", retryAfterSeconds()));
+        }
+    }
+
+    // Wraps the encoder so every hash is timed, whichever thread runs it
+    public PasswordEncoder metered(PasswordEncoder delegate) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                long started = System.nanoTime();
+                try {
+                    return delegate.encode(rawPassword);
+                } finally {
+                    recordHash(System.nanoTime() - started);
+                }
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                long started = System.nanoTime();
+                try {
+                    return delegate.matches(rawPassword, encodedPassword);
+                } finally {
+                    recordHash(System.nanoTime() - started);
+                }
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    public HashingStatsResponse stats() {
+        long count = hashes.sum();
+        double averageMillis = count == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / count;
+        return new HashingStatsResponse(executor.getMaximumPoolSize(), executor.getActiveCount(),
+                executor.getQueue().size(), queueCapacity, executor.getCompletedTaskCount(), rejected.get(),
+                count, averageMillis, maxHashNanos.get() / 1_000_000.0);
+    }
+
+    // Roughly how long a full queue takes to drain, at one hash per task
+    long retryAfterSeconds() {
+        long count = hashes.sum();
+        long averageNanos = count == 0 ? 0 : hashNanos.sum() / count;
+        int threads = executor.getMaximumPoolSize();
+        double drainSeconds = (double) (queueCapacity + threads) * averageNanos / threads / 1_000_000_000.0;
+        return Math.max(1, (long) Math.ceil(drainSeconds));
+    }
+
+    private void recordHash(long nanos) {
+        hashes.increment();
+        hashNanos.add(nanos);
+        maxHashNanos.accumulate(nanos);
+    }
+
+    // Queued requests still finish; their clients are waiting on them
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
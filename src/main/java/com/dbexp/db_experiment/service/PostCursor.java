@@ -0,0 +1,39 @@
+package com.dbexp.db_experiment.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
+
+// Opaque keyset position (created_at, post_id) for paging posts newest first
+public record PostCursor(LocalDateTime createdAt, Long postId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PostCursor of(PostPreviewResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getPostId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long postId = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new PostCursor(createdAt, postId);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException as well
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.dbexp.db_experiment.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
 import jakarta.servlet.http.HttpSession;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsRequest;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsResponse;
 import com.dbexp.db_experiment.dto.post.CreatePostRequest;
 import com.dbexp.db_experiment.dto.post.CreatePostResponse;
 import com.dbexp.db_experiment.dto.post.DeletePostResponse;
@@ -10,13 +15,22 @@ import com.dbexp.db_experiment.dto.post.EditPostRequest;
 import com.dbexp.db_experiment.dto.post.EditPostResponse;
 import com.dbexp.db_experiment.dto.post.GetPostByIdRequest;
 import com.dbexp.db_experiment.dto.post.GetPostByIdResponse;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdRequest;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdResponse;
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
 
 public interface PostService {
     CreatePostResponse createPost(HttpSession session, CreatePostRequest request);
 
+    BatchCreatePostsResponse createPosts(HttpSession session, BatchCreatePostsRequest request);
+
     GetPostByIdResponse getPostById(GetPostByIdRequest request);
+
+    MultiGetResponse<GetPostByIdResponse> getPostsByIds(List<Long> postIds);
     
-    List<GetPostByIdResponse> getPostsByCommunityId(Long communityId);
+    GetPostsByCommunityIdResponse getPostsByCommunityId(GetPostsByCommunityIdRequest request);
+
+    void streamPostsByCommunityId(Long communityId, Consumer<PostPreviewResponse> sink);
 
     EditPostResponse editPost(HttpSession session, Long postId, EditPostRequest request);
 
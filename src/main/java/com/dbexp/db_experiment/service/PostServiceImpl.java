@@ -2,14 +2,23 @@ package com.dbexp.db_experiment.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsRequest;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsResponse;
 import com.dbexp.db_experiment.dto.post.CreatePostRequest;
 import com.dbexp.db_experiment.dto.post.CreatePostResponse;
 import com.dbexp.db_experiment.dto.post.DeletePostResponse;
@@ -17,26 +26,56 @@ import com.dbexp.db_experiment.dto.post.EditPostRequest;
 import com.dbexp.db_experiment.dto.post.EditPostResponse;
 import com.dbexp.db_experiment.dto.post.GetPostByIdRequest;
 import com.dbexp.db_experiment.dto.post.GetPostByIdResponse;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdRequest;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdResponse;
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
 import com.dbexp.db_experiment.entity.Community;
 import com.dbexp.db_experiment.entity.Post;
 import com.dbexp.db_experiment.exception.ForbiddenException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.repository.BulkInsertRepository;
 import com.dbexp.db_experiment.repository.CommunityRepository;
 import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
 
 @Service
 public class PostServiceImpl implements PostService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 5000;
+
     private final PostRepository postRepository;
     private final AuthService authService;
     private final CommunityRepository communityRepository;
+    private final StreamingQueryRepository streamingQueryRepository;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final VoteScoreBuffer voteScoreBuffer;
+    private final FeedService feedService;
+    private final SearchService searchService;
+    private final ActivityCounterBuffer activityCounterBuffer;
+    private final DeletionService deletionService;
+    private final EntityCaches entityCaches;
 
     public PostServiceImpl(PostRepository postRepository, AuthService authService,
-            CommunityRepository communityRepository) {
+            CommunityRepository communityRepository, StreamingQueryRepository streamingQueryRepository,
+            BulkInsertRepository bulkInsertRepository, VoteScoreBuffer voteScoreBuffer, FeedService feedService,
+            SearchService searchService, ActivityCounterBuffer activityCounterBuffer,
+            DeletionService deletionService, EntityCaches entityCaches) {
         this.postRepository = postRepository;
         this.authService = authService;
         this.communityRepository = communityRepository;
+        this.streamingQueryRepository = streamingQueryRepository;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.voteScoreBuffer = voteScoreBuffer;
+        this.feedService = feedService;
+        this.searchService = searchService;
+        this.activityCounterBuffer = activityCounterBuffer;
+        this.deletionService = deletionService;
+        this.entityCaches = entityCaches;
     }
 
     @Override
@@ -74,6 +113,10 @@ public class PostServiceImpl implements PostService {
 
         // Save post to database
         Post savedPost = postRepository.save(post);
+        feedService.onPostCreated(savedPost);
+        searchService.indexPost(savedPost);
+        AfterCommit.run(() -> activityCounterBuffer.record(Scope.COMMUNITY, savedPost.getCommunityId(), 1,
+                savedPost.getCreatedAt()));
 
         // Return response DTO
         return new CreatePostResponse(
@@ -85,6 +128,73 @@ public class PostServiceImpl implements PostService {
                 savedPost.getCreatedAt());
     }
 
+    @Override
+    @Transactional
+    public BatchCreatePostsResponse createPosts(HttpSession session, BatchCreatePostsRequest request) {
+        // Get current user ID from session
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        Long userId = currentUser.userId();
+
+        // Validate input parameters
+        List<CreatePostRequest> items = request.getPosts();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one post is required");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " posts");
+        }
+        Set<Long> communityIds = new LinkedHashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreatePostRequest item = items.get(i);
+            if (item == null || item.getCommunityId() == null) {
+                throw new IllegalArgumentException("Community ID is required (item " + i + ")");
+            }
+            if (item.getPostTitle() == null || item.getPostTitle().trim().isEmpty()) {
+                throw new IllegalArgumentException("Post title is required (item " + i + ")");
+            }
+            if (item.getPostContent() == null || item.getPostContent().trim().isEmpty()) {
+                throw new IllegalArgumentException("Post content is required (item " + i + ")");
+            }
+            communityIds.add(item.getCommunityId());
+        }
+
+        // Validate all referenced communities exist with a single query
+        Set<Long> existingCommunityIds = new HashSet<>(communityRepository.findExistingIds(communityIds));
+        for (Long communityId : communityIds) {
+            if (!existingCommunityIds.contains(communityId)) {
+                throw new ResourceNotFoundException("Community not found: " + communityId);
+            }
+        }
+
+        // Build entities sharing one creation timestamp
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Post> posts = new ArrayList<>(items.size());
+        for (CreatePostRequest item : items) {
+            Post post = new Post(userId, item.getCommunityId(), item.getPostTitle(), item.getPostContent());
+            post.setCreatedAt(createdAt);
+            posts.add(post);
+        }
+
+        // Insert with JDBC batches; ids come back in request order
+        List<Long> postIds = bulkInsertRepository.insertPosts(posts);
+        Map<Long, Integer> addedPerCommunity = new HashMap<>();
+        for (int i = 0; i < posts.size(); i++) {
+            posts.get(i).setPostId(postIds.get(i));
+            feedService.onPostCreated(posts.get(i));
+            searchService.indexPost(posts.get(i));
+            addedPerCommunity.merge(posts.get(i).getCommunityId(), 1, Integer::sum);
+        }
+        AfterCommit.run(() -> addedPerCommunity.forEach(
+                (communityId, added) -> activityCounterBuffer.record(Scope.COMMUNITY, communityId, added, createdAt)));
+
+        // Return response DTO
+        return new BatchCreatePostsResponse(postIds.size(), postIds, createdAt);
+    }
+
+    // Outside a read-only transaction so a miss never refills the cache from the replica
     @Override
     public GetPostByIdResponse getPostById(GetPostByIdRequest request) {
         // Validate input parameters
@@ -92,8 +202,9 @@ public class PostServiceImpl implements PostService {
             throw new IllegalArgumentException("Post ID is required");
         }
 
-        // Fetch post from database and validate existence
-        Post post = postRepository.findById(request.getPostId())
+        // Fetch post from the cache or database and validate existence
+        Long postId = request.getPostId();
+        Post post = entityCaches.posts().get(postId, () -> postRepository.findById(postId))
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
 
         // Return response DTO
@@ -103,30 +214,109 @@ public class PostServiceImpl implements PostService {
                 post.getCommunityId(),
                 post.getPostTitle(),
                 post.getPostContent(),
-                post.getCreatedAt());
+                currentScore(post),
+                currentCommentCount(post),
+                post.getCreatedAt(),
+                lastActivity(post));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<GetPostByIdResponse> getPostsByIds(List<Long> postIds) {
+        // Validate and de-duplicate ids, keeping request order
+        List<Long> ids = MultiGet.distinctIds(postIds);
+
+        // Resolve every id with a single IN (...) query
+        return MultiGet.inRequestOrder(ids, postRepository.findAllLiveById(ids), Post::getPostId,
+                post -> new GetPostByIdResponse(
+                        post.getPostId(),
+                        post.getUserId(),
+                        post.getCommunityId(),
+                        post.getPostTitle(),
+                        post.getPostContent(),
+                        currentScore(post),
+                        currentCommentCount(post),
+                        post.getCreatedAt(),
+                        lastActivity(post)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GetPostsByCommunityIdResponse getPostsByCommunityId(GetPostsByCommunityIdRequest request) {
+        // Validate input parameters
+        if (request.getCommunityId() == null) {
+            throw new IllegalArgumentException("Community ID is required");
+        }
+        int limit = resolvePageSize(request.getLimit());
+
+        // Fetch one extra row to find out whether another page exists
+        List<PostPreviewResponse> posts;
+        if (request.getCursor() == null || request.getCursor().isBlank()) {
+            posts = postRepository.findFirstPageByCommunityId(request.getCommunityId(), limit + 1);
+        } else {
+            PostCursor cursor = PostCursor.decode(request.getCursor());
+            posts = postRepository.findPageByCommunityIdAfter(
+                    request.getCommunityId(), cursor.createdAt(), cursor.postId(), limit + 1);
+        }
+
+        boolean hasMore = posts.size() > limit;
+        if (hasMore) {
+            posts = posts.subList(0, limit);
+        }
+
+        String nextCursor = hasMore ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+        posts.forEach(this::addPendingActivity);
+
+        // Return response DTO; full bodies are fetched through getPostById
+        return new GetPostsByCommunityIdResponse(posts, nextCursor, hasMore);
     }
 
     @Override
-    public List<GetPostByIdResponse> getPostsByCommunityId(Long communityId) {
+    public void streamPostsByCommunityId(Long communityId, Consumer<PostPreviewResponse> sink) {
         if (communityId == null) {
             throw new IllegalArgumentException("Community ID is required");
         }
-        
-        List<Post> posts = postRepository.findByCommunityId(communityId);
-        List<GetPostByIdResponse> responses = new ArrayList<>();
-        
-        for (Post post : posts) {
-            responses.add(new GetPostByIdResponse(
-                post.getPostId(),
-                post.getUserId(),
-                post.getCommunityId(),
-                post.getPostTitle(),
-                post.getPostContent(),
-                post.getCreatedAt()
-            ));
+
+        // Hand each row to the sink as it arrives from the cursor instead of collecting a list;
+        // the pending counters are in memory, so nothing else touches the connection
+        streamingQueryRepository.streamPostsByCommunityId(communityId, post -> {
+            addPendingActivity(post);
+            sink.accept(post);
+        });
+    }
+
+    // Stored score plus votes still waiting in the write-behind buffer
+    private long currentScore(Post post) {
+        return post.getScore() + voteScoreBuffer.pending(Target.POST, post.getPostId());
+    }
+
+    // Same for comments added or removed since the last counter flush
+    private long currentCommentCount(Post post) {
+        return Math.max(0, post.getCommentCount() + activityCounterBuffer.pending(Scope.POST, post.getPostId()));
+    }
+
+    // A post with no recorded activity was last active when it was created
+    private LocalDateTime lastActivity(Post post) {
+        LocalDateTime stored = post.getLastActivityAt() != null ? post.getLastActivityAt() : post.getCreatedAt();
+        return activityCounterBuffer.lastActivity(Scope.POST, post.getPostId(), stored);
+    }
+
+    // Previews carry the stored counters; add what the buffer has not flushed yet
+    private void addPendingActivity(PostPreviewResponse post) {
+        post.setCommentCount(Math.max(0,
+                post.getCommentCount() + activityCounterBuffer.pending(Scope.POST, post.getPostId())));
+        post.setLastActivityAt(activityCounterBuffer.lastActivity(Scope.POST, post.getPostId(),
+                post.getLastActivityAt()));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
         }
-        
-        return responses;
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     @Override
@@ -169,6 +359,11 @@ public class PostServiceImpl implements PostService {
         if (rowsUpdated == 0) {
             throw new IllegalStateException("Failed to update post");
         }
+        feedService.onPostEdited(postId, request.getPostTitle(), request.getPostContent());
+        AfterCommit.run(() -> entityCaches.posts().invalidate(postId));
+        post.setPostTitle(request.getPostTitle());
+        post.setPostContent(request.getPostContent());
+        searchService.indexPost(post);
 
         // Return response DTO
         return new EditPostResponse(
@@ -204,17 +399,25 @@ public class PostServiceImpl implements PostService {
             throw new ForbiddenException("User is not the owner of the post");
         }
 
-        // Delete post using raw SQL query
-        int rowsDeleted = postRepository.deleteByPostId(postId);
+        // Hide the post now; comments and votes are removed in the background
+        int rowsDeleted = postRepository.markDeleted(postId);
 
         if (rowsDeleted == 0) {
             throw new IllegalStateException("Failed to delete post");
         }
+        long deletionJobId = deletionService.schedulePostDeletion(postId, userId);
+        feedService.onPostDeleted(postId);
+        searchService.removePost(postId);
+        AfterCommit.run(() -> {
+            activityCounterBuffer.record(Scope.COMMUNITY, post.getCommunityId(), -1, null);
+            entityCaches.posts().invalidate(postId);
+        });
 
         // Return response DTO
         return new DeletePostResponse(
                 postId,
                 LocalDateTime.now(),
-                "Post deleted successfully");
+                "Post deleted successfully",
+                deletionJobId);
     }
 }
\ No newline at end of file
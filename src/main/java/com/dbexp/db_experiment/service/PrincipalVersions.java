@@ -0,0 +1,26 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+// Per-user stamp that session principal snapshots are checked against. Any
+// change to what a snapshot holds, or to whether the account may log in at
+// all, bumps it after commit so the next request reloads from the database.
+// Users never bumped share a random per-process baseline, so snapshots
+// written before a restart are never taken as current.
+@Component
+public class PrincipalVersions {
+
+    private final long baseline = ThreadLocalRandom.current().nextLong();
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public long current(Long userId) {
+        return versions.getOrDefault(userId, baseline);
+    }
+
+    public void bump(Long userId) {
+        versions.compute(userId, (id, version) -> (version == null ? baseline : version) + 1);
+    }
+}
@@ -0,0 +1,167 @@
+package com.dbexp.db_experiment.service;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
+import com.dbexp.db_experiment.repository.RememberMeTokenRepository;
+import com.dbexp.db_experiment.repository.RememberMeTokenRepository.StoredToken;
+
+// Persistent login tokens of the form selector.validator. The selector is the
+// row's primary key; the validator is 256 random bits, so it needs no slow
+// hash and is stored as an HMAC-SHA256 under a server key: a copy of the table
+// alone cannot log anyone in. Each use replaces the validator, and a wrong
+// validator for a known selector deletes the row, as the token has been copied.
+@Component
+public class RememberMeTokens {
+
+    private static final Logger logger = LoggerFactory.getLogger(RememberMeTokens.class);
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int SELECTOR_BYTES = 12;
+    private static final int VALIDATOR_BYTES = 32;
+    private static final int MIN_KEY_BYTES = 32;
+    private static final int PURGE_BATCH = 1000;
+
+    public record Rotation(Long userId, RememberMeToken token) {
+    }
+
+    private final RememberMeTokenRepository tokenRepository;
+    private final SecretKeySpec key;
+    private final Duration validity;
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    private final Base64.Decoder decoder = Base64.getUrlDecoder();
+
+    public RememberMeTokens(RememberMeTokenRepository tokenRepository,
+            @Value("${app.remember-me.key:}") String key,
+            @Value("${app.remember-me.validity-days:30}") long validityDays) {
+        this.tokenRepository = tokenRepository;
+        this.key = new SecretKeySpec(keyBytes(key), MAC_ALGORITHM);
+        this.validity = Duration.ofDays(validityDays);
+    }
+
+    public RememberMeToken issue(Long userId) {
+        String selector = encoder.encodeToString(randomBytes(SELECTOR_BYTES));
+        byte[] validator = randomBytes(VALIDATOR_BYTES);
+        tokenRepository.insert(selector, mac(validator), userId, LocalDateTime.now().plus(validity));
+        return new RememberMeToken(selector + "." + encoder.encodeToString(validator), validity);
+    }
+
+    // Checks the token and swaps its validator for a new one; empty when the
+    // token is malformed, unknown, expired or was just used by another request
+    public Optional<Rotation> rotate(String token) {
+        Optional<Parsed> parsed = parse(token);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        String selector = parsed.get().selector();
+        Optional<StoredToken> stored = tokenRepository.findBySelector(selector);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        StoredToken row = stored.get();
+        if (!MessageDigest.isEqual(row.validatorHash(), mac(parsed.get().validator()))) {
+            tokenRepository.deleteBySelector(selector);
+            logger.warn("Remember-me token of user {} presented with a wrong validator; revoked", row.userId());
+            return Optional.empty();
+        }
+        if (!row.expiresAt().isAfter(LocalDateTime.now())) {
+            tokenRepository.deleteBySelector(selector);
+            return Optional.empty();
+        }
+
+        byte[] validator = randomBytes(VALIDATOR_BYTES);
+        if (tokenRepository.rotate(selector, row.validatorHash(), mac(validator),
+                LocalDateTime.now().plus(validity)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Rotation(row.userId(),
+                new RememberMeToken(selector + "." + encoder.encodeToString(validator), validity)));
+    }
+
+    public void revoke(String token) {
+        parse(token).ifPresent(parsed -> tokenRepository.deleteBySelector(parsed.selector()));
+    }
+
+    public void revokeAll(Long userId) {
+        tokenRepository.deleteByUserId(userId);
+    }
+
+    // Bounded deletes, so the purge never holds locks on a large range
+    @Scheduled(fixedDelayString = "${app.remember-me.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        do {
+            deleted = tokenRepository.deleteExpired(now, PURGE_BATCH);
+        } while (deleted == PURGE_BATCH);
+    }
+
+    private record Parsed(String selector, byte[] validator) {
+    }
+
+    private Optional<Parsed> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] selector = decoder.decode(token.substring(0, dot));
+            byte[] validator = decoder.decode(token.substring(dot + 1));
+            if (selector.length != SELECTOR_BYTES || validator.length != VALIDATOR_BYTES) {
+                return Optional.empty();
+            }
+            return Optional.of(new Parsed(token.substring(0, dot), validator));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(byte[] validator) {
+        try {
+            // Mac instances are not thread-safe, and a fresh one costs far less than the query
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(validator);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private byte[] keyBytes(String key) {
+        if (key == null || key.isBlank()) {
+            logger.warn("app.remember-me.key is not set; using a random key, so remember-me tokens "
+                    + "stop working on restart and are not shared between instances");
+            return randomBytes(MIN_KEY_BYTES);
+        }
+        byte[] bytes = Base64.getDecoder().decode(key.trim());
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("app.remember-me.key must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dbexp.db_experiment.service;
+
+import com.dbexp.db_experiment.dto.search.SearchResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+
+public interface SearchService {
+    SearchResponse search(String query, String type, Long communityId, Integer offset, Integer limit);
+
+    void indexPost(Post post);
+
+    void removePost(Long postId);
+
+    void indexComment(Comment comment);
+
+    void removeComment(Long commentId);
+}
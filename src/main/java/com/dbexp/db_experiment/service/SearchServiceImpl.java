@@ -0,0 +1,253 @@
+package com.dbexp.db_experiment.service;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.dto.search.SearchHitResponse;
+import com.dbexp.db_experiment.dto.search.SearchResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.repository.CommentRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.SearchSourceRepository;
+
+// Full-text search over posts (title + content) and comments. Each has its own
+// InvertedIndex; hits are hydrated from MySQL by primary key, which also drops
+// documents deleted by cascades the index never heard about.
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchServiceImpl.class);
+
+    private static final String TYPE_POSTS = "posts";
+    private static final String TYPE_COMMENTS = "comments";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // BM25 order past the first thousand hits is noise; refine the query instead
+    private static final int MAX_OFFSET = 1000;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int EXCERPT_LENGTH = 200;
+    private static final int REBUILD_FLUSH_EVERY = 10_000;
+
+    private final SearchSourceRepository searchSourceRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final InvertedIndex postIndex;
+    private final InvertedIndex commentIndex;
+    private final int flushDocs;
+
+    public SearchServiceImpl(SearchSourceRepository searchSourceRepository, PostRepository postRepository,
+            CommentRepository commentRepository,
+            @Value("${app.search.index-dir:${java.io.tmpdir}/dbexp-search}") String indexDir,
+            @Value("${app.search.flush-docs:5000}") int flushDocs,
+            @Value("${app.search.max-segments:10}") int maxSegments) {
+        this.searchSourceRepository = searchSourceRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postIndex = new InvertedIndex("posts", Path.of(indexDir), maxSegments);
+        this.commentIndex = new InvertedIndex("comments", Path.of(indexDir), maxSegments);
+        this.flushDocs = flushDocs;
+    }
+
+    // Runs off the startup thread; searches see a growing index until it finishes
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        Thread thread = new Thread(this::rebuild, "search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        postIndex.beginRebuild();
+        commentIndex.beginRebuild();
+        try {
+            int[] count = new int[1];
+            searchSourceRepository.streamPosts(post -> {
+                postIndex.addFromRebuild(post.getPostId(), post.getCommunityId(), postTokens(post));
+                if (++count[0] % REBUILD_FLUSH_EVERY == 0) {
+                    postIndex.flush();
+                }
+            });
+            searchSourceRepository.streamComments((comment, communityId) -> {
+                commentIndex.addFromRebuild(comment.getCommentId(), communityId,
+                        SearchTokenizer.tokenize(comment.getCommentContent()));
+                if (++count[0] % REBUILD_FLUSH_EVERY == 0) {
+                    commentIndex.flush();
+                }
+            });
+            logger.info("Rebuilt search index from {} documents in {} ms", count[0],
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Could not rebuild search index: {}", e.getMessage());
+        } finally {
+            postIndex.endRebuild();
+            commentIndex.endRebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.maintenance-interval-ms:5000}")
+    public void maintain() {
+        for (InvertedIndex index : List.of(postIndex, commentIndex)) {
+            try {
+                index.flushIfLarger(flushDocs);
+                index.maybeMerge();
+            } catch (UncheckedIOException e) {
+                logger.warn("Search index maintenance failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        postIndex.close();
+        commentIndex.close();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchResponse search(String query, String type, Long communityId, Integer offset, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        String searchType = type == null || type.isBlank() ? TYPE_POSTS : type.trim().toLowerCase(Locale.ROOT);
+        if (!searchType.equals(TYPE_POSTS) && !searchType.equals(TYPE_COMMENTS)) {
+            throw new IllegalArgumentException("Unknown search type: " + type + " (expected posts or comments)");
+        }
+        if (communityId != null && communityId <= 0) {
+            throw new IllegalArgumentException("Community ID must be positive");
+        }
+        int start = offset == null ? 0 : offset;
+        if (start < 0 || start > MAX_OFFSET) {
+            throw new IllegalArgumentException("Offset must be between 0 and " + MAX_OFFSET);
+        }
+        int size = resolveLimit(limit);
+
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        boolean posts = searchType.equals(TYPE_POSTS);
+        InvertedIndex index = posts ? postIndex : commentIndex;
+        InvertedIndex.Page page = index.search(terms, communityId, start, size);
+
+        List<SearchHitResponse> items = posts ? hydratePosts(page.hits()) : hydrateComments(page.hits());
+        boolean hasMore = start + size < page.totalHits();
+        return new SearchResponse(query, searchType, items, page.totalHits(), hasMore ? start + size : null,
+                hasMore);
+    }
+
+    private List<SearchHitResponse> hydratePosts(List<InvertedIndex.Hit> hits) {
+        Map<Long, Post> rows = new HashMap<>();
+        for (Post post : postRepository.findAllLiveById(hits.stream().map(InvertedIndex.Hit::docId).toList())) {
+            rows.put(post.getPostId(), post);
+        }
+        List<SearchHitResponse> items = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            Post post = rows.get(hit.docId());
+            if (post == null) {
+                // Deleted or hidden without going through PostService
+                postIndex.remove(hit.docId());
+                continue;
+            }
+            items.add(new SearchHitResponse("post", post.getPostId(), post.getPostId(), post.getCommunityId(),
+                    post.getPostTitle(), excerpt(post.getPostContent()), isTruncated(post.getPostContent()),
+                    hit.score(), post.getCreatedAt()));
+        }
+        return items;
+    }
+
+    private List<SearchHitResponse> hydrateComments(List<InvertedIndex.Hit> hits) {
+        Map<Long, Comment> rows = new HashMap<>();
+        for (Comment comment : commentRepository.findAllLiveById(hits.stream().map(InvertedIndex.Hit::docId).toList())) {
+            rows.put(comment.getCommentId(), comment);
+        }
+        List<SearchHitResponse> items = new ArrayList<>(hits.size());
+        for (InvertedIndex.Hit hit : hits) {
+            Comment comment = rows.get(hit.docId());
+            if (comment == null || comment.getDeletedAt() != null) {
+                // Removed or hidden by a post deletion, or tombstoned without going through CommentService
+                commentIndex.remove(hit.docId());
+                continue;
+            }
+            Long communityId = hit.communityId() < 0 ? null : hit.communityId();
+            items.add(new SearchHitResponse("comment", comment.getCommentId(), comment.getPostId(), communityId,
+                    null, excerpt(comment.getCommentContent()), isTruncated(comment.getCommentContent()),
+                    hit.score(), comment.getCreatedAt()));
+        }
+        return items;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    @Override
+    public void indexPost(Post post) {
+        long postId = post.getPostId();
+        long communityId = post.getCommunityId();
+        List<String> tokens = postTokens(post);
+        AfterCommit.run(() -> postIndex.add(postId, communityId, tokens));
+    }
+
+    @Override
+    public void removePost(Long postId) {
+        AfterCommit.run(() -> postIndex.remove(postId));
+    }
+
+    @Override
+    public void indexComment(Comment comment) {
+        long commentId = comment.getCommentId();
+        long postId = comment.getPostId();
+        List<String> tokens = SearchTokenizer.tokenize(comment.getCommentContent());
+        // Community comes from the post's index entry so no extra query is needed
+        AfterCommit.run(() -> commentIndex.add(commentId, postIndex.communityOf(postId), tokens));
+    }
+
+    @Override
+    public void removeComment(Long commentId) {
+        AfterCommit.run(() -> commentIndex.remove(commentId));
+    }
+
+    // Title terms are indexed twice so title matches outrank body matches
+    private static List<String> postTokens(Post post) {
+        List<String> title = SearchTokenizer.tokenize(post.getPostTitle());
+        List<String> tokens = new ArrayList<>(title);
+        tokens.addAll(title);
+        tokens.addAll(SearchTokenizer.tokenize(post.getPostContent()));
+        return tokens;
+    }
+
+    private static String excerpt(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > EXCERPT_LENGTH ? content.substring(0, EXCERPT_LENGTH) : content;
+    }
+
+    private static boolean isTruncated(String content) {
+        return content != null && content.length() > EXCERPT_LENGTH;
+    }
+}
@@ -0,0 +1,321 @@
+package com.dbexp.db_experiment.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.session.SessionInformation;
+import org.springframework.security.core.session.SessionRegistry;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.repository.SessionOwnerStore;
+
+// Sessions per user for ConcurrentSessionFilter and the one-session rule.
+// Sessions, and the session ids of each principal, sit in stripes chosen by
+// hash, each behind its own lock; a request's lookup and refresh take one
+// stripe lock each and no lock is held while another is taken. Idle sessions
+// are dropped by a hashed timing wheel per stripe rather than a scan: a
+// session is filed under the tick its idle timeout would end, refreshing only
+// moves that time later, and an entry still in use is re-filed when its slot
+// comes round.
+//
+// The session each user holds is also claimed in a SessionOwnerStore. When
+// the store is shared between instances, a session is rechecked against it at
+// most once per recheck interval, so a login elsewhere expires it here within
+// that interval.
+@Component
+public class StripedSessionRegistry implements SessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(StripedSessionRegistry.class);
+
+    private static final long TICK_MILLIS = 10_000;
+    private static final int WHEEL_SLOTS = 64;
+
+    private final SessionOwnerStore ownerStore;
+    private final long timeoutMillis;
+    private final long recheckMillis;
+    private final long tickMillis;
+    private final LongSupplier clockMillis;
+    private final Stripe[] stripes;
+
+    @Autowired
+    public StripedSessionRegistry(SessionOwnerStore ownerStore,
+            @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+            @Value("${app.sessions.recheck-interval-ms:5000}") long recheckMillis,
+            @Value("${app.sessions.stripes:64}") int stripes) {
+        this(ownerStore, timeout.toMillis(), recheckMillis, stripes, TICK_MILLIS,
+                StripedSessionRegistry::monotonicMillis);
+    }
+
+    public StripedSessionRegistry(SessionOwnerStore ownerStore, long timeoutMillis, long recheckMillis, int stripes,
+            long tickMillis, LongSupplier clockMillis) {
+        this.ownerStore = ownerStore;
+        this.timeoutMillis = timeoutMillis;
+        this.recheckMillis = recheckMillis;
+        this.tickMillis = tickMillis;
+        this.clockMillis = clockMillis;
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[stripeCount];
+        long nowTick = clockMillis.getAsLong() / tickMillis;
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(nowTick);
+        }
+    }
+
+    // Registers the session as the user's only one: their other sessions here
+    // are expired now, those on other instances at their next recheck
+    public void claim(String sessionId, Long userId) {
+        registerNewSession(sessionId, userId);
+        for (SessionInformation other : getAllSessions(userId, false)) {
+            if (!other.getSessionId().equals(sessionId)) {
+                other.expireNow();
+            }
+        }
+        try {
+            ownerStore.claim(userId, sessionId);
+        } catch (RuntimeException e) {
+            // This instance still holds to the rule; only other instances miss the login
+            logger.warn("Could not record the session of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void registerNewSession(String sessionId, Object principal) {
+        Entry entry = new Entry(principal, sessionId, clockMillis.getAsLong());
+        Entry replaced;
+        Stripe stripe = stripeFor(sessionId);
+        synchronized (stripe) {
+            replaced = stripe.sessions.put(sessionId, entry);
+            if (replaced != null) {
+                replaced.removed = true;
+            }
+            stripe.schedule(entry);
+        }
+        if (replaced != null && !replaced.getPrincipal().equals(principal)) {
+            unindex(replaced.getPrincipal(), sessionId);
+        }
+        Stripe principalStripe = stripeFor(principal);
+        synchronized (principalStripe) {
+            principalStripe.sessionIds.computeIfAbsent(principal, p -> new HashSet<>(2)).add(sessionId);
+        }
+    }
+
+    @Override
+    public SessionInformation getSessionInformation(String sessionId) {
+        Entry entry;
+        Stripe stripe = stripeFor(sessionId);
+        synchronized (stripe) {
+            entry = stripe.sessions.get(sessionId);
+        }
+        if (entry != null && ownerStore.shared() && !entry.isExpired() && entry.getPrincipal() instanceof Long userId) {
+            recheck(entry, userId);
+        }
+        return entry;
+    }
+
+    @Override
+    public void refreshLastRequest(String sessionId) {
+        Entry entry;
+        Stripe stripe = stripeFor(sessionId);
+        synchronized (stripe) {
+            entry = stripe.sessions.get(sessionId);
+        }
+        if (entry != null) {
+            entry.refreshLastRequest();
+            entry.lastRequestMillis = clockMillis.getAsLong();
+        }
+    }
+
+    @Override
+    public void removeSessionInformation(String sessionId) {
+        Entry entry;
+        Stripe stripe = stripeFor(sessionId);
+        synchronized (stripe) {
+            entry = stripe.sessions.remove(sessionId);
+            if (entry != null) {
+                entry.removed = true;
+            }
+        }
+        if (entry != null) {
+            forget(entry);
+        }
+    }
+
+    @Override
+    public List<Object> getAllPrincipals() {
+        List<Object> principals = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                principals.addAll(stripe.sessionIds.keySet());
+            }
+        }
+        return principals;
+    }
+
+    @Override
+    public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+        List<String> sessionIds;
+        Stripe principalStripe = stripeFor(principal);
+        synchronized (principalStripe) {
+            Set<String> ids = principalStripe.sessionIds.get(principal);
+            sessionIds = ids == null ? List.of() : List.copyOf(ids);
+        }
+        List<SessionInformation> sessions = new ArrayList<>(sessionIds.size());
+        for (String sessionId : sessionIds) {
+            Entry entry;
+            Stripe stripe = stripeFor(sessionId);
+            synchronized (stripe) {
+                entry = stripe.sessions.get(sessionId);
+            }
+            if (entry != null && (includeExpiredSessions || !entry.isExpired())) {
+                sessions.add(entry);
+            }
+        }
+        return sessions;
+    }
+
+    // Drops sessions idle for longer than the timeout; call about once per tick
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void expire() {
+        long now = clockMillis.getAsLong();
+        List<Entry> idle = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.advance(now, idle);
+            }
+        }
+        for (Entry entry : idle) {
+            forget(entry);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.sessions.size();
+            }
+        }
+        return size;
+    }
+
+    private void recheck(Entry entry, Long userId) {
+        long now = clockMillis.getAsLong();
+        if (now - entry.verifiedMillis < recheckMillis) {
+            return;
+        }
+        entry.verifiedMillis = now;
+        try {
+            if (!ownerStore.owns(userId, entry.getSessionId())) {
+                entry.expireNow();
+            }
+        } catch (RuntimeException e) {
+            // Keep the session rather than fail the request; the next interval tries again
+            logger.warn("Could not recheck the session of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void forget(Entry entry) {
+        unindex(entry.getPrincipal(), entry.getSessionId());
+        if (entry.getPrincipal() instanceof Long userId) {
+            try {
+                ownerStore.release(userId, entry.getSessionId());
+            } catch (RuntimeException e) {
+                // A stale row only names a session that no longer exists
+                logger.warn("Could not release the session of user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void unindex(Object principal, String sessionId) {
+        Stripe stripe = stripeFor(principal);
+        synchronized (stripe) {
+            Set<String> ids = stripe.sessionIds.get(principal);
+            if (ids != null && ids.remove(sessionId) && ids.isEmpty()) {
+                stripe.sessionIds.remove(principal);
+            }
+        }
+    }
+
+    private Stripe stripeFor(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static long monotonicMillis() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    private static final class Entry extends SessionInformation {
+
+        private static final long serialVersionUID = 1L;
+
+        private volatile long lastRequestMillis;
+        private volatile long verifiedMillis;
+        // Guarded by the stripe lock; the wheel skips removed entries
+        private boolean removed;
+
+        Entry(Object principal, String sessionId, long now) {
+            super(principal, sessionId, new Date());
+            this.lastRequestMillis = now;
+            this.verifiedMillis = now;
+        }
+    }
+
+    private final class Stripe {
+
+        private final Map<String, Entry> sessions = new HashMap<>();
+        private final Map<Object, Set<String>> sessionIds = new HashMap<>();
+        private final List<List<Entry>> wheel = new ArrayList<>(WHEEL_SLOTS);
+        private long lastTick;
+
+        Stripe(long nowTick) {
+            for (int i = 0; i < WHEEL_SLOTS; i++) {
+                wheel.add(new ArrayList<>());
+            }
+            lastTick = nowTick;
+        }
+
+        void advance(long now, List<Entry> idle) {
+            long nowTick = now / tickMillis;
+            if (nowTick <= lastTick) {
+                return;
+            }
+            // A gap longer than the wheel still visits every slot just once
+            long from = Math.max(lastTick + 1, nowTick - WHEEL_SLOTS + 1);
+            lastTick = nowTick;
+            for (long tick = from; tick <= nowTick; tick++) {
+                int slot = (int) (tick & (WHEEL_SLOTS - 1));
+                List<Entry> due = wheel.set(slot, new ArrayList<>());
+                for (Entry entry : due) {
+                    if (entry.removed) {
+                        continue;
+                    }
+                    if (entry.lastRequestMillis + timeoutMillis <= now) {
+                        sessions.remove(entry.getSessionId());
+                        entry.removed = true;
+                        idle.add(entry);
+                    } else {
+                        schedule(entry);
+                    }
+                }
+            }
+        }
+
+        void schedule(Entry entry) {
+            long tick = Math.max(lastTick + 1, (entry.lastRequestMillis + timeoutMillis) / tickMillis);
+            wheel.get((int) (tick & (WHEEL_SLOTS - 1))).add(entry);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+// Token buckets for a large, attacker-chosen key space. Keys are reduced to
+// seeded 64-bit hashes, so colliding names cannot be crafted to drain someone
+// else's bucket, and spread over stripes that each hold a chained hash table
+// in parallel primitive arrays behind their own lock. No object is allocated
+// per key or per call, so hundreds of thousands of keys are a few arrays to
+// the collector rather than a heap of small objects.
+//
+// Each bucket is kept in its GCRA form, a single theoretical arrival time in
+// microseconds: a call is allowed while that time is no more than the burst
+// ahead of now, and pushes it one refill interval further. Integer time keeps
+// the refill exact. A bucket whose arrival time has passed is full, behaves
+// exactly like a missing one, and is dropped by a hashed timing wheel. Each
+// entry sits in the slot of the tick at which it will be full; calls only
+// move that time later, so when the slot comes round an entry still in use is
+// moved on rather than rescheduled on every call.
+public class TokenBucketTable {
+
+    private static final int WHEEL_SLOTS = 64;
+    private static final int NONE = -1;
+
+    private final long intervalMicros;
+    private final long burstMicros;
+    private final long tickMillis;
+    private final LongSupplier clockMillis;
+    private final long seed = ThreadLocalRandom.current().nextLong();
+    private final int stripeShift;
+    private final Stripe[] stripes;
+
+    public TokenBucketTable(int capacity, double refillPerSecond, int stripes, int initialEntriesPerStripe,
+            long tickMillis, LongSupplier clockMillis) {
+        this.intervalMicros = Math.max(1, Math.round(1_000_000 / refillPerSecond));
+        this.burstMicros = (capacity - 1) * intervalMicros;
+        this.tickMillis = tickMillis;
+        this.clockMillis = clockMillis;
+        int stripeCount = powerOfTwoAtLeast(stripes);
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        long nowTick = clockMillis.getAsLong() / tickMillis;
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(powerOfTwoAtLeast(initialEntriesPerStripe), nowTick);
+        }
+    }
+
+    // Takes one token for the key; returns 0 when granted, otherwise the
+    // milliseconds until the next token
+    public long tryAcquire(String key) {
+        long hash = hash(key);
+        Stripe stripe = stripes[stripeShift == 64 ? 0 : (int) (hash >>> stripeShift)];
+        long now = clockMillis.getAsLong();
+        synchronized (stripe) {
+            return stripe.acquire(hash, now);
+        }
+    }
+
+    // Drops buckets that have refilled; call about once per tick
+    public void expire() {
+        long now = clockMillis.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.advance(now);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    // FNV-1a over the chars from a random per-table basis, then a 64-bit
+    // finalizer so the high bits used for the stripe are well mixed
+    private long hash(String key) {
+        long hash = seed ^ 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private final class Stripe {
+
+        private final int[] wheelHeads = new int[WHEEL_SLOTS];
+        // Hash table: heads by key bits, chained through next; unused entries
+        // form a free list through next as well
+        private int[] heads;
+        private long[] keys;
+        private long[] arrivals;
+        private int[] next;
+        private int[] wheelNext;
+        private int free;
+        private int size;
+        private long lastTick;
+
+        Stripe(int entries, long nowTick) {
+            Arrays.fill(wheelHeads, NONE);
+            heads = new int[entries];
+            Arrays.fill(heads, NONE);
+            keys = new long[entries];
+            arrivals = new long[entries];
+            next = new int[entries];
+            wheelNext = new int[entries];
+            linkFree(0, entries);
+            lastTick = nowTick;
+        }
+
+        long acquire(long key, long now) {
+            long nowMicros = now * 1000;
+            int entry = find(key);
+            long arrival = entry == NONE ? nowMicros : Math.max(arrivals[entry], nowMicros);
+            long allowedFrom = arrival - burstMicros;
+            if (allowedFrom > nowMicros) {
+                return (allowedFrom - nowMicros + 999) / 1000;
+            }
+            if (entry == NONE) {
+                entry = insert(key);
+                arrivals[entry] = arrival + intervalMicros;
+                schedule(entry);
+            } else {
+                arrivals[entry] = arrival + intervalMicros;
+            }
+            return 0;
+        }
+
+        void advance(long now) {
+            long nowTick = now / tickMillis;
+            if (nowTick <= lastTick) {
+                return;
+            }
+            // A gap longer than the wheel still visits every slot just once
+            long from = Math.max(lastTick + 1, nowTick - WHEEL_SLOTS + 1);
+            lastTick = nowTick;
+            for (long tick = from; tick <= nowTick; tick++) {
+                int slot = (int) (tick & (WHEEL_SLOTS - 1));
+                int entry = wheelHeads[slot];
+                wheelHeads[slot] = NONE;
+                while (entry != NONE) {
+                    int following = wheelNext[entry];
+                    if (fullAt(entry) <= now) {
+                        remove(entry);
+                    } else {
+                        schedule(entry);
+                    }
+                    entry = following;
+                }
+            }
+        }
+
+        private long fullAt(int entry) {
+            return (arrivals[entry] + 999) / 1000;
+        }
+
+        private void schedule(int entry) {
+            long tick = Math.max(lastTick + 1, fullAt(entry) / tickMillis);
+            int slot = (int) (tick & (WHEEL_SLOTS - 1));
+            wheelNext[entry] = wheelHeads[slot];
+            wheelHeads[slot] = entry;
+        }
+
+        private int find(long key) {
+            for (int entry = heads[bucket(key)]; entry != NONE; entry = next[entry]) {
+                if (keys[entry] == key) {
+                    return entry;
+                }
+            }
+            return NONE;
+        }
+
+        private int insert(long key) {
+            if (free == NONE) {
+                grow();
+            }
+            int entry = free;
+            free = next[entry];
+            int bucket = bucket(key);
+            keys[entry] = key;
+            next[entry] = heads[bucket];
+            heads[bucket] = entry;
+            size++;
+            return entry;
+        }
+
+        private void remove(int entry) {
+            int bucket = bucket(keys[entry]);
+            if (heads[bucket] == entry) {
+                heads[bucket] = next[entry];
+            } else {
+                int previous = heads[bucket];
+                while (next[previous] != entry) {
+                    previous = next[previous];
+                }
+                next[previous] = next[entry];
+            }
+            next[entry] = free;
+            free = entry;
+            size--;
+        }
+
+        // Only when every entry is in use; entry indices stay the same, so the
+        // wheel is untouched and only the hash chains are rebuilt
+        private void grow() {
+            int oldLength = keys.length;
+            int length = oldLength * 2;
+            keys = Arrays.copyOf(keys, length);
+            arrivals = Arrays.copyOf(arrivals, length);
+            next = Arrays.copyOf(next, length);
+            wheelNext = Arrays.copyOf(wheelNext, length);
+            heads = new int[length];
+            Arrays.fill(heads, NONE);
+            for (int entry = 0; entry < oldLength; entry++) {
+                int bucket = bucket(keys[entry]);
+                next[entry] = heads[bucket];
+                heads[bucket] = entry;
+            }
+            linkFree(oldLength, length);
+        }
+
+        private void linkFree(int from, int to) {
+            for (int entry = from; entry < to - 1; entry++) {
+                next[entry] = entry + 1;
+            }
+            next[to - 1] = NONE;
+            free = from;
+        }
+
+        private int bucket(long key) {
+            return (int) key & (heads.length - 1);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.LongPredicate;
+
+// Bounded ranking: keeps the best `capacity` posts ordered by rank. Writers
+// serialize on the instance; readers walk the skip list without locking.
+final class TopK {
+
+    record Entry(double rank, long postId) {
+    }
+
+    // Highest rank first, newer (larger) id first on ties
+    static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::rank).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final int capacity;
+    private final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<Long, Entry> byPost = new ConcurrentHashMap<>();
+    // Sticky: once the ranking has been full, deletes can leave it short of
+    // posts it never held, so it can no longer be treated as complete
+    private volatile boolean truncated;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized void offer(long postId, double rank) {
+        Entry previous = byPost.get(postId);
+        if (previous != null) {
+            if (previous.rank() == rank) {
+                return;
+            }
+            ordered.remove(previous);
+        } else if (byPost.size() >= capacity && ORDER.compare(new Entry(rank, postId), ordered.last()) > 0) {
+            // Full and would rank last: not worth inserting
+            return;
+        }
+
+        Entry entry = new Entry(rank, postId);
+        ordered.add(entry);
+        byPost.put(postId, entry);
+
+        while (byPost.size() > capacity) {
+            Entry evicted = ordered.pollLast();
+            byPost.remove(evicted.postId());
+        }
+        if (byPost.size() >= capacity) {
+            truncated = true;
+        }
+    }
+
+    synchronized void remove(long postId) {
+        Entry previous = byPost.remove(postId);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+    }
+
+    synchronized void removeIf(LongPredicate predicate) {
+        byPost.values().removeIf(entry -> {
+            if (predicate.test(entry.postId())) {
+                ordered.remove(entry);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    boolean contains(long postId) {
+        return byPost.containsKey(postId);
+    }
+
+    int size() {
+        return byPost.size();
+    }
+
+    // Whether lower-ranked posts may exist that this ranking does not hold
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    // Weakly consistent walk of entries ranked strictly after the given position
+    Iterator<Entry> after(Entry position) {
+        return position == null ? ordered.iterator() : ordered.tailSet(position, false).iterator();
+    }
+
+    // Returns up to limit + 1 ids so callers can tell whether another page exists
+    List<Long> page(int offset, int limit) {
+        List<Long> ids = new ArrayList<>(limit + 1);
+        int skipped = 0;
+        for (Entry entry : ordered) {
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            ids.add(entry.postId());
+            if (ids.size() > limit) {
+                break;
+            }
+        }
+        return ids;
+    }
+}
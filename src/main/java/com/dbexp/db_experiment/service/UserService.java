@@ -1,7 +1,10 @@
 package com.dbexp.db_experiment.service;
 
+import java.util.List;
+
 import jakarta.servlet.http.HttpSession;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
 import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
 import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
@@ -16,12 +19,17 @@ import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameResponse;
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
 
 public interface UserService {
     GetUserByIdResponse getUserById(GetUserByIdRequest request);
 
+    MultiGetResponse<GetUserByIdResponse> getUsersByIds(List<Long> userIds);
+
     GetUserByUsernameResponse getUserByUsername(GetUserByUsernameRequest request);
 
+    List<UserSuggestionResponse> searchUsers(String query, Integer limit);
+
     CreateUserResponse createUser(CreateUserRequest request);
 
     ChangeUsernameResponse changeUsername(HttpSession session, Long userId, ChangeUsernameRequest request);
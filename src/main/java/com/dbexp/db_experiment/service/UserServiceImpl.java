@@ -1,6 +1,7 @@
 package com.dbexp.db_experiment.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import jakarta.servlet.http.HttpSession;
 
@@ -8,6 +9,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dbexp.db_experiment.dto.MultiGetResponse;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.user.ChangeEmailRequest;
 import com.dbexp.db_experiment.dto.user.ChangeEmailResponse;
@@ -23,6 +25,7 @@ import com.dbexp.db_experiment.dto.user.GetUserByIdRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameResponse;
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
 import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.exception.ConflictException;
 import com.dbexp.db_experiment.exception.ForbiddenException;
@@ -33,16 +36,32 @@ import com.dbexp.db_experiment.repository.UserRepository;
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
-
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthService authService) {
+    private final UsernameIndex usernameIndex;
+    private final DeletionService deletionService;
+    private final EntityCaches entityCaches;
+    private final PrincipalVersions principalVersions;
+    private final RememberMeTokens rememberMeTokens;
+
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthService authService,
+            UsernameIndex usernameIndex, DeletionService deletionService, EntityCaches entityCaches,
+            PrincipalVersions principalVersions, RememberMeTokens rememberMeTokens) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authService = authService;
+        this.usernameIndex = usernameIndex;
+        this.deletionService = deletionService;
+        this.entityCaches = entityCaches;
+        this.principalVersions = principalVersions;
+        this.rememberMeTokens = rememberMeTokens;
     }
 
+    // Cache misses read the primary (see EntityCaches), hence no read-only transaction
     @Override
     public GetUserByIdResponse getUserById(GetUserByIdRequest request) {
         // Validate input parameters
@@ -50,8 +69,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("User ID is required");
         }
 
-        // Fetch user from database and validate existence
-        User user = userRepository.findById(request.getUserId())
+        // Fetch user from the cache or database and validate existence
+        Long userId = request.getUserId();
+        User user = entityCaches.users().get(userId, () -> userRepository.findById(userId))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Return response DTO
@@ -62,6 +82,21 @@ public class UserServiceImpl implements UserService {
                 user.getCreatedAt());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponse<GetUserByIdResponse> getUsersByIds(List<Long> userIds) {
+        // Validate and de-duplicate ids, keeping request order
+        List<Long> ids = MultiGet.distinctIds(userIds);
+
+        // Resolve every id with a single IN (...) query
+        return MultiGet.inRequestOrder(ids, userRepository.findAllLiveById(ids), User::getUserId,
+                user -> new GetUserByIdResponse(
+                        user.getUserId(),
+                        user.getUsername(),
+                        user.getEmail(),
+                        user.getCreatedAt()));
+    }
+
     @Override
     public GetUserByUsernameResponse getUserByUsername(GetUserByUsernameRequest request) {
         // Validate input parameters
@@ -69,8 +104,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Username is required");
         }
 
-        // Fetch user from database and validate existence
-        User user = userRepository.findByUsername(request.getUsername())
+        // Fetch user from the cache or database and validate existence
+        String username = request.getUsername();
+        User user = entityCaches.users().getByNaturalKey(username, () -> userRepository.findByUsername(username))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         // Return response DTO
@@ -81,6 +117,18 @@ public class UserServiceImpl implements UserService {
                 user.getCreatedAt());
     }
 
+    @Override
+    public List<UserSuggestionResponse> searchUsers(String query, Integer limit) {
+        // Validate input parameters
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Query is required");
+        }
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        // Answered from memory; never issues LIKE against ForumUser
+        return usernameIndex.search(query.trim(), size);
+    }
+
     @Override
     public CreateUserResponse createUser(CreateUserRequest request) {
         // Validate input parameters
@@ -116,6 +164,7 @@ public class UserServiceImpl implements UserService {
 
         // Save user to database
         User savedUser = userRepository.save(user);
+        AfterCommit.run(() -> usernameIndex.put(savedUser.getUserId(), savedUser.getUsername()));
 
         // Return response DTO
         return new CreateUserResponse(
@@ -160,6 +209,11 @@ public class UserServiceImpl implements UserService {
         if (rowsUpdated == 0) {
             throw new IllegalArgumentException("Failed to update username");
         }
+        AfterCommit.run(() -> {
+            usernameIndex.put(userId, request.getNewUsername());
+            entityCaches.users().invalidate(userId);
+            principalVersions.bump(userId);
+        });
 
         // Return response DTO
         return new ChangeUsernameResponse(
@@ -204,6 +258,12 @@ public class UserServiceImpl implements UserService {
         if (rowsUpdated == 0) {
             throw new IllegalStateException("Failed to update password");
         }
+        // Remembered logins made with the old password end with it
+        rememberMeTokens.revokeAll(userId);
+        AfterCommit.run(() -> {
+            entityCaches.users().invalidate(userId);
+            principalVersions.bump(userId);
+        });
 
         // Return response DTO
         return new ChangePasswordResponse(
@@ -252,6 +312,10 @@ public class UserServiceImpl implements UserService {
         if (rowsUpdated == 0) {
             throw new IllegalArgumentException("Failed to update email");
         }
+        AfterCommit.run(() -> {
+            entityCaches.users().invalidate(userId);
+            principalVersions.bump(userId);
+        });
 
         // Return response DTO
         return new ChangeEmailResponse(
@@ -283,17 +347,25 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Current password is incorrect");
         }
 
-        // Delete user using raw SQL query
-        int rowsDeleted = userRepository.deleteByUserId(userId);
+        // Hide the account now; its posts, comments and votes are removed in the background
+        int rowsDeleted = userRepository.markDeleted(userId);
 
         if (rowsDeleted == 0) {
             throw new IllegalStateException("Failed to delete account");
         }
+        long deletionJobId = deletionService.scheduleAccountDeletion(userId);
+        rememberMeTokens.revokeAll(userId);
+        AfterCommit.run(() -> {
+            usernameIndex.remove(userId);
+            entityCaches.users().invalidate(userId);
+            principalVersions.bump(userId);
+        });
 
         // Return response DTO
         return new DeleteAccountResponse(
                 userId,
                 LocalDateTime.now(),
-                "Account deleted successfully");
+                "Account deleted successfully",
+                deletionJobId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,302 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+
+// Typo-tolerant username lookup. Each name is padded and split into trigrams;
+// every trigram keeps an ascending list of name ordinals. A name within edit
+// distance k of the query shares all but at most 4k of its trigrams (an edit
+// touches three, an adjacent swap four), so only the rarest few posting lists
+// need scanning to collect candidates, which are then verified with a bounded
+// edit distance. Renames and deletes tombstone the old ordinal; compaction
+// renumbers once tombstones dominate.
+@Component
+public class UsernameIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameIndex.class);
+
+    private static final int MIN_COMPACT_TOMBSTONES = 1024;
+
+    private record Match(long userId, String username, int distance) {
+    }
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::distance)
+            .thenComparingInt(match -> match.username().length())
+            .thenComparing(Match::username);
+
+    // Ascending ordinals for one trigram; appends keep it sorted
+    private static final class Postings {
+        int[] ordinals = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+
+    // Everything a query reads; replaced wholesale by rebuild and compaction
+    private static final class State {
+        long[] userIds = new long[1024];
+        String[] keys = new String[1024];
+        String[] usernames = new String[1024];
+        int count;
+        final BitSet dead = new BitSet();
+        final Map<Long, Integer> ordinalByUser = new HashMap<>();
+        final Map<Integer, Postings> postings = new HashMap<>();
+
+        void put(long userId, String username) {
+            remove(userId);
+            if (count == userIds.length) {
+                userIds = Arrays.copyOf(userIds, count * 2);
+                keys = Arrays.copyOf(keys, count * 2);
+                usernames = Arrays.copyOf(usernames, count * 2);
+            }
+            int ordinal = count++;
+            String key = username.toLowerCase(Locale.ROOT);
+            userIds[ordinal] = userId;
+            keys[ordinal] = key;
+            usernames[ordinal] = username;
+            ordinalByUser.put(userId, ordinal);
+            for (int trigram : trigrams(key)) {
+                postings.computeIfAbsent(trigram, t -> new Postings()).add(ordinal);
+            }
+        }
+
+        boolean remove(long userId) {
+            Integer ordinal = ordinalByUser.remove(userId);
+            if (ordinal == null) {
+                return false;
+            }
+            dead.set(ordinal);
+            keys[ordinal] = null;
+            usernames[ordinal] = null;
+            return true;
+        }
+
+        int live() {
+            return ordinalByUser.size();
+        }
+    }
+
+    private final StreamingQueryRepository streamingQueryRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private State state = new State();
+    private List<Runnable> pendingDuringRebuild;
+
+    public UsernameIndex(StreamingQueryRepository streamingQueryRepository) {
+        this.streamingQueryRepository = streamingQueryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        try {
+            streamingQueryRepository.streamUsernames(rebuilt::put);
+        } catch (RuntimeException e) {
+            logger.warn("Could not build username index: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Writes that raced with the load are replayed on top of it
+            state = rebuilt;
+            pendingDuringRebuild.forEach(Runnable::run);
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} usernames in {} ms", rebuilt.live(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void put(Long userId, String username) {
+        lock.writeLock().lock();
+        try {
+            state.put(userId, username);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> state.put(userId, username));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            if (state.remove(userId)) {
+                compactIfNeeded();
+            }
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(() -> state.remove(userId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<UserSuggestionResponse> search(String query, int limit) {
+        String key = query.toLowerCase(Locale.ROOT);
+        int maxDistance = maxDistance(key.length());
+        int[] queryTrigrams = trigrams(key);
+        int minShared = queryTrigrams.length - 4 * maxDistance;
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            State current = state;
+            List<Postings> lists = new ArrayList<>(queryTrigrams.length);
+            for (int trigram : queryTrigrams) {
+                Postings list = current.postings.get(trigram);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            // Any match holds at least one of the rarest (|Q| - minShared + 1) trigrams
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            int scan = queryTrigrams.length - Math.max(1, minShared) + 1;
+            BitSet seen = new BitSet();
+            for (int i = 0; i < Math.min(scan, lists.size()); i++) {
+                Postings list = lists.get(i);
+                for (int j = 0; j < list.size; j++) {
+                    int ordinal = list.ordinals[j];
+                    if (seen.get(ordinal) || current.dead.get(ordinal)) {
+                        continue;
+                    }
+                    seen.set(ordinal);
+                    String candidate = current.keys[ordinal];
+                    if (Math.abs(candidate.length() - key.length()) > maxDistance) {
+                        continue;
+                    }
+                    int distance = boundedDistance(key, candidate, maxDistance);
+                    if (distance <= maxDistance) {
+                        matches.add(new Match(current.userIds[ordinal], current.usernames[ordinal], distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(RANKING);
+        List<UserSuggestionResponse> suggestions = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            Match match = matches.get(i);
+            suggestions.add(new UserSuggestionResponse(match.userId(), match.username(), match.distance()));
+        }
+        return suggestions;
+    }
+
+    // Caller holds the write lock
+    private void compactIfNeeded() {
+        int tombstones = state.dead.cardinality();
+        if (tombstones < MIN_COMPACT_TOMBSTONES || tombstones < state.live()) {
+            return;
+        }
+        State compacted = new State();
+        for (int ordinal = 0; ordinal < state.count; ordinal++) {
+            if (!state.dead.get(ordinal)) {
+                compacted.put(state.userIds[ordinal], state.usernames[ordinal]);
+            }
+        }
+        state = compacted;
+    }
+
+    // Same allowance as common fuzzy matchers: exact for very short input
+    static int maxDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    // Distinct trigrams of "  key ", each packed into an int
+    static int[] trigrams(String key) {
+        String padded = "  " + key + " ";
+        int[] trigrams = new int[padded.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            // Characters outside 10 bits fold together; verification removes false hits
+            trigrams[i] = (padded.charAt(i) & 0x3FF) << 20 | (padded.charAt(i + 1) & 0x3FF) << 10
+                    | (padded.charAt(i + 2) & 0x3FF);
+        }
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    // Optimal string alignment distance (Levenshtein plus adjacent swaps),
+    // abandoning once two consecutive rows exceed the bound
+    static int boundedDistance(String a, String b, int bound) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        int previousMin = 0;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > bound && previousMin > bound) {
+                return bound + 1;
+            }
+            previousMin = rowMin;
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], bound + 1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dbexp.db_experiment.service;
+
+import java.util.Map;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+
+// Write-behind for Post.score and ForumComment.score. Votes are recorded in the
+// vote tables synchronously; only the denormalized totals are batched here.
+@Component
+public class VoteScoreBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteScoreBuffer.class);
+
+    private final VoteRepository voteRepository;
+    private final EntityCaches entityCaches;
+    private final DeltaCounter postDeltas = new DeltaCounter();
+    private final DeltaCounter commentDeltas = new DeltaCounter();
+
+    public VoteScoreBuffer(VoteRepository voteRepository, EntityCaches entityCaches) {
+        this.voteRepository = voteRepository;
+        this.entityCaches = entityCaches;
+    }
+
+    public void record(Target target, Long targetId, long delta) {
+        counter(target).add(targetId, delta);
+    }
+
+    // Delta not yet written to the score column; add to the stored score for a live value
+    public long pending(Target target, Long targetId) {
+        return counter(target).pending(targetId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.votes.flush-interval-ms:1000}")
+    public void flush() {
+        flush(Target.POST);
+        flush(Target.COMMENT);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(Target target) {
+        DeltaCounter counter = counter(target);
+        Map<Long, Long> deltas = counter.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            voteRepository.addScores(target, deltas);
+            if (target == Target.POST) {
+                entityCaches.posts().invalidateAll(deltas.keySet());
+            }
+        } catch (RuntimeException e) {
+            // Keep the deltas for the next attempt rather than losing them
+            counter.restore(deltas);
+            logger.warn("Failed to flush {} {} score deltas, will retry: {}", deltas.size(), target, e.getMessage());
+        }
+    }
+
+    private DeltaCounter counter(Target target) {
+        return target == Target.POST ? postDeltas : commentDeltas;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dbexp.db_experiment.service;
+
+import jakarta.servlet.http.HttpSession;
+
+import com.dbexp.db_experiment.dto.vote.VoteRequest;
+import com.dbexp.db_experiment.dto.vote.VoteResponse;
+
+public interface VoteService {
+
+    VoteResponse votePost(HttpSession session, Long postId, VoteRequest request);
+
+    VoteResponse clearPostVote(HttpSession session, Long postId);
+
+    VoteResponse voteComment(HttpSession session, Long commentId, VoteRequest request);
+
+    VoteResponse clearCommentVote(HttpSession session, Long commentId);
+}
@@ -0,0 +1,127 @@
+package com.dbexp.db_experiment.service;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.vote.VoteRequest;
+import com.dbexp.db_experiment.dto.vote.VoteResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.CommentRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+
+@Service
+public class VoteServiceImpl implements VoteService {
+
+    private final VoteRepository voteRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final VoteScoreBuffer voteScoreBuffer;
+    private final AuthService authService;
+    private final FeedService feedService;
+
+    public VoteServiceImpl(VoteRepository voteRepository, PostRepository postRepository,
+            CommentRepository commentRepository, VoteScoreBuffer voteScoreBuffer, AuthService authService,
+            FeedService feedService) {
+        this.voteRepository = voteRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.voteScoreBuffer = voteScoreBuffer;
+        this.authService = authService;
+        this.feedService = feedService;
+    }
+
+    @Override
+    @Transactional
+    public VoteResponse votePost(HttpSession session, Long postId, VoteRequest request) {
+        return vote(session, Target.POST, postId, request, false);
+    }
+
+    @Override
+    @Transactional
+    public VoteResponse clearPostVote(HttpSession session, Long postId) {
+        return vote(session, Target.POST, postId, null, true);
+    }
+
+    @Override
+    @Transactional
+    public VoteResponse voteComment(HttpSession session, Long commentId, VoteRequest request) {
+        return vote(session, Target.COMMENT, commentId, request, false);
+    }
+
+    @Override
+    @Transactional
+    public VoteResponse clearCommentVote(HttpSession session, Long commentId) {
+        return vote(session, Target.COMMENT, commentId, null, true);
+    }
+
+    private VoteResponse vote(HttpSession session, Target target, Long targetId, VoteRequest request, boolean clear) {
+        // Validate session and get current user
+        CurrentUserResponse currentUser = authService.getCurrentUser(session);
+        if (!currentUser.authenticated()) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        Long userId = currentUser.userId();
+
+        // Validate input parameters
+        if (targetId == null) {
+            throw new IllegalArgumentException(target == Target.POST ? "Post ID is required" : "Comment ID is required");
+        }
+        int requested = clear ? 0 : requireValue(request);
+
+        // Validate target exists and read its stored score
+        long storedScore = target == Target.POST
+                ? postRepository.findById(targetId).map(Post::getScore)
+                        .orElseThrow(() -> new ResourceNotFoundException("Post not found"))
+                : commentRepository.findById(targetId).filter(comment -> comment.getDeletedAt() == null)
+                        .map(Comment::getScore)
+                        .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+
+        // Repeating the current vote toggles it off; 0 always clears
+        int current = voteRepository.findVoteForUpdate(target, userId, targetId);
+        int next = requested == current ? 0 : requested;
+        if (next == 0) {
+            if (current != 0) {
+                voteRepository.deleteVote(target, userId, targetId);
+            }
+        } else if (next != current) {
+            voteRepository.upsertVote(target, userId, targetId, next);
+        }
+
+        // Count the score change only once the vote row is committed
+        long delta = next - current;
+        long pending = voteScoreBuffer.pending(target, targetId);
+        recordAfterCommit(target, targetId, delta);
+
+        // Return response DTO
+        return new VoteResponse(targetId, next, storedScore + pending + delta);
+    }
+
+    private void recordAfterCommit(Target target, Long targetId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> voteScoreBuffer.record(target, targetId, delta));
+        if (target == Target.POST) {
+            feedService.onPostScoreChanged(targetId, delta);
+        }
+    }
+
+    private static int requireValue(VoteRequest request) {
+        if (request == null || request.getValue() == null) {
+            throw new IllegalArgumentException("Vote value is required");
+        }
+        int value = request.getValue();
+        if (value != 1 && value != -1) {
+            throw new IllegalArgumentException("Vote value must be 1 or -1");
+        }
+        return value;
+    }
+}
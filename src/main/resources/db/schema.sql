@@ -13,6 +13,9 @@ USE db_experiment;
 -- DROP TABLES (Reverse Dependency Order)
 -- ============================================
 
+DROP TABLE IF EXISTS UserSession;
+DROP TABLE IF EXISTS RememberMeToken;
+DROP TABLE IF EXISTS DeletionJob;
 DROP TABLE IF EXISTS CommentVote;
 DROP TABLE IF EXISTS PostVote;
 DROP TABLE IF EXISTS CommunityModerator;
@@ -31,16 +34,26 @@ CREATE TABLE ForumUser (
     username VARCHAR(255) NOT NULL UNIQUE,
     password_hash VARCHAR(255) NOT NULL,
     email VARCHAR(255) NOT NULL UNIQUE,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Set when account deletion is requested; the cascade deletion worker
+    -- removes the row once its content is gone
+    deleted_at TIMESTAMP NULL
 );
 
 CREATE TABLE Community (
     community_id INT PRIMARY KEY AUTO_INCREMENT,
     community_name VARCHAR(255) NOT NULL UNIQUE,
     community_description TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Denormalized COUNT(Post) and newest post/comment time, maintained by the
+    -- activity counter flusher and repaired by the reconciliation job
+    post_count INT NOT NULL DEFAULT 0,
+    last_activity_at TIMESTAMP NULL
 );
 
+-- Newest communities listing
+CREATE INDEX idx_community_created ON Community(created_at);
+
 -- ============================================
 -- CREATE CONTENT TABLES
 -- ============================================
@@ -51,28 +64,50 @@ CREATE TABLE Post (
     community_id INT NOT NULL,
     post_title VARCHAR(255) NOT NULL,
     post_content TEXT NOT NULL,
+    -- Denormalized SUM(PostVote.vote_value), maintained by the vote flusher
+    score INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    -- Denormalized COUNT(ForumComment) and newest comment time, maintained by
+    -- the activity counter flusher and repaired by the reconciliation job
+    comment_count INT NOT NULL DEFAULT 0,
+    last_activity_at TIMESTAMP NULL,
+    -- Hidden from reads as soon as deletion is requested
+    deleted_at TIMESTAMP NULL,
     FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
     FOREIGN KEY (community_id) REFERENCES Community(community_id)
 );
 
 CREATE INDEX idx_post_user_id ON Post(user_id);
-CREATE INDEX idx_post_community_id ON Post(community_id);
+-- Keyset pagination of community listings (newest first); the community_id
+-- prefix also backs the community foreign key
+CREATE INDEX idx_post_community_created ON Post(community_id, created_at, post_id);
 
 CREATE TABLE ForumComment (
     comment_id INT PRIMARY KEY AUTO_INCREMENT,
-    user_id INT NOT NULL,
+    -- NULL once the author's account is deleted and the comment stays as a
+    -- tombstone because other people replied to it
+    user_id INT NULL,
     post_id INT NOT NULL,
     parent_comment_id INT,
     comment_content TEXT NOT NULL,
+    -- Denormalized SUM(CommentVote.vote_value), maintained by the vote flusher
+    score INT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE,
+    -- Tombstone marker: the content is cleared but the row keeps its place in
+    -- the reply tree until the purge job removes it as a leaf
+    deleted_at TIMESTAMP NULL,
+    FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE SET NULL,
     FOREIGN KEY (post_id) REFERENCES Post(post_id) ON DELETE CASCADE,
     FOREIGN KEY (parent_comment_id) REFERENCES ForumComment(comment_id) ON DELETE CASCADE
 );
 
 CREATE INDEX idx_comment_user_id ON ForumComment(user_id);
 CREATE INDEX idx_comment_post_id ON ForumComment(post_id);
+-- Direct replies of a comment and, through parent_comment_id IS NULL, the
+-- top-level comments of a post; also backs the parent foreign key
+CREATE INDEX idx_comment_parent_post ON ForumComment(parent_comment_id, post_id);
+-- Oldest tombstones first for the purge job
+CREATE INDEX idx_comment_deleted_at ON ForumComment(deleted_at);
 
 -- ============================================
 -- CREATE RELATIONSHIP TABLES
@@ -119,4 +154,58 @@ CREATE TABLE CommentVote (
     FOREIGN KEY (comment_id) REFERENCES ForumComment(comment_id) ON DELETE CASCADE
 );
 
-CREATE INDEX idx_commentvote_comment_id ON CommentVote(comment_id);
\ No newline at end of file
+CREATE INDEX idx_commentvote_comment_id ON CommentVote(comment_id);
+
+-- ============================================
+-- CREATE MAINTENANCE TABLES
+-- ============================================
+
+-- Cascade deletions in progress. The worker removes dependent rows in small
+-- chunks and records its phase so a restart resumes where it stopped.
+CREATE TABLE DeletionJob (
+    job_id INT PRIMARY KEY AUTO_INCREMENT,
+    target_type VARCHAR(16) NOT NULL,
+    target_id INT NOT NULL,
+    -- The account that asked for the deletion; no foreign key, an account job
+    -- removes that very row
+    requested_by INT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    phase VARCHAR(32) NOT NULL,
+    rows_deleted BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NULL,
+    error_code VARCHAR(32),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_deletionjob_status ON DeletionJob(status, job_id);
+
+-- ============================================
+-- CREATE AUTHENTICATION TABLES
+-- ============================================
+
+-- Remember-me logins. The selector finds the row by primary key; the validator
+-- is stored only as an HMAC, so a copy of the table cannot be used to log in
+CREATE TABLE RememberMeToken (
+    selector CHAR(16) CHARACTER SET ascii COLLATE ascii_bin PRIMARY KEY,
+    validator_hash BINARY(32) NOT NULL,
+    user_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE
+);
+
+-- Revoking every token of a user, and the expiry purge
+CREATE INDEX idx_remembermetoken_user_id ON RememberMeToken(user_id);
+CREATE INDEX idx_remembermetoken_expires_at ON RememberMeToken(expires_at);
+
+-- The one session each user may hold, shared by every instance when
+-- app.sessions.store=jdbc; a login anywhere replaces the user's row
+CREATE TABLE UserSession (
+    user_id INT PRIMARY KEY,
+    session_id VARCHAR(128) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES ForumUser(user_id) ON DELETE CASCADE
+);
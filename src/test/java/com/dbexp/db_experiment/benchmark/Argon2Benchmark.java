@@ -0,0 +1,53 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of one Argon2 hash (what encode and matches each pay) for the
+// parameter sets Argon2Calibrator chooses between. Not part of the test run:
+//   mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath org.openjdk.jmh.Main Argon2Benchmark -rf json -rff target/argon2.json"
+// Narrow the grid with e.g. -p memoryKib=65536 -p parallelism=1.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class Argon2Benchmark {
+
+    // 19 MiB is the calibration floor, 64 MiB the default ceiling
+    @Param({ "19456", "32768", "65536", "131072" })
+    private int memoryKib;
+
+    @Param({ "2", "3", "4" })
+    private int iterations;
+
+    @Param({ "1", "2" })
+    private int parallelism;
+
+    private Argon2PasswordEncoder encoder;
+
+    @Setup
+    public void setUp() {
+        encoder = new Argon2PasswordEncoder(16, 32, parallelism, memoryKib, iterations);
+    }
+
+    @Benchmark
+    public String hash() {
+        return encoder.encode("correct horse battery staple");
+    }
+}
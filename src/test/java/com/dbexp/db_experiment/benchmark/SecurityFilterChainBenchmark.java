@@ -0,0 +1,79 @@
+package com.dbexp.db_experiment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dbexp.db_experiment.testutil.SecurityTestContext;
+
+// Time spent in Spring Security for one GET, on the stateless chain for
+// public reads and on the full chain that public reads used to take (the home
+// feed is one of its GETs). withSession sends a session along, as a logged-in
+// user browsing posts does. Not part of the test run:
+//   mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+//       -Dexec.args="-cp %classpath org.openjdk.jmh.Main SecurityFilterChainBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterChainBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean withSession;
+
+    private AnnotationConfigWebApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private MockHttpSession session;
+
+    @Setup
+    public void setUp() {
+        context = SecurityTestContext.start();
+        filterChainProxy = SecurityTestContext.filterChainProxy(context);
+        session = new MockHttpSession();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse publicChain() throws Exception {
+        return filter("/api/posts/1");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fullChain() throws Exception {
+        return filter("/api/feed");
+    }
+
+    private MockHttpServletResponse filter(String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (withSession) {
+            request.setSession(session);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChainProxy.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
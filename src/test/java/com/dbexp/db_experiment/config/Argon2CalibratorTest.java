@@ -0,0 +1,93 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Argon2 Calibrator Tests")
+class Argon2CalibratorTest {
+
+    // Hash time modelled as proportional to memory x iterations
+    private static class ModelledCalibrator extends Argon2Calibrator {
+
+        private final long nanosPerKibPass;
+        private final List<Argon2Cost> measured = new ArrayList<>();
+
+        ModelledCalibrator(boolean enabled, long nanosPerKibPass) {
+            this(enabled, 65536, nanosPerKibPass);
+        }
+
+        ModelledCalibrator(boolean enabled, int memoryCeilingKib, long nanosPerKibPass) {
+            // target 250 ms, floor 64 MiB x 3 (also the cost when disabled), at most 10 passes
+            super(enabled, 250, memoryCeilingKib, 3, 65536, 3, 10, 1);
+            this.nanosPerKibPass = nanosPerKibPass;
+        }
+
+        @Override
+        long measureNanos(Argon2Cost cost) {
+            measured.add(cost);
+            return (long) cost.memoryKib() * cost.iterations() * nanosPerKibPass;
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the floor's memory and add iterations on a fast machine")
+    void calibrate_FastMachine() {
+        // 64 MiB x 3 takes 98 ms, so 33 ms per pass and 7 passes fit
+        ModelledCalibrator calibrator = new ModelledCalibrator(true, 500);
+
+        Argon2Cost cost = calibrator.calibrate();
+
+        assertEquals(new Argon2Cost(65536, 7, 1), cost);
+        assertEquals(1, calibrator.measured.size());
+    }
+
+    @Test
+    @DisplayName("Should double memory up to the ceiling while a hash fits the target")
+    void calibrate_RaisesMemory() {
+        // 64 MiB x 3 takes 98 ms and 128 MiB 197 ms; 256 MiB would take 393 ms
+        ModelledCalibrator calibrator = new ModelledCalibrator(true, 524288, 500);
+
+        Argon2Cost cost = calibrator.calibrate();
+
+        assertEquals(new Argon2Cost(131072, 3, 1), cost);
+        assertEquals(List.of(new Argon2Cost(65536, 3, 1), new Argon2Cost(131072, 3, 1),
+                new Argon2Cost(262144, 3, 1)), calibrator.measured);
+    }
+
+    @Test
+    @DisplayName("Should never go below the floor, even when it is over the target")
+    void calibrate_TooSlowForTarget() {
+        // 64 MiB x 3 takes 786 ms
+        ModelledCalibrator calibrator = new ModelledCalibrator(true, 524288, 4000);
+
+        Argon2Cost cost = calibrator.calibrate();
+
+        assertEquals(new Argon2Cost(65536, 3, 1), cost);
+        assertEquals(1, calibrator.measured.size());
+    }
+
+    @Test
+    @DisplayName("Should cap iterations at the configured maximum")
+    void calibrate_CapsIterations() {
+        ModelledCalibrator calibrator = new ModelledCalibrator(true, 10);
+
+        assertEquals(10, calibrator.calibrate().iterations());
+    }
+
+    @Test
+    @DisplayName("Should use the configured cost without measuring when disabled")
+    void calibrate_Disabled() {
+        ModelledCalibrator calibrator = new ModelledCalibrator(false, 1000);
+
+        Argon2Cost cost = calibrator.calibrate();
+
+        assertEquals(new Argon2Cost(65536, 3, 1), cost);
+        assertTrue(calibrator.measured.isEmpty());
+    }
+}
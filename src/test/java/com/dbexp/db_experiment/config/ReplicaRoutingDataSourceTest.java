@@ -0,0 +1,201 @@
+package com.dbexp.db_experiment.config;
+
+import javax.sql.DataSource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private LastWriteCookie lastWriteCookie;
+    private ReplicaRoutingDataSource routingDataSource;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        lastWriteCookie = new LastWriteCookie(null, 5000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, lastWriteCookie);
+        // Reads never consult the session, public or not
+        request = new MockHttpServletRequest() {
+            @Override
+            public HttpSession getSession(boolean create) {
+                throw new AssertionError("Session looked up for replica routing");
+            }
+        };
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+    }
+
+    private Cookie signedCookie(long writtenAt) {
+        String header = lastWriteCookie.issue(writtenAt).toString();
+        return new Cookie(LastWriteCookie.NAME, header.substring(header.indexOf('=') + 1, header.indexOf(';')));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Nested
+    @DisplayName("Read-only Transactions")
+    class ReadOnlyTests {
+
+        @BeforeEach
+        void markReadOnly() {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        }
+
+        @Test
+        @DisplayName("Should route to replica when it is within the lag threshold")
+        void readOnly_ReplicaUsable_RoutesToReplica() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+            assertEquals(ReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+        }
+
+        @Test
+        @DisplayName("Should fall back to primary while the replica lags")
+        void readOnly_ReplicaLagging_RoutesToPrimary() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        }
+
+        @Test
+        @DisplayName("Should keep a client on primary right after it wrote")
+        void readOnly_RecentWrite_RoutesToPrimary() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+            request.setCookies(signedCookie(System.currentTimeMillis()));
+
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        }
+
+        @Test
+        @DisplayName("Should return a client to replica once the sticky window has passed")
+        void readOnly_OldWrite_RoutesToReplica() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+            request.setCookies(signedCookie(System.currentTimeMillis() - 10_000));
+
+            assertEquals(ReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+        }
+
+        @Test
+        @DisplayName("Should ignore a last-write cookie with a forged timestamp")
+        void readOnly_ForgedCookie_RoutesToReplica() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+            String signature = signedCookie(System.currentTimeMillis()).getValue().split("\\.")[1];
+            request.setCookies(new Cookie(LastWriteCookie.NAME, (System.currentTimeMillis() + 60_000) + "." + signature));
+
+            assertEquals(ReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+        }
+
+        @Test
+        @DisplayName("Should ignore a cookie signed under another key")
+        void readOnly_ForeignKey_RoutesToReplica() {
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+            String header = new LastWriteCookie(null, 5000).issue(System.currentTimeMillis()).toString();
+            request.setCookies(new Cookie(LastWriteCookie.NAME,
+                    header.substring(header.indexOf('=') + 1, header.indexOf(';'))));
+
+            assertEquals(ReplicaRoutingDataSource.REPLICA, routingDataSource.determineCurrentLookupKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Transactions")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should route to primary and set the last-write cookie on commit")
+        void write_Commit_SetsCookie() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+            // A second connection in the same transaction registers nothing new
+            routingDataSource.determineCurrentLookupKey();
+            assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+            assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+
+            assertNotNull(response.getCookie(LastWriteCookie.NAME));
+            assertTrue(response.getCookie(LastWriteCookie.NAME).isHttpOnly());
+        }
+
+        @Test
+        @DisplayName("Should not set the cookie when the transaction rolls back")
+        void write_Rollback_SetsNoCookie() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            routingDataSource.determineCurrentLookupKey();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+
+            assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+        }
+
+        @Test
+        @DisplayName("Should send a public read after the write to primary")
+        void write_ThenPublicRead_ReadsOwnWrite() {
+            TransactionSynchronizationManager.initSynchronization();
+            routingDataSource.determineCurrentLookupKey();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            TransactionSynchronizationManager.clearSynchronization();
+
+            // The browser returns the cookie on the next, session-free GET
+            MockHttpServletRequest publicRead = new MockHttpServletRequest("GET", "/api/comments/post/1");
+            publicRead.setCookies(response.getCookie(LastWriteCookie.NAME));
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(publicRead));
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+            assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+            assertNull(publicRead.getSession(false));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.dbexp.db_experiment.config;
+
+import java.util.List;
+
+import jakarta.servlet.Filter;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.savedrequest.RequestCacheAwareFilter;
+import org.springframework.security.web.session.ConcurrentSessionFilter;
+import org.springframework.security.web.session.SessionManagementFilter;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
+import com.dbexp.db_experiment.testutil.SecurityTestContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Security Config Tests")
+class SecurityConfigTest {
+
+    private static AnnotationConfigWebApplicationContext context;
+    private static FilterChainProxy filterChainProxy;
+
+    @BeforeAll
+    static void startContext() {
+        context = SecurityTestContext.start();
+        filterChainProxy = SecurityTestContext.filterChainProxy(context);
+    }
+
+    @AfterAll
+    static void closeContext() {
+        context.close();
+    }
+
+    private static List<Class<?>> filtersFor(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        return filterChainProxy.getFilterChains().stream()
+                .filter(chain -> chain.matches(request))
+                .findFirst()
+                .orElseThrow()
+                .getFilters().stream()
+                .<Class<?>>map(Filter::getClass)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should route public reads through a chain without session handling")
+    void publicReads_SkipSessionFilters() {
+        for (String path : List.of("/api/posts/1", "/api/comments/post/1", "/api/communities/1/feed",
+                "/api/users/username/alice", "/api/feed/all", "/api/search")) {
+            List<Class<?>> filters = filtersFor("GET", path);
+
+            assertFalse(filters.contains(ConcurrentSessionFilter.class), path);
+            assertFalse(filters.contains(SessionManagementFilter.class), path);
+            assertFalse(filters.contains(RequestCacheAwareFilter.class), path);
+            assertFalse(filters.contains(LogoutFilter.class), path);
+            assertFalse(filters.contains(AnonymousAuthenticationFilter.class), path);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep session-aware reads and writes on the full chain")
+    void sessionRoutes_UseFullChain() {
+        assertTrue(filtersFor("GET", "/api/auth/me").contains(ConcurrentSessionFilter.class));
+        assertTrue(filtersFor("GET", "/api/feed").contains(ConcurrentSessionFilter.class));
+        assertTrue(filtersFor("POST", "/api/posts").contains(ConcurrentSessionFilter.class));
+        assertTrue(filtersFor("DELETE", "/api/comments/1").contains(ConcurrentSessionFilter.class));
+    }
+
+    @Test
+    @DisplayName("Should answer a public read without creating a session and still apply CORS")
+    void publicRead_CreatesNoSession() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.addHeader("Origin", "http://localhost:5173");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filterChainProxy.doFilter(request, response, new MockFilterChain());
+
+        assertNull(request.getSession(false));
+        assertEquals("http://localhost:5173", response.getHeader("Access-Control-Allow-Origin"));
+    }
+
+    @Test
+    @DisplayName("Should turn away a session ended by a newer login and let the newer one through")
+    void fullChain_RejectsSupersededSession() throws Exception {
+        StripedSessionRegistry sessionRegistry = context.getBean(StripedSessionRegistry.class);
+        MockHttpSession older = new MockHttpSession(null, "older-session");
+        MockHttpSession newer = new MockHttpSession(null, "newer-session");
+        sessionRegistry.claim(older.getId(), 42L);
+        sessionRegistry.claim(newer.getId(), 42L);
+
+        MockHttpServletRequest olderRequest = new MockHttpServletRequest("GET", "/api/feed");
+        olderRequest.setSession(older);
+        MockHttpServletResponse olderResponse = new MockHttpServletResponse();
+        MockFilterChain olderChain = new MockFilterChain();
+        filterChainProxy.doFilter(olderRequest, olderResponse, olderChain);
+
+        MockHttpServletRequest newerRequest = new MockHttpServletRequest("GET", "/api/feed");
+        newerRequest.setSession(newer);
+        MockFilterChain newerChain = new MockFilterChain();
+        filterChainProxy.doFilter(newerRequest, new MockHttpServletResponse(), newerChain);
+
+        assertEquals(401, olderResponse.getStatus());
+        assertEquals("Session ended by a newer login", olderResponse.getContentAsString());
+        assertTrue(older.isInvalid());
+        assertNull(olderChain.getRequest());
+        assertNotNull(newerChain.getRequest());
+    }
+}
@@ -1,7 +1,12 @@
 package com.dbexp.db_experiment.controller;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpSession;
 
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,14 +16,31 @@ import org.junit.jupiter.api.Test;
 
 import org.mockito.Mock;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.dto.auth.RememberMeLogin;
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
+import com.dbexp.db_experiment.exception.ServiceUnavailableException;
 import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.LoginThrottle;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+import com.dbexp.db_experiment.testutil.MockMvcAsync;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,7 +56,9 @@ class AuthControllerTest extends BaseControllerTest {
     @BeforeEach
     void setUp() {
         super.setUpBase();
-        AuthController authController = new AuthController(authService);
+        AuthController authController = new AuthController(authService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8),
+                new LoginThrottle(100, 60, 100, 60, 4));
         this.mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
     }
 
@@ -156,6 +180,148 @@ class AuthControllerTest extends BaseControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Login Overload Tests")
+    class LoginOverloadTests {
+
+        @Test
+        @DisplayName("Should return service unavailable with Retry-After when hashing is saturated")
+        void login_HashingSaturated() throws Exception {
+            // Arrange
+            PasswordHashingExecutor saturated = mock(PasswordHashingExecutor.class);
+            doReturn(CompletableFuture.failedFuture(new ServiceUnavailableException("Too busy", 3)))
+                    .when(saturated).submit(any());
+            mockMvc = MockMvcBuilders.standaloneSetup(
+                    new AuthController(authService, saturated, new LoginThrottle(100, 60, 100, 60, 4))).build();
+            LoginRequest request = new LoginRequest("testuser", "password123");
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", request)
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "3"))
+                    .andExpect(content().string("Too busy"));
+            verify(authService, never()).login(any(LoginRequest.class), any(HttpSession.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Login Throttling Tests")
+    class LoginThrottlingTests {
+
+        @Test
+        @DisplayName("Should answer too many requests without authenticating once the username bucket is empty")
+        void login_ThrottledByUsername() throws Exception {
+            // Arrange: two attempts per username, refilled one per minute
+            mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService,
+                    new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8),
+                    new LoginThrottle(100, 60, 2, 1, 4))).build();
+            when(authService.login(any(LoginRequest.class), any(HttpSession.class)))
+                    .thenThrow(new BadCredentialsException("Invalid username or password"));
+            LoginRequest request = new LoginRequest("testuser", "wrong");
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", request).andExpect(status().isUnauthorized());
+            performPostRequest("/api/auth/login", new LoginRequest("TestUser", "wrong"))
+                    .andExpect(status().isUnauthorized());
+            performPostRequest("/api/auth/login", request)
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string("Retry-After", "60"))
+                    .andExpect(jsonPath("$.message").value("Too many login attempts, please try again later"));
+            verify(authService, times(2)).login(any(LoginRequest.class), any(HttpSession.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Remember-Me Tests")
+    class RememberMeTests {
+
+        private final LoginResponse loginResponse = new LoginResponse(1L, "testuser", "test@example.com",
+                "Login successful");
+        private final RememberMeToken token = new RememberMeToken("selector.next", Duration.ofDays(30));
+
+        @Test
+        @DisplayName("Should set an HttpOnly remember-me cookie when the login asks for one")
+        void login_RememberMeSetsCookie() throws Exception {
+            // Arrange
+            when(authService.login(any(LoginRequest.class), any(HttpSession.class))).thenReturn(loginResponse);
+            when(authService.issueRememberMeToken(1L)).thenReturn(token);
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", new LoginRequest("testuser", "password123", true))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Set-Cookie", containsString("remember-me=selector.next")))
+                    .andExpect(header().string("Set-Cookie", containsString("HttpOnly")))
+                    .andExpect(header().string("Set-Cookie", containsString("Max-Age=2592000")));
+        }
+
+        @Test
+        @DisplayName("Should not issue a token for a plain login")
+        void login_WithoutRememberMe() throws Exception {
+            // Arrange
+            when(authService.login(any(LoginRequest.class), any(HttpSession.class))).thenReturn(loginResponse);
+
+            // Act & Assert
+            performPostRequest("/api/auth/login", new LoginRequest("testuser", "password123"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Set-Cookie"));
+            verify(authService, never()).issueRememberMeToken(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should resume the session and replace the cookie")
+        void rememberMe_Success() throws Exception {
+            // Arrange
+            when(authService.loginWithRememberMe(any(String.class), any(HttpSession.class)))
+                    .thenReturn(new RememberMeLogin(loginResponse, token));
+
+            // Act & Assert
+            MockMvcAsync.perform(mockMvc, post("/api/auth/remember-me")
+                    .cookie(new Cookie("remember-me", "selector.current")))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userId").value(1))
+                    .andExpect(header().string("Set-Cookie", containsString("remember-me=selector.next")));
+            verify(authService).loginWithRememberMe(any(String.class), any(HttpSession.class));
+        }
+
+        @Test
+        @DisplayName("Should return unauthorized and clear the cookie for a rejected token")
+        void rememberMe_InvalidToken() throws Exception {
+            // Arrange
+            when(authService.loginWithRememberMe(any(String.class), any(HttpSession.class)))
+                    .thenThrow(new BadCredentialsException("Invalid or expired remember-me token"));
+
+            // Act & Assert
+            MockMvcAsync.perform(mockMvc, post("/api/auth/remember-me")
+                    .cookie(new Cookie("remember-me", "selector.stale")))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Invalid or expired remember-me token"))
+                    .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
+        }
+
+        @Test
+        @DisplayName("Should return unauthorized without a cookie")
+        void rememberMe_MissingCookie() throws Exception {
+            // Act & Assert
+            performPostRequest("/api/auth/remember-me", null)
+                    .andExpect(status().isUnauthorized());
+            verify(authService, never()).loginWithRememberMe(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should revoke the token on logout")
+        void logout_RevokesToken() throws Exception {
+            // Arrange
+            when(authService.logout(any(HttpSession.class))).thenReturn(new LogoutResponse("Logout successful"));
+
+            // Act & Assert
+            MockMvcAsync.perform(mockMvc, post("/api/auth/logout")
+                    .cookie(new Cookie("remember-me", "selector.current")))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
+            verify(authService).revokeRememberMeToken("selector.current");
+        }
+    }
+
     @Nested
     @DisplayName("Logout Tests")
     class LogoutTests {
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.testutil.MockMvcAsync;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -33,25 +35,25 @@ public abstract class BaseControllerTest {
     }
 
     protected ResultActions performGetRequest(String url, Object request) throws Exception {
-        return mockMvc.perform(get(url)
+        return MockMvcAsync.perform(mockMvc, get(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
     }
 
     protected ResultActions performPostRequest(String url, Object request) throws Exception {
-        return mockMvc.perform(post(url)
+        return MockMvcAsync.perform(mockMvc, post(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
     }
 
     protected ResultActions performPutRequest(String url, Object request) throws Exception {
-        return mockMvc.perform(put(url)
+        return MockMvcAsync.perform(mockMvc, put(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
     }
 
     protected ResultActions performDeleteRequest(String url, Object request) throws Exception {
-        return mockMvc.perform(delete(url)
+        return MockMvcAsync.perform(mockMvc, delete(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
     }
@@ -0,0 +1,67 @@
+package com.dbexp.db_experiment.controller;
+
+import java.util.List;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.cache.CacheStatsResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.EntityCaches;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Cache Controller Tests")
+class CacheControllerTest extends BaseControllerTest {
+
+    @Mock
+    private EntityCaches entityCaches;
+
+    @Mock
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        CacheController cacheController = new CacheController(entityCaches, authService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(cacheController).build();
+    }
+
+    @Test
+    @DisplayName("Should return cache statistics to a logged-in user")
+    void getStats_Authenticated() throws Exception {
+        // Arrange
+        when(authService.getCurrentUser(any())).thenReturn(new CurrentUserResponse(true, 1L, "testuser", "test@example.com"));
+        when(entityCaches.stats()).thenReturn(List.of(new CacheStatsResponse("posts", 2, 640, 16777216, 5, 2, 0, 1)));
+
+        // Act & Assert
+        performGetRequest("/api/caches", null)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("posts"))
+                .andExpect(jsonPath("$[0].hits").value(5));
+    }
+
+    @Test
+    @DisplayName("Should return unauthorized when not logged in")
+    void getStats_NotAuthenticated() throws Exception {
+        // Arrange
+        when(authService.getCurrentUser(any())).thenReturn(new CurrentUserResponse(false, null, null, null));
+
+        // Act & Assert
+        performGetRequest("/api/caches", null)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("User not authenticated"));
+        verify(entityCaches, never()).stats();
+    }
+}
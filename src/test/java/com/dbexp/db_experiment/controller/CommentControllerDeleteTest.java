@@ -44,7 +44,7 @@ class CommentControllerDeleteTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        CommentController commentController = new CommentController(commentService);
+        CommentController commentController = new CommentController(commentService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(commentController).build();
     }
 
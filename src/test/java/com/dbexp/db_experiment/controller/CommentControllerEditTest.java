@@ -45,7 +45,7 @@ class CommentControllerEditTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        CommentController commentController = new CommentController(commentService);
+        CommentController commentController = new CommentController(commentService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(commentController).build();
     }
 
@@ -42,7 +42,7 @@ class CommentControllerGetByIdTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        CommentController commentController = new CommentController(commentService);
+        CommentController commentController = new CommentController(commentService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(commentController).build();
     }
 
@@ -67,6 +67,7 @@ class CommentControllerGetByIdTest {
                     .andExpect(jsonPath("$.postId").value(response.getPostId()))
                     .andExpect(jsonPath("$.parentCommentId").value(response.getParentCommentId()))
                     .andExpect(jsonPath("$.content").value(response.getContent()))
+                    .andExpect(jsonPath("$.score").value(3))
                     .andExpect(jsonPath("$.createdAt").exists());
         }
     }
@@ -114,7 +115,7 @@ class CommentControllerGetByIdTest {
     }
 
     private GetCommentByIdResponse createSuccessResponse(Long commentId) {
-        return new GetCommentByIdResponse(commentId, "Test Comment Content", 1L, 1L, null,
-                java.time.LocalDateTime.now());
+        return new GetCommentByIdResponse(commentId, "Test Comment Content", 1L, 1L, null, 3L,
+                java.time.LocalDateTime.now(), false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.dbexp.db_experiment.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+
+import com.dbexp.db_experiment.dto.comment.GetCommentTreeResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.service.CommentService;
+import com.dbexp.db_experiment.service.CommentTreeBuilder;
+import com.dbexp.db_experiment.testutil.CommentTestBuilder;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Comment Controller - Get Comment Tree Tests")
+class CommentControllerGetTreeTest extends BaseControllerTest {
+
+    // Without the depth cap this chain overruns Jackson's default nesting limit of 1000
+    private static final int CHAIN_LENGTH = 2000;
+
+    @Mock
+    private CommentService commentService;
+
+    @BeforeEach
+    void setUp() {
+        CommentController commentController = new CommentController(commentService,
+                new JsonStreamWriter(objectMapper));
+        this.mockMvc = MockMvcBuilders.standaloneSetup(commentController).build();
+    }
+
+    @Nested
+    @DisplayName("Deep Threads")
+    class DeepThreadTests {
+
+        @Test
+        @DisplayName("Should serialize a reply chain deeper than the JSON nesting limit")
+        void getCommentTree_DeepChain_Serializes() throws Exception {
+            // Arrange
+            List<Comment> chain = createChain(1L, CHAIN_LENGTH);
+            when(commentService.getCommentTreeByPostId(1L))
+                    .thenReturn(new GetCommentTreeResponse(1L, CHAIN_LENGTH, CommentTreeBuilder.build(chain)));
+            String deepest = "$.comments[0]" + ".replies[0]".repeat(CommentTreeBuilder.MAX_DEPTH);
+
+            // Act & Assert
+            performGetRequest("/api/comments/post/1/tree", null)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalComments").value(CHAIN_LENGTH))
+                    .andExpect(jsonPath(deepest + ".commentId").value(CommentTreeBuilder.MAX_DEPTH + 1))
+                    .andExpect(jsonPath(deepest + ".depth").value(CommentTreeBuilder.MAX_DEPTH))
+                    .andExpect(jsonPath(deepest + ".childCount").value(1))
+                    .andExpect(jsonPath(deepest + ".continueThread").value(true))
+                    .andExpect(jsonPath(deepest + ".replies").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should continue a deep chain from the marked comment")
+        void getCommentThread_DeepChain_Continues() throws Exception {
+            // Arrange
+            List<Comment> chain = createChain(1L, CHAIN_LENGTH);
+            long marked = CommentTreeBuilder.MAX_DEPTH + 1L;
+            when(commentService.getCommentThread(1L, marked))
+                    .thenReturn(new GetCommentTreeResponse(1L, CHAIN_LENGTH, CommentTreeBuilder.build(chain, marked)));
+
+            // Act & Assert
+            performGetRequest("/api/comments/post/1/tree/" + marked, null)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.comments[0].commentId").value(marked))
+                    .andExpect(jsonPath("$.comments[0].depth").value(0))
+                    .andExpect(jsonPath("$.comments[0].replies[0].commentId").value(marked + 1))
+                    .andExpect(jsonPath("$.comments[0].continueThread").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("Not Found")
+    class NotFoundTests {
+
+        @Test
+        @DisplayName("Should return not found when the thread comment is not on the post")
+        void getCommentThread_UnknownComment_ReturnsNotFound() throws Exception {
+            when(commentService.getCommentThread(1L, 99L))
+                    .thenThrow(new ResourceNotFoundException("Comment not found"));
+
+            performGetRequest("/api/comments/post/1/tree/99", null)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().string("Comment not found"));
+        }
+    }
+
+    // Helper methods
+    private List<Comment> createChain(Long postId, int size) {
+        List<Comment> comments = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            comments.add(CommentTestBuilder.aComment()
+                    .withCommentId(id)
+                    .withUserId(1L)
+                    .withPostId(postId)
+                    .withCommentContent("c" + id)
+                    .withParentCommentId(id == 1 ? null : id - 1)
+                    .build());
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,149 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
+import com.dbexp.db_experiment.service.CommentService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Comment Controller - Streamed Comments By Post ID Tests")
+class CommentControllerStreamTest {
+
+    @Mock
+    private CommentService commentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CommentController commentController = new CommentController(commentService,
+                new JsonStreamWriter(objectMapper));
+        this.mockMvc = MockMvcBuilders.standaloneSetup(commentController).build();
+    }
+
+    @Nested
+    @DisplayName("Streaming Mode")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should stream a JSON array when stream=true")
+        void getCommentsByPostId_StreamArray() throws Exception {
+            mockStreamedComments(1L, 2);
+
+            MvcResult started = mockMvc.perform(get("/api/comments/post/{postId}", 1L).param("stream", "true"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/json"))
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].commentId").value(1))
+                    .andExpect(jsonPath("$[1].commentId").value(2))
+                    .andExpect(jsonPath("$[0].excerpt").value("Comment 1"))
+                    .andExpect(jsonPath("$[0].commentContent").doesNotExist());
+
+            verify(commentService, never()).getCommentsByPostId(any());
+        }
+
+        @Test
+        @DisplayName("Should stream newline-delimited JSON when requested through Accept")
+        void getCommentsByPostId_StreamNdjson() throws Exception {
+            mockStreamedComments(1L, 3);
+
+            MvcResult started = mockMvc.perform(get("/api/comments/post/{postId}", 1L)
+                    .header("Accept", JsonStreamWriter.NDJSON_VALUE))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String body = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(JsonStreamWriter.NDJSON_VALUE))
+                    .andReturn().getResponse().getContentAsString();
+
+            String[] lines = body.strip().split("\n");
+            assertEquals(3, lines.length);
+            assertTrue(lines[2].contains("\"commentId\":3"));
+        }
+
+        @Test
+        @DisplayName("Should keep the buffered list for clients that accept anything")
+        void getCommentsByPostId_WildcardAcceptIsNotStreamed() throws Exception {
+            when(commentService.getCommentsByPostId(1L)).thenReturn(List.of());
+
+            mockMvc.perform(get("/api/comments/post/{postId}", 1L).header("Accept", "*/*"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0));
+
+            verify(commentService, never()).streamCommentsByPostId(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should hand a failure mid-stream to the async error handling instead of answering twice")
+        void getCommentsByPostId_StreamFailsMidway() throws Exception {
+            IllegalStateException failure = new IllegalStateException("connection lost");
+            doAnswer(invocation -> {
+                Consumer<CommentPreviewResponse> sink = invocation.getArgument(1);
+                sink.accept(new CommentPreviewResponse(1L, 1L, 1L, null, "Comment 1", false, LocalDateTime.now(), false));
+                throw failure;
+            }).when(commentService).streamCommentsByPostId(eq(1L), any());
+
+            MvcResult started = mockMvc.perform(get("/api/comments/post/{postId}", 1L).param("stream", "true"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertSame(failure, started.getAsyncResult());
+            assertFalse(started.getResponse().getContentAsString().contains("An error occurred"));
+        }
+    }
+
+    // Helper methods
+    @SuppressWarnings("unchecked")
+    private void mockStreamedComments(Long postId, int count) {
+        doAnswer(invocation -> {
+            Consumer<CommentPreviewResponse> sink = invocation.getArgument(1);
+            for (long id = 1; id <= count; id++) {
+                sink.accept(new CommentPreviewResponse(id, 1L, postId, null, "Comment " + id, false, LocalDateTime.now(), false));
+            }
+            return null;
+        }).when(commentService).streamCommentsByPostId(eq(postId), any(Consumer.class));
+    }
+}
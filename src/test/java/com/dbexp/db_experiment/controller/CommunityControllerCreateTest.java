@@ -37,7 +37,7 @@ class CommunityControllerCreateTest extends BaseCommunityControllerTest {
 
     @BeforeEach
     void setUp() {
-        CommunityController communityController = new CommunityController(communityService, postService);
+        CommunityController communityController = new CommunityController(communityService, postService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(communityController).build();
     }
 
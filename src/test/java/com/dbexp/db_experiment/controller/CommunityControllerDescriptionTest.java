@@ -38,7 +38,7 @@ class CommunityControllerDescriptionTest extends BaseCommunityControllerTest {
 
     @BeforeEach
     void setUp() {
-        CommunityController communityController = new CommunityController(communityService, postService);
+        CommunityController communityController = new CommunityController(communityService, postService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(communityController).build();
     }
 
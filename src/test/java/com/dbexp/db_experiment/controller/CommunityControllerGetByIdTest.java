@@ -36,7 +36,7 @@ class CommunityControllerGetByIdTest extends BaseCommunityControllerTest {
 
     @BeforeEach
     void setUp() {
-        CommunityController communityController = new CommunityController(communityService, postService);
+        CommunityController communityController = new CommunityController(communityService, postService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(communityController).build();
     }
 
@@ -50,7 +50,7 @@ class CommunityControllerGetByIdTest extends BaseCommunityControllerTest {
             Long communityId = 1L;
             GetCommunityByIdRequest request = new GetCommunityByIdRequest(communityId);
             GetCommunityByIdResponse response = new GetCommunityByIdResponse(communityId, "testcommunity",
-                    "Test Description", LocalDateTime.now());
+                    "Test Description", LocalDateTime.now(), 0, LocalDateTime.now());
 
             when(communityService.getCommunityById(any(GetCommunityByIdRequest.class))).thenReturn(response);
 
@@ -36,7 +36,7 @@ class CommunityControllerGetByNameTest extends BaseCommunityControllerTest {
 
     @BeforeEach
     void setUp() {
-        CommunityController communityController = new CommunityController(communityService, postService);
+        CommunityController communityController = new CommunityController(communityService, postService, new JsonStreamWriter(objectMapper));
         this.mockMvc = MockMvcBuilders.standaloneSetup(communityController).build();
     }
 
@@ -50,7 +50,7 @@ class CommunityControllerGetByNameTest extends BaseCommunityControllerTest {
             String name = "testcommunity";
             GetCommunityByNameRequest request = new GetCommunityByNameRequest(name);
             GetCommunityByNameResponse response = new GetCommunityByNameResponse(1L, name,
-                    "Test Description", LocalDateTime.now());
+                    "Test Description", LocalDateTime.now(), 0, LocalDateTime.now());
 
             when(communityService.getCommunityByName(any(GetCommunityByNameRequest.class))).thenReturn(response);
 
@@ -0,0 +1,65 @@
+package com.dbexp.db_experiment.controller;
+
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Mock;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.hashing.HashingStatsResponse;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Hashing Controller Tests")
+class HashingControllerTest extends BaseControllerTest {
+
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Mock
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        HashingController hashingController = new HashingController(passwordHashingExecutor, authService);
+        this.mockMvc = MockMvcBuilders.standaloneSetup(hashingController).build();
+    }
+
+    @Test
+    @DisplayName("Should return hashing statistics to a logged-in user")
+    void getStats_Authenticated() throws Exception {
+        // Arrange
+        when(authService.getCurrentUser(any())).thenReturn(new CurrentUserResponse(true, 1L, "testuser", "test@example.com"));
+        when(passwordHashingExecutor.stats()).thenReturn(new HashingStatsResponse(4, 1, 0, 64, 10, 0, 10, 85.5, 120.0));
+
+        // Act & Assert
+        performGetRequest("/api/hashing", null)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.threads").value(4))
+                .andExpect(jsonPath("$.completed").value(10));
+    }
+
+    @Test
+    @DisplayName("Should return unauthorized when not logged in")
+    void getStats_NotAuthenticated() throws Exception {
+        // Arrange
+        when(authService.getCurrentUser(any())).thenReturn(new CurrentUserResponse(false, null, null, null));
+
+        // Act & Assert
+        performGetRequest("/api/hashing", null)
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("User not authenticated"));
+        verify(passwordHashingExecutor, never()).stats();
+    }
+}
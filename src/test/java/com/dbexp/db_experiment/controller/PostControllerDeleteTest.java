@@ -64,7 +64,8 @@ class PostControllerDeleteTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.postId").value(response.getPostId()))
                     .andExpect(jsonPath("$.deletedAt").exists())
-                    .andExpect(jsonPath("$.message").value(response.getMessage()));
+                    .andExpect(jsonPath("$.message").value(response.getMessage()))
+                    .andExpect(jsonPath("$.deletionJobId").value(7));
         }
     }
 
@@ -111,6 +112,6 @@ class PostControllerDeleteTest {
     }
 
     private DeletePostResponse createSuccessResponse(Long postId) {
-        return new DeletePostResponse(postId, java.time.LocalDateTime.now(), "Post deleted successfully");
+        return new DeletePostResponse(postId, java.time.LocalDateTime.now(), "Post deleted successfully", 7L);
     }
 }
\ No newline at end of file
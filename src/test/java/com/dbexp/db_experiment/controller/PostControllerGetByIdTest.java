@@ -67,6 +67,7 @@ class PostControllerGetByIdTest {
                     .andExpect(jsonPath("$.communityId").value(response.getCommunityId()))
                     .andExpect(jsonPath("$.postTitle").value(response.getPostTitle()))
                     .andExpect(jsonPath("$.postContent").value(response.getPostContent()))
+                    .andExpect(jsonPath("$.score").value(5))
                     .andExpect(jsonPath("$.createdAt").exists());
         }
     }
@@ -114,7 +115,7 @@ class PostControllerGetByIdTest {
     }
 
     private GetPostByIdResponse createSuccessResponse(Long postId) {
-        return new GetPostByIdResponse(postId, 1L, 1L, "Test Post Title", "Test Post Content",
-                java.time.LocalDateTime.now());
+        return new GetPostByIdResponse(postId, 1L, 1L, "Test Post Title", "Test Post Content", 5L, 0L,
+                java.time.LocalDateTime.now(), java.time.LocalDateTime.now());
     }
 }
\ No newline at end of file
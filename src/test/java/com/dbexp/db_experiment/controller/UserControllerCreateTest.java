@@ -21,11 +21,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.user.CreateUserRequest;
 import com.dbexp.db_experiment.dto.user.CreateUserResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
 import com.dbexp.db_experiment.testutil.CreateUserRequestBuilder;
 import com.dbexp.db_experiment.testutil.CreateUserResponseBuilder;
+import com.dbexp.db_experiment.testutil.MockMvcAsync;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -48,7 +51,8 @@ class UserControllerCreateTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        UserController userController = new UserController(userService);
+        UserController userController = new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8));
         this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
     }
 
@@ -172,7 +176,7 @@ class UserControllerCreateTest {
 
     // Helper methods
     private ResultActions performCreateUserRequest(CreateUserRequest request) throws Exception {
-        return mockMvc.perform(post("/api/users")
+        return MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)));
     }
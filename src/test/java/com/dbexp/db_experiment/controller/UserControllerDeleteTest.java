@@ -17,8 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.user.DeleteAccountRequest;
 import com.dbexp.db_experiment.dto.user.DeleteAccountResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -36,7 +38,8 @@ class UserControllerDeleteTest extends BaseControllerTest {
 
     @BeforeEach
     void setUp() {
-        UserController userController = new UserController(userService);
+        UserController userController = new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8));
         this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
                 .addFilters(new CharacterEncodingFilter("UTF-8", true)) // Ensure proper encoding
                 .build();
@@ -52,7 +55,7 @@ class UserControllerDeleteTest extends BaseControllerTest {
             Long userId = 1L;
             DeleteAccountRequest request = new DeleteAccountRequest("currentPassword123");
             DeleteAccountResponse response = new DeleteAccountResponse(userId, LocalDateTime.now(),
-                    "Account deleted successfully");
+                    "Account deleted successfully", 5L);
 
             when(userService.deleteAccount(any(HttpSession.class), eq(userId), any(DeleteAccountRequest.class)))
                     .thenReturn(response);
@@ -61,7 +64,8 @@ class UserControllerDeleteTest extends BaseControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.userId").value(userId))
                     .andExpect(jsonPath("$.deletedAt").exists())
-                    .andExpect(jsonPath("$.message").value("Account deleted successfully"));
+                    .andExpect(jsonPath("$.message").value("Account deleted successfully"))
+                    .andExpect(jsonPath("$.deletionJobId").value(5));
         }
     }
 
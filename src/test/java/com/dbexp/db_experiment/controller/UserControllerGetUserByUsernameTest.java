@@ -14,8 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameRequest;
 import com.dbexp.db_experiment.dto.user.GetUserByUsernameResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -32,7 +34,8 @@ class UserControllerGetUserByUsernameTest extends BaseControllerTest {
 
     @BeforeEach
     void setUp() {
-        UserController userController = new UserController(userService);
+        UserController userController = new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8));
         this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
     }
 
@@ -0,0 +1,93 @@
+package com.dbexp.db_experiment.controller;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.config.Argon2Cost;
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.user.GetUserByIdResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+import com.dbexp.db_experiment.service.UserService;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Controller - Get Users By IDs Tests")
+class UserControllerGetUsersByIdsTest {
+
+    @Mock
+    private UserService userService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8))).build();
+    }
+
+    @Nested
+    @DisplayName("Successful Retrieval")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should parse comma-separated ids and return ordered results")
+        void getUsersByIds_Success() throws Exception {
+            // Arrange
+            MultiGetResponse<GetUserByIdResponse> response = new MultiGetResponse<>(
+                    Arrays.asList(new GetUserByIdResponse(2L, "bob", "bob@example.com", LocalDateTime.now()), null),
+                    List.of(5L));
+            when(userService.getUsersByIds(List.of(2L, 5L))).thenReturn(response);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/users").param("ids", "2,5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].username").value("bob"))
+                    .andExpect(jsonPath("$.results[1]").isEmpty())
+                    .andExpect(jsonPath("$.notFound[0]").value(5));
+            verify(userService).getUsersByIds(List.of(2L, 5L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Errors")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should return 400 when the service rejects the id list")
+        void getUsersByIds_TooMany_ReturnsBadRequest() throws Exception {
+            when(userService.getUsersByIds(anyList()))
+                    .thenThrow(new IllegalArgumentException("At most 200 ids are allowed per request"));
+
+            mockMvc.perform(get("/api/users").param("ids", "1,2"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("At most 200 ids are allowed per request"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when ids are missing")
+        void getUsersByIds_Missing_ReturnsBadRequest() throws Exception {
+            mockMvc.perform(get("/api/users"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
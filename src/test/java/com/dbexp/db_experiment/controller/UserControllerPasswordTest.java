@@ -17,8 +17,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.user.ChangePasswordRequest;
 import com.dbexp.db_experiment.dto.user.ChangePasswordResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -36,7 +38,8 @@ class UserControllerPasswordTest extends BaseControllerTest {
 
     @BeforeEach
     void setUp() {
-        UserController userController = new UserController(userService);
+        UserController userController = new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8));
         this.mockMvc = MockMvcBuilders.standaloneSetup(userController)
                 .addFilters(new CharacterEncodingFilter("UTF-8", true)) // Ensure proper encoding
                 .build();
@@ -16,9 +16,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dbexp.db_experiment.config.Argon2Cost;
 import com.dbexp.db_experiment.dto.user.CreateUserRequest;
 import com.dbexp.db_experiment.dto.user.CreateUserResponse;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
 import com.dbexp.db_experiment.service.UserService;
+import com.dbexp.db_experiment.testutil.MockMvcAsync;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -40,7 +43,8 @@ class UserControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper.registerModule(new JavaTimeModule());
-        UserController userController = new UserController(userService);
+        UserController userController = new UserController(userService,
+                new PasswordHashingExecutor(new Argon2Cost(65536, 3, 1), 256, 8));
         this.mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
     }
 
@@ -52,7 +56,7 @@ class UserControllerTest {
 
         when(userService.createUser(any(CreateUserRequest.class))).thenReturn(response);
 
-        mockMvc.perform(post("/api/users")
+        MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -66,7 +70,7 @@ class UserControllerTest {
     void createUser_ValidationError_EmptyUsername() throws Exception {
         CreateUserRequest request = new CreateUserRequest("", "test@example.com", "password123");
 
-        mockMvc.perform(post("/api/users")
+        MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
@@ -77,7 +81,7 @@ class UserControllerTest {
     void createUser_ValidationError_InvalidEmail() throws Exception {
         CreateUserRequest request = new CreateUserRequest("testuser", "invalid-email", "password123");
 
-        mockMvc.perform(post("/api/users")
+        MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
@@ -91,7 +95,7 @@ class UserControllerTest {
         when(userService.createUser(any(CreateUserRequest.class)))
                 .thenThrow(new IllegalArgumentException("Username already exists"));
 
-        mockMvc.perform(post("/api/users")
+        MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
@@ -106,7 +110,7 @@ class UserControllerTest {
         when(userService.createUser(any(CreateUserRequest.class)))
                 .thenThrow(new RuntimeException("Unexpected error"));
 
-        mockMvc.perform(post("/api/users")
+        MockMvcAsync.perform(mockMvc, post("/api/users")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isInternalServerError())
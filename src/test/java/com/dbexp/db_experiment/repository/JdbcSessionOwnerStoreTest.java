@@ -0,0 +1,85 @@
+package com.dbexp.db_experiment.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Against an in-memory H2 database standing in for the shared MySQL one
+@DisplayName("JDBC Session Owner Store Tests")
+class JdbcSessionOwnerStoreTest {
+
+    private EmbeddedDatabase database;
+    private JdbcSessionOwnerStore store;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE UserSession (user_id INT PRIMARY KEY, "
+                + "session_id VARCHAR(128) NOT NULL, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        store = new JdbcSessionOwnerStore(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should record one session per user and let a later claim replace it")
+    void claim_ReplacesEarlierSession() {
+        store.claim(1L, "first");
+        assertTrue(store.owns(1L, "first"));
+
+        store.claim(1L, "second");
+        assertFalse(store.owns(1L, "first"));
+        assertTrue(store.owns(1L, "second"));
+        assertFalse(store.owns(2L, "second"));
+    }
+
+    @Test
+    @DisplayName("Should release only the session that still owns the row")
+    void release_OnlyCurrentSession() {
+        store.claim(1L, "first");
+        store.claim(1L, "second");
+
+        store.release(1L, "first");
+        assertTrue(store.owns(1L, "second"));
+
+        store.release(1L, "second");
+        assertFalse(store.owns(1L, "second"));
+    }
+
+    @Test
+    @DisplayName("Should end a session on one instance when the user logs in on another")
+    void registries_EnforceOneSessionAcrossInstances() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        StripedSessionRegistry instanceA = new StripedSessionRegistry(store, 60_000, 5000, 4, 1000, clock::get);
+        StripedSessionRegistry instanceB = new StripedSessionRegistry(store, 60_000, 5000, 4, 1000, clock::get);
+
+        instanceA.claim("on-a", 1L);
+        instanceB.claim("on-b", 1L);
+
+        // A only learns of the login on B at its next recheck
+        assertFalse(instanceA.getSessionInformation("on-a").isExpired());
+        clock.addAndGet(5000);
+        assertTrue(instanceA.getSessionInformation("on-a").isExpired());
+        assertFalse(instanceB.getSessionInformation("on-b").isExpired());
+    }
+}
@@ -0,0 +1,188 @@
+package com.dbexp.db_experiment.repository;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs EXPLAIN for every @Query of the core repositories against the schema
+// and a seeded data set, and fails on full scans, filesorts and temporary
+// tables. schema.sql is loaded because it is plain MySQL; SchemaParityTest
+// holds schema-prod.sql to the same indexes. Needs a scratch database whose
+// tables schema.sql drops and recreates, so it only runs when one is named,
+// for example through the explain profile.
+//
+// UNVERIFIED: this class has not yet been run against a MySQL server. The
+// seed sizes, the plan rules and the indexes they led to were written from
+// the schema and the MySQL documentation, not from observed EXPLAIN output.
+// The default build skips it, so nothing here is checked by mvn test; run it
+// once against MySQL 8 and adjust any expectation it gets wrong before
+// relying on it.
+//   mvn test -Pexplain -Dexplain.url=jdbc:mysql://localhost:3306/explain_scratch \
+//       -Dexplain.username=dbexp -Dexplain.password=...
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "explain.url", matches = ".+")
+@DisplayName("Repository Query Plan Tests")
+class QueryPlanTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            CommentRepository.class, PostRepository.class, UserRepository.class, CommunityRepository.class);
+
+    private static final List<String> TABLES = List.of("DeletionJob", "CommentVote", "PostVote",
+            "CommunityModerator", "Subscription", "ForumComment", "Post", "Community", "ForumUser");
+
+    // Large enough that the optimizer prefers indexes over scanning a few pages
+    private static final int USERS = 5_000;
+    private static final int COMMUNITIES = 200;
+    private static final int POSTS = 50_000;
+    private static final int COMMENTS = 200_000;
+    private static final int BATCH_SIZE = 5_000;
+
+    // Any id below this exists in every seeded table
+    private static final long SAMPLE_ID = 42;
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @BeforeAll
+    void setUpDatabase() throws IOException, SQLException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getProperty("explain.url"),
+                System.getProperty("explain.username", "root"), System.getProperty("explain.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/schema.sql"));
+        }
+        seed();
+        TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE TABLE " + table));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> everyQueryUsesAnIndex() {
+        List<Method> methods = REPOSITORIES.stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods()))
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .sorted(Comparator.comparing(QueryPlanTest::displayName))
+                .toList();
+        assertFalse(methods.isEmpty(), "No @Query methods found");
+
+        return methods.stream().map(method -> DynamicTest.dynamicTest(displayName(method), () -> assertPlan(method)));
+    }
+
+    private static String displayName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private void assertPlan(Method method) {
+        String sql = method.getAnnotation(Query.class).value();
+        List<Map<String, Object>> plan = namedParameterJdbcTemplate.queryForList("EXPLAIN " + sql,
+                sampleParameters(method));
+
+        List<String> problems = new ArrayList<>();
+        for (Map<String, Object> row : plan) {
+            String type = String.valueOf(row.get("type"));
+            String extra = String.valueOf(row.get("Extra"));
+            // A full index walk is fine when a LIMIT stops it after a page
+            if ("ALL".equals(type) || ("index".equals(type) && !sql.contains("LIMIT"))) {
+                problems.add("full scan of " + row.get("table"));
+            }
+            if (extra.contains("Using filesort")) {
+                problems.add("filesort on " + row.get("table"));
+            }
+            if (extra.contains("Using temporary")) {
+                problems.add("temporary table for " + row.get("table"));
+            }
+        }
+        assertTrue(problems.isEmpty(), () -> problems + "\n" + sql + "\n" + plan);
+    }
+
+    // Values that match seeded rows, so the optimizer plans for a real lookup
+    private MapSqlParameterSource sampleParameters(Method method) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        for (Parameter parameter : method.getParameters()) {
+            parameters.addValue(parameter.getName(), sampleValue(parameter));
+        }
+        return parameters;
+    }
+
+    private Object sampleValue(Parameter parameter) {
+        Class<?> type = parameter.getType();
+        String name = parameter.getName().toLowerCase();
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(SAMPLE_ID, SAMPLE_ID + 1, SAMPLE_ID + 2);
+        }
+        if (type == Long.class || type == long.class) {
+            return SAMPLE_ID;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 20;
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (name.contains("username")) {
+            return "user" + SAMPLE_ID;
+        }
+        if (name.contains("email")) {
+            return "user" + SAMPLE_ID + "@example.com";
+        }
+        if (name.equals("name")) {
+            return "community" + SAMPLE_ID;
+        }
+        return "text";
+    }
+
+    private void seed() {
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        batch("INSERT INTO ForumUser (username, password_hash, email) VALUES (?, ?, ?)", USERS,
+                i -> new Object[] { "user" + i, "hash", "user" + i + "@example.com" });
+        batch("INSERT INTO Community (community_name, community_description, created_at) VALUES (?, ?, ?)",
+                COMMUNITIES, i -> new Object[] { "community" + i, "description", start.plusHours(i) });
+        batch("INSERT INTO Post (user_id, community_id, post_title, post_content, created_at) VALUES (?, ?, ?, ?, ?)",
+                POSTS, i -> new Object[] { i % USERS + 1, i % COMMUNITIES + 1, "title " + i, "content " + i,
+                        start.plusMinutes(i) });
+        // The first pass over the posts is top-level; later comments on a post
+        // alternate between new threads and replies to its previous comment
+        batch("INSERT INTO ForumComment (user_id, post_id, parent_comment_id, comment_content, deleted_at) "
+                + "VALUES (?, ?, ?, ?, ?)", COMMENTS, i -> new Object[] { i % USERS + 1, i % POSTS + 1,
+                        i > POSTS && i % 2 == 0 ? i - POSTS : null, "comment " + i,
+                        i % 50 == 0 ? start.plusMinutes(i) : null });
+    }
+
+    // Rows are numbered from 1 so they line up with the fresh AUTO_INCREMENT ids
+    private void batch(String sql, int count, IntFunction<Object[]> row) {
+        for (int from = 1; from <= count; from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, IntStream.range(from, Math.min(from + BATCH_SIZE, count + 1))
+                    .mapToObj(row).toList());
+        }
+    }
+}
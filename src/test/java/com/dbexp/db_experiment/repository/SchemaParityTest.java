@@ -0,0 +1,53 @@
+package com.dbexp.db_experiment.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ClassPathResource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// schema-prod.sql is what production runs, but QueryPlanTest only checks
+// plans against schema.sql, so the two are held to the same tables and
+// indexes. Reads the scripts only, so it needs no database; it compares
+// index names, not query plans, which only the opt-in explain profile looks at.
+@DisplayName("Schema Parity Tests")
+class SchemaParityTest {
+
+    private static final Pattern TABLE_NAME = Pattern.compile(
+            "(?m)^CREATE TABLE (?:IF NOT EXISTS )?(\\w+) \\(");
+
+    private static final Pattern INDEX_NAME = Pattern.compile(
+            "(?m)^CREATE INDEX (?:IF NOT EXISTS )?(\\w+) ON");
+
+    @Test
+    @DisplayName("Production schema should create every table of the checked schema")
+    void prodSchemaDeclaresSameTables() throws IOException {
+        assertDeclaresSame(TABLE_NAME, "tables");
+    }
+
+    @Test
+    @DisplayName("Production schema should declare every index of the checked schema")
+    void prodSchemaDeclaresSameIndexes() throws IOException {
+        assertDeclaresSame(INDEX_NAME, "indexes");
+    }
+
+    private static void assertDeclaresSame(Pattern declaration, String kind) throws IOException {
+        Set<String> checked = names(declaration, "db/schema.sql");
+        Set<String> prod = names(declaration, "db/schema-prod.sql");
+        assertTrue(!checked.isEmpty(), () -> "No " + kind + " found in schema.sql");
+        assertTrue(prod.containsAll(checked), () -> "Missing " + kind + " from schema-prod.sql: "
+                + checked.stream().filter(name -> !prod.contains(name)).sorted().toList());
+    }
+
+    private static Set<String> names(Pattern declaration, String location) throws IOException {
+        String script = new ClassPathResource(location).getContentAsString(StandardCharsets.UTF_8);
+        return declaration.matcher(script).results().map(match -> match.group(1)).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,73 @@
+package com.dbexp.db_experiment.repository;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.springframework.data.jdbc.repository.query.Query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// findById(Long) has to replace CrudRepository.findById; declared with a
+// primitive long it only overloads it, and callers holding a Long silently
+// bind to the inherited, unfiltered lookup. The call below is bound by the
+// compiler exactly like the services' calls, and the proxy reports which
+// method it reached.
+@DisplayName("Soft-Delete Lookup Tests")
+class SoftDeleteLookupTest {
+
+    private static <T> Method invokedMethod(Class<T> repository, Consumer<T> call) {
+        AtomicReference<Method> invoked = new AtomicReference<>();
+        T proxy = repository.cast(Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[] { repository },
+                (self, method, args) -> {
+                    invoked.set(method);
+                    return Optional.empty();
+                }));
+        call.accept(proxy);
+        return invoked.get();
+    }
+
+    private static void assertFiltersDeleted(Class<?> repository, Method method) {
+        assertEquals(repository, method.getDeclaringClass());
+        Query query = method.getAnnotation(Query.class);
+        assertNotNull(query);
+        assertTrue(query.value().contains("deleted_at IS NULL"));
+    }
+
+    @Test
+    @DisplayName("Should bind a Long post id to the query that skips deleted posts")
+    void postFindById_ReplacesInheritedLookup() {
+        Long postId = 1L;
+
+        Method method = invokedMethod(PostRepository.class, repository -> repository.findById(postId));
+
+        assertFiltersDeleted(PostRepository.class, method);
+    }
+
+    @Test
+    @DisplayName("Should bind a Long user id to the query that skips deleted accounts")
+    void userFindById_ReplacesInheritedLookup() {
+        Long userId = 1L;
+
+        Method method = invokedMethod(UserRepository.class, repository -> repository.findById(userId));
+
+        assertFiltersDeleted(UserRepository.class, method);
+    }
+
+    @Test
+    @DisplayName("Should bind a Long comment id to the query that skips comments of deleted posts")
+    void commentFindById_ReplacesInheritedLookup() {
+        Long commentId = 1L;
+
+        Method method = invokedMethod(CommentRepository.class, repository -> repository.findById(commentId));
+
+        assertFiltersDeleted(CommentRepository.class, method);
+    }
+}
@@ -1,10 +1,12 @@
 package com.dbexp.db_experiment.service.auth;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import jakarta.servlet.http.HttpSession;
 
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,18 +22,26 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.dto.auth.LoginRequest;
 import com.dbexp.db_experiment.dto.auth.LoginResponse;
 import com.dbexp.db_experiment.dto.auth.LogoutResponse;
+import com.dbexp.db_experiment.dto.auth.RememberMeLogin;
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
 import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.repository.UserRepository;
 import com.dbexp.db_experiment.service.AuthServiceImpl;
+import com.dbexp.db_experiment.service.EntityCaches;
+import com.dbexp.db_experiment.service.PrincipalVersions;
+import com.dbexp.db_experiment.service.RememberMeTokens;
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
 import com.dbexp.db_experiment.testutil.UserTestBuilder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,11 +58,22 @@ class AuthServiceTest {
     @Mock
     private HttpSession session;
 
+    @Mock
+    private RememberMeTokens rememberMeTokens;
+
+    @Mock
+    private StripedSessionRegistry sessionRegistry;
+
+    private PrincipalVersions principalVersions;
+
     private AuthServiceImpl authService;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthServiceImpl(userRepository, passwordEncoder);
+        principalVersions = new PrincipalVersions();
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, principalVersions,
+                new EntityCaches(1 << 20, 1 << 20, 1 << 20), rememberMeTokens,
+                sessionRegistry);
     }
 
     @Nested
@@ -93,6 +114,7 @@ class AuthServiceTest {
             verify(userRepository).findByUsername(username);
             verify(passwordEncoder).matches(password, encodedPassword);
             verify(session).setAttribute("userId", userId);
+            verify(sessionRegistry).claim(session.getId(), userId);
         }
     }
 
@@ -156,6 +178,127 @@ class AuthServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Login Rehash Tests")
+    class LoginRehashTests {
+
+        private final LoginRequest request = new LoginRequest("testuser", "password123");
+
+        @BeforeEach
+        void setUp() {
+            User user = UserTestBuilder.aUser()
+                    .withUserId(1L)
+                    .withUsername("testuser")
+                    .withPassword("oldHash")
+                    .build();
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("password123", "oldHash")).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should replace a hash made with a cheaper Argon2 cost")
+        void login_RehashesOutdatedHash() {
+            // Arrange
+            when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+            when(passwordEncoder.encode("password123")).thenReturn("newHash");
+            when(userRepository.replacePasswordHash(1L, "oldHash", "newHash")).thenReturn(1);
+
+            // Act
+            LoginResponse response = authService.login(request, session);
+
+            // Assert
+            assertEquals(1L, response.userId());
+            verify(userRepository).replacePasswordHash(1L, "oldHash", "newHash");
+        }
+
+        @Test
+        @DisplayName("Should leave a current hash alone")
+        void login_KeepsCurrentHash() {
+            // Arrange
+            when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(false);
+
+            // Act
+            authService.login(request, session);
+
+            // Assert
+            verify(passwordEncoder, never()).encode(any());
+            verify(userRepository, never()).replacePasswordHash(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should still log in when the rehash cannot be stored")
+        void login_SucceedsWhenRehashFails() {
+            // Arrange
+            when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+            when(passwordEncoder.encode("password123")).thenReturn("newHash");
+            when(userRepository.replacePasswordHash(1L, "oldHash", "newHash"))
+                    .thenThrow(new RuntimeException("Lock wait timeout"));
+
+            // Act
+            LoginResponse response = authService.login(request, session);
+
+            // Assert
+            assertEquals("Login successful", response.message());
+            verify(session).setAttribute("userId", 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Remember-Me Login Tests")
+    class RememberMeLoginTests {
+
+        private final RememberMeToken rotated = new RememberMeToken("selector.next", Duration.ofDays(30));
+
+        @Test
+        @DisplayName("Should start a session from a valid token without checking a password")
+        void loginWithRememberMe_Success() {
+            // Arrange
+            User user = UserTestBuilder.aUser()
+                    .withUserId(1L)
+                    .withUsername("testuser")
+                    .withEmail("test@example.com")
+                    .build();
+            when(rememberMeTokens.rotate("selector.current"))
+                    .thenReturn(Optional.of(new RememberMeTokens.Rotation(1L, rotated)));
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+            // Act
+            RememberMeLogin login = authService.loginWithRememberMe("selector.current", session);
+
+            // Assert
+            assertEquals(1L, login.response().userId());
+            assertEquals(rotated, login.token());
+            verify(session).setAttribute("userId", 1L);
+            verify(passwordEncoder, never()).matches(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a token that does not rotate")
+        void loginWithRememberMe_InvalidToken() {
+            // Arrange
+            when(rememberMeTokens.rotate("selector.stale")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(BadCredentialsException.class,
+                    () -> authService.loginWithRememberMe("selector.stale", session));
+            verify(session, never()).setAttribute(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a token whose account is gone")
+        void loginWithRememberMe_DeletedAccount() {
+            // Arrange
+            when(rememberMeTokens.rotate("selector.current"))
+                    .thenReturn(Optional.of(new RememberMeTokens.Rotation(1L, rotated)));
+            when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(BadCredentialsException.class,
+                    () -> authService.loginWithRememberMe("selector.current", session));
+            verify(session, never()).setAttribute(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Logout Tests")
     class LogoutTests {
@@ -169,6 +312,7 @@ class AuthServiceTest {
             // Assert
             assertNotNull(response);
             assertEquals("Logout successful", response.message());
+            verify(sessionRegistry).removeSessionInformation(session.getId());
             verify(session).invalidate();
         }
     }
@@ -251,4 +395,75 @@ class AuthServiceTest {
             verify(userRepository).findById(userId);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Session Principal Tests")
+    class SessionPrincipalTests {
+
+        private final MockHttpSession httpSession = new MockHttpSession();
+
+        private User user(String username) {
+            return UserTestBuilder.aUser()
+                    .withUserId(1L)
+                    .withUsername(username)
+                    .withEmail("test@example.com")
+                    .withPassword("encodedPassword")
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should answer from the session snapshot after login without reading the user again")
+        void getCurrentUser_UsesSnapshotFromLogin() {
+            // Arrange
+            when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user("testuser")));
+            when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+            authService.login(new LoginRequest("testuser", "password123"), httpSession);
+
+            // Act
+            CurrentUserResponse first = authService.getCurrentUser(httpSession);
+            CurrentUserResponse second = authService.getCurrentUser(httpSession);
+
+            // Assert
+            assertTrue(first.authenticated());
+            assertEquals("testuser", second.username());
+            verify(userRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should reload the user once after its version was bumped")
+        void getCurrentUser_ReloadsAfterBump() {
+            // Arrange
+            httpSession.setAttribute("userId", 1L);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user("testuser")),
+                    Optional.of(user("renamed")));
+            authService.getCurrentUser(httpSession);
+
+            // Act
+            principalVersions.bump(1L);
+            CurrentUserResponse afterBump = authService.getCurrentUser(httpSession);
+            CurrentUserResponse cached = authService.getCurrentUser(httpSession);
+
+            // Assert
+            assertEquals("renamed", afterBump.username());
+            assertEquals("renamed", cached.username());
+            verify(userRepository, times(2)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("Should reject a session on its next request once the account is deleted")
+        void getCurrentUser_RejectsDeletedAccount() {
+            // Arrange
+            httpSession.setAttribute("userId", 1L);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(user("testuser")), Optional.empty());
+            authService.getCurrentUser(httpSession);
+
+            // Act
+            principalVersions.bump(1L);
+            CurrentUserResponse response = authService.getCurrentUser(httpSession);
+
+            // Assert
+            assertFalse(response.authenticated());
+            assertNull(httpSession.getAttribute("principal"));
+        }
+    }
+}
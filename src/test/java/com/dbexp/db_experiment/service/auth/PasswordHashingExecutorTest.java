@@ -0,0 +1,114 @@
+package com.dbexp.db_experiment.service.auth;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.config.Argon2Cost;
+import com.dbexp.db_experiment.dto.hashing.HashingStatsResponse;
+import com.dbexp.db_experiment.exception.ServiceUnavailableException;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Password Hashing Executor Tests")
+class PasswordHashingExecutorTest {
+
+    private static final Argon2Cost COST = new Argon2Cost(65536, 3, 1);
+
+    // A 64 MiB budget holds one such hash, so one thread
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(COST, 64, 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should refuse work at once when the thread and queue are taken")
+    void submit_RejectsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit(() -> {
+            await(release);
+            return "running";
+        });
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        CompletableFuture<String> refused = executor.submit(() -> "refused");
+
+        ExecutionException error = assertThrows(ExecutionException.class, refused::get);
+        ServiceUnavailableException unavailable = assertInstanceOf(ServiceUnavailableException.class,
+                error.getCause());
+        assertTrue(unavailable.getRetryAfterSeconds() >= 1);
+        assertEquals(1, executor.stats().rejected());
+
+        release.countDown();
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should run the task with the caller's request attributes")
+    void submit_PropagatesRequestAttributes() throws Exception {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        RequestAttributes seen = executor.submit(RequestContextHolder::getRequestAttributes).get(5, TimeUnit.SECONDS);
+        RequestAttributes afterwards = executor.submit(() -> {
+            RequestContextHolder.resetRequestAttributes();
+            return RequestContextHolder.getRequestAttributes();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertSame(attributes, seen);
+        assertEquals(null, afterwards);
+    }
+
+    @Test
+    @DisplayName("Should count and time every hash of the metered encoder")
+    void metered_RecordsHashTimes() {
+        PasswordEncoder encoder = executor.metered(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        });
+
+        String hash = encoder.encode("secret");
+        boolean matches = encoder.matches("secret", hash);
+
+        assertTrue(matches);
+        HashingStatsResponse stats = executor.stats();
+        assertEquals(1, stats.threads());
+        assertEquals(2, stats.hashes());
+        assertTrue(stats.maxHashMillis() >= stats.averageHashMillis());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
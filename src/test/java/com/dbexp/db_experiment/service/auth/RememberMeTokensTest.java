@@ -0,0 +1,143 @@
+package com.dbexp.db_experiment.service.auth;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.auth.RememberMeToken;
+import com.dbexp.db_experiment.repository.RememberMeTokenRepository;
+import com.dbexp.db_experiment.repository.RememberMeTokenRepository.StoredToken;
+import com.dbexp.db_experiment.service.RememberMeTokens;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Remember-Me Tokens Tests")
+class RememberMeTokensTest {
+
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Mock
+    private RememberMeTokenRepository tokenRepository;
+
+    private RememberMeTokens tokens;
+    private RememberMeToken issued;
+    private String selector;
+    private byte[] storedHash;
+
+    @BeforeEach
+    void setUp() {
+        tokens = new RememberMeTokens(tokenRepository, KEY, 30);
+        issued = tokens.issue(7L);
+
+        ArgumentCaptor<String> selectorCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> hashCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(tokenRepository).insert(selectorCaptor.capture(), hashCaptor.capture(), eq(7L), any());
+        selector = selectorCaptor.getValue();
+        storedHash = hashCaptor.getValue();
+    }
+
+    private void stored(LocalDateTime expiresAt) {
+        when(tokenRepository.findBySelector(selector)).thenReturn(Optional.of(new StoredToken(7L, storedHash,
+                expiresAt)));
+    }
+
+    @Test
+    @DisplayName("Should store only a MAC of the validator under the token's selector")
+    void issue_StoresMacNotValidator() {
+        String[] parts = issued.value().split("\\.");
+
+        assertEquals(selector, parts[0]);
+        assertEquals(32, storedHash.length);
+        assertFalse(Arrays.equals(Base64.getUrlDecoder().decode(parts[1]), storedHash));
+    }
+
+    @Test
+    @DisplayName("Should accept a valid token and hand out a replacement validator")
+    void rotate_ValidToken() {
+        stored(LocalDateTime.now().plusDays(1));
+        when(tokenRepository.rotate(eq(selector), eq(storedHash), any(), any())).thenReturn(1);
+
+        Optional<RememberMeTokens.Rotation> rotation = tokens.rotate(issued.value());
+
+        assertTrue(rotation.isPresent());
+        assertEquals(7L, rotation.get().userId());
+        assertTrue(rotation.get().token().value().startsWith(selector + "."));
+        assertNotEquals(issued.value(), rotation.get().token().value());
+    }
+
+    @Test
+    @DisplayName("Should revoke the token when its selector comes with a wrong validator")
+    void rotate_WrongValidatorRevokes() {
+        stored(LocalDateTime.now().plusDays(1));
+        String forged = selector + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[32]);
+
+        assertTrue(tokens.rotate(forged).isEmpty());
+        verify(tokenRepository).deleteBySelector(selector);
+        verify(tokenRepository, never()).rotate(anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should refuse an expired token and delete it")
+    void rotate_ExpiredToken() {
+        stored(LocalDateTime.now().minusMinutes(1));
+
+        assertTrue(tokens.rotate(issued.value()).isEmpty());
+        verify(tokenRepository).deleteBySelector(selector);
+    }
+
+    @Test
+    @DisplayName("Should refuse a token another request has already rotated")
+    void rotate_LostRace() {
+        stored(LocalDateTime.now().plusDays(1));
+        when(tokenRepository.rotate(eq(selector), eq(storedHash), any(), any())).thenReturn(0);
+
+        assertTrue(tokens.rotate(issued.value()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens without touching the database")
+    void rotate_MalformedToken() {
+        clearInvocations(tokenRepository);
+
+        assertTrue(tokens.rotate("no-dot").isEmpty());
+        assertTrue(tokens.rotate("short.token").isEmpty());
+        assertTrue(tokens.rotate(selector + ".!!not base64!!").isEmpty());
+        verifyNoInteractions(tokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should compute the same MAC under the same key on another instance")
+    void rotate_SharedKeyAcrossInstances() {
+        stored(LocalDateTime.now().plusDays(1));
+        when(tokenRepository.rotate(eq(selector), any(), any(), any())).thenReturn(1);
+        RememberMeTokens other = new RememberMeTokens(tokenRepository, KEY, 30);
+
+        assertTrue(other.rotate(issued.value()).isPresent());
+        ArgumentCaptor<byte[]> oldHash = ArgumentCaptor.forClass(byte[].class);
+        verify(tokenRepository).rotate(eq(selector), oldHash.capture(), any(), any());
+        assertArrayEquals(storedHash, oldHash.getValue());
+    }
+}
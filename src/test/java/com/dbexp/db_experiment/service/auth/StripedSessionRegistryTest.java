@@ -0,0 +1,124 @@
+package com.dbexp.db_experiment.service.auth;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.security.core.session.SessionInformation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.repository.LocalSessionOwnerStore;
+import com.dbexp.db_experiment.repository.SessionOwnerStore;
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Striped Session Registry Tests")
+class StripedSessionRegistryTest {
+
+    private AtomicLong clock;
+    private StripedSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        // 60 second idle timeout, one-second ticks
+        registry = new StripedSessionRegistry(new LocalSessionOwnerStore(), 60_000, 5000, 4, 1000, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should expire the user's earlier session when they log in again")
+    void claim_ExpiresOtherSessions() {
+        registry.claim("first", 1L);
+        registry.claim("other-user", 2L);
+
+        registry.claim("second", 1L);
+
+        assertTrue(registry.getSessionInformation("first").isExpired());
+        assertFalse(registry.getSessionInformation("second").isExpired());
+        assertFalse(registry.getSessionInformation("other-user").isExpired());
+        assertEquals(List.of("second"), registry.getAllSessions(1L, false).stream()
+                .map(SessionInformation::getSessionId).toList());
+        assertEquals(2, registry.getAllSessions(1L, true).size());
+    }
+
+    @Test
+    @DisplayName("Should forget a session on logout")
+    void removeSessionInformation_Unindexes() {
+        registry.claim("first", 1L);
+
+        registry.removeSessionInformation("first");
+
+        assertNull(registry.getSessionInformation("first"));
+        assertTrue(registry.getAllSessions(1L, true).isEmpty());
+        assertTrue(registry.getAllPrincipals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop idle sessions on the wheel and keep those still in use")
+    void expire_DropsIdleSessions() {
+        registry.claim("idle", 1L);
+        registry.claim("busy", 2L);
+
+        clock.addAndGet(45_000);
+        registry.refreshLastRequest("busy");
+        clock.addAndGet(20_000);
+        registry.expire();
+
+        assertNull(registry.getSessionInformation("idle"));
+        assertTrue(registry.getAllSessions(1L, true).isEmpty());
+        assertEquals(1, registry.size());
+
+        clock.addAndGet(45_000);
+        registry.expire();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    @DisplayName("Should expire everything after a gap longer than one turn of the wheel")
+    void expire_LongGap() {
+        for (int i = 0; i < 1000; i++) {
+            registry.claim("session" + i, (long) i);
+        }
+
+        clock.addAndGet(10 * 60_000);
+        registry.expire();
+
+        assertEquals(0, registry.size());
+        assertTrue(registry.getAllPrincipals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should recheck a shared store at most once per interval and expire a session it no longer owns")
+    void getSessionInformation_RechecksSharedStore() {
+        SessionOwnerStore store = mock(SessionOwnerStore.class);
+        when(store.shared()).thenReturn(true);
+        when(store.owns(1L, "first")).thenReturn(true, false);
+        StripedSessionRegistry shared = new StripedSessionRegistry(store, 60_000, 5000, 4, 1000, clock::get);
+        shared.claim("first", 1L);
+        verify(store).claim(1L, "first");
+
+        // Within the interval the store is not asked
+        clock.addAndGet(1000);
+        assertFalse(shared.getSessionInformation("first").isExpired());
+
+        clock.addAndGet(5000);
+        assertFalse(shared.getSessionInformation("first").isExpired());
+        clock.addAndGet(1000);
+        assertFalse(shared.getSessionInformation("first").isExpired());
+
+        // Claimed by a login on another instance
+        clock.addAndGet(5000);
+        assertTrue(shared.getSessionInformation("first").isExpired());
+        verify(store, times(2)).owns(1L, "first");
+    }
+}
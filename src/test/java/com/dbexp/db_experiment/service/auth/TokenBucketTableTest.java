@@ -0,0 +1,98 @@
+package com.dbexp.db_experiment.service.auth;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.service.TokenBucketTable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Token Bucket Table Tests")
+class TokenBucketTableTest {
+
+    private AtomicLong clock;
+    private TokenBucketTable table;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        // Three tokens, one more per second; one-second ticks
+        table = new TokenBucketTable(3, 1, 4, 2, 1000, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should grant the burst and then report the wait for the next token")
+    void tryAcquire_GrantsBurstThenWaits() {
+        assertEquals(0, table.tryAcquire("alice"));
+        assertEquals(0, table.tryAcquire("alice"));
+        assertEquals(0, table.tryAcquire("alice"));
+
+        assertEquals(1000, table.tryAcquire("alice"));
+        clock.addAndGet(400);
+        assertEquals(600, table.tryAcquire("alice"));
+        clock.addAndGet(600);
+        assertEquals(0, table.tryAcquire("alice"));
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void tryAcquire_KeysAreIndependent() {
+        for (int i = 0; i < 3; i++) {
+            table.tryAcquire("alice");
+        }
+
+        assertEquals(0, table.tryAcquire("bob"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Should drop buckets once they have refilled and keep those still in use")
+    void expire_DropsRefilledBuckets() {
+        table.tryAcquire("idle");
+        for (int i = 0; i < 3; i++) {
+            table.tryAcquire("busy");
+        }
+
+        // "idle" is full again after one second, "busy" only after three
+        clock.addAndGet(1500);
+        table.expire();
+        assertEquals(1, table.size());
+
+        clock.addAndGet(2000);
+        table.expire();
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    @DisplayName("Should reschedule a bucket that was drained again before its slot came round")
+    void expire_ReschedulesBucketStillInUse() {
+        table.tryAcquire("alice");
+        clock.addAndGet(900);
+        table.tryAcquire("alice");
+        table.tryAcquire("alice");
+
+        clock.addAndGet(200);
+        table.expire();
+        assertEquals(1, table.size());
+        assertEquals(0, table.tryAcquire("alice"));
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial size and expire everything after a long gap")
+    void expire_ManyKeysAcrossGrowth() {
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(0, table.tryAcquire("user" + i));
+        }
+        assertEquals(10_000, table.size());
+        assertEquals(0, table.tryAcquire("user42"));
+
+        // Longer than one turn of the wheel
+        clock.addAndGet(120_000);
+        table.expire();
+
+        assertEquals(0, table.size());
+    }
+}
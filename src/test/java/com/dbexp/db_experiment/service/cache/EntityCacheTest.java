@@ -0,0 +1,186 @@
+package com.dbexp.db_experiment.service.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.cache.CacheStatsResponse;
+import com.dbexp.db_experiment.entity.Community;
+import com.dbexp.db_experiment.service.EntityCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Entity Cache Tests")
+class EntityCacheTest {
+
+    private EntityCache<Community> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        // Room for three rows of weight 100, in one segment so eviction order is global
+        cache = new EntityCache<>("communities", 300, 1, Community::getCommunityId, Community::getName,
+                community -> 100);
+        loads = new AtomicInteger();
+    }
+
+    private Optional<Community> load(long id, String name) {
+        loads.incrementAndGet();
+        Community community = new Community(name, "description");
+        community.setCommunityId(id);
+        return Optional.of(community);
+    }
+
+    @Test
+    @DisplayName("Should load once and answer later lookups by id or natural key from memory")
+    void get_HitsAfterFirstLoad() {
+        cache.get(1L, () -> load(1, "java"));
+        cache.get(1L, () -> load(1, "java"));
+        Community byName = cache.getByNaturalKey("java", () -> load(1, "java")).orElseThrow();
+
+        assertEquals(1L, byName.getCommunityId());
+        assertEquals(1, loads.get());
+        CacheStatsResponse stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    @DisplayName("Should not cache lookups that found nothing")
+    void get_MissingRowIsNotCached() {
+        cache.get(1L, Optional::empty);
+        cache.get(1L, () -> load(1, "java"));
+
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used rows once over its byte budget")
+    void put_EvictsLeastRecentlyUsed() {
+        cache.get(1L, () -> load(1, "a"));
+        cache.get(2L, () -> load(2, "b"));
+        cache.get(3L, () -> load(3, "c"));
+        cache.get(1L, () -> load(1, "a"));
+        cache.get(4L, () -> load(4, "d"));
+
+        // 2 was the least recently used; 1 was touched again
+        cache.get(1L, () -> load(1, "a"));
+        cache.getByNaturalKey("b", () -> load(2, "b"));
+
+        assertEquals(5, loads.get());
+        CacheStatsResponse stats = cache.stats();
+        assertEquals(3, stats.entries());
+        assertEquals(300, stats.weightBytes());
+        assertTrue(stats.evictions() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should drop both keys of an invalidated row")
+    void invalidate_RemovesIdAndNaturalKey() {
+        cache.get(1L, () -> load(1, "old-name"));
+
+        cache.invalidate(1L);
+        Community renamed = cache.get(1L, () -> load(1, "new-name")).orElseThrow();
+        Optional<Community> byOldName = cache.getByNaturalKey("old-name", Optional::empty);
+
+        assertEquals("new-name", renamed.getName());
+        assertTrue(byOldName.isEmpty());
+        assertEquals(1, cache.stats().invalidations());
+    }
+
+    @Test
+    @DisplayName("Should not store a load that raced an invalidation")
+    void get_LoadRacingInvalidationIsNotStored() {
+        // The write commits and invalidates while the old row is being read
+        cache.get(1L, () -> {
+            Optional<Community> stale = load(1, "stale");
+            cache.invalidate(1L);
+            return stale;
+        });
+        Community fresh = cache.get(1L, () -> load(1, "fresh")).orElseThrow();
+
+        assertEquals("fresh", fresh.getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache a row heavier than the whole budget")
+    void put_SkipsOversizedRows() {
+        EntityCache<Community> small = new EntityCache<>("tiny", 50, 1, Community::getCommunityId, null,
+                community -> 100);
+
+        small.get(1L, () -> load(1, "big"));
+        small.get(1L, () -> load(1, "big"));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, small.stats().entries());
+    }
+
+    @Test
+    @DisplayName("Should invalidate several rows at once")
+    void invalidateAll_RemovesEveryListedRow() {
+        cache.get(1L, () -> load(1, "a"));
+        cache.get(2L, () -> load(2, "b"));
+
+        cache.invalidateAll(List.of(1L, 2L));
+
+        assertEquals(0, cache.stats().entries());
+        assertEquals(0, cache.stats().weightBytes());
+    }
+
+    @Test
+    @DisplayName("Should keep a load whose row was not the one invalidated meanwhile")
+    void get_LoadSurvivesInvalidationOfOtherRow() {
+        cache.get(2L, () -> load(2, "other"));
+
+        cache.get(1L, () -> {
+            Optional<Community> loaded = load(1, "java");
+            cache.invalidate(2L);
+            return loaded;
+        });
+        cache.get(1L, () -> load(1, "java"));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.stats().entries());
+    }
+
+    @Test
+    @DisplayName("Should drop a racing load once the invalidation stamps have been forgotten")
+    void get_LoadOlderThanForgottenStampsIsNotStored() {
+        cache.get(1L, () -> {
+            Optional<Community> stale = load(1, "stale");
+            for (long id = 1; id <= 2000; id++) {
+                cache.invalidate(id);
+            }
+            return stale;
+        });
+        Community fresh = cache.get(1L, () -> load(1, "fresh")).orElseThrow();
+
+        assertEquals("fresh", fresh.getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should split the byte budget over segments and report totals across them")
+    void segments_ShareBudget() {
+        EntityCache<Community> segmented = new EntityCache<>("segmented", 1600, 16, Community::getCommunityId,
+                Community::getName, community -> 100);
+
+        for (long id = 1; id <= 64; id++) {
+            long rowId = id;
+            segmented.get(rowId, () -> load(rowId, "c" + rowId));
+        }
+
+        CacheStatsResponse stats = segmented.stats();
+        assertTrue(stats.entries() <= 16);
+        assertEquals(100L * stats.entries(), stats.weightBytes());
+        assertEquals(64, stats.misses());
+        assertEquals(64 - stats.entries(), stats.evictions());
+    }
+}
@@ -13,10 +13,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.entity.Comment;
 import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.repository.BulkInsertRepository;
 import com.dbexp.db_experiment.repository.CommentRepository;
 import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
 import com.dbexp.db_experiment.service.AuthService;
 import com.dbexp.db_experiment.service.CommentServiceImpl;
+import com.dbexp.db_experiment.service.FeedService;
+import com.dbexp.db_experiment.service.SearchService;
+import com.dbexp.db_experiment.service.VoteScoreBuffer;
 import com.dbexp.db_experiment.testutil.CommentTestBuilder;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +38,24 @@ public abstract class BaseCommentServiceTest {
     @Mock
     protected PostRepository postRepository;
 
+    @Mock
+    protected StreamingQueryRepository streamingQueryRepository;
+
+    @Mock
+    protected BulkInsertRepository bulkInsertRepository;
+
+    @Mock
+    protected VoteScoreBuffer voteScoreBuffer;
+
+    @Mock
+    protected FeedService feedService;
+
+    @Mock
+    protected SearchService searchService;
+
+    @Mock
+    protected ActivityCounterBuffer activityCounterBuffer;
+
     protected CommentServiceImpl commentService;
 
     @Mock
@@ -42,7 +66,8 @@ public abstract class BaseCommentServiceTest {
 
     @BeforeEach
     void setUp() {
-        commentService = new CommentServiceImpl(commentRepository, postRepository, authService);
+        commentService = new CommentServiceImpl(commentRepository, postRepository, authService, streamingQueryRepository,
+                bulkInsertRepository, voteScoreBuffer, feedService, searchService, activityCounterBuffer);
         session = mock(HttpSession.class);
     }
 
@@ -75,7 +100,7 @@ public abstract class BaseCommentServiceTest {
     }
 
     protected void mockCommentRepositoryDelete(Long commentId, int affectedRows) {
-        when(commentRepository.deleteByCommentId(commentId)).thenReturn(affectedRows);
+        when(commentRepository.tombstone(commentId)).thenReturn(affectedRows);
     }
 
     protected void mockAuthenticatedUser(Long userId) {
@@ -0,0 +1,101 @@
+package com.dbexp.db_experiment.service.comment;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsRequest;
+import com.dbexp.db_experiment.dto.comment.BatchCreateCommentsResponse;
+import com.dbexp.db_experiment.dto.comment.CreateCommentRequest;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Comment Service - Batch Create Tests")
+class CommentServiceBatchCreateTest extends BaseCommentServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Creation")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should create top-level comments and replies in request order")
+        void createBatch_Success() {
+            // Arrange
+            mockAuthenticatedUser(3L);
+            BatchCreateCommentsRequest request = new BatchCreateCommentsRequest(List.of(
+                    new CreateCommentRequest(1L, null, "top level"),
+                    new CreateCommentRequest(1L, 50L, "reply")));
+            when(postRepository.findExistingIds(any())).thenReturn(List.of(1L));
+            when(bulkInsertRepository.findPostIdsByCommentIds(any())).thenReturn(Map.of(50L, 1L));
+            when(bulkInsertRepository.insertComments(anyList())).thenReturn(List.of(101L, 102L));
+
+            // Act
+            BatchCreateCommentsResponse response = commentService.createBatch(session, request);
+
+            // Assert
+            assertEquals(2, response.getCreated());
+            assertEquals(List.of(101L, 102L), response.getCommentIds());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Errors")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject replies whose parent belongs to another post")
+        void createBatch_ParentOnOtherPost_ThrowsException() {
+            mockAuthenticatedUser(3L);
+            BatchCreateCommentsRequest request = new BatchCreateCommentsRequest(List.of(
+                    new CreateCommentRequest(1L, 50L, "reply")));
+            when(postRepository.findExistingIds(any())).thenReturn(List.of(1L));
+            when(bulkInsertRepository.findPostIdsByCommentIds(any())).thenReturn(Map.of(50L, 2L));
+
+            assertThrows(IllegalArgumentException.class, () -> commentService.createBatch(session, request));
+            verify(bulkInsertRepository, never()).insertComments(anyList());
+        }
+
+        @Test
+        @DisplayName("Should reject replies to missing parent comments")
+        void createBatch_MissingParent_ThrowsException() {
+            mockAuthenticatedUser(3L);
+            BatchCreateCommentsRequest request = new BatchCreateCommentsRequest(List.of(
+                    new CreateCommentRequest(1L, 50L, "reply")));
+            when(postRepository.findExistingIds(any())).thenReturn(List.of(1L));
+            when(bulkInsertRepository.findPostIdsByCommentIds(any())).thenReturn(Map.of());
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> commentService.createBatch(session, request));
+
+            assertEquals("Parent comment not found: 50", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject comments on missing posts")
+        void createBatch_MissingPost_ThrowsException() {
+            mockAuthenticatedUser(3L);
+            BatchCreateCommentsRequest request = new BatchCreateCommentsRequest(List.of(
+                    new CreateCommentRequest(9L, null, "orphan")));
+            when(postRepository.findExistingIds(any())).thenReturn(List.of());
+
+            assertThrows(ResourceNotFoundException.class, () -> commentService.createBatch(session, request));
+            verify(bulkInsertRepository, never()).insertComments(anyList());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.dbexp.db_experiment.service.comment;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,7 @@ import com.dbexp.db_experiment.entity.Comment;
 import com.dbexp.db_experiment.exception.ForbiddenException;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
 import com.dbexp.db_experiment.testutil.CommentTestBuilder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -54,9 +57,37 @@ class CommentServiceDeleteTest extends BaseCommentServiceTest {
             assertEquals("Comment deleted successfully", response.getMessage());
 
             verify(commentRepository).findById(commentId);
-            verify(commentRepository).deleteByCommentId(commentId);
+            verify(commentRepository).tombstone(commentId);
             verifyNoMoreInteractions(commentRepository);
         }
+
+        @Test
+        @DisplayName("Should tombstone only the comment and leave its replies in place")
+        void delete_TombstonesWithoutCascade() {
+            // Arrange
+            Long commentId = 1L;
+            Long userId = 1L;
+            Long postId = 7L;
+
+            Comment existingComment = CommentTestBuilder.aComment()
+                    .withCommentId(commentId)
+                    .withUserId(userId)
+                    .withPostId(postId)
+                    .withCommentContent("Test Comment Content")
+                    .build();
+
+            mockAuthenticatedUser(userId);
+            mockCommentRepositoryFindById(commentId, existingComment);
+            mockCommentRepositoryDelete(commentId, 1);
+
+            // Act
+            commentService.delete(session, commentId);
+
+            // Assert
+            verify(feedService).onCommentCountChanged(postId, -1);
+            verify(activityCounterBuffer).record(Scope.POST, postId, -1, null);
+            verify(searchService).removeComment(commentId);
+        }
     }
 
     @Nested
@@ -81,9 +112,37 @@ class CommentServiceDeleteTest extends BaseCommentServiceTest {
             assertEquals("Comment not found", exception.getMessage());
 
             verify(commentRepository).findById(commentId);
-            verify(commentRepository, never()).deleteByCommentId(anyLong());
+            verify(commentRepository, never()).tombstone(anyLong());
             verifyNoMoreInteractions(commentRepository);
         }
+
+        @Test
+        @DisplayName("Should throw exception when comment is already deleted")
+        void delete_AlreadyDeleted_ThrowsException() {
+            // Arrange
+            Long commentId = 1L;
+            Long userId = 1L;
+
+            Comment tombstone = CommentTestBuilder.aComment()
+                    .withCommentId(commentId)
+                    .withUserId(userId)
+                    .withCommentContent("")
+                    .withDeletedAt(LocalDateTime.now())
+                    .build();
+
+            mockAuthenticatedUser(userId);
+            mockCommentRepositoryFindById(commentId, tombstone);
+
+            // Act & Assert
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                commentService.delete(session, commentId);
+            });
+
+            assertEquals("Comment not found", exception.getMessage());
+
+            verify(commentRepository, never()).tombstone(anyLong());
+            verifyNoInteractions(feedService, searchService);
+        }
     }
 
     @Nested
@@ -114,7 +173,7 @@ class CommentServiceDeleteTest extends BaseCommentServiceTest {
             assertEquals("Cannot delete another user's comment", exception.getMessage());
 
             verify(commentRepository).findById(commentId);
-            verify(commentRepository, never()).deleteByCommentId(anyLong());
+            verify(commentRepository, never()).tombstone(anyLong());
             verifyNoMoreInteractions(commentRepository);
         }
     }
@@ -147,7 +206,7 @@ class CommentServiceDeleteTest extends BaseCommentServiceTest {
             assertEquals("Failed to delete comment", exception.getMessage());
 
             verify(commentRepository).findById(commentId);
-            verify(commentRepository).deleteByCommentId(commentId);
+            verify(commentRepository).tombstone(commentId);
             verifyNoMoreInteractions(commentRepository);
         }
     }
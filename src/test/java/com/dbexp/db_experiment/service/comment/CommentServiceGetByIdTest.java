@@ -1,5 +1,6 @@
 package com.dbexp.db_experiment.service.comment;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
@@ -14,7 +15,9 @@ import com.dbexp.db_experiment.testutil.CommentTestBuilder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -56,6 +59,32 @@ class CommentServiceGetByIdTest extends BaseCommentServiceTest {
 
             verify(commentRepository).findById(commentId);
         }
+
+        @Test
+        @DisplayName("Should return a placeholder without author or text for a deleted comment")
+        void getById_Tombstone_HidesAuthorAndContent() {
+            // Arrange
+            Long commentId = 1L;
+            GetCommentByIdRequest request = new GetCommentByIdRequest(commentId);
+            Comment comment = CommentTestBuilder.aComment()
+                    .withCommentId(commentId)
+                    .withUserId(1L)
+                    .withPostId(1L)
+                    .withCommentContent("")
+                    .withDeletedAt(LocalDateTime.now())
+                    .build();
+
+            when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+
+            // Act
+            GetCommentByIdResponse response = commentService.getById(request);
+
+            // Assert
+            assertTrue(response.isDeleted());
+            assertNull(response.getContent());
+            assertNull(response.getUserId());
+            assertEquals(1L, response.getPostId());
+        }
     }
 
     @Nested
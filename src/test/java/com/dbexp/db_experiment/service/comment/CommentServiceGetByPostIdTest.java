@@ -0,0 +1,78 @@
+package com.dbexp.db_experiment.service.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.comment.CommentPreviewResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Comment Service - Get Comments By Post ID Tests")
+class CommentServiceGetByPostIdTest extends BaseCommentServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Retrieval")
+    class SuccessTests {
+
+        @BeforeEach
+        void livePost() {
+            when(postRepository.findExistingIds(List.of(5L))).thenReturn(List.of(5L));
+        }
+
+        @Test
+        @DisplayName("Should return previews from the projection query")
+        void getCommentsByPostId_ReturnsPreviews() {
+            // Arrange
+            List<CommentPreviewResponse> previews = List.of(
+                    new CommentPreviewResponse(1L, 2L, 5L, null, "short", false, LocalDateTime.now(), false),
+                    new CommentPreviewResponse(2L, 3L, 5L, 1L, "a".repeat(200), true, LocalDateTime.now(), false));
+            when(commentRepository.findPreviewsByPostId(5L)).thenReturn(previews);
+
+            // Act
+            List<CommentPreviewResponse> response = commentService.getCommentsByPostId(5L);
+
+            // Assert
+            assertEquals(2, response.size());
+            assertEquals(1L, response.get(1).getParentCommentId());
+            assertTrue(response.get(1).isTruncated());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should throw exception when post ID is null")
+        void getCommentsByPostId_NullPostId_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> commentService.getCommentsByPostId(null));
+
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw not found when the post is deleted")
+        void getCommentsByPostId_DeletedPost_ThrowsNotFound() {
+            when(postRepository.findExistingIds(List.of(5L))).thenReturn(List.of());
+
+            assertThrows(ResourceNotFoundException.class, () -> commentService.getCommentsByPostId(5L));
+
+            verifyNoInteractions(commentRepository);
+        }
+    }
+}
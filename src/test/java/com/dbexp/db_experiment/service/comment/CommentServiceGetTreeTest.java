@@ -0,0 +1,206 @@
+package com.dbexp.db_experiment.service.comment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.comment.CommentTreeNode;
+import com.dbexp.db_experiment.dto.comment.GetCommentTreeResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.service.CommentTreeBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Comment Service - Get Comment Tree Tests")
+class CommentServiceGetTreeTest extends BaseCommentServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Retrieval")
+    class SuccessTests {
+
+        @BeforeEach
+        void livePost() {
+            when(postRepository.findExistingIds(List.of(1L))).thenReturn(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("Should nest replies under parents with depth and child counts")
+        void getCommentTree_Success() {
+            // Arrange
+            Long postId = 1L;
+            List<Comment> comments = List.of(
+                    createMockComment(1L, 1L, postId, "root a", null),
+                    createMockComment(2L, 2L, postId, "root b", null),
+                    createMockComment(3L, 3L, postId, "reply to a", 1L),
+                    createMockComment(4L, 1L, postId, "reply to reply", 3L),
+                    createMockComment(5L, 2L, postId, "second reply to a", 1L));
+            when(commentRepository.findThreadByPostId(postId)).thenReturn(comments);
+
+            // Act
+            GetCommentTreeResponse response = commentService.getCommentTreeByPostId(postId);
+
+            // Assert
+            assertEquals(5, response.getTotalComments());
+            assertEquals(2, response.getComments().size());
+
+            CommentTreeNode rootA = response.getComments().get(0);
+            assertEquals(1L, rootA.getCommentId());
+            assertEquals(0, rootA.getDepth());
+            assertEquals(2, rootA.getChildCount());
+            assertEquals(3L, rootA.getReplies().get(0).getCommentId());
+            assertEquals(5L, rootA.getReplies().get(1).getCommentId());
+
+            CommentTreeNode nested = rootA.getReplies().get(0).getReplies().get(0);
+            assertEquals(4L, nested.getCommentId());
+            assertEquals(2, nested.getDepth());
+            assertEquals(0, nested.getChildCount());
+
+            assertTrue(response.getComments().get(1).getReplies().isEmpty());
+            verify(commentRepository).findThreadByPostId(postId);
+        }
+
+        @Test
+        @DisplayName("Should cut very deep threads off at the maximum depth without recursion")
+        void getCommentTree_DeepChain() {
+            // Arrange
+            Long postId = 1L;
+            int size = 20000;
+            when(commentRepository.findThreadByPostId(postId)).thenReturn(createChain(postId, size));
+
+            // Act
+            GetCommentTreeResponse response = commentService.getCommentTreeByPostId(postId);
+
+            // Assert
+            assertEquals(size, response.getTotalComments());
+            CommentTreeNode node = response.getComments().get(0);
+            while (!node.getReplies().isEmpty()) {
+                assertFalse(node.isContinueThread());
+                node = node.getReplies().get(0);
+            }
+            assertEquals(CommentTreeBuilder.MAX_DEPTH + 1L, node.getCommentId());
+            assertEquals(CommentTreeBuilder.MAX_DEPTH, node.getDepth());
+            assertEquals(1, node.getChildCount());
+            assertTrue(node.isContinueThread());
+        }
+
+        @Test
+        @DisplayName("Should not mark a thread that ends exactly at the maximum depth")
+        void getCommentTree_ChainEndingAtMaxDepth_NotMarked() {
+            // Arrange
+            Long postId = 1L;
+            when(commentRepository.findThreadByPostId(postId))
+                    .thenReturn(createChain(postId, CommentTreeBuilder.MAX_DEPTH + 1));
+
+            // Act
+            GetCommentTreeResponse response = commentService.getCommentTreeByPostId(postId);
+
+            // Assert
+            CommentTreeNode node = response.getComments().get(0);
+            while (!node.getReplies().isEmpty()) {
+                node = node.getReplies().get(0);
+            }
+            assertEquals(CommentTreeBuilder.MAX_DEPTH, node.getDepth());
+            assertFalse(node.isContinueThread());
+        }
+
+        @Test
+        @DisplayName("Should continue a cut-off thread from the marked comment")
+        void getCommentThread_ContinuesFromComment() {
+            // Arrange
+            Long postId = 1L;
+            Long marked = CommentTreeBuilder.MAX_DEPTH + 1L;
+            when(commentRepository.findThreadByPostId(postId)).thenReturn(createChain(postId, 100));
+
+            // Act
+            GetCommentTreeResponse response = commentService.getCommentThread(postId, marked);
+
+            // Assert
+            assertEquals(100, response.getTotalComments());
+            assertEquals(1, response.getComments().size());
+            CommentTreeNode root = response.getComments().get(0);
+            assertEquals(marked, root.getCommentId());
+            assertEquals(0, root.getDepth());
+            assertEquals(marked + 1, root.getReplies().get(0).getCommentId());
+            assertEquals(1, root.getReplies().get(0).getDepth());
+        }
+
+        @Test
+        @DisplayName("Should return empty tree when post has no comments")
+        void getCommentTree_Empty() {
+            when(commentRepository.findThreadByPostId(1L)).thenReturn(List.of());
+
+            GetCommentTreeResponse response = commentService.getCommentTreeByPostId(1L);
+
+            assertEquals(0, response.getTotalComments());
+            assertTrue(response.getComments().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should throw exception when post ID is null")
+        void getCommentTree_NullPostId_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> commentService.getCommentTreeByPostId(null));
+
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw not found when the post is deleted")
+        void getCommentTree_DeletedPost_ThrowsNotFound() {
+            when(postRepository.findExistingIds(List.of(1L))).thenReturn(List.of());
+
+            assertThrows(ResourceNotFoundException.class, () -> commentService.getCommentTreeByPostId(1L));
+
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when the thread comment ID is null")
+        void getCommentThread_NullCommentId_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> commentService.getCommentThread(1L, null));
+
+            verifyNoInteractions(commentRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw not found when the thread comment is not on the post")
+        void getCommentThread_UnknownComment_ThrowsNotFound() {
+            when(postRepository.findExistingIds(List.of(1L))).thenReturn(List.of(1L));
+            when(commentRepository.findThreadByPostId(1L)).thenReturn(createChain(1L, 3));
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> commentService.getCommentThread(1L, 99L));
+
+            assertEquals("Comment not found", exception.getMessage());
+        }
+    }
+
+    // Helper methods
+    private List<Comment> createChain(Long postId, int size) {
+        List<Comment> comments = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            comments.add(createMockComment(id, 1L, postId, "c" + id, id == 1 ? null : id - 1));
+        }
+        return comments;
+    }
+}
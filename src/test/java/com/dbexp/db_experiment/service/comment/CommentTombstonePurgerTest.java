@@ -0,0 +1,65 @@
+package com.dbexp.db_experiment.service.comment;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository;
+import com.dbexp.db_experiment.service.CommentTombstonePurger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Comment Tombstone Purger Tests")
+class CommentTombstonePurgerTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 5, 1, 3, 30);
+
+    @Mock
+    private CascadeDeleteRepository cascadeDeleteRepository;
+
+    private CommentTombstonePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new CommentTombstonePurger(cascadeDeleteRepository, 60, 2, 0, 3);
+    }
+
+    @Test
+    @DisplayName("Should keep purging batches until one comes back empty")
+    void purge_RepeatsUntilNothingLeft() {
+        // A full batch, then the parents it freed up, then nothing
+        when(cascadeDeleteRepository.purgeCommentTombstones(CUTOFF, 2)).thenReturn(2, 1, 0);
+
+        assertEquals(3, purger.purge(CUTOFF));
+
+        verify(cascadeDeleteRepository, times(3)).purgeCommentTombstones(CUTOFF, 2);
+    }
+
+    @Test
+    @DisplayName("Should stop at the batch cap and leave the rest for the next run")
+    void purge_StopsAtMaxBatches() {
+        when(cascadeDeleteRepository.purgeCommentTombstones(CUTOFF, 2)).thenReturn(2);
+
+        assertEquals(6, purger.purge(CUTOFF));
+
+        verify(cascadeDeleteRepository, times(3)).purgeCommentTombstones(CUTOFF, 2);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no purgeable tombstones")
+    void purge_NothingToDo() {
+        when(cascadeDeleteRepository.purgeCommentTombstones(CUTOFF, 2)).thenReturn(0);
+
+        assertEquals(0, purger.purge(CUTOFF));
+    }
+}
@@ -13,8 +13,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.entity.Community;
 import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.repository.SubscriptionRepository;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
 import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CommunityNameIndex;
 import com.dbexp.db_experiment.service.CommunityServiceImpl;
+import com.dbexp.db_experiment.service.EntityCaches;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -25,6 +30,20 @@ public abstract class BaseCommunityServiceTest {
     @Mock
     protected CommunityRepository communityRepository;
 
+    @Mock
+    protected StreamingQueryRepository streamingQueryRepository;
+
+    @Mock
+    protected SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    protected CommunityNameIndex communityNameIndex;
+
+    @Mock
+    protected ActivityCounterBuffer activityCounterBuffer;
+
+    protected EntityCaches entityCaches;
+
     protected CommunityServiceImpl communityService;
 
     @Mock
@@ -36,7 +55,9 @@ public abstract class BaseCommunityServiceTest {
     @BeforeEach
     void setUp() {
         authService = mock(AuthService.class);
-        communityService = new CommunityServiceImpl(communityRepository, authService);
+        entityCaches = new EntityCaches(1 << 20, 1 << 20, 1 << 20);
+        communityService = new CommunityServiceImpl(communityRepository, authService, streamingQueryRepository,
+                subscriptionRepository, communityNameIndex, activityCounterBuffer, entityCaches);
     }
 
     protected Community createMockCommunity(Long communityId, String name, String description) {
@@ -0,0 +1,129 @@
+package com.dbexp.db_experiment.service.community;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.service.CommunityNameIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Community Name Index Tests")
+public class CommunityNameIndexTest {
+
+    @Mock
+    private StreamingQueryRepository streamingQueryRepository;
+
+    private CommunityNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CommunityNameIndex(streamingQueryRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadCommunities(CommunitySuggestionResponse... communities) {
+        doAnswer(invocation -> {
+            Consumer<CommunitySuggestionResponse> sink = invocation.getArgument(0);
+            for (CommunitySuggestionResponse community : communities) {
+                sink.accept(community);
+            }
+            return null;
+        }).when(streamingQueryRepository).streamCommunityPopularity(any(Consumer.class));
+        index.rebuild();
+    }
+
+    private static List<String> names(List<CommunitySuggestionResponse> suggestions) {
+        return suggestions.stream().map(CommunitySuggestionResponse::getName).toList();
+    }
+
+    @Test
+    @DisplayName("Should rank prefix matches by subscriber count")
+    void complete_RanksByPopularity() {
+        loadCommunities(
+                new CommunitySuggestionResponse(1L, "asoiaf", 10),
+                new CommunitySuggestionResponse(2L, "AskHistorians", 50),
+                new CommunitySuggestionResponse(3L, "astronomy", 30),
+                new CommunitySuggestionResponse(4L, "books", 99));
+
+        assertEquals(List.of("AskHistorians", "astronomy", "asoiaf"), names(index.complete("as", 10)));
+        assertEquals(List.of("AskHistorians"), names(index.complete("ASK", 10)));
+        assertEquals(List.of("AskHistorians", "astronomy"), names(index.complete("a", 2)));
+        assertTrue(index.complete("zzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should include a name that equals the prefix")
+    void complete_ExactName() {
+        loadCommunities(
+                new CommunitySuggestionResponse(1L, "java", 5),
+                new CommunitySuggestionResponse(2L, "javascript", 7));
+
+        assertEquals(List.of("javascript", "java"), names(index.complete("java", 10)));
+        assertEquals(List.of("javascript"), names(index.complete("javas", 10)));
+    }
+
+    @Test
+    @DisplayName("Should keep only the top suggestions per prefix")
+    void complete_CapsSuggestions() {
+        CommunitySuggestionResponse[] communities = new CommunitySuggestionResponse[25];
+        for (int i = 0; i < communities.length; i++) {
+            communities[i] = new CommunitySuggestionResponse((long) i, "topic" + i, i);
+        }
+        loadCommunities(communities);
+
+        List<CommunitySuggestionResponse> suggestions = index.complete("topic", 50);
+        assertEquals(CommunityNameIndex.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals("topic24", suggestions.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Should pick up new communities and popularity changes")
+    void complete_ReflectsUpdates() {
+        loadCommunities(new CommunitySuggestionResponse(1L, "golang", 3));
+
+        index.add(2L, "gardening");
+        assertEquals(List.of("golang", "gardening"), names(index.complete("g", 10)));
+
+        index.adjustPopularity(2L, 5);
+        assertEquals(List.of("gardening", "golang"), names(index.complete("g", 10)));
+        assertEquals(5, index.complete("gar", 1).get(0).getSubscriberCount());
+
+        index.adjustPopularity(2L, -10);
+        assertEquals(0, index.complete("gar", 1).get(0).getSubscriberCount());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should never lead a concurrent reader into a neighbouring subtree")
+    void complete_ConsistentDuringInserts() throws InterruptedException {
+        // Every insert below lands in front of the seeded label, shifting its slot
+        loadCommunities(new CommunitySuggestionResponse(1L, "\u9fff", 1));
+        Thread writer = new Thread(() -> {
+            for (char c = '\u9ffe'; c > '\u9ffe' - 2000; c--) {
+                index.add((long) c, String.valueOf(c));
+            }
+        });
+
+        writer.start();
+        while (writer.isAlive()) {
+            assertEquals(List.of("\u9fff"), names(index.complete("\u9fff", 10)));
+        }
+        writer.join();
+
+        assertEquals(2001, index.size());
+    }
+}
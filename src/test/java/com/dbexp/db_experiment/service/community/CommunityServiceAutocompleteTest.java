@@ -0,0 +1,56 @@
+package com.dbexp.db_experiment.service.community;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.community.CommunitySuggestionResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Community Service - Autocomplete Tests")
+public class CommunityServiceAutocompleteTest extends BaseCommunityServiceTest {
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Test
+    @DisplayName("Should return suggestions from the name index")
+    void autocomplete_Success() {
+        List<CommunitySuggestionResponse> suggestions = List.of(new CommunitySuggestionResponse(1L, "asoiaf", 42));
+        when(communityNameIndex.complete("as", 10)).thenReturn(suggestions);
+
+        assertEquals(suggestions, communityService.autocomplete(" as ", null));
+    }
+
+    @Test
+    @DisplayName("Should clamp the limit to the supported range")
+    void autocomplete_ClampsLimit() {
+        communityService.autocomplete("as", 500);
+        communityService.autocomplete("as", 0);
+
+        verify(communityNameIndex).complete("as", 10);
+        verify(communityNameIndex).complete("as", 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank prefix")
+    void autocomplete_BlankPrefix() {
+        assertThrows(IllegalArgumentException.class, () -> communityService.autocomplete("  ", null));
+        assertThrows(IllegalArgumentException.class, () -> communityService.autocomplete(null, null));
+        verify(communityNameIndex, never()).complete(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,114 @@
+package com.dbexp.db_experiment.service.community;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.community.SubscriptionResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Community Service - Subscription Tests")
+public class CommunityServiceSubscriptionTest extends BaseCommunityServiceTest {
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Subscribe")
+    class SubscribeTests {
+        @Test
+        @DisplayName("Should subscribe to an existing community")
+        void subscribe_Success() {
+            Long communityId = 3L;
+            mockAuthenticatedUser(1L);
+            when(communityRepository.existsById(communityId)).thenReturn(true);
+            when(subscriptionRepository.subscribe(1L, communityId)).thenReturn(1);
+
+            SubscriptionResponse response = communityService.subscribe(session, communityId);
+
+            assertEquals(communityId, response.getCommunityId());
+            assertTrue(response.isSubscribed());
+            verify(subscriptionRepository).subscribe(1L, communityId);
+            verify(communityNameIndex).adjustPopularity(communityId, 1);
+        }
+
+        @Test
+        @DisplayName("Should treat a repeated subscribe as success")
+        void subscribe_AlreadySubscribed() {
+            Long communityId = 3L;
+            mockAuthenticatedUser(1L);
+            when(communityRepository.existsById(communityId)).thenReturn(true);
+            when(subscriptionRepository.subscribe(1L, communityId)).thenReturn(0);
+
+            assertTrue(communityService.subscribe(session, communityId).isSubscribed());
+            verify(communityNameIndex, never()).adjustPopularity(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for a missing community")
+        void subscribe_CommunityNotFound() {
+            Long communityId = 99L;
+            mockAuthenticatedUser(1L);
+            when(communityRepository.existsById(communityId)).thenReturn(false);
+
+            assertThrows(ResourceNotFoundException.class, () -> communityService.subscribe(session, communityId));
+            verify(subscriptionRepository, never()).subscribe(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should throw UnauthorizedException when not authenticated")
+        void subscribe_Unauthenticated() {
+            when(authService.getCurrentUser(session)).thenReturn(new CurrentUserResponse(false, null, null, null));
+
+            assertThrows(UnauthorizedException.class, () -> communityService.subscribe(session, 3L));
+            verify(subscriptionRepository, never()).subscribe(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unsubscribe")
+    class UnsubscribeTests {
+        @Test
+        @DisplayName("Should unsubscribe without an extra existence check")
+        void unsubscribe_Success() {
+            Long communityId = 3L;
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.unsubscribe(1L, communityId)).thenReturn(1);
+
+            SubscriptionResponse response = communityService.unsubscribe(session, communityId);
+
+            assertFalse(response.isSubscribed());
+            verify(communityRepository, never()).existsById(any());
+            verify(communityNameIndex).adjustPopularity(communityId, -1);
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for a missing community")
+        void unsubscribe_CommunityNotFound() {
+            Long communityId = 99L;
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.unsubscribe(1L, communityId)).thenReturn(0);
+            when(communityRepository.existsById(communityId)).thenReturn(false);
+
+            assertThrows(ResourceNotFoundException.class, () -> communityService.unsubscribe(session, communityId));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dbexp.db_experiment.service.counter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.repository.ActivityCounterRepository;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
+import com.dbexp.db_experiment.service.EntityCaches;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Activity Counter Buffer Tests")
+class ActivityCounterBufferTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private ActivityCounterRepository activityCounterRepository;
+
+    private ActivityCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ActivityCounterBuffer(activityCounterRepository, new EntityCaches(1 << 20, 1 << 20, 1 << 20));
+    }
+
+    @Test
+    @DisplayName("Should expose pending deltas and the newest activity time")
+    void record_TracksPendingValues() {
+        buffer.record(Scope.POST, 1L, 2, NOON);
+        buffer.record(Scope.POST, 1L, -1, null);
+        buffer.record(Scope.POST, 1L, 1, NOON.minusHours(1));
+
+        assertEquals(2L, buffer.pending(Scope.POST, 1L));
+        assertEquals(0L, buffer.pending(Scope.COMMUNITY, 1L));
+        assertEquals(NOON, buffer.lastActivity(Scope.POST, 1L, NOON.minusDays(1)));
+        assertEquals(NOON.plusDays(1), buffer.lastActivity(Scope.POST, 1L, NOON.plusDays(1)));
+        assertEquals(NOON, buffer.lastActivity(Scope.COMMUNITY, 1L, NOON));
+    }
+
+    @Test
+    @DisplayName("Should write counts and activity in batches and clear them")
+    void flush_WritesAndClears() {
+        buffer.record(Scope.POST, 1L, 3, NOON);
+        buffer.record(Scope.COMMUNITY, 5L, 1, NOON);
+
+        buffer.flush();
+
+        verify(activityCounterRepository).addCounts(Scope.POST, Map.of(1L, 3L));
+        verify(activityCounterRepository).touch(Scope.POST, Map.of(1L, NOON));
+        verify(activityCounterRepository).addCounts(Scope.COMMUNITY, Map.of(5L, 1L));
+        verify(activityCounterRepository).touch(Scope.COMMUNITY, Map.of(5L, NOON));
+        assertEquals(0L, buffer.pending(Scope.POST, 1L));
+        assertEquals(NOON.minusDays(1), buffer.lastActivity(Scope.POST, 1L, NOON.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should keep deltas and activity for the next flush when writing fails")
+    void flush_RestoresOnFailure() {
+        buffer.record(Scope.POST, 1L, 3, NOON);
+        doThrow(new RuntimeException("down")).when(activityCounterRepository).addCounts(eq(Scope.POST), anyMap());
+        doThrow(new RuntimeException("down")).when(activityCounterRepository).touch(eq(Scope.POST), anyMap());
+
+        buffer.flush();
+
+        assertEquals(3L, buffer.pending(Scope.POST, 1L));
+        assertEquals(NOON, buffer.lastActivity(Scope.POST, 1L, null));
+    }
+}
@@ -0,0 +1,90 @@
+package com.dbexp.db_experiment.service.counter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.repository.ActivityCounterRepository;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.CounterRow;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
+import com.dbexp.db_experiment.service.ActivityCounterReconciler;
+import com.dbexp.db_experiment.service.EntityCaches;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Activity Counter Reconciler Tests")
+class ActivityCounterReconcilerTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private ActivityCounterRepository activityCounterRepository;
+
+    @Mock
+    private ActivityCounterBuffer activityCounterBuffer;
+
+    private ActivityCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new ActivityCounterReconciler(activityCounterRepository, activityCounterBuffer,
+                new EntityCaches(1 << 20, 1 << 20, 1 << 20), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should check every id range and rewrite only drifted rows")
+    void reconcile_RepairsDriftPerRange() {
+        when(activityCounterRepository.findIdRange(Scope.POST)).thenReturn(new long[] { 1, 4 });
+        when(activityCounterRepository.findIdRange(Scope.COMMUNITY)).thenReturn(new long[] { 0, -1 });
+        CounterRow accurate = new CounterRow(1, 3, NOON, 3, NOON);
+        CounterRow missingComments = new CounterRow(2, 1, NOON, 4, NOON);
+        CounterRow staleActivity = new CounterRow(3, 0, null, 0, NOON);
+        when(activityCounterRepository.findCounters(Scope.POST, 1, 2)).thenReturn(List.of(accurate, missingComments));
+        when(activityCounterRepository.findCounters(Scope.POST, 3, 4)).thenReturn(List.of(staleActivity));
+
+        reconciler.reconcile();
+
+        verify(activityCounterBuffer).flush();
+        verify(activityCounterRepository).repair(Scope.POST, List.of(missingComments), Map.of(2L, 4L));
+        verify(activityCounterRepository).repair(Scope.POST, List.of(staleActivity), Map.of(3L, 0L));
+        verify(activityCounterRepository, never()).findCounters(eq(Scope.COMMUNITY), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should leave room for deltas that are still buffered")
+    void reconcile_SubtractsPendingDeltas() {
+        when(activityCounterRepository.findIdRange(Scope.POST)).thenReturn(new long[] { 1, 1 });
+        when(activityCounterRepository.findIdRange(Scope.COMMUNITY)).thenReturn(new long[] { 0, -1 });
+        // Stored 5 and counted 6: the sixth comment's +1 has not been flushed yet
+        CounterRow flushPending = new CounterRow(1, 5, NOON, 6, NOON);
+        when(activityCounterRepository.findCounters(Scope.POST, 1, 1)).thenReturn(List.of(flushPending));
+        when(activityCounterBuffer.pending(Scope.POST, 1L)).thenReturn(1L);
+
+        reconciler.reconcile();
+
+        verify(activityCounterRepository).repair(Scope.POST, List.of(), Map.of());
+        verify(activityCounterRepository, never()).repair(eq(Scope.COMMUNITY), anyList(), anyMap());
+    }
+}
@@ -0,0 +1,200 @@
+package com.dbexp.db_experiment.service.deletion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.CannotAcquireLockException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.CommentRef;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.PostRef;
+import com.dbexp.db_experiment.repository.CascadeDeleteRepository.VoteRef;
+import com.dbexp.db_experiment.repository.DeletionJobRepository;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.ErrorCode;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.Phase;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
+import com.dbexp.db_experiment.service.CascadeDeletionWorker;
+import com.dbexp.db_experiment.service.CommunityNameIndex;
+import com.dbexp.db_experiment.service.EntityCaches;
+import com.dbexp.db_experiment.service.FeedService;
+import com.dbexp.db_experiment.service.SearchService;
+import com.dbexp.db_experiment.service.VoteScoreBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Cascade Deletion Worker Tests")
+class CascadeDeletionWorkerTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private DeletionJobRepository deletionJobRepository;
+
+    @Mock
+    private CascadeDeleteRepository cascadeDeleteRepository;
+
+    @Mock
+    private FeedService feedService;
+
+    @Mock
+    private SearchService searchService;
+
+    @Mock
+    private VoteScoreBuffer voteScoreBuffer;
+
+    @Mock
+    private ActivityCounterBuffer activityCounterBuffer;
+
+    @Mock
+    private CommunityNameIndex communityNameIndex;
+
+    private CascadeDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new CascadeDeletionWorker(deletionJobRepository, cascadeDeleteRepository, feedService, searchService,
+                voteScoreBuffer, activityCounterBuffer, communityNameIndex, new EntityCaches(1 << 20, 1 << 20, 1 << 20),
+                2, 0, 1000, 3, 60_000);
+    }
+
+    @Test
+    @DisplayName("Should remove a post's votes, then its comments, then the post in bounded chunks")
+    void processPending_PostJob_DeletesInChunks() {
+        when(deletionJobRepository.findNextUnfinished(any(LocalDateTime.class)))
+                .thenReturn(Optional.of(job(1L, "POST", 10L, "VOTES")), Optional.empty());
+        when(cascadeDeleteRepository.deletePostVotes(10L, 2)).thenReturn(2, 1, 0);
+        when(cascadeDeleteRepository.deleteCommentsByPost(10L, 2)).thenReturn(List.of(5L, 4L), List.of());
+        when(cascadeDeleteRepository.deletePost(10L)).thenReturn(1, 0);
+
+        assertEquals(1, worker.processPending());
+
+        verify(deletionJobRepository).progress(1L, Phase.VOTES, 2);
+        verify(deletionJobRepository).progress(1L, Phase.VOTES, 1);
+        verify(deletionJobRepository).progress(1L, Phase.COMMENTS, 2);
+        verify(deletionJobRepository).progress(1L, Phase.ROOT, 1);
+        verify(searchService).removeComment(5L);
+        verify(searchService).removeComment(4L);
+        verify(deletionJobRepository).finish(1L);
+        verify(deletionJobRepository, never()).fail(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should hide an account's posts and keep counters in step with removed comments")
+    void processPending_AccountJob_HidesPostsAndRemovesComments() {
+        when(deletionJobRepository.findNextUnfinished(any(LocalDateTime.class)))
+                .thenReturn(Optional.of(job(2L, "USER", 3L, "HIDE_POSTS")), Optional.empty());
+        when(cascadeDeleteRepository.hidePostsByUser(3L, 2)).thenReturn(List.of(new PostRef(10L, 1L)), List.of());
+        when(cascadeDeleteRepository.findFirstPostIdByUser(3L)).thenReturn(Optional.of(10L), Optional.empty());
+        when(cascadeDeleteRepository.deletePost(10L)).thenReturn(1);
+        when(cascadeDeleteRepository.deleteCommentsByUser(3L, 2))
+                .thenReturn(List.of(new CommentRef(30L, 11L, false), new CommentRef(31L, 11L, true)), List.of());
+        when(cascadeDeleteRepository.deleteUser(3L)).thenReturn(1, 0);
+
+        assertEquals(1, worker.processPending());
+
+        verify(feedService).onPostDeleted(10L);
+        verify(searchService).removePost(10L);
+        verify(activityCounterBuffer).record(Scope.COMMUNITY, 1L, -1, null);
+        verify(searchService).removeComment(30L);
+        verify(searchService).removeComment(31L);
+        // The tombstone was already taken out of the counts
+        verify(feedService).onCommentCountChanged(11L, -1);
+        verify(activityCounterBuffer).record(Scope.POST, 11L, -1, null);
+        verify(deletionJobRepository).progress(2L, Phase.ROOT, 1);
+        verify(deletionJobRepository).finish(2L);
+    }
+
+    @Test
+    @DisplayName("Should resume from the recorded phase and take removed votes back out of scores")
+    void processPending_ResumedAccountJob_CompensatesVotes() {
+        when(deletionJobRepository.findNextUnfinished(any(LocalDateTime.class)))
+                .thenReturn(Optional.of(job(3L, "USER", 3L, "VOTES")), Optional.empty());
+        when(cascadeDeleteRepository.deleteVotesByUser(Target.POST, 3L, 2))
+                .thenReturn(List.of(new VoteRef(10L, 1)), List.of());
+        when(cascadeDeleteRepository.deleteVotesByUser(Target.COMMENT, 3L, 2))
+                .thenReturn(List.of(new VoteRef(20L, -1)), List.of());
+        when(cascadeDeleteRepository.deleteSubscriptionsByUser(3L, 2)).thenReturn(List.of(4L), List.of());
+
+        assertEquals(1, worker.processPending());
+
+        verify(cascadeDeleteRepository, never()).hidePostsByUser(anyLong(), anyInt());
+        verify(cascadeDeleteRepository, never()).deleteCommentsByUser(anyLong(), anyInt());
+        verify(voteScoreBuffer).record(Target.POST, 10L, -1);
+        verify(feedService).onPostScoreChanged(10L, -1);
+        verify(voteScoreBuffer).record(Target.COMMENT, 20L, 1);
+        verify(communityNameIndex).adjustPopularity(4L, -1);
+        verify(cascadeDeleteRepository).deleteUser(3L);
+        verify(deletionJobRepository).finish(3L);
+    }
+
+    @Test
+    @DisplayName("Should put a failing job back with a growing delay and carry on with the next one")
+    void processPending_FailingJob_Retried() {
+        when(deletionJobRepository.findNextUnfinished(any(LocalDateTime.class))).thenReturn(
+                Optional.of(job(4L, "POST", 10L, "VOTES", 1)),
+                Optional.of(job(5L, "POST", 11L, "ROOT", 0)),
+                Optional.empty());
+        when(cascadeDeleteRepository.deletePostVotes(10L, 2))
+                .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded on ForumComment"));
+        when(cascadeDeleteRepository.deletePost(11L)).thenReturn(1, 0);
+        LocalDateTime before = LocalDateTime.now();
+
+        assertEquals(1, worker.processPending());
+
+        // Second attempt: twice the base delay
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(deletionJobRepository).retry(eq(4L), eq(ErrorCode.LOCK_TIMEOUT), nextAttempt.capture());
+        assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(120)));
+        assertTrue(nextAttempt.getValue().isBefore(before.plusSeconds(121)));
+        verify(deletionJobRepository, never()).fail(anyLong(), any());
+        verify(deletionJobRepository, never()).finish(4L);
+        verify(deletionJobRepository).finish(5L);
+    }
+
+    @Test
+    @DisplayName("Should mark a job failed once it has used up its attempts")
+    void processPending_FailingJobOutOfAttempts_MarkedFailed() {
+        when(deletionJobRepository.findNextUnfinished(any(LocalDateTime.class)))
+                .thenReturn(Optional.of(job(4L, "POST", 10L, "VOTES", 2)), Optional.empty());
+        when(cascadeDeleteRepository.deletePostVotes(10L, 2)).thenThrow(new IllegalStateException("ForumComment row 7"));
+
+        assertEquals(0, worker.processPending());
+
+        // Only a generic code is stored; the message stays in the log
+        verify(deletionJobRepository).fail(4L, ErrorCode.INTERNAL_ERROR);
+        verify(deletionJobRepository, never()).retry(anyLong(), any(), any());
+    }
+
+    private static DeletionJobResponse job(Long jobId, String targetType, Long targetId, String phase) {
+        return job(jobId, targetType, targetId, phase, 0);
+    }
+
+    private static DeletionJobResponse job(Long jobId, String targetType, Long targetId, String phase,
+            int attempts) {
+        return new DeletionJobResponse(jobId, targetType, targetId, "PENDING", phase, 0, attempts, null, NOON, NOON,
+                null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.dbexp.db_experiment.service.deletion;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.deletion.DeletionJobResponse;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.DeletionJobRepository;
+import com.dbexp.db_experiment.repository.DeletionJobRepository.TargetType;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.CascadeDeletionWorker;
+import com.dbexp.db_experiment.service.DeletionServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Deletion Service Tests")
+class DeletionServiceTest {
+
+    @Mock
+    private DeletionJobRepository deletionJobRepository;
+
+    @Mock
+    private CascadeDeletionWorker cascadeDeletionWorker;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private HttpSession session;
+
+    private DeletionServiceImpl deletionService;
+
+    @BeforeEach
+    void setUp() {
+        deletionService = new DeletionServiceImpl(deletionJobRepository, cascadeDeletionWorker, authService);
+    }
+
+    private void loggedInAs(Long userId) {
+        when(authService.getCurrentUser(session))
+                .thenReturn(new CurrentUserResponse(true, userId, "testuser", "test@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should record an account job and wake the worker")
+    void scheduleAccountDeletion_CreatesJobAndWakesWorker() {
+        when(deletionJobRepository.create(TargetType.USER, 3L, 3L)).thenReturn(12L);
+
+        assertEquals(12L, deletionService.scheduleAccountDeletion(3L));
+
+        verify(cascadeDeletionWorker).wake();
+    }
+
+    @Test
+    @DisplayName("Should record a post job and wake the worker")
+    void schedulePostDeletion_CreatesJobAndWakesWorker() {
+        when(deletionJobRepository.create(TargetType.POST, 10L, 3L)).thenReturn(13L);
+
+        assertEquals(13L, deletionService.schedulePostDeletion(10L, 3L));
+
+        verify(cascadeDeletionWorker).wake();
+    }
+
+    @Test
+    @DisplayName("Should return the job's progress to the user who asked for it")
+    void getJob_Found_ReturnsJob() {
+        Long jobId = 12L;
+        loggedInAs(3L);
+        DeletionJobResponse job = new DeletionJobResponse(jobId, "POST", 10L, "RUNNING", "COMMENTS", 1500, 1,
+                "LOCK_TIMEOUT", LocalDateTime.now(), LocalDateTime.now(), null);
+        when(deletionJobRepository.findByIdAndRequester(jobId, 3L)).thenReturn(Optional.of(job));
+
+        assertSame(job, deletionService.getJob(session, jobId));
+    }
+
+    @Test
+    @DisplayName("Should throw when the job does not exist or belongs to another user")
+    void getJob_NotFound_ThrowsException() {
+        Long jobId = 99L;
+        loggedInAs(4L);
+        when(deletionJobRepository.findByIdAndRequester(jobId, 4L)).thenReturn(Optional.empty());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> deletionService.getJob(session, jobId));
+
+        assertEquals("Deletion job not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject an anonymous caller")
+    void getJob_NotAuthenticated_ThrowsException() {
+        when(authService.getCurrentUser(session)).thenReturn(new CurrentUserResponse(false, null, null, null));
+
+        assertThrows(UnauthorizedException.class, () -> deletionService.getJob(session, 12L));
+
+        verifyNoInteractions(deletionJobRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a missing job ID")
+    void getJob_NullId_ThrowsException() {
+        loggedInAs(3L);
+
+        assertThrows(IllegalArgumentException.class, () -> deletionService.getJob(session, null));
+
+        verifyNoInteractions(deletionJobRepository);
+    }
+}
@@ -0,0 +1,392 @@
+package com.dbexp.db_experiment.service.feed;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.feed.FeedItemResponse;
+import com.dbexp.db_experiment.dto.feed.FeedResponse;
+import com.dbexp.db_experiment.dto.feed.HomeFeedResponse;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.CommunityRepository;
+import com.dbexp.db_experiment.repository.FeedQueryRepository;
+import com.dbexp.db_experiment.repository.SubscriptionRepository;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.FeedServiceImpl;
+import com.dbexp.db_experiment.service.PostCursor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Feed Service Tests")
+class FeedServiceTest {
+
+    private static final int CAPACITY = 3;
+
+    @Mock
+    private FeedQueryRepository feedQueryRepository;
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private AuthService authService;
+
+    private FeedServiceImpl feedService;
+
+    private HttpSession session;
+
+    private MutableClock clock;
+
+    // Starts at the real time so posts stamped with LocalDateTime.now() fall
+    // inside the windows; only moves when a test advances it
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        feedService = new FeedServiceImpl(feedQueryRepository, communityRepository, subscriptionRepository,
+                authService, CAPACITY, clock);
+        session = mock(HttpSession.class);
+    }
+
+    private void mockAuthenticatedUser(Long userId) {
+        when(authService.getCurrentUser(session))
+                .thenReturn(new CurrentUserResponse(true, userId, "testuser", "test@example.com"));
+    }
+
+    private static FeedItemResponse item(long postId, long communityId, long score, LocalDateTime createdAt) {
+        return new FeedItemResponse(postId, 1L, communityId, "Title " + postId, "Body", false, score, 0, createdAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWith(FeedItemResponse... items) {
+        doAnswer(invocation -> {
+            Consumer<FeedItemResponse> sink = invocation.getArgument(2);
+            for (FeedItemResponse item : items) {
+                sink.accept(item);
+            }
+            return null;
+        }).when(feedQueryRepository).streamCandidates(anyInt(), any(LocalDateTime.class), any(Consumer.class));
+        feedService.rebuild();
+    }
+
+    private static List<Long> ids(FeedResponse response) {
+        return response.getItems().stream().map(FeedItemResponse::getPostId).toList();
+    }
+
+    private static List<Long> ids(HomeFeedResponse response) {
+        return response.getItems().stream().map(FeedItemResponse::getPostId).toList();
+    }
+
+    @Nested
+    @DisplayName("Ranking")
+    class Ranking {
+
+        @Test
+        @DisplayName("Should order each sort from the rebuilt candidates")
+        void rebuild_OrdersEachSort() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(
+                    item(1L, 10L, 50, now.minusDays(3)),
+                    item(2L, 10L, 5, now.minusHours(1)),
+                    item(3L, 10L, 20, now.minusHours(5)));
+
+            assertEquals(List.of(2L, 3L, 1L), ids(feedService.getFeed(10L, "new", null, null)));
+            assertEquals(List.of(3L, 2L), ids(feedService.getFeed(10L, "top-day", null, null)));
+            assertEquals(List.of(1L, 3L, 2L), ids(feedService.getFeed(10L, "top-week", null, null)));
+            assertEquals(List.of(3L, 2L, 1L), ids(feedService.getFeed(null, "hot", null, null)));
+        }
+
+        @Test
+        @DisplayName("Should re-rank a post when its score changes")
+        void onPostScoreChanged_ReRanks() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(item(1L, 10L, 5, now.minusHours(2)), item(2L, 10L, 3, now.minusHours(1)));
+
+            feedService.onPostScoreChanged(2L, 4);
+
+            FeedResponse response = feedService.getFeed(10L, "top-day", null, null);
+            assertEquals(List.of(2L, 1L), ids(response));
+            assertEquals(7L, response.getItems().get(0).getScore());
+        }
+
+        @Test
+        @DisplayName("Should keep only the best posts up to capacity")
+        void offer_EvictsLowestBeyondCapacity() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(
+                    item(1L, 10L, 1, now),
+                    item(2L, 10L, 4, now),
+                    item(3L, 10L, 3, now),
+                    item(4L, 10L, 2, now));
+
+            assertEquals(List.of(2L, 3L, 4L), ids(feedService.getFeed(10L, "top-day", null, null)));
+        }
+
+        @Test
+        @DisplayName("Should count comments towards the hot rank")
+        void onCommentCountChanged_BoostsHot() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(item(1L, 10L, 0, now.minusMinutes(10)), item(2L, 10L, 0, now.minusMinutes(5)));
+
+            feedService.onCommentCountChanged(1L, 100);
+
+            FeedResponse response = feedService.getFeed(10L, "hot", null, null);
+            assertEquals(List.of(1L, 2L), ids(response));
+            assertEquals(100L, response.getItems().get(0).getCommentCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class Updates {
+
+        @Test
+        @DisplayName("Should add created posts to community and global feeds")
+        void onPostCreated_AddsToFeeds() {
+            Post post = new Post(1L, 10L, "Hello", "x".repeat(250));
+            post.setPostId(7L);
+            post.setCreatedAt(LocalDateTime.now());
+
+            feedService.onPostCreated(post);
+
+            FeedResponse response = feedService.getFeed(10L, "new", null, null);
+            assertEquals(List.of(7L), ids(response));
+            assertTrue(response.getItems().get(0).isTruncated());
+            assertEquals(200, response.getItems().get(0).getExcerpt().length());
+            assertEquals(List.of(7L), ids(feedService.getFeed(null, "top-day", null, null)));
+        }
+
+        @Test
+        @DisplayName("Should remove deleted posts and ignore later updates")
+        void onPostDeleted_RemovesFromFeeds() {
+            rebuildWith(item(1L, 10L, 5, LocalDateTime.now()), item(2L, 10L, 1, LocalDateTime.now()));
+
+            feedService.onPostDeleted(1L);
+            feedService.onPostScoreChanged(1L, 10);
+
+            assertEquals(List.of(2L), ids(feedService.getFeed(10L, "hot", null, null)));
+            assertEquals(List.of(2L), ids(feedService.getFeed(null, "new", null, null)));
+        }
+
+        @Test
+        @DisplayName("Should drop posts that aged out of the top-day window")
+        void ageTick_EvictsExpiredWindowEntries() {
+            LocalDateTime now = LocalDateTime.now(clock);
+            rebuildWith(item(1L, 10L, 5, now.minusDays(1).plusMinutes(1)), item(2L, 10L, 1, now));
+
+            clock.advance(Duration.ofMinutes(2));
+            feedService.ageTick();
+
+            assertEquals(List.of(2L), ids(feedService.getFeed(10L, "top-day", null, null)));
+            assertEquals(List.of(1L, 2L), ids(feedService.getFeed(10L, "top-week", null, null)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging")
+    class Paging {
+
+        @Test
+        @DisplayName("Should page with offset and report the next offset")
+        void getFeed_PagesWithOffset() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(item(1L, 10L, 3, now), item(2L, 10L, 2, now), item(3L, 10L, 1, now));
+
+            FeedResponse first = feedService.getFeed(10L, "top-week", 0, 2);
+            assertEquals(List.of(1L, 2L), ids(first));
+            assertTrue(first.isHasMore());
+            assertEquals(2, first.getNextOffset());
+
+            FeedResponse second = feedService.getFeed(10L, "top-week", first.getNextOffset(), 2);
+            assertEquals(List.of(3L), ids(second));
+            assertFalse(second.isHasMore());
+            assertNull(second.getNextOffset());
+        }
+
+        @Test
+        @DisplayName("Should default to the hot sort")
+        void getFeed_DefaultsToHot() {
+            rebuildWith(item(1L, 10L, 3, LocalDateTime.now()));
+
+            assertEquals("hot", feedService.getFeed(null, null, null, null).getSort());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown sorts and negative offsets")
+        void getFeed_RejectsInvalidParameters() {
+            assertThrows(IllegalArgumentException.class, () -> feedService.getFeed(null, "best", null, null));
+            assertThrows(IllegalArgumentException.class, () -> feedService.getFeed(null, "hot", -1, null));
+            assertThrows(IllegalArgumentException.class, () -> feedService.getFeed(null, "hot", 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should return 404 for an empty feed of a missing community")
+        void getFeed_MissingCommunity() {
+            Long communityId = 99L;
+            when(communityRepository.existsById(communityId)).thenReturn(false);
+
+            assertThrows(ResourceNotFoundException.class, () -> feedService.getFeed(communityId, "hot", null, null));
+        }
+
+        @Test
+        @DisplayName("Should return an empty feed for an existing community without posts")
+        void getFeed_EmptyCommunity() {
+            Long communityId = 5L;
+            when(communityRepository.existsById(communityId)).thenReturn(true);
+
+            FeedResponse response = feedService.getFeed(communityId, "new", null, null);
+
+            assertTrue(response.getItems().isEmpty());
+            assertFalse(response.isHasMore());
+        }
+    }
+
+    @Nested
+    @DisplayName("Home feed")
+    class HomeFeed {
+
+        @Test
+        @DisplayName("Should merge subscribed communities newest first and page with a cursor")
+        void getHomeFeed_MergesSubscribedCommunities() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(
+                    item(1L, 10L, 0, now.minusMinutes(50)),
+                    item(2L, 20L, 0, now.minusMinutes(40)),
+                    item(3L, 10L, 0, now.minusMinutes(30)),
+                    item(4L, 30L, 0, now.minusMinutes(20)),
+                    item(5L, 20L, 0, now.minusMinutes(10)));
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.findCommunityIdsByUserId(1L)).thenReturn(List.of(10L, 20L));
+
+            HomeFeedResponse first = feedService.getHomeFeed(session, null, 2);
+            assertEquals(List.of(5L, 3L), ids(first));
+            assertTrue(first.isHasMore());
+
+            HomeFeedResponse second = feedService.getHomeFeed(session, first.getNextCursor(), 2);
+            assertEquals(List.of(2L, 1L), ids(second));
+            assertFalse(second.isHasMore());
+            assertNull(second.getNextCursor());
+            verify(feedQueryRepository, never()).findSubscribedPage(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should fall back to MySQL when a truncated community runs out")
+        void getHomeFeed_FallsBackPastTruncatedCommunity() {
+            LocalDateTime now = LocalDateTime.now();
+            rebuildWith(
+                    item(1L, 10L, 0, now.minusMinutes(30)),
+                    item(2L, 10L, 0, now.minusMinutes(20)),
+                    item(3L, 10L, 0, now.minusMinutes(10)));
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.findCommunityIdsByUserId(1L)).thenReturn(List.of(10L));
+            PostCursor cursor = new PostCursor(now.minusMinutes(30), 1L);
+            when(feedQueryRepository.findSubscribedPage(1L, cursor.createdAt(), 1L, 21)).thenReturn(List.of());
+
+            HomeFeedResponse response = feedService.getHomeFeed(session, cursor.encode(), null);
+
+            assertTrue(response.getItems().isEmpty());
+            verify(feedQueryRepository).findSubscribedPage(1L, cursor.createdAt(), 1L, 21);
+        }
+
+        @Test
+        @DisplayName("Should use MySQL until the feeds have been rebuilt")
+        void getHomeFeed_QueriesBeforeRebuild() {
+            FeedItemResponse item = item(9L, 10L, 0, LocalDateTime.now());
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.findCommunityIdsByUserId(1L)).thenReturn(List.of(10L));
+            when(feedQueryRepository.findSubscribedPage(1L, null, null, 21)).thenReturn(List.of(item));
+
+            assertEquals(List.of(9L), ids(feedService.getHomeFeed(session, null, null)));
+        }
+
+        @Test
+        @DisplayName("Should return an empty feed without subscriptions")
+        void getHomeFeed_NoSubscriptions() {
+            mockAuthenticatedUser(1L);
+            when(subscriptionRepository.findCommunityIdsByUserId(1L)).thenReturn(List.of());
+
+            HomeFeedResponse response = feedService.getHomeFeed(session, null, null);
+
+            assertTrue(response.getItems().isEmpty());
+            assertFalse(response.isHasMore());
+        }
+
+        @Test
+        @DisplayName("Should reject unauthenticated users and malformed cursors")
+        void getHomeFeed_RejectsInvalidRequests() {
+            when(authService.getCurrentUser(session)).thenReturn(new CurrentUserResponse(false, null, null, null));
+            assertThrows(UnauthorizedException.class, () -> feedService.getHomeFeed(session, null, null));
+
+            mockAuthenticatedUser(1L);
+            assertThrows(IllegalArgumentException.class, () -> feedService.getHomeFeed(session, "not-a-cursor", null));
+        }
+    }
+
+    @Test
+    @DisplayName("Should start with empty feeds when the rebuild query fails")
+    @SuppressWarnings("unchecked")
+    void rebuild_ToleratesDatabaseFailure() {
+        doThrow(new IllegalStateException("down")).when(feedQueryRepository)
+                .streamCandidates(anyInt(), any(LocalDateTime.class), any(Consumer.class));
+
+        feedService.rebuild();
+
+        assertTrue(feedService.getFeed(null, "hot", null, null).getItems().isEmpty());
+    }
+}
@@ -12,10 +12,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.repository.BulkInsertRepository;
 import com.dbexp.db_experiment.repository.CommunityRepository;
 import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.service.ActivityCounterBuffer;
 import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.DeletionService;
+import com.dbexp.db_experiment.service.EntityCaches;
+import com.dbexp.db_experiment.service.FeedService;
 import com.dbexp.db_experiment.service.PostServiceImpl;
+import com.dbexp.db_experiment.service.SearchService;
+import com.dbexp.db_experiment.service.VoteScoreBuffer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -30,9 +38,32 @@ public abstract class BasePostServiceTest {
     @Mock
     protected CommunityRepository communityRepository;
 
+    @Mock
+    protected StreamingQueryRepository streamingQueryRepository;
+
+    @Mock
+    protected BulkInsertRepository bulkInsertRepository;
+
+    @Mock
+    protected VoteScoreBuffer voteScoreBuffer;
+
+    @Mock
+    protected FeedService feedService;
+
+    @Mock
+    protected SearchService searchService;
+
     @Mock
     protected AuthService authService;
 
+    @Mock
+    protected ActivityCounterBuffer activityCounterBuffer;
+
+    @Mock
+    protected DeletionService deletionService;
+
+    protected EntityCaches entityCaches;
+
     protected PostServiceImpl postService;
 
     @Mock
@@ -40,7 +71,10 @@ public abstract class BasePostServiceTest {
 
     @BeforeEach
     void setUp() {
-        postService = new PostServiceImpl(postRepository, authService, communityRepository);
+        entityCaches = new EntityCaches(1 << 20, 1 << 20, 1 << 20);
+        postService = new PostServiceImpl(postRepository, authService, communityRepository, streamingQueryRepository,
+                bulkInsertRepository, voteScoreBuffer, feedService, searchService, activityCounterBuffer, deletionService,
+                entityCaches);
         session = mock(HttpSession.class);
     }
 
@@ -68,7 +102,7 @@ public abstract class BasePostServiceTest {
     }
 
     protected void mockPostRepositoryDelete(Long postId, int affectedRows) {
-        when(postRepository.deleteByPostId(postId)).thenReturn(affectedRows);
+        when(postRepository.markDeleted(postId)).thenReturn(affectedRows);
     }
 
     protected void mockAuthenticatedUser(Long userId) {
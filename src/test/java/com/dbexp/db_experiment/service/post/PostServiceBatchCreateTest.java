@@ -0,0 +1,114 @@
+package com.dbexp.db_experiment.service.post;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsRequest;
+import com.dbexp.db_experiment.dto.post.BatchCreatePostsResponse;
+import com.dbexp.db_experiment.dto.post.CreatePostRequest;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Post Service - Batch Create Tests")
+class PostServiceBatchCreateTest extends BasePostServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Creation")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should validate communities once and return ids in request order")
+        @SuppressWarnings("unchecked")
+        void createPosts_Success() {
+            // Arrange
+            mockAuthenticatedUser(7L);
+            BatchCreatePostsRequest request = new BatchCreatePostsRequest(List.of(
+                    new CreatePostRequest(1L, "First", "Body 1"),
+                    new CreatePostRequest(2L, "Second", "Body 2"),
+                    new CreatePostRequest(1L, "Third", "Body 3")));
+            when(communityRepository.findExistingIds(any())).thenReturn(List.of(1L, 2L));
+            when(bulkInsertRepository.insertPosts(anyList())).thenReturn(List.of(11L, 12L, 13L));
+
+            // Act
+            BatchCreatePostsResponse response = postService.createPosts(session, request);
+
+            // Assert
+            assertEquals(3, response.getCreated());
+            assertEquals(List.of(11L, 12L, 13L), response.getPostIds());
+
+            ArgumentCaptor<List<Post>> captor = ArgumentCaptor.forClass(List.class);
+            verify(bulkInsertRepository).insertPosts(captor.capture());
+            List<Post> inserted = captor.getValue();
+            assertEquals("First", inserted.get(0).getPostTitle());
+            assertEquals("Third", inserted.get(2).getPostTitle());
+            assertEquals(7L, inserted.get(1).getUserId());
+            verify(communityRepository).findExistingIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Errors")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject the batch when a community does not exist")
+        void createPosts_MissingCommunity_ThrowsException() {
+            mockAuthenticatedUser(7L);
+            BatchCreatePostsRequest request = new BatchCreatePostsRequest(List.of(
+                    new CreatePostRequest(1L, "First", "Body 1"),
+                    new CreatePostRequest(99L, "Second", "Body 2")));
+            when(communityRepository.findExistingIds(any())).thenReturn(List.of(1L));
+
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                    () -> postService.createPosts(session, request));
+
+            assertEquals("Community not found: 99", exception.getMessage());
+            verify(bulkInsertRepository, never()).insertPosts(anyList());
+        }
+
+        @Test
+        @DisplayName("Should report the index of an invalid item")
+        void createPosts_BlankTitle_ThrowsException() {
+            mockAuthenticatedUser(7L);
+            BatchCreatePostsRequest request = new BatchCreatePostsRequest(List.of(
+                    new CreatePostRequest(1L, "First", "Body 1"),
+                    new CreatePostRequest(1L, " ", "Body 2")));
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> postService.createPosts(session, request));
+
+            assertEquals("Post title is required (item 1)", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject unauthenticated batches")
+        void createPosts_Unauthenticated_ThrowsException() {
+            when(authService.getCurrentUser(session))
+                    .thenReturn(CurrentUserResponse.notAuthenticated());
+
+            assertThrows(UnauthorizedException.class, () -> postService.createPosts(session,
+                    new BatchCreatePostsRequest(List.of(new CreatePostRequest(1L, "T", "C")))));
+        }
+    }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 @DisplayName("Post Service - Delete Post Tests")
 class PostServiceDeleteTest extends BasePostServiceTest {
@@ -41,6 +42,7 @@ class PostServiceDeleteTest extends BasePostServiceTest {
 
             mockPostRepositoryFindById(postId, existingPost);
             mockPostRepositoryDelete(postId, 1);
+            when(deletionService.schedulePostDeletion(postId, 1L)).thenReturn(7L);
 
             // Act
             DeletePostResponse response = postService.deletePost(session, postId);
@@ -50,9 +52,13 @@ class PostServiceDeleteTest extends BasePostServiceTest {
             assertEquals(postId, response.getPostId());
             assertNotNull(response.getDeletedAt());
             assertEquals("Post deleted successfully", response.getMessage());
+            assertEquals(7L, response.getDeletionJobId());
 
             verify(postRepository).findById(postId);
-            verify(postRepository).deleteByPostId(postId);
+            verify(postRepository).markDeleted(postId);
+            verify(deletionService).schedulePostDeletion(postId, 1L);
+            verify(feedService).onPostDeleted(postId);
+            verify(searchService).removePost(postId);
             verifyNoMoreInteractions(postRepository);
         }
     }
@@ -77,8 +83,9 @@ class PostServiceDeleteTest extends BasePostServiceTest {
             assertEquals("Post not found", exception.getMessage());
 
             verify(postRepository).findById(postId);
-            verify(postRepository, never()).deleteByPostId(anyLong());
+            verify(postRepository, never()).markDeleted(anyLong());
             verifyNoMoreInteractions(postRepository);
+            verifyNoInteractions(deletionService);
         }
     }
 
@@ -105,8 +112,9 @@ class PostServiceDeleteTest extends BasePostServiceTest {
             assertEquals("Failed to delete post", exception.getMessage());
 
             verify(postRepository).findById(postId);
-            verify(postRepository).deleteByPostId(postId);
+            verify(postRepository).markDeleted(postId);
             verifyNoMoreInteractions(postRepository);
+            verifyNoInteractions(deletionService);
         }
     }
 
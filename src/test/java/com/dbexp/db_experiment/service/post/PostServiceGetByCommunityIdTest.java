@@ -0,0 +1,193 @@
+package com.dbexp.db_experiment.service.post;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdRequest;
+import com.dbexp.db_experiment.dto.post.GetPostsByCommunityIdResponse;
+import com.dbexp.db_experiment.dto.post.PostPreviewResponse;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.service.PostCursor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Post Service - Get Posts By Community ID Tests")
+class PostServiceGetByCommunityIdTest extends BasePostServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Retrieval")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should return first page with continuation cursor when more rows exist")
+        void getPostsByCommunityId_FirstPage_HasMore() {
+            // Arrange
+            List<PostPreviewResponse> rows = createPosts(3);
+            when(postRepository.findFirstPageByCommunityId(1L, 3)).thenReturn(rows);
+            stubNoPendingActivity();
+
+            // Act
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, null, 2));
+
+            // Assert
+            assertNotNull(response);
+            assertEquals(2, response.getPosts().size());
+            assertTrue(response.isHasMore());
+            assertNotNull(response.getNextCursor());
+
+            PostCursor cursor = PostCursor.decode(response.getNextCursor());
+            assertEquals(rows.get(1).getPostId(), cursor.postId());
+            assertEquals(rows.get(1).getCreatedAt(), cursor.createdAt());
+            assertEquals("Content 0", response.getPosts().get(0).getExcerpt());
+            assertEquals(3L, response.getPosts().get(0).getCommentCount());
+            assertEquals(BASE_TIME.plusMinutes(5), response.getPosts().get(0).getLastActivityAt());
+        }
+
+        @Test
+        @DisplayName("Should add unflushed comment activity to the stored counters")
+        void getPostsByCommunityId_PendingActivity_Added() {
+            // Arrange
+            List<PostPreviewResponse> rows = createPosts(1);
+            LocalDateTime lastComment = BASE_TIME.plusHours(1);
+            when(postRepository.findFirstPageByCommunityId(1L, 21)).thenReturn(rows);
+            when(activityCounterBuffer.pending(Scope.POST, 1L)).thenReturn(2L);
+            when(activityCounterBuffer.lastActivity(Scope.POST, 1L, BASE_TIME.plusMinutes(5)))
+                    .thenReturn(lastComment);
+
+            // Act
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, null, null));
+
+            // Assert
+            PostPreviewResponse post = response.getPosts().get(0);
+            assertEquals(5L, post.getCommentCount());
+            assertEquals(lastComment, post.getLastActivityAt());
+        }
+
+        @Test
+        @DisplayName("Should not report a negative comment count while deletions are pending")
+        void getPostsByCommunityId_PendingDeletions_ClampedAtZero() {
+            // Arrange
+            List<PostPreviewResponse> rows = createPosts(1);
+            when(postRepository.findFirstPageByCommunityId(1L, 21)).thenReturn(rows);
+            when(activityCounterBuffer.pending(Scope.POST, 1L)).thenReturn(-7L);
+            when(activityCounterBuffer.lastActivity(eq(Scope.POST), anyLong(), any()))
+                    .thenAnswer(invocation -> invocation.getArgument(2));
+
+            // Act
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, null, null));
+
+            // Assert
+            assertEquals(0L, response.getPosts().get(0).getCommentCount());
+        }
+
+        @Test
+        @DisplayName("Should continue after cursor position and report last page")
+        void getPostsByCommunityId_NextPage_LastPage() {
+            // Arrange
+            PostCursor cursor = new PostCursor(BASE_TIME, 10L);
+            List<PostPreviewResponse> rows = createPosts(1);
+            when(postRepository.findPageByCommunityIdAfter(1L, BASE_TIME, 10L, 21)).thenReturn(rows);
+            stubNoPendingActivity();
+
+            // Act
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, cursor.encode(), null));
+
+            // Assert
+            assertEquals(1, response.getPosts().size());
+            assertFalse(response.isHasMore());
+            assertNull(response.getNextCursor());
+            verify(postRepository).findPageByCommunityIdAfter(1L, BASE_TIME, 10L, 21);
+        }
+
+        @Test
+        @DisplayName("Should cap page size at the maximum")
+        void getPostsByCommunityId_LimitCapped() {
+            // Arrange
+            when(postRepository.findFirstPageByCommunityId(1L, 101)).thenReturn(new ArrayList<>());
+
+            // Act
+            GetPostsByCommunityIdResponse response = postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, null, 5000));
+
+            // Assert
+            assertTrue(response.getPosts().isEmpty());
+            verify(postRepository).findFirstPageByCommunityId(1L, 101);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should throw exception when community ID is null")
+        void getPostsByCommunityId_NullCommunityId_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(null, null, null)));
+
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when cursor is malformed")
+        void getPostsByCommunityId_InvalidCursor_ThrowsException() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, "not-a-cursor", null)));
+
+            assertEquals("Invalid cursor", exception.getMessage());
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw exception when limit is not positive")
+        void getPostsByCommunityId_NonPositiveLimit_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> postService
+                    .getPostsByCommunityId(new GetPostsByCommunityIdRequest(1L, null, 0)));
+
+            verifyNoInteractions(postRepository);
+        }
+    }
+
+    // Helper methods
+    private void stubNoPendingActivity() {
+        when(activityCounterBuffer.lastActivity(eq(Scope.POST), anyLong(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    private List<PostPreviewResponse> createPosts(int count) {
+        List<PostPreviewResponse> posts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            posts.add(new PostPreviewResponse((long) (count - i), 1L, 1L, "Title " + i, "Content " + i, false,
+                    BASE_TIME.minusMinutes(i), 3L, BASE_TIME.plusMinutes(5)));
+        }
+        return posts;
+    }
+}
@@ -1,20 +1,28 @@
 package com.dbexp.db_experiment.service.post;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import com.dbexp.db_experiment.dto.post.EditPostRequest;
 import com.dbexp.db_experiment.dto.post.GetPostByIdRequest;
 import com.dbexp.db_experiment.dto.post.GetPostByIdResponse;
 import com.dbexp.db_experiment.entity.Post;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.repository.ActivityCounterRepository.Scope;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @DisplayName("Post Service - Get Post By ID Tests")
 class PostServiceGetByIdTest extends BasePostServiceTest {
@@ -53,6 +61,41 @@ class PostServiceGetByIdTest extends BasePostServiceTest {
 
             verify(postRepository).findById(postId);
         }
+
+        @Test
+        @DisplayName("Should add unflushed vote deltas to the stored score")
+        void getPostById_IncludesPendingVotes() {
+            // Arrange
+            Post post = createMockPost(1L, 1L, 1L, "Test Post Title", "Test Post Content");
+            post.setScore(10);
+            mockPostRepositoryFindById(1L, post);
+            when(voteScoreBuffer.pending(Target.POST, 1L)).thenReturn(-3L);
+
+            // Act
+            GetPostByIdResponse response = postService.getPostById(new GetPostByIdRequest(1L));
+
+            // Assert
+            assertEquals(7L, response.getScore());
+        }
+
+        @Test
+        @DisplayName("Should add unflushed comment deltas to the stored comment count")
+        void getPostById_IncludesPendingComments() {
+            // Arrange
+            Post post = createMockPost(1L, 1L, 1L, "Test Post Title", "Test Post Content");
+            post.setCommentCount(4);
+            LocalDateTime lastComment = post.getCreatedAt().plusMinutes(5);
+            mockPostRepositoryFindById(1L, post);
+            when(activityCounterBuffer.pending(Scope.POST, 1L)).thenReturn(2L);
+            when(activityCounterBuffer.lastActivity(Scope.POST, 1L, post.getCreatedAt())).thenReturn(lastComment);
+
+            // Act
+            GetPostByIdResponse response = postService.getPostById(new GetPostByIdRequest(1L));
+
+            // Assert
+            assertEquals(6L, response.getCommentCount());
+            assertEquals(lastComment, response.getLastActivityAt());
+        }
     }
 
     @Nested
@@ -79,6 +122,37 @@ class PostServiceGetByIdTest extends BasePostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Caching")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache and reload after an edit")
+        void getPostById_CachedUntilEdited() {
+            // Arrange
+            Long postId = 1L;
+            GetPostByIdRequest request = new GetPostByIdRequest(postId);
+            Post post = createMockPost(postId, 1L, 1L, "Old Title", "Old Content");
+            Post edited = createMockPost(postId, 1L, 1L, "New Title", "New Content");
+
+            mockAuthenticatedUser(1L);
+            when(postRepository.findById(postId)).thenReturn(Optional.of(post), Optional.of(post),
+                    Optional.of(edited));
+            mockPostRepositoryUpdate(postId, "New Title", "New Content", 1);
+
+            // Act
+            postService.getPostById(request);
+            postService.getPostById(request);
+            postService.editPost(session, postId, new EditPostRequest("New Title", "New Content"));
+            GetPostByIdResponse response = postService.getPostById(request);
+
+            // Assert
+            assertEquals("New Title", response.getPostTitle());
+            // One load for both cached reads, one for the edit, one after invalidation
+            verify(postRepository, times(3)).findById(postId);
+        }
+    }
+
     @Nested
     @DisplayName("Validation")
     class ValidationTests {
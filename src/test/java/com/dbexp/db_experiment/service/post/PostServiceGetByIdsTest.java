@@ -0,0 +1,107 @@
+package com.dbexp.db_experiment.service.post;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.MultiGetResponse;
+import com.dbexp.db_experiment.dto.post.GetPostByIdResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Post Service - Get Posts By IDs Tests")
+class PostServiceGetByIdsTest extends BasePostServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Successful Retrieval")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Should return posts in request order with markers for missing ids")
+        void getPostsByIds_MixedResults() {
+            // Arrange: the database returns rows in its own order
+            when(postRepository.findAllLiveById(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                    createMockPost(1L, 1L, 1L, "One", "Content 1"),
+                    createMockPost(3L, 1L, 1L, "Three", "Content 3")));
+
+            // Act
+            MultiGetResponse<GetPostByIdResponse> response = postService.getPostsByIds(List.of(3L, 1L, 2L, 3L));
+
+            // Assert
+            assertEquals(3, response.getResults().size());
+            assertEquals(3L, response.getResults().get(0).getPostId());
+            assertEquals(1L, response.getResults().get(1).getPostId());
+            assertNull(response.getResults().get(2));
+            assertEquals(List.of(2L), response.getNotFound());
+            verify(postRepository).findAllLiveById(List.of(3L, 1L, 2L));
+        }
+
+        @Test
+        @DisplayName("Should report every id as not found when nothing matches")
+        void getPostsByIds_NoneFound() {
+            when(postRepository.findAllLiveById(List.of(9L))).thenReturn(Collections.emptyList());
+
+            MultiGetResponse<GetPostByIdResponse> response = postService.getPostsByIds(List.of(9L));
+
+            assertNull(response.getResults().get(0));
+            assertEquals(List.of(9L), response.getNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject an empty id list")
+        void getPostsByIds_Empty_ThrowsException() {
+            assertThrows(IllegalArgumentException.class, () -> postService.getPostsByIds(List.of()));
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject more than 200 distinct ids")
+        void getPostsByIds_TooMany_ThrowsException() {
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= 201; id++) {
+                ids.add(id);
+            }
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> postService.getPostsByIds(ids));
+
+            assertTrue(exception.getMessage().contains("200"));
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("Should count duplicates once against the limit")
+        void getPostsByIds_DuplicatesWithinLimit() {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                ids.add(7L);
+            }
+            when(postRepository.findAllLiveById(List.of(7L))).thenReturn(Collections.emptyList());
+
+            MultiGetResponse<GetPostByIdResponse> response = postService.getPostsByIds(ids);
+
+            assertEquals(1, response.getResults().size());
+        }
+    }
+}
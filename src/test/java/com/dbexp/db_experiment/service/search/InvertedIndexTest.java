@@ -0,0 +1,164 @@
+package com.dbexp.db_experiment.service.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.dbexp.db_experiment.service.InvertedIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Inverted Index Tests")
+class InvertedIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex("test", directory, 2);
+    }
+
+    private static List<String> tokens(String text) {
+        return List.of(text.split(" "));
+    }
+
+    private List<Long> search(String query, Long communityId) {
+        return index.search(tokens(query), communityId, 0, 10).hits().stream().map(InvertedIndex.Hit::docId).toList();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".seg")).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Ranking")
+    class Ranking {
+
+        @Test
+        @DisplayName("Should rank higher term frequency and rarer terms first")
+        void search_RanksByBm25() {
+            index.add(1L, 10L, tokens("mysql index tuning"));
+            index.add(2L, 10L, tokens("mysql mysql mysql index"));
+            index.add(3L, 10L, tokens("postgres vacuum"));
+            index.add(4L, 10L, tokens("mysql replication lag"));
+
+            assertEquals(List.of(2L, 4L, 1L), search("mysql", null));
+            // "lag" is rarer than "mysql", so it dominates
+            assertEquals(List.of(4L, 2L, 1L), search("mysql lag", null));
+        }
+
+        @Test
+        @DisplayName("Should favour shorter documents for the same term frequency")
+        void search_NormalizesLength() {
+            index.add(1L, 10L, tokens("cache one two three four five six seven"));
+            index.add(2L, 10L, tokens("cache one"));
+
+            assertEquals(List.of(2L, 1L), search("cache", null));
+        }
+
+        @Test
+        @DisplayName("Should filter by community and page through hits")
+        void search_FiltersAndPages() {
+            index.add(1L, 10L, tokens("feed ranking"));
+            index.add(2L, 20L, tokens("feed"));
+            index.add(3L, 10L, tokens("feed"));
+
+            assertEquals(List.of(3L, 1L), search("feed", 10L));
+
+            InvertedIndex.Page page = index.search(tokens("feed"), null, 1, 1);
+            assertEquals(3, page.totalHits());
+            assertEquals(1, page.hits().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Updates")
+    class Updates {
+
+        @Test
+        @DisplayName("Should replace a document on re-add and hide it on remove")
+        void addAndRemove() {
+            index.add(1L, 10L, tokens("old words"));
+            index.add(1L, 10L, tokens("new words"));
+
+            assertEquals(List.of(), search("old", null));
+            assertEquals(List.of(1L), search("new", null));
+
+            index.remove(1L);
+            assertEquals(List.of(), search("words", null));
+            assertEquals(0, index.liveDocCount());
+        }
+
+        @Test
+        @DisplayName("Should keep results after flushing to a mapped segment")
+        void flush_WritesMappedSegment() throws IOException {
+            index.add(1L, 10L, tokens("segment file"));
+            index.add(2L, 20L, tokens("segment"));
+            index.flush();
+
+            assertEquals(1, segmentFiles());
+            assertEquals(List.of(2L, 1L), search("segment", null));
+            assertEquals(20L, index.communityOf(2L));
+
+            index.remove(2L);
+            assertEquals(List.of(1L), search("segment", null));
+        }
+
+        @Test
+        @DisplayName("Should merge segments and drop deleted documents")
+        void maybeMerge_CombinesSegments() throws IOException {
+            for (long id = 1; id <= 3; id++) {
+                index.add(id, 10L, tokens("merge doc" + id));
+                index.flush();
+            }
+            index.remove(2L);
+            assertEquals(3, segmentFiles());
+
+            index.maybeMerge();
+
+            assertEquals(1, segmentFiles());
+            assertEquals(List.of(3L, 1L), search("merge", null));
+            assertEquals(List.of(3L), search("doc3", null));
+            assertEquals(10L, index.communityOf(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild")
+    class Rebuild {
+
+        @Test
+        @DisplayName("Should let live updates win over rebuilt rows")
+        void addFromRebuild_SkipsTouchedDocuments() throws IOException {
+            index.add(9L, 10L, tokens("stale"));
+            index.flush();
+
+            index.beginRebuild();
+            assertEquals(0, segmentFiles());
+            index.add(1L, 10L, tokens("fresh"));
+            index.remove(2L);
+            index.addFromRebuild(1L, 10L, tokens("outdated"));
+            index.addFromRebuild(2L, 10L, tokens("outdated"));
+            index.addFromRebuild(3L, 10L, tokens("outdated"));
+            index.endRebuild();
+
+            assertEquals(List.of(1L), search("fresh", null));
+            assertEquals(List.of(3L), search("outdated", null));
+            assertTrue(search("stale", null).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.dbexp.db_experiment.service.search;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.search.SearchResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.repository.CommentRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.SearchSourceRepository;
+import com.dbexp.db_experiment.service.SearchServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Service Tests")
+class SearchServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private SearchSourceRepository searchSourceRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchServiceImpl(searchSourceRepository, postRepository, commentRepository,
+                directory.toString(), 5000, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.close();
+    }
+
+    private static Post post(long postId, long communityId, String title, String content) {
+        Post post = new Post(1L, communityId, title, content);
+        post.setPostId(postId);
+        post.setCreatedAt(LocalDateTime.now());
+        return post;
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above body matches and hydrate from MySQL")
+    void search_Posts() {
+        Post titleMatch = post(1L, 10L, "Replication guide", "How to set it up");
+        Post bodyMatch = post(2L, 10L, "Weekly thread", "Anyone tried replication with a long body of text here?");
+        searchService.indexPost(titleMatch);
+        searchService.indexPost(bodyMatch);
+        when(postRepository.findAllLiveById(anyList())).thenReturn(List.of(bodyMatch, titleMatch));
+
+        SearchResponse response = searchService.search("Replication", null, null, null, null);
+
+        assertEquals("posts", response.getType());
+        assertEquals(2, response.getTotalHits());
+        assertEquals(List.of(1L, 2L), response.getItems().stream().map(hit -> hit.getId()).toList());
+        assertEquals("Replication guide", response.getItems().get(0).getTitle());
+        assertFalse(response.isHasMore());
+        assertNull(response.getNextOffset());
+    }
+
+    @Test
+    @DisplayName("Should drop hits that no longer exist in MySQL")
+    void search_DropsStaleHits() {
+        Post live = post(1L, 10L, "Cursor pagination", "keyset");
+        searchService.indexPost(live);
+        searchService.indexPost(post(2L, 10L, "Cursor stability", "keyset"));
+        when(postRepository.findAllLiveById(anyList())).thenReturn(List.of(live));
+
+        SearchResponse response = searchService.search("keyset", "posts", null, null, null);
+
+        assertEquals(1, response.getItems().size());
+        when(postRepository.findAllLiveById(List.of(1L))).thenReturn(List.of(live));
+        assertEquals(1, searchService.search("keyset", "posts", null, null, null).getTotalHits());
+    }
+
+    @Test
+    @DisplayName("Should give comments the community of their post")
+    void search_CommentsInheritPostCommunity() {
+        searchService.indexPost(post(1L, 10L, "Thread", "body"));
+        Comment comment = new Comment(2L, 1L, "Great explanation of write-behind buffers");
+        comment.setCommentId(5L);
+        comment.setCreatedAt(LocalDateTime.now());
+        searchService.indexComment(comment);
+        when(commentRepository.findAllLiveById(anyList())).thenReturn(List.of(comment));
+
+        SearchResponse response = searchService.search("buffers", "comments", 10L, null, null);
+
+        assertEquals(1, response.getItems().size());
+        assertEquals(10L, response.getItems().get(0).getCommunityId());
+        assertEquals(1L, response.getItems().get(0).getPostId());
+        assertTrue(searchService.search("buffers", "comments", 11L, null, null).getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries and invalid parameters")
+    void search_RejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(" ", null, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", "users", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", null, 0L, null, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", null, null, 1001, null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", null, null, null, 0));
+    }
+}
@@ -16,7 +16,12 @@ import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
 import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.repository.UserRepository;
 import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.DeletionService;
+import com.dbexp.db_experiment.service.EntityCaches;
+import com.dbexp.db_experiment.service.PrincipalVersions;
+import com.dbexp.db_experiment.service.RememberMeTokens;
 import com.dbexp.db_experiment.service.UserServiceImpl;
+import com.dbexp.db_experiment.service.UsernameIndex;
 import com.dbexp.db_experiment.testutil.UserTestBuilder;
 
 import static org.mockito.Mockito.mock;
@@ -31,6 +36,19 @@ public abstract class BaseUserServiceTest {
     @Mock
     protected PasswordEncoder passwordEncoder;
 
+    @Mock
+    protected UsernameIndex usernameIndex;
+
+    @Mock
+    protected DeletionService deletionService;
+
+    protected EntityCaches entityCaches;
+
+    protected PrincipalVersions principalVersions;
+
+    @Mock
+    protected RememberMeTokens rememberMeTokens;
+
     protected UserServiceImpl userService;
 
     @Mock
@@ -41,7 +59,10 @@ public abstract class BaseUserServiceTest {
 
     @BeforeEach
     void setUp() {
-        userService = new UserServiceImpl(userRepository, passwordEncoder, authService);
+        entityCaches = new EntityCaches(1 << 20, 1 << 20, 1 << 20);
+        principalVersions = new PrincipalVersions();
+        userService = new UserServiceImpl(userRepository, passwordEncoder, authService, usernameIndex,
+                deletionService, entityCaches, principalVersions, rememberMeTokens);
         session = mock(HttpSession.class);
     }
 
@@ -92,7 +113,7 @@ public abstract class BaseUserServiceTest {
     }
 
     protected void mockUserDelete(Long userId, int affectedRows) {
-        when(userRepository.deleteByUserId(userId)).thenReturn(affectedRows);
+        when(userRepository.markDeleted(userId)).thenReturn(affectedRows);
     }
 
     protected void mockAuthenticatedUser(Long userId) {
@@ -68,6 +68,7 @@ class UserServiceCreateTest extends BaseUserServiceTest {
             verify(userRepository).existsByEmail(request.getEmail());
             verify(passwordEncoder).encode(request.getPassword());
             verify(userRepository).save(any(User.class));
+            verify(usernameIndex).put(1L, request.getUsername());
         }
     }
 
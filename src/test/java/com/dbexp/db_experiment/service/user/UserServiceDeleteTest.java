@@ -14,6 +14,7 @@ import com.dbexp.db_experiment.entity.User;
 import com.dbexp.db_experiment.exception.ResourceNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,7 +49,9 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
             mockAuthenticatedUser(userId);
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(password, hashedPassword, true);
-            when(userRepository.deleteByUserId(userId)).thenReturn(1);
+            when(userRepository.markDeleted(userId)).thenReturn(1);
+            when(deletionService.scheduleAccountDeletion(userId)).thenReturn(5L);
+            long versionBefore = principalVersions.current(userId);
 
             // Act
             DeleteAccountResponse response = userService.deleteAccount(session, userId, request);
@@ -58,10 +61,16 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
             assertEquals(userId, response.getUserId());
             assertNotNull(response.getDeletedAt());
             assertEquals("Account deleted successfully", response.getMessage());
+            assertEquals(5L, response.getDeletionJobId());
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository).deleteByUserId(userId);
+            verify(userRepository).markDeleted(userId);
+            verify(deletionService).scheduleAccountDeletion(userId);
+            verify(rememberMeTokens).revokeAll(userId);
+            verify(usernameIndex).remove(userId);
+            // Other sessions of the account are rejected on their next request
+            assertNotEquals(versionBefore, principalVersions.current(userId));
         }
     }
 
@@ -88,7 +97,7 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder, never()).matches(any(), any());
-            verify(userRepository, never()).deleteByUserId(any());
+            verify(userRepository, never()).markDeleted(any());
         }
 
         @Test
@@ -115,7 +124,7 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository, never()).deleteByUserId(any());
+            verify(userRepository, never()).markDeleted(any());
         }
     }
 
@@ -137,7 +146,7 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
 
             mockUserRepositoryFindById(userId, existingUser);
             mockPasswordEncoderMatches(password, hashedPassword, true);
-            when(userRepository.deleteByUserId(userId)).thenReturn(0);
+            when(userRepository.markDeleted(userId)).thenReturn(0);
 
             // Act & Assert
             IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -148,7 +157,8 @@ class UserServiceDeleteTest extends BaseUserServiceTest {
 
             verify(userRepository).findById(userId);
             verify(passwordEncoder).matches(password, hashedPassword);
-            verify(userRepository).deleteByUserId(userId);
+            verify(userRepository).markDeleted(userId);
+            verify(deletionService, never()).scheduleAccountDeletion(any());
         }
     }
 }
\ No newline at end of file
@@ -69,6 +69,7 @@ class UserServicePasswordTest extends BaseUserServiceTest {
             verify(passwordEncoder).matches(newPassword, hashedCurrentPassword);
             verify(passwordEncoder).encode(newPassword);
             verify(userRepository).updatePassword(userId, hashedNewPassword);
+            verify(rememberMeTokens).revokeAll(userId);
         }
     }
 
@@ -0,0 +1,58 @@
+package com.dbexp.db_experiment.service.user;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Service - Search Tests")
+public class UserServiceSearchTest extends BaseUserServiceTest {
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Test
+    @DisplayName("Should answer from the username index without querying the database")
+    void searchUsers_Success() {
+        List<UserSuggestionResponse> matches = List.of(new UserSuggestionResponse(1L, "alice", 1));
+        when(usernameIndex.search("alcie", 10)).thenReturn(matches);
+
+        assertEquals(matches, userService.searchUsers(" alcie ", null));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should clamp the limit to the supported range")
+    void searchUsers_ClampsLimit() {
+        userService.searchUsers("alice", 1000);
+        userService.searchUsers("alice", -5);
+
+        verify(usernameIndex).search("alice", 50);
+        verify(usernameIndex).search("alice", 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query")
+    void searchUsers_BlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> userService.searchUsers(" ", null));
+        assertThrows(IllegalArgumentException.class, () -> userService.searchUsers(null, 5));
+        verify(usernameIndex, never()).search(anyString(), anyInt());
+    }
+}
@@ -67,6 +67,7 @@ class UserServiceUsernameTest extends BaseUserServiceTest {
             verify(userRepository).findById(userId);
             verify(userRepository).existsByUsername(newUsername);
             verify(userRepository).updateUsername(userId, newUsername);
+            verify(usernameIndex).put(userId, newUsername);
         }
     }
 
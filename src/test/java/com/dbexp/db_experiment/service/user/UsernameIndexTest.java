@@ -0,0 +1,101 @@
+package com.dbexp.db_experiment.service.user;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.user.UserSuggestionResponse;
+import com.dbexp.db_experiment.repository.StreamingQueryRepository;
+import com.dbexp.db_experiment.service.UsernameIndex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Username Index Tests")
+public class UsernameIndexTest {
+
+    @Mock
+    private StreamingQueryRepository streamingQueryRepository;
+
+    private UsernameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UsernameIndex(streamingQueryRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadUsers(String... usernames) {
+        doAnswer(invocation -> {
+            BiConsumer<Long, String> sink = invocation.getArgument(0);
+            for (int i = 0; i < usernames.length; i++) {
+                sink.accept((long) i + 1, usernames[i]);
+            }
+            return null;
+        }).when(streamingQueryRepository).streamUsernames(any(BiConsumer.class));
+        index.rebuild();
+    }
+
+    private static List<String> names(List<UserSuggestionResponse> matches) {
+        return matches.stream().map(UserSuggestionResponse::getUsername).toList();
+    }
+
+    @Test
+    @DisplayName("Should find names within the edit-distance allowance, closest first")
+    void search_ToleratesTypos() {
+        loadUsers("alice", "alicia", "Alice_W", "bob", "malice");
+
+        // A swapped pair of letters counts as one edit
+        assertEquals(List.of("alice"), names(index.search("alcie", 10)));
+        assertEquals(List.of("alice", "alicia", "malice"), names(index.search("alicce", 10)));
+        assertEquals(List.of("bob"), names(index.search("BOB", 10)));
+        assertTrue(index.search("zzzzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report the distance and respect the limit")
+    void search_DistanceAndLimit() {
+        loadUsers("charlotte", "charlote", "charlotta", "scarlett");
+
+        List<UserSuggestionResponse> matches = index.search("charlotte", 2);
+        assertEquals(2, matches.size());
+        assertEquals("charlotte", matches.get(0).getUsername());
+        assertEquals(0, matches.get(0).getDistance());
+        assertEquals(1, matches.get(1).getDistance());
+    }
+
+    @Test
+    @DisplayName("Should require an exact match for very short queries")
+    void search_ShortQueryIsExact() {
+        loadUsers("al", "ab", "bl");
+
+        assertEquals(List.of("al"), names(index.search("al", 10)));
+    }
+
+    @Test
+    @DisplayName("Should follow renames and deletions")
+    void search_ReflectsUpdates() {
+        loadUsers("dragonslayer");
+
+        index.put(2L, "dragonflyer");
+        assertEquals(List.of("dragonflyer"), names(index.search("dragonflyr", 10)));
+
+        index.put(1L, "knight");
+        assertTrue(index.search("dragonslayr", 10).isEmpty());
+        assertEquals(List.of("knight"), names(index.search("knigth", 10)));
+
+        index.remove(2L);
+        assertTrue(index.search("dragonflyer", 10).isEmpty());
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.dbexp.db_experiment.service.vote;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dbexp.db_experiment.dto.auth.CurrentUserResponse;
+import com.dbexp.db_experiment.repository.CommentRepository;
+import com.dbexp.db_experiment.repository.PostRepository;
+import com.dbexp.db_experiment.repository.VoteRepository;
+import com.dbexp.db_experiment.service.AuthService;
+import com.dbexp.db_experiment.service.FeedService;
+import com.dbexp.db_experiment.service.VoteScoreBuffer;
+import com.dbexp.db_experiment.service.VoteServiceImpl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public abstract class BaseVoteServiceTest {
+
+    @Mock
+    protected VoteRepository voteRepository;
+
+    @Mock
+    protected PostRepository postRepository;
+
+    @Mock
+    protected CommentRepository commentRepository;
+
+    @Mock
+    protected VoteScoreBuffer voteScoreBuffer;
+
+    @Mock
+    protected FeedService feedService;
+
+    @Mock
+    protected AuthService authService;
+
+    protected VoteServiceImpl voteService;
+
+    protected HttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        voteService = new VoteServiceImpl(voteRepository, postRepository, commentRepository, voteScoreBuffer,
+                authService, feedService);
+        session = mock(HttpSession.class);
+    }
+
+    protected void mockAuthenticatedUser(Long userId) {
+        when(authService.getCurrentUser(session))
+                .thenReturn(new CurrentUserResponse(true, userId, "testuser", "test@example.com"));
+    }
+
+    protected void mockUnauthenticatedUser() {
+        when(authService.getCurrentUser(session)).thenReturn(CurrentUserResponse.notAuthenticated());
+    }
+}
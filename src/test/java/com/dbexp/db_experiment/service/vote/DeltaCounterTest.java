@@ -0,0 +1,74 @@
+package com.dbexp.db_experiment.service.vote;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.service.DeltaCounter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Delta Counter Tests")
+class DeltaCounterTest {
+
+    @Test
+    @DisplayName("Should aggregate deltas per id and reset on drain")
+    void drain_AggregatesAndResets() {
+        DeltaCounter counter = new DeltaCounter();
+        counter.add(1L, 1);
+        counter.add(1L, 1);
+        counter.add(2L, -1);
+
+        assertEquals(2L, counter.pending(1L));
+        assertEquals(Map.of(1L, 2L, 2L, -1L), counter.drain());
+        assertEquals(0L, counter.pending(1L));
+        assertTrue(counter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should retire idle entries after an empty drain")
+    void drain_RetiresIdleEntries() {
+        DeltaCounter counter = new DeltaCounter();
+        counter.add(1L, 1);
+        counter.drain();
+
+        counter.drain();
+
+        assertEquals(0, counter.size());
+    }
+
+    @Test
+    @DisplayName("Should not lose deltas while draining concurrently")
+    void drain_ConcurrentWriters_NoLostUpdates() throws Exception {
+        DeltaCounter counter = new DeltaCounter();
+        int writers = 8;
+        int votesPerWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch done = new CountDownLatch(writers);
+        for (int w = 0; w < writers; w++) {
+            executor.execute(() -> {
+                for (int i = 0; i < votesPerWriter; i++) {
+                    counter.add((long) (i % 4), 1);
+                }
+                done.countDown();
+            });
+        }
+
+        AtomicLong flushed = new AtomicLong();
+        while (done.getCount() > 0) {
+            counter.drain().values().forEach(flushed::addAndGet);
+        }
+        counter.drain().values().forEach(flushed::addAndGet);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals((long) writers * votesPerWriter, flushed.get());
+    }
+}
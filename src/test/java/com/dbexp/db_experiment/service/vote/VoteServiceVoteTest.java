@@ -0,0 +1,171 @@
+package com.dbexp.db_experiment.service.vote;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.dbexp.db_experiment.dto.vote.VoteRequest;
+import com.dbexp.db_experiment.dto.vote.VoteResponse;
+import com.dbexp.db_experiment.entity.Comment;
+import com.dbexp.db_experiment.entity.Post;
+import com.dbexp.db_experiment.exception.ResourceNotFoundException;
+import com.dbexp.db_experiment.exception.UnauthorizedException;
+import com.dbexp.db_experiment.repository.VoteRepository.Target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Vote Service - Vote Tests")
+class VoteServiceVoteTest extends BaseVoteServiceTest {
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+    }
+
+    @Nested
+    @DisplayName("Post Votes")
+    class PostVoteTests {
+
+        @Test
+        @DisplayName("Should insert a new upvote and buffer +1")
+        void votePost_NewUpvote() {
+            // Arrange
+            mockAuthenticatedUser(7L);
+            mockPost(1L, 10);
+            when(voteRepository.findVoteForUpdate(Target.POST, 7L, 1L)).thenReturn(0);
+            when(voteScoreBuffer.pending(Target.POST, 1L)).thenReturn(2L);
+
+            // Act
+            VoteResponse response = voteService.votePost(session, 1L, new VoteRequest(1));
+
+            // Assert
+            assertEquals(1, response.getUserVote());
+            assertEquals(13L, response.getScore());
+            verify(voteRepository).upsertVote(Target.POST, 7L, 1L, 1);
+            verify(voteScoreBuffer).record(Target.POST, 1L, 1L);
+        }
+
+        @Test
+        @DisplayName("Should flip an upvote to a downvote with a delta of -2")
+        void votePost_FlipVote() {
+            mockAuthenticatedUser(7L);
+            mockPost(1L, 10);
+            when(voteRepository.findVoteForUpdate(Target.POST, 7L, 1L)).thenReturn(1);
+
+            VoteResponse response = voteService.votePost(session, 1L, new VoteRequest(-1));
+
+            assertEquals(-1, response.getUserVote());
+            assertEquals(8L, response.getScore());
+            verify(voteRepository).upsertVote(Target.POST, 7L, 1L, -1);
+            verify(voteScoreBuffer).record(Target.POST, 1L, -2L);
+        }
+
+        @Test
+        @DisplayName("Should toggle off a repeated vote")
+        void votePost_RepeatTogglesOff() {
+            mockAuthenticatedUser(7L);
+            mockPost(1L, 10);
+            when(voteRepository.findVoteForUpdate(Target.POST, 7L, 1L)).thenReturn(1);
+
+            VoteResponse response = voteService.votePost(session, 1L, new VoteRequest(1));
+
+            assertEquals(0, response.getUserVote());
+            assertEquals(9L, response.getScore());
+            verify(voteRepository).deleteVote(Target.POST, 7L, 1L);
+            verify(voteScoreBuffer).record(Target.POST, 1L, -1L);
+        }
+
+        @Test
+        @DisplayName("Should do nothing when clearing a missing vote")
+        void clearPostVote_NoExistingVote() {
+            mockAuthenticatedUser(7L);
+            mockPost(1L, 10);
+            when(voteRepository.findVoteForUpdate(Target.POST, 7L, 1L)).thenReturn(0);
+
+            VoteResponse response = voteService.clearPostVote(session, 1L);
+
+            assertEquals(0, response.getUserVote());
+            assertEquals(10L, response.getScore());
+            verify(voteRepository, never()).deleteVote(any(), any(), any());
+            verify(voteScoreBuffer, never()).record(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when post does not exist")
+        void votePost_PostNotFound_ThrowsException() {
+            mockAuthenticatedUser(7L);
+            Long postId = 99L;
+            when(postRepository.findById(postId)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class,
+                    () -> voteService.votePost(session, 99L, new VoteRequest(1)));
+            verify(voteRepository, never()).upsertVote(any(), any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Comment Votes")
+    class CommentVoteTests {
+
+        @Test
+        @DisplayName("Should record a downvote on a comment")
+        void voteComment_Downvote() {
+            mockAuthenticatedUser(7L);
+            Comment comment = new Comment(3L, 1L, "content");
+            comment.setCommentId(5L);
+            comment.setScore(4);
+            when(commentRepository.findById(comment.getCommentId())).thenReturn(Optional.of(comment));
+            when(voteRepository.findVoteForUpdate(Target.COMMENT, 7L, 5L)).thenReturn(0);
+
+            VoteResponse response = voteService.voteComment(session, 5L, new VoteRequest(-1));
+
+            assertEquals(3L, response.getScore());
+            verify(voteRepository).upsertVote(Target.COMMENT, 7L, 5L, -1);
+            verify(voteScoreBuffer).record(Target.COMMENT, 5L, -1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Errors")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject vote values other than 1 and -1")
+        void votePost_InvalidValue_ThrowsException() {
+            mockAuthenticatedUser(7L);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> voteService.votePost(session, 1L, new VoteRequest(2)));
+            verifyNoInteractions(voteRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject unauthenticated votes")
+        void votePost_Unauthenticated_ThrowsException() {
+            mockUnauthenticatedUser();
+
+            assertThrows(UnauthorizedException.class,
+                    () -> voteService.votePost(session, 1L, new VoteRequest(1)));
+            verifyNoInteractions(voteRepository, postRepository);
+        }
+    }
+
+    // Helper methods
+    private void mockPost(Long postId, long score) {
+        Post post = new Post(1L, 1L, "Title", "Content");
+        post.setPostId(postId);
+        post.setScore(score);
+        when(postRepository.findById(postId)).thenReturn(Optional.of(post));
+    }
+}
@@ -12,6 +12,7 @@ public class CommentTestBuilder {
     private Long parentCommentId = null;
     private String commentContent = "Test Comment Content";
     private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime deletedAt = null;
 
     public static CommentTestBuilder aComment() {
         return new CommentTestBuilder();
@@ -47,11 +48,17 @@ public class CommentTestBuilder {
         return this;
     }
 
+    public CommentTestBuilder withDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+        return this;
+    }
+
     public Comment build() {
         Comment comment = new Comment(userId, postId, commentContent);
         comment.setCommentId(commentId);
         comment.setParentCommentId(parentCommentId);
         comment.setCreatedAt(createdAt);
+        comment.setDeletedAt(deletedAt);
         return comment;
     }
 }
\ No newline at end of file
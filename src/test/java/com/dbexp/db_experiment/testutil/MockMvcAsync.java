@@ -0,0 +1,22 @@
+package com.dbexp.db_experiment.testutil;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+public class MockMvcAsync {
+
+    private MockMvcAsync() {
+    }
+
+    // Endpoints that hash passwords answer with a CompletableFuture; when the
+    // handler started async processing, wait for it and dispatch the result
+    public static ResultActions perform(MockMvc mockMvc, RequestBuilder request) throws Exception {
+        ResultActions result = mockMvc.perform(request);
+        MvcResult mvcResult = result.andReturn();
+        return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : result;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dbexp.db_experiment.testutil;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import com.dbexp.db_experiment.config.Argon2Calibrator;
+import com.dbexp.db_experiment.config.Argon2Cost;
+import com.dbexp.db_experiment.config.SecurityConfig;
+import com.dbexp.db_experiment.repository.LocalSessionOwnerStore;
+import com.dbexp.db_experiment.service.PasswordHashingExecutor;
+import com.dbexp.db_experiment.service.StripedSessionRegistry;
+
+// SecurityConfig's filter chains in a web context of their own, without the
+// database or controllers, for checking which filters a request passes through
+public class SecurityTestContext {
+
+    @Configuration
+    @EnableWebMvc
+    @Import(SecurityConfig.class)
+    static class Config {
+
+        @Bean
+        Argon2Calibrator argon2Calibrator() {
+            // Calibration disabled, so nothing is measured at startup
+            return new Argon2Calibrator(false, 250, 19456, 2, 19456, 2, 10, 1);
+        }
+
+        @Bean
+        PasswordHashingExecutor passwordHashingExecutor(Argon2Cost argon2Cost) {
+            return new PasswordHashingExecutor(argon2Cost, 64, 8);
+        }
+
+        @Bean
+        StripedSessionRegistry sessionRegistry() {
+            return new StripedSessionRegistry(new LocalSessionOwnerStore(), Duration.ofMinutes(30), 5000, 64);
+        }
+    }
+
+    private SecurityTestContext() {
+    }
+
+    public static AnnotationConfigWebApplicationContext start() {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(Config.class);
+        context.refresh();
+        return context;
+    }
+
+    public static FilterChainProxy filterChainProxy(AnnotationConfigWebApplicationContext context) {
+        return context.getBean("springSecurityFilterChain", FilterChainProxy.class);
+    }
+}